@@ -0,0 +1,88 @@
+package com.buildanalyzer.core.aggregate;
+
+import com.buildanalyzer.core.model.ModuleSummary;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The previous per-module design of BuildAccumulator - a HashMap from module name to one
+ * accumulator object (which itself points to SecondsSum, QuantileSketch and
+ * RunningVariance objects) - kept only as the baseline of {@link ModuleTableBenchmark}.
+ */
+final class MapOfObjectsModules {
+
+    private final Map<String, ModuleObjects> modules = new HashMap<>();
+
+    void addBuild(List<ModuleSummary> build) {
+        for (ModuleSummary m : build) {
+            modules.computeIfAbsent(m.getName(), ModuleObjects::new).add(m);
+        }
+    }
+
+    int size() {
+        return modules.size();
+    }
+
+    private static final class ModuleObjects {
+        final String name;
+        int buildCount;
+
+        final SecondsSum totalSecondsSum = new SecondsSum();
+        double minSeconds = Double.POSITIVE_INFINITY;
+        double maxSeconds = 0.0;
+        final QuantileSketch secondsSketch = new QuantileSketch();
+        final RunningVariance secondsVariance = new RunningVariance();
+
+        boolean hasAnyTests;
+        final SecondsSum testSecondsSum = new SecondsSum();
+        double minTestSeconds = Double.POSITIVE_INFINITY;
+        double maxTestSeconds = 0.0;
+        final QuantileSketch testSecondsSketch = new QuantileSketch();
+        int totalTestsRun;
+        int totalFailures;
+        int totalErrors;
+        int totalSkipped;
+
+        int mainSourceFilesSum;
+        int testSourceFilesSum;
+
+        ModuleObjects(String name) {
+            this.name = name;
+        }
+
+        void add(ModuleSummary m) {
+            buildCount++;
+
+            double secs = m.getSeconds();
+            totalSecondsSum.add(secs);
+            if (secs < minSeconds) minSeconds = secs;
+            if (secs > maxSeconds) maxSeconds = secs;
+            secondsSketch.add(secs);
+            secondsVariance.add(secs);
+
+            int run = m.getTestsRun();
+            int failures = m.getFailures();
+            int errors = m.getErrors();
+            int skipped = m.getSkipped();
+            double testSecs = m.getTestTimeSeconds();
+
+            testSecondsSum.add(testSecs);
+            if (run > 0 || failures > 0 || errors > 0 || skipped > 0 || testSecs > 0.0) {
+                hasAnyTests = true;
+                if (testSecs < minTestSeconds) minTestSeconds = testSecs;
+                if (testSecs > maxTestSeconds) maxTestSeconds = testSecs;
+                testSecondsSketch.add(testSecs);
+
+                totalTestsRun += run;
+                totalFailures += failures;
+                totalErrors += errors;
+                totalSkipped += skipped;
+            }
+
+            mainSourceFilesSum += m.getMainSourceFiles();
+            testSourceFilesSum += m.getTestSourceFiles();
+        }
+    }
+}
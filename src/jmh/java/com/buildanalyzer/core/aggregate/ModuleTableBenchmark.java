@@ -0,0 +1,85 @@
+package com.buildanalyzer.core.aggregate;
+
+import com.buildanalyzer.core.model.ModuleSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Folding (build, module) rows into per-module statistics: columnar {@link ModuleTable}
+ * versus the previous map of per-module objects.
+ *
+ * One invocation folds {@code builds} builds of {@code modules} modules each. The builds
+ * cycle through a small pool; every pooled build has its own name strings, like builds
+ * parsed from separate logs.
+ *
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args=ModuleTable
+ * (quicker: -Djmh.args="ModuleTable -p builds=10000")
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ModuleTableBenchmark {
+
+    private static final int POOL_SIZE = 32;
+
+    @Param("100000")
+    public int builds;
+
+    @Param("2500")
+    public int modules;
+
+    private List<List<ModuleSummary>> pool;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        pool = new ArrayList<>(POOL_SIZE);
+        for (int b = 0; b < POOL_SIZE; b++) {
+            List<ModuleSummary> build = new ArrayList<>(modules);
+            for (int i = 0; i < modules; i++) {
+                // millisecond resolution, log-normal-ish like real module times
+                double seconds = Math.round(Math.exp(1.0 + random.nextGaussian()) * 1000.0) / 1000.0;
+                int tests = i % 3 == 0 ? 0 : random.nextInt(200);
+                double testSeconds = tests == 0 ? 0.0 : Math.round(seconds * 400.0) / 1000.0;
+                build.add(new ModuleSummary(new String("module-" + i), seconds,
+                        tests, 0, 0, 0, testSeconds, 20 + i % 50, 10 + i % 20, List.of()));
+            }
+            pool.add(build);
+        }
+    }
+
+    @Benchmark
+    public int mapOfObjects() {
+        MapOfObjectsModules table = new MapOfObjectsModules();
+        for (int b = 0; b < builds; b++) {
+            table.addBuild(pool.get(b % POOL_SIZE));
+        }
+        return table.size();
+    }
+
+    @Benchmark
+    public int structOfArrays() {
+        ModuleTable table = new ModuleTable();
+        for (int b = 0; b < builds; b++) {
+            table.addBuild(pool.get(b % POOL_SIZE));
+        }
+        return table.size();
+    }
+}
@@ -0,0 +1,77 @@
+package com.buildanalyzer.core.codec;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.parser.MavenLogParser;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ways to get a BuildSummary back: re-parse the log, decode Gson JSON, or decode the
+ * binary format.
+ *
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args=BuildSummaryCodec
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuildSummaryCodecBenchmark {
+
+    private final Path log = Paths.get("sample-logs", "build-parent.log");
+    private final MavenLogParser parser = new MavenLogParser();
+    private final Gson gson = new Gson();
+    private final BuildSummaryReader reader = new BuildSummaryReader();
+    private final BuildSummaryWriter writer = new BuildSummaryWriter();
+
+    private String json;
+    private byte[] binary;
+    private BuildSummary summary;
+
+    @Setup
+    public void setUp() throws IOException {
+        summary = parser.parse(log);
+        json = gson.toJson(summary);
+        binary = writer.write(summary);
+    }
+
+    @Benchmark
+    public BuildSummary parseLog() throws IOException {
+        return parser.parse(log);
+    }
+
+    @Benchmark
+    public BuildSummary readJson() {
+        return gson.fromJson(json, BuildSummary.class);
+    }
+
+    @Benchmark
+    public BuildSummary readBinary() throws IOException {
+        return reader.read(binary);
+    }
+
+    @Benchmark
+    public String writeJson() {
+        return gson.toJson(summary);
+    }
+
+    @Benchmark
+    public byte[] writeBinary() {
+        return writer.write(summary);
+    }
+}
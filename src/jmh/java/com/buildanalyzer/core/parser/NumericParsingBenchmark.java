@@ -0,0 +1,80 @@
+package com.buildanalyzer.core.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Regex + Integer.parseInt/Double.parseDouble (the original parser) versus the classifier
+ * scanning the same fields in place with DecimalScanner.
+ *
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args=NumericParsing
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumericParsingBenchmark {
+
+    private static final String TEST_LINE =
+            "[INFO] Tests run: 128, Failures: 0, Errors: 0, Skipped: 3, Time elapsed: 12.847 s -- in com.example.ServiceTest";
+
+    private static final Pattern TEST_RESULT_PATTERN = Pattern.compile(
+            "Tests run:\\s*(\\d+),\\s*Failures:\\s*(\\d+),\\s*Errors:\\s*(\\d+),\\s*Skipped:\\s*(\\d+),\\s*Time elapsed:\\s*([0-9]+(?:\\.[0-9]+)?)\\s*s"
+    );
+
+    private final MavenLineClassifier classifier = new MavenLineClassifier();
+    private final ByteLine byteLine = new ByteLine();
+    private final byte[] bytes = TEST_LINE.getBytes(StandardCharsets.US_ASCII);
+
+    @Benchmark
+    public void regexAndParseDouble(Blackhole bh) {
+        Matcher m = TEST_RESULT_PATTERN.matcher(TEST_LINE);
+        if (m.find()) {
+            bh.consume(Integer.parseInt(m.group(1)));
+            bh.consume(Integer.parseInt(m.group(2)));
+            bh.consume(Integer.parseInt(m.group(3)));
+            bh.consume(Integer.parseInt(m.group(4)));
+            bh.consume(Double.parseDouble(m.group(5)));
+        }
+    }
+
+    @Benchmark
+    public void scannerOnString(Blackhole bh) {
+        bh.consume(classifier.classify(TEST_LINE));
+        bh.consume(classifier.testsRun);
+        bh.consume(classifier.testSeconds);
+    }
+
+    @Benchmark
+    public void scannerOnBytes(Blackhole bh) {
+        byteLine.set(bytes, 0, bytes.length);
+        bh.consume(classifier.classify(byteLine));
+        bh.consume(classifier.testsRun);
+        bh.consume(classifier.testSeconds);
+    }
+
+    @Benchmark
+    public double parseDoubleOnly() {
+        return Double.parseDouble(TEST_LINE.substring(73, 79));
+    }
+
+    @Benchmark
+    public double decimalScannerOnly() {
+        return DecimalScanner.parseDecimal(TEST_LINE, 73, 79);
+    }
+}
@@ -25,6 +25,10 @@ public class BuildAnalyzerCli {
         COMMANDS.put(Mode.DIRECTORY, new DirectoryAggregateCommand());
         COMMANDS.put(Mode.PATTERN, new PatternAggregateCommand());
         COMMANDS.put(Mode.CLEAN_INSTALL, new CleanInstallCommand());
+        COMMANDS.put(Mode.HISTORY, new HistoryAggregateCommand());
+        COMMANDS.put(Mode.MERGE, new MergeStatesCommand());
+        COMMANDS.put(Mode.DIFF, new DiffCommand());
+        COMMANDS.put(Mode.SIMULATE, new SimulateCommand());
     }
 
     public static void main(String[] args) {
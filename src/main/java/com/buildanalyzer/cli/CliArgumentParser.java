@@ -1,10 +1,22 @@
 package com.buildanalyzer.cli;
 
+import com.buildanalyzer.core.aggregate.RollingWindows;
+import com.buildanalyzer.core.parser.ParserBackend;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 
 public final class CliArgumentParser {
 
+    static final String DEFAULT_CACHE_DIR = ".build-analyzer/cache";
+    static final int DEFAULT_MAX_THREADS = 16;
+    static final int DEFAULT_SPEEDUP_PERCENT = 50;
+
     private CliArgumentParser() {
     }
 
@@ -16,6 +28,31 @@ public final class CliArgumentParser {
         boolean json = false;
         boolean pretty = false;
         Mode mode = null;
+        ParserBackend parserBackend = ParserBackend.STREAM;
+        int jobs = Runtime.getRuntime().availableProcessors();
+        String cacheDir = null;
+        boolean cacheVerify = false;
+        String ingestStore = null;
+        String historyStore = null;
+        List<String> mergeStates = new ArrayList<>();
+        String saveState = null;
+        boolean windows = false;
+        int windowLastBuilds = RollingWindows.DEFAULT_LAST_BUILDS;
+        int windowDays = RollingWindows.DEFAULT_SLIDING_DAYS;
+        boolean regressions = false;
+        String diffBaseline = null;
+        String diffCandidate = null;
+        int topModules = 0;
+        boolean recursive = false;
+        Long modifiedSince = null;
+        Long modifiedUntil = null;
+        String reactorGraph = null;
+        String simulateSource = null;
+        int maxThreads = DEFAULT_MAX_THREADS;
+        int percentile = 50;
+        boolean sensitivity = false;
+        int speedupPercent = DEFAULT_SPEEDUP_PERCENT;
+        String traceFile = null;
 
         String logFile = null;
         String dir = null;
@@ -69,16 +106,196 @@ public final class CliArgumentParser {
                     mode = Mode.CLEAN_INSTALL;
                 }
 
+                case "--parser" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --parser requires a backend name (stream, mmap or parallel).");
+                        printUsageAndExit();
+                    }
+                    parserBackend = parseParserBackend(args[++i]);
+                }
+
+                case "--jobs" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --jobs requires a number of parallel parsers.");
+                        printUsageAndExit();
+                    }
+                    jobs = parseJobs(args[++i]);
+                }
+
+                case "--cache" -> {
+                    if (cacheDir == null) {
+                        cacheDir = DEFAULT_CACHE_DIR;
+                    }
+                }
+                case "--cache-dir" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --cache-dir requires a directory path.");
+                        printUsageAndExit();
+                    }
+                    cacheDir = args[++i];
+                }
+                case "--cache-verify" -> cacheVerify = true;
+
+                case "--ingest" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --ingest requires a history store directory.");
+                        printUsageAndExit();
+                    }
+                    ingestStore = args[++i];
+                }
+
+                case "--history" -> {
+                    ensureModeUnsetOrSame(mode, Mode.HISTORY);
+                    mode = Mode.HISTORY;
+
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --history requires a history store directory.");
+                        printUsageAndExit();
+                    }
+                    historyStore = args[++i];
+                }
+
+                case "--merge" -> {
+                    ensureModeUnsetOrSame(mode, Mode.MERGE);
+                    mode = Mode.MERGE;
+                }
+
+                case "--diff" -> {
+                    ensureModeUnsetOrSame(mode, Mode.DIFF);
+                    mode = Mode.DIFF;
+
+                    if (i + 2 >= args.length) {
+                        System.err.println("ERROR: --diff requires a baseline and a candidate (log file, directory or glob).");
+                        printUsageAndExit();
+                    }
+                    diffBaseline = args[++i];
+                    diffCandidate = args[++i];
+                }
+
+                case "--save-state" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --save-state requires a file path.");
+                        printUsageAndExit();
+                    }
+                    saveState = args[++i];
+                }
+
+                case "--windows" -> windows = true;
+                case "--regressions" -> regressions = true;
+                case "--last-builds" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --last-builds requires a number of builds.");
+                        printUsageAndExit();
+                    }
+                    windowLastBuilds = parsePositiveInt("--last-builds", args[++i]);
+                    windows = true;
+                }
+                case "--window-days" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --window-days requires a number of days.");
+                        printUsageAndExit();
+                    }
+                    windowDays = parsePositiveInt("--window-days", args[++i]);
+                    windows = true;
+                }
+
+                case "--top" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --top requires a number of modules.");
+                        printUsageAndExit();
+                    }
+                    topModules = parsePositiveInt("--top", args[++i]);
+                }
+
+                case "-r", "--recursive" -> recursive = true;
+                case "--since" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --since requires a date or date-time.");
+                        printUsageAndExit();
+                    }
+                    modifiedSince = parseTime("--since", args[++i], false);
+                }
+                case "--until" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --until requires a date or date-time.");
+                        printUsageAndExit();
+                    }
+                    modifiedUntil = parseTime("--until", args[++i], true);
+                }
+                case "--graph" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --graph requires a project directory, pom.xml or dependency tree log.");
+                        printUsageAndExit();
+                    }
+                    reactorGraph = args[++i];
+                }
+                case "--simulate" -> {
+                    ensureModeUnsetOrSame(mode, Mode.SIMULATE);
+                    mode = Mode.SIMULATE;
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --simulate requires a log file, log directory, glob pattern or history store.");
+                        printUsageAndExit();
+                    }
+                    simulateSource = args[++i];
+                }
+                case "--max-threads" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --max-threads requires a number of threads.");
+                        printUsageAndExit();
+                    }
+                    maxThreads = parsePositiveInt("--max-threads", args[++i]);
+                }
+                case "--percentile" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --percentile requires 50, 90, 95 or 99.");
+                        printUsageAndExit();
+                    }
+                    percentile = parsePercentile(args[++i]);
+                }
+                case "--sensitivity" -> sensitivity = true;
+                case "--speedup" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --speedup requires a percentage.");
+                        printUsageAndExit();
+                    }
+                    speedupPercent = parsePositiveInt("--speedup", args[++i]);
+                    if (speedupPercent > 100) {
+                        System.err.println("ERROR: --speedup expects a percentage from 1 to 100, got: " + speedupPercent);
+                        printUsageAndExit();
+                    }
+                    sensitivity = true;
+                }
+                case "--trace" -> {
+                    if (i + 1 >= args.length) {
+                        System.err.println("ERROR: --trace requires a file path.");
+                        printUsageAndExit();
+                    }
+                    traceFile = args[++i];
+                }
+
                 default -> {
+                    if (arg.startsWith("--parser=")) {
+                        parserBackend = parseParserBackend(arg.substring("--parser=".length()));
+                        continue;
+                    }
+                    if (arg.startsWith("--jobs=")) {
+                        jobs = parseJobs(arg.substring("--jobs=".length()));
+                        continue;
+                    }
+
                     if (arg.startsWith("-")) {
                         System.err.println("Unknown option: " + arg);
                         printUsageAndExit();
                     }
 
                     // 当前位置是“无前缀”的位置参数
-                    if (mode == Mode.DIRECTORY || mode == Mode.PATTERN) {
+                    if (mode == Mode.DIRECTORY || mode == Mode.PATTERN || mode == Mode.HISTORY || mode == Mode.DIFF
+                            || mode == Mode.SIMULATE) {
                         System.err.println("Too many positional arguments.");
                         printUsageAndExit();
+                    } else if (mode == Mode.MERGE) {
+                        // 每个位置参数都是一个状态文件
+                        mergeStates.add(arg);
                     } else if (mode == Mode.CLEAN_INSTALL) {
                         // 作为 <project-dir>
                         if (projectDir != null) {
@@ -101,6 +318,10 @@ public final class CliArgumentParser {
             }
         }
 
+        if (cacheVerify && cacheDir == null) {
+            cacheDir = DEFAULT_CACHE_DIR;
+        }
+
         if (pretty && !json) {
             System.err.println("--pretty / -p can only be used together with --json / -j.");
             printUsageAndExit();
@@ -108,7 +329,7 @@ public final class CliArgumentParser {
 
         if (mode == null) {
             System.err.println(
-                    "Missing mode: provide either <maven-log-file>, --dir, --aggregate or --clean-install.");
+                    "Missing mode: provide either <maven-log-file>, --dir, --aggregate, --clean-install, --history, --merge, --diff or --simulate.");
             printUsageAndExit();
         }
 
@@ -135,6 +356,74 @@ public final class CliArgumentParser {
             case CLEAN_INSTALL -> {
                 // projectDir 可以为空 -> 默认"."
             }
+            case HISTORY -> {
+                if (historyStore == null) {
+                    System.err.println("Missing store directory for --history.");
+                    printUsageAndExit();
+                }
+            }
+            case MERGE -> {
+                if (mergeStates.isEmpty()) {
+                    System.err.println("Missing <state-file> arguments for --merge.");
+                    printUsageAndExit();
+                }
+            }
+            case DIFF -> {
+                // --diff 总是带两个参数，解析时已检查
+            }
+            case SIMULATE -> {
+                if (reactorGraph == null) {
+                    System.err.println("--simulate needs the reactor dependencies: add --graph <project-dir|pom.xml|log>.");
+                    printUsageAndExit();
+                }
+            }
+        }
+
+        if (ingestStore != null && (mode == Mode.CLEAN_INSTALL || mode == Mode.HISTORY || mode == Mode.MERGE
+                || mode == Mode.DIFF || mode == Mode.SIMULATE)) {
+            System.err.println("--ingest can only be used with <maven-log-file>, --dir or --aggregate.");
+            printUsageAndExit();
+        }
+        if (saveState != null && (mode == Mode.SINGLE_LOG || mode == Mode.CLEAN_INSTALL || mode == Mode.DIFF
+                || mode == Mode.SIMULATE)) {
+            System.err.println("--save-state can only be used with --dir, --aggregate, --history or --merge.");
+            printUsageAndExit();
+        }
+        if (windows && mode != Mode.DIRECTORY && mode != Mode.PATTERN && mode != Mode.HISTORY) {
+            // a single build has no trend; merged states carry no build times
+            System.err.println("--windows can only be used with --dir, --aggregate or --history.");
+            printUsageAndExit();
+        }
+        if (regressions && mode != Mode.HISTORY) {
+            // needs every build in time order; logs can be ingested first with --ingest
+            System.err.println("--regressions can only be used with --history.");
+            printUsageAndExit();
+        }
+
+        if ((recursive || modifiedSince != null || modifiedUntil != null)
+                && mode != Mode.DIRECTORY && mode != Mode.PATTERN && mode != Mode.DIFF && mode != Mode.SIMULATE) {
+            System.err.println("--recursive, --since and --until can only be used with --dir, --aggregate, --diff or --simulate.");
+            printUsageAndExit();
+        }
+        if (modifiedSince != null && modifiedUntil != null && modifiedSince >= modifiedUntil) {
+            System.err.println("--since must be before --until.");
+            printUsageAndExit();
+        }
+        if (reactorGraph != null && mode != Mode.SINGLE_LOG && mode != Mode.CLEAN_INSTALL && mode != Mode.SIMULATE) {
+            System.err.println("--graph can only be used with <maven-log-file>, --clean-install or --simulate.");
+            printUsageAndExit();
+        }
+        if (sensitivity && mode != Mode.SINGLE_LOG && mode != Mode.CLEAN_INSTALL) {
+            System.err.println("--sensitivity and --speedup can only be used with <maven-log-file> or --clean-install.");
+            printUsageAndExit();
+        }
+        if (traceFile != null && mode != Mode.SINGLE_LOG && mode != Mode.CLEAN_INSTALL) {
+            System.err.println("--trace can only be used with <maven-log-file> or --clean-install.");
+            printUsageAndExit();
+        }
+        if ((maxThreads != DEFAULT_MAX_THREADS || percentile != 50) && mode != Mode.SIMULATE) {
+            System.err.println("--max-threads and --percentile can only be used with --simulate.");
+            printUsageAndExit();
         }
 
         return new CliOptions(
@@ -145,10 +434,101 @@ public final class CliArgumentParser {
                 dir,
                 pattern,
                 projectDir,
-                List.copyOf(extraMavenArgs)
+                List.copyOf(extraMavenArgs),
+                parserBackend,
+                jobs,
+                cacheDir,
+                cacheVerify,
+                ingestStore,
+                historyStore,
+                List.copyOf(mergeStates),
+                saveState,
+                windows,
+                windowLastBuilds,
+                windowDays,
+                regressions,
+                diffBaseline,
+                diffCandidate,
+                topModules,
+                recursive,
+                modifiedSince,
+                modifiedUntil,
+                reactorGraph,
+                simulateSource,
+                maxThreads,
+                percentile,
+                sensitivity,
+                speedupPercent,
+                traceFile
         );
     }
 
+    private static ParserBackend parseParserBackend(String value) {
+        try {
+            return ParserBackend.fromCliName(value);
+        } catch (IllegalArgumentException e) {
+            System.err.println("ERROR: Unknown parser backend: " + value + " (expected stream, mmap or parallel).");
+            printUsageAndExit();
+            return null; // unreachable
+        }
+    }
+
+    private static int parsePercentile(String value) {
+        String number = value.startsWith("p") ? value.substring(1) : value;
+        return switch (number) {
+            case "50", "90", "95", "99" -> Integer.parseInt(number);
+            default -> {
+                System.err.println("ERROR: --percentile expects 50, 90, 95 or 99, got: " + value);
+                printUsageAndExit();
+                yield 0; // unreachable
+            }
+        };
+    }
+
+    private static int parseJobs(String value) {
+        return parsePositiveInt("--jobs", value);
+    }
+
+    private static int parsePositiveInt(String option, String value) {
+        try {
+            int n = Integer.parseInt(value);
+            if (n >= 1) {
+                return n;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        System.err.println("ERROR: " + option + " expects a positive integer, got: " + value);
+        printUsageAndExit();
+        return 0; // unreachable
+    }
+
+    /**
+     * Accepts 2024-05-01, 2024-05-01T14:30[:00] (both in the local time zone) and
+     * 2024-05-01T14:30:00Z / +02:00. A plain date as upper bound means the end of that day.
+     *
+     * @return epoch millis
+     */
+    static long parseTime(String option, String value, boolean upperBound) {
+        ZoneId zone = ZoneId.systemDefault();
+        try {
+            if (value.length() == 10) {
+                LocalDate day = LocalDate.parse(value);
+                return (upperBound ? day.plusDays(1) : day).atStartOfDay(zone).toInstant().toEpochMilli();
+            }
+            try {
+                return OffsetDateTime.parse(value).toInstant().toEpochMilli();
+            } catch (DateTimeException e) {
+                return LocalDateTime.parse(value).atZone(zone).toInstant().toEpochMilli();
+            }
+        } catch (DateTimeException e) {
+            System.err.println("ERROR: " + option + " expects a date (2024-05-01) or date-time"
+                    + " (2024-05-01T14:30, 2024-05-01T14:30:00Z), got: " + value);
+            printUsageAndExit();
+            return 0; // unreachable
+        }
+    }
+
     private static void ensureModeUnsetOrSame(Mode current, Mode newMode) {
         if (current != null && current != newMode) {
             System.err.println("Cannot combine mode " + newMode + " with " + current + ".");
@@ -162,16 +542,65 @@ public final class CliArgumentParser {
         System.err.println("  build-analyzer --dir <log-directory>");
         System.err.println("  build-analyzer --aggregate <glob-pattern>");
         System.err.println("  build-analyzer --clean-install [<project-dir>] [-- <maven-args...>]");
+        System.err.println("  build-analyzer --history <store-dir>");
+        System.err.println("  build-analyzer --merge <state-file>...");
+        System.err.println("  build-analyzer --diff <baseline> <candidate>");
+        System.err.println("  build-analyzer --simulate <logs|store> --graph <path>");
         System.err.println();
         System.err.println("Options:");
         System.err.println("  -j, --json                 Output JSON instead of text");
         System.err.println("  -p, --pretty               Pretty-print JSON (requires -j/--json)");
         System.err.println("  -d, --dir <dir>            Aggregate all *.log files directly under <dir>");
+        System.err.println("  -r, --recursive            With --dir: also include logs in subdirectories");
         System.err.println("  -a, --aggregate <pattern>  Aggregate log files matching glob pattern");
-        System.err.println("                             (e.g. ci-logs/build-*.log)");
+        System.err.println("                             (e.g. ci-logs/build-*.log; '**' spans directories,");
+        System.err.println("                             e.g. 'logs/**/*.log')");
+        System.err.println("  --since <time>             Only logs modified at or after <time>, e.g. 2024-05-01");
+        System.err.println("                             or 2024-05-01T14:30 (--dir, --aggregate, --diff,");
+        System.err.println("                             --simulate)");
+        System.err.println("  --until <time>             Only logs modified before <time>; a date includes");
+        System.err.println("                             that whole day");
         System.err.println("  -C, --clean-install        Run 'mvn clean install' in the given project directory");
         System.err.println("                             (default: current directory).");
         System.err.println("                             Use '--' to pass additional arguments to Maven.");
+        System.err.println("  --parser <backend>         How log files are read: stream (default), mmap");
+        System.err.println("                             or parallel (memory-mapped, for very large logs)");
+        System.err.println("  --jobs <n>                 Logs parsed concurrently with --dir/--aggregate");
+        System.err.println("                             (default: number of CPU cores)");
+        System.err.println("  --cache                    Reuse parse results of unchanged logs from");
+        System.err.println("                             " + DEFAULT_CACHE_DIR);
+        System.err.println("  --cache-dir <dir>          Like --cache, with a different cache directory");
+        System.err.println("  --cache-verify             Also check a content hash before reusing a result");
+        System.err.println("  --ingest <store-dir>       Also append parsed builds to a build history store");
+        System.err.println("  --history <store-dir>      Aggregate all builds of a build history store");
+        System.err.println("  --save-state <file>        Also write the raw aggregate state, for --merge");
+        System.err.println("  --merge <state-file>...    Combine aggregate states saved on other machines");
+        System.err.println("  --windows                  Also report rolling windows: last N builds, per day,");
+        System.err.println("                             and a sliding window of D days (by 'Finished at')");
+        System.err.println("  --last-builds <n>          N for --windows (default " + RollingWindows.DEFAULT_LAST_BUILDS + ")");
+        System.err.println("  --window-days <d>          D for --windows (default " + RollingWindows.DEFAULT_SLIDING_DAYS + ")");
+        System.err.println("  --regressions              With --history: report builds where a module got");
+        System.err.println("                             persistently slower (module or test time)");
+        System.err.println("  --top <n>                  Text output: list only the n slowest modules per");
+        System.err.println("                             section, plus one line for all others");
+        System.err.println("  --graph <path>             Critical path and per-module slack from the reactor");
+        System.err.println("                             dependencies: a project directory or pom.xml, or the");
+        System.err.println("                             log of 'mvn dependency:tree' or 'mvn -X' (single log,");
+        System.err.println("                             --simulate; --clean-install reads the project's poms)");
+        System.err.println("  --sensitivity              Rank modules by the wall time saved if each got");
+        System.err.println("                             " + DEFAULT_SPEEDUP_PERCENT + "% faster (parallel builds need --graph)");
+        System.err.println("  --speedup <percent>        Like --sensitivity, with another speed-up");
+        System.err.println("  --trace <file>             Also write the build as a Chrome trace-event timeline,");
+        System.err.println("                             for chrome://tracing or ui.perfetto.dev");
+        System.err.println("  --diff <baseline> <candidate>");
+        System.err.println("                             Compare two logs, or two sets of logs (directory or");
+        System.err.println("                             glob), module by module; sets get a significance test");
+        System.err.println("  --simulate <source>        Predict wall time, utilization and the knee for 1..N");
+        System.err.println("                             builder threads (-T) from a log, a directory or glob");
+        System.err.println("                             of logs, or a history store (needs --graph)");
+        System.err.println("  --max-threads <n>          N for --simulate (default " + DEFAULT_MAX_THREADS + ")");
+        System.err.println("  --percentile <p>           Module times for --simulate over several builds:");
+        System.err.println("                             50 (default), 90, 95 or 99");
         System.exit(1);
     }
 }
@@ -1,5 +1,8 @@
 package com.buildanalyzer.cli;
 
+import com.buildanalyzer.core.parser.ParserBackend;
+import com.buildanalyzer.util.ModifiedTimeRange;
+
 import java.util.List;
 
 public record CliOptions(
@@ -18,6 +21,69 @@ public record CliOptions(
 
         // for CLEAN_INSTALL
         String projectDir,           // may be null -> default "."
-        List<String> extraMavenArgs  // never null; use List.of() if empty
-) {}
+        List<String> extraMavenArgs, // never null; use List.of() if empty
+
+        // how log files are read (all modes)
+        ParserBackend parserBackend,
+
+        // for DIRECTORY / PATTERN: number of logs parsed concurrently (>= 1)
+        int jobs,
+
+        // parse cache for SINGLE_LOG / DIRECTORY / PATTERN; null -> disabled
+        String cacheDir,
+        boolean cacheVerify,         // also compare a content hash, not only size + mtime
+
+        // for SINGLE_LOG / DIRECTORY / PATTERN: also append parsed builds here; null -> off
+        String ingestStore,
+
+        // for HISTORY
+        String historyStore,
+
+        // for MERGE: aggregate state files written with --save-state; never null
+        List<String> mergeStates,
+
+        // for DIRECTORY / PATTERN / HISTORY / MERGE: also write the raw aggregate state here; null -> off
+        String saveState,
+
+        // for DIRECTORY / PATTERN / HISTORY: also report rolling time windows
+        boolean windows,
+        int windowLastBuilds,        // size of the "last N builds" window
+        int windowDays,              // length of the sliding window in days
+
+        // for HISTORY: run per-module regression detection over the builds in time order
+        boolean regressions,
+
+        // for DIFF: each a log file, a directory of logs or a glob pattern
+        String diffBaseline,
+        String diffCandidate,
+
+        // text output: modules listed per section, the rest is rolled up; 0 -> all
+        int topModules,
+
+        // for DIRECTORY / PATTERN / DIFF: which log files are picked up
+        boolean recursive,           // directories: also walk subdirectories
+        Long modifiedSince,          // epoch millis, inclusive; null -> no lower bound
+        Long modifiedUntil,          // epoch millis, exclusive; null -> no upper bound
+
+        // for SINGLE_LOG / CLEAN_INSTALL: pom.xml, project directory or dependency:tree / -X log;
+        // null -> none (CLEAN_INSTALL then reads the project's poms)
+        String reactorGraph,
+
+        // for SIMULATE: a log file, directory or glob of logs, or a history store
+        String simulateSource,
+        int maxThreads,              // simulate 1..maxThreads builder threads
+        int percentile,              // module time percentile used for several builds: 50, 90, 95 or 99
+
+        // for SINGLE_LOG / CLEAN_INSTALL: rank modules by the wall time a speed-up would save
+        boolean sensitivity,
+        int speedupPercent,          // how much faster each module is assumed to get, 1..100
+
+        // for SINGLE_LOG / CLEAN_INSTALL: also write a Chrome trace-event timeline here; null -> off
+        String traceFile
+) {
+
+    public ModifiedTimeRange modifiedTimeRange() {
+        return ModifiedTimeRange.of(modifiedSince, modifiedUntil);
+    }
+}
 
@@ -25,5 +25,29 @@ public enum Mode {
     /**
      * run 'mvn clean install' then analyze captured log
      */
-    CLEAN_INSTALL
+    CLEAN_INSTALL,
+
+    /**
+     * Aggregate the builds stored in a build history store
+     * (e.g. --history .build-analyzer/history).
+     */
+    HISTORY,
+
+    /**
+     * Combine aggregate state files written with --save-state on other machines
+     * (e.g. --merge agent-*.state).
+     */
+    MERGE,
+
+    /**
+     * Compare two logs, or two sets of logs, module by module
+     * (e.g. --diff main-logs/ feature-logs/).
+     */
+    DIFF,
+
+    /**
+     * Predict the wall time of a build for 1..N builder threads (-T) from its module
+     * times and reactor graph (e.g. --simulate ci-logs/ --graph .).
+     */
+    SIMULATE
 }
@@ -0,0 +1,151 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.cli.CliOptions;
+import com.buildanalyzer.core.aggregate.AccumulatorStateFile;
+import com.buildanalyzer.core.aggregate.AggregatedSummary;
+import com.buildanalyzer.core.aggregate.BuildAccumulator;
+import com.buildanalyzer.core.aggregate.BuildAggregator;
+import com.buildanalyzer.core.aggregate.RollingWindows;
+import com.buildanalyzer.core.aggregate.WindowedSummary;
+import com.buildanalyzer.core.cache.ParseCache;
+import com.buildanalyzer.core.health.BuildHealthHint;
+import com.buildanalyzer.core.history.BuildHistoryWriter;
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.output.AggregatedTextPrinter;
+import com.buildanalyzer.output.JsonOutputWriter;
+import com.buildanalyzer.util.LogSources;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Shared part of the aggregate commands: parse the selected logs, fold them into one
+ * summary and print it.
+ */
+final class AggregateReport {
+
+    private final BuildAggregator aggregator = new BuildAggregator();
+    private final JsonOutputWriter jsonWriter = new JsonOutputWriter();
+
+    /**
+     * Parses the logs as the stream produces them, so parsing starts while a directory walk
+     * is still running. Exits with 7 and {@code noLogsError} if the stream is empty.
+     */
+    void parseAndPrint(String modeLabel,
+                       Stream<Path> logStream,
+                       String noLogsError,
+                       CliOptions options) throws IOException, InterruptedException {
+        // only the paths are kept, for the report
+        List<Path> logFiles = new ArrayList<>();
+        Iterator<Path> logs;
+        boolean any;
+        try {
+            logs = logStream.peek(logFiles::add).iterator();
+            any = logs.hasNext();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (!any) {
+            System.err.println("ERROR: " + noLogsError);
+            System.exit(7);
+        }
+
+        // fold each summary as soon as it is parsed; nothing per-build is retained
+        BuildAccumulator accumulator = aggregator.newAccumulator();
+        RollingWindows windows = newWindows(options);
+        ParseCache cache = ParseCaches.open(options);
+        BuildHistoryWriter history = HistoryIngest.open(options);
+        try {
+            new LogBatchParser(options.parserBackend(), options.jobs(), cache).parseAll(logs, (log, summary) -> {
+                accumulator.accept(summary);
+                if (windows != null) {
+                    windows.accept(summary, finishedAtMillis(log, summary));
+                }
+                HistoryIngest.append(history, log, summary);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            ParseCaches.close(cache);
+            HistoryIngest.close(history);
+        }
+        saveState(accumulator, options);
+
+        if (accumulator.buildCount() == 0) {
+            System.err.println("ERROR: No valid Maven builds found in the selected logs.");
+            System.exit(8);
+        }
+
+        print(modeLabel, logFiles, accumulator.finish(), windows == null ? null : windows.finish(), null, options);
+    }
+
+    /**
+     * @return the rolling windows to fill, or null if --windows was not given
+     */
+    static RollingWindows newWindows(CliOptions options) {
+        if (!options.windows()) {
+            return null;
+        }
+        return new RollingWindows(options.windowLastBuilds(), options.windowDays(), ZoneId.systemDefault());
+    }
+
+    /**
+     * 'Finished at' of the build, or the modification time of the log if it has none.
+     */
+    private static long finishedAtMillis(Path log, BuildSummary summary) {
+        if (summary.getFinishedAtMillis() != null) {
+            return summary.getFinishedAtMillis();
+        }
+        try {
+            return Files.getLastModifiedTime(LogSources.storageFile(log)).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the raw accumulator state for a later --merge, if --save-state was given.
+     * Done before the empty check: a shard without builds is still a valid input to merge.
+     */
+    static void saveState(BuildAccumulator accumulator, CliOptions options) throws IOException {
+        if (options.saveState() == null) {
+            return;
+        }
+        Path file = Paths.get(options.saveState());
+        AccumulatorStateFile.write(file, accumulator);
+        // stderr: stdout may be JSON
+        System.err.println("Aggregate state: " + accumulator.buildCount() + " build(s) written to " + file);
+    }
+
+    void print(String modeLabel,
+               List<Path> sources,
+               AggregatedSummary aggregated,
+               CliOptions options) {
+        print(modeLabel, sources, aggregated, null, null, options);
+    }
+
+    /**
+     * @param windows     may be null
+     * @param regressions may be null
+     */
+    void print(String modeLabel,
+               List<Path> sources,
+               AggregatedSummary aggregated,
+               WindowedSummary windows,
+               List<BuildHealthHint> regressions,
+               CliOptions options) {
+        if (options.jsonOutput()) {
+            jsonWriter.printAggregated(modeLabel, sources, aggregated, windows, regressions, options.prettyJson());
+        } else {
+            new AggregatedTextPrinter(options.topModules()).print(modeLabel, sources, aggregated, windows, regressions);
+        }
+    }
+}
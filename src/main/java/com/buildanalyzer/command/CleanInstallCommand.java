@@ -1,6 +1,10 @@
 package com.buildanalyzer.command;
 
 import com.buildanalyzer.cli.CliOptions;
+import com.buildanalyzer.core.graph.CriticalPath;
+import com.buildanalyzer.core.graph.CriticalPathAnalyzer;
+import com.buildanalyzer.core.graph.ModuleDag;
+import com.buildanalyzer.core.graph.SpeedupSensitivity;
 import com.buildanalyzer.core.model.BuildSummary;
 import com.buildanalyzer.core.parser.MavenLogParser;
 import com.buildanalyzer.output.JsonOutputWriter;
@@ -10,6 +14,7 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -27,8 +32,6 @@ import java.util.List;
  */
 public class CleanInstallCommand implements CliCommand {
 
-    private final MavenLogParser parser = new MavenLogParser();
-    private final SingleBuildTextPrinter textPrinter = new SingleBuildTextPrinter();
     private final JsonOutputWriter jsonWriter = new JsonOutputWriter();
 
     @Override
@@ -75,15 +78,10 @@ public class CleanInstallCommand implements CliCommand {
         Process process = pb.start();
 
         // 4) tee: console + logFile
+        boolean parallelBuild;
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
              BufferedWriter writer = Files.newBufferedWriter(logFile)) {
-
-            String line;
-            while ((line = reader.readLine()) != null) {
-                System.out.println(line);
-                writer.write(line);
-                writer.newLine();
-            }
+            parallelBuild = tee(reader, System.out, writer);
         }
 
         int exitCode = process.waitFor();
@@ -95,8 +93,10 @@ public class CleanInstallCommand implements CliCommand {
             System.exit(exitCode);
         }
 
-        // 4.5) Safety: reject parallel build detected from captured log
-        if (logIndicatesParallelBuild(logFile)) {
+        // 4.5) Safety: reject parallel build detected from captured log (e.g. -T in .mvn/maven.config).
+        // Checked before parsing: a -T log the parser cannot read (a single-module build has no
+        // Reactor Summary) must still end with this hint, not with the parse error.
+        if (parallelBuild) {
             System.err.println();
             System.err.println("ERROR: Parallel build detected in captured log (MultiThreadedBuilder / -T).");
             System.err.println("       --clean-install requires a single-thread build for reliable analysis.");
@@ -111,13 +111,65 @@ public class CleanInstallCommand implements CliCommand {
         System.out.println("Log file : " + logFile.toAbsolutePath());
         System.out.println();
 
+        MavenLogParser parser = new MavenLogParser(options.parserBackend());
         BuildSummary summary = parser.parse(logFile);
+        ModuleDag dag = moduleDag(options, projectDir, summary);
+        CriticalPath criticalPath = dag == null ? null : CriticalPathAnalyzer.analyze(dag);
+        // always a serial build, see ensureNoParallelArgs
+        SpeedupSensitivity sensitivity = options.sensitivity()
+                ? ReactorGraphs.sensitivity(false, summary, dag, options.speedupPercent())
+                : null;
 
         if (options.jsonOutput()) {
-            jsonWriter.printSingleBuild(summary, options.prettyJson());
+            jsonWriter.printSingleBuild(summary, criticalPath, sensitivity, options.prettyJson());
         } else {
-            textPrinter.print(logFile, summary);
+            new SingleBuildTextPrinter(options.topModules()).print(logFile, summary, criticalPath, sensitivity);
         }
+        TraceExport.write(options, logFile, summary, dag);
+    }
+
+    /**
+     * --graph if given; otherwise the project's own poms, best-effort: a pom layout this
+     * reader does not follow should not cost the user the report of a finished build.
+     */
+    private static ModuleDag moduleDag(CliOptions options, Path projectDir, BuildSummary summary)
+            throws IOException {
+        if (options.reactorGraph() != null) {
+            return ReactorGraphs.dag(Paths.get(options.reactorGraph()), summary);
+        }
+        try {
+            return ReactorGraphs.dag(projectDir, summary);
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("WARN: Reactor dependencies not available, no critical path: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Copies Maven's output line by line to the console and the log.
+     *
+     * @return true if Maven announced the MultiThreadedBuilder ("Using the MultiThreadedBuilder
+     *         implementation with a thread count of 4"); only the lines before the first
+     *         module ("Building ...") are searched, that is where Maven prints it
+     */
+    static boolean tee(BufferedReader mavenOutput, PrintStream console, BufferedWriter log) throws IOException {
+        boolean parallelBuild = false;
+        boolean reactorStarted = false;
+        String line;
+        while ((line = mavenOutput.readLine()) != null) {
+            console.println(line);
+            log.write(line);
+            log.newLine();
+
+            if (!reactorStarted) {
+                if (line.contains("MultiThreadedBuilder")) {
+                    parallelBuild = true;
+                } else if (line.contains("] Building ")) {
+                    reactorStarted = true;
+                }
+            }
+        }
+        return parallelBuild;
     }
 
     /**
@@ -167,13 +219,4 @@ public class CleanInstallCommand implements CliCommand {
             }
         }
     }
-
-    private static boolean logIndicatesParallelBuild(Path logFile) {
-        try (var lines = Files.lines(logFile)) {
-            return lines.anyMatch(l -> l != null && l.contains("MultiThreadedBuilder"));
-        } catch (IOException e) {
-            // best-effort: if we can't read the log, don't block
-            return false;
-        }
-    }
 }
@@ -0,0 +1,58 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.cli.CliOptions;
+import com.buildanalyzer.core.cache.ParseCache;
+import com.buildanalyzer.core.diff.BuildCohort;
+import com.buildanalyzer.core.diff.BuildComparator;
+import com.buildanalyzer.core.diff.BuildDiff;
+import com.buildanalyzer.output.DiffTextPrinter;
+import com.buildanalyzer.output.JsonOutputWriter;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * CLI command: compare a baseline with a candidate, e.g. "did this branch make the build
+ * slower?". Each side is a log file, a directory of logs or a glob pattern.
+ */
+public class DiffCommand implements CliCommand {
+
+    private final BuildComparator comparator = new BuildComparator();
+    private final JsonOutputWriter jsonWriter = new JsonOutputWriter();
+
+    @Override
+    public void execute(CliOptions options) throws Exception {
+        List<Path> baselineLogs = LogArguments.resolve(options.diffBaseline(), options);
+        List<Path> candidateLogs = LogArguments.resolve(options.diffCandidate(), options);
+
+        ParseCache cache = ParseCaches.open(options);
+        BuildCohort baseline = new BuildCohort();
+        BuildCohort candidate = new BuildCohort();
+        try {
+            LogBatchParser parser = new LogBatchParser(options.parserBackend(), options.jobs(), cache);
+            parser.parseAll(baselineLogs, (log, summary) -> baseline.accept(summary));
+            parser.parseAll(candidateLogs, (log, summary) -> candidate.accept(summary));
+        } finally {
+            ParseCaches.close(cache);
+        }
+
+        requireBuilds(baseline, options.diffBaseline());
+        requireBuilds(candidate, options.diffCandidate());
+
+        BuildDiff diff = comparator.compare(baseline, candidate);
+        if (options.jsonOutput()) {
+            jsonWriter.printDiff(options.diffBaseline(), baselineLogs,
+                    options.diffCandidate(), candidateLogs, diff, options.prettyJson());
+        } else {
+            new DiffTextPrinter(options.topModules())
+                    .print(options.diffBaseline(), baselineLogs, options.diffCandidate(), candidateLogs, diff);
+        }
+    }
+
+    private static void requireBuilds(BuildCohort cohort, String side) {
+        if (cohort.buildCount() == 0) {
+            System.err.println("ERROR: No valid Maven builds found in: " + side);
+            System.exit(8);
+        }
+    }
+}
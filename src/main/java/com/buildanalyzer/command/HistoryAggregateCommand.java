@@ -0,0 +1,58 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.cli.CliOptions;
+import com.buildanalyzer.core.aggregate.BuildAccumulator;
+import com.buildanalyzer.core.aggregate.BuildAggregator;
+import com.buildanalyzer.core.aggregate.RollingWindows;
+import com.buildanalyzer.core.health.RegressionDetector;
+import com.buildanalyzer.core.history.BuildHistoryReader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * CLI command: aggregate all builds of a history store filled with --ingest.
+ */
+public class HistoryAggregateCommand implements CliCommand {
+
+    private final BuildAggregator aggregator = new BuildAggregator();
+    private final AggregateReport report = new AggregateReport();
+
+    @Override
+    public void execute(CliOptions options) throws Exception {
+        Path store = Paths.get(options.historyStore());
+
+        if (!Files.isDirectory(store)) {
+            System.err.println("ERROR: History store not found: " + store.toAbsolutePath());
+            System.exit(2);
+        }
+
+        BuildHistoryReader reader = BuildHistoryReader.open(store);
+        BuildAccumulator accumulator = aggregator.newAccumulator();
+        RollingWindows windows = AggregateReport.newWindows(options);
+        RegressionDetector detector = options.regressions() ? new RegressionDetector() : null;
+        // time order matters only to the detector; the aggregates do not depend on it
+        reader.forEachBuildInTimeOrder(build -> {
+            accumulator.accept(build);
+            if (windows != null) {
+                // builds from the store carry their stored timestamp
+                windows.accept(build, build.getFinishedAtMillis());
+            }
+            if (detector != null) {
+                detector.accept(build);
+            }
+        });
+        AggregateReport.saveState(accumulator, options);
+
+        if (accumulator.buildCount() == 0) {
+            System.err.println("ERROR: No builds in history store: " + store.toAbsolutePath());
+            System.exit(8);
+        }
+
+        report.print("HISTORY", List.of(store), accumulator.finish(),
+                windows == null ? null : windows.finish(),
+                detector == null ? null : detector.findings(), options);
+    }
+}
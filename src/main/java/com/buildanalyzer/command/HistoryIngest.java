@@ -0,0 +1,55 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.cli.CliOptions;
+import com.buildanalyzer.core.history.BuildHistoryWriter;
+import com.buildanalyzer.core.model.BuildSummary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Appends parsed builds to the history store selected by --ingest.
+ */
+final class HistoryIngest {
+
+    private HistoryIngest() {
+    }
+
+    /**
+     * @return the writer, or null if --ingest was not given
+     */
+    static BuildHistoryWriter open(CliOptions options) throws IOException {
+        if (options.ingestStore() == null) {
+            return null;
+        }
+        return BuildHistoryWriter.open(Paths.get(options.ingestStore()));
+    }
+
+    /**
+     * Usable from parse callbacks: I/O errors are rethrown unchecked.
+     */
+    static void append(BuildHistoryWriter history, Path log, BuildSummary summary) {
+        if (history == null) {
+            return;
+        }
+        try {
+            history.append(log, summary);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes the store and reports what was ingested on stderr (stdout may be JSON).
+     */
+    static void close(BuildHistoryWriter history) throws IOException {
+        if (history == null) {
+            return;
+        }
+        history.close();
+        System.err.println("History store: " + history.appended() + " build(s) ingested, "
+                + history.duplicates() + " already present in " + history.directory());
+    }
+}
@@ -0,0 +1,66 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.cli.CliOptions;
+import com.buildanalyzer.util.GlobPattern;
+import com.buildanalyzer.util.LogFileResolver;
+import com.buildanalyzer.util.LogSources;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Resolves a command line argument that may be a log file, a directory of logs or a glob
+ * pattern, as taken by --diff and --simulate.
+ */
+final class LogArguments {
+
+    private static final LogFileResolver FILE_RESOLVER = new LogFileResolver();
+
+    private LogArguments() {
+    }
+
+    /**
+     * @return the file itself, the logs of a directory, or the files matching a glob
+     *         pattern; --recursive, --since and --until apply to directories and patterns.
+     *         Exits with 2 if the argument is none of these and with 7 if it names no logs.
+     */
+    static List<Path> resolve(String argument, CliOptions options) throws IOException {
+        Path path = Paths.get(argument);
+        List<Path> logFiles;
+        if (Files.isDirectory(path)) {
+            logFiles = collect(FILE_RESOLVER.streamLogFilesInDirectory(
+                    path, options.recursive(), options.modifiedTimeRange(), options.jobs()));
+        } else if (LogSources.exists(path)) {
+            logFiles = LogSources.isZip(path)
+                    ? LogSources.listLogEntries(path).stream().map(entry -> LogSources.zipEntry(path, entry)).toList()
+                    : List.of(path);
+        } else {
+            GlobPattern pattern = GlobPattern.parse(argument);
+            if (!Files.isDirectory(pattern.baseDir())) {
+                System.err.println("ERROR: Not a log file, directory or glob pattern: " + argument);
+                System.exit(2);
+            }
+            logFiles = collect(FILE_RESOLVER.streamLogFilesByPattern(
+                    pattern.baseDir(), pattern.glob(), options.modifiedTimeRange(), options.jobs()));
+        }
+
+        if (logFiles.isEmpty()) {
+            System.err.println("ERROR: No log files found for: " + argument);
+            System.exit(7);
+        }
+        return logFiles;
+    }
+
+    private static List<Path> collect(Stream<Path> logs) throws IOException {
+        try (logs) {
+            return logs.toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
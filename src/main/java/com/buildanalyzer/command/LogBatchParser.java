@@ -0,0 +1,146 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.core.cache.ParseCache;
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.parser.MavenLogParser;
+import com.buildanalyzer.core.parser.ParserBackend;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+/**
+ * Parses the logs of an aggregate command on up to {@code jobs} threads.
+ *
+ * Results are handed to the consumer on the calling thread and strictly in input order,
+ * so reports and "WARN: Skipping log" lines do not depend on scheduling. Only a bounded
+ * number of logs is in flight at any time; parsed summaries do not pile up when the
+ * consumer is slower than the workers, or when an early log is much larger than the rest.
+ */
+final class LogBatchParser {
+
+    /** parsed-but-not-consumed logs per worker thread */
+    private static final int IN_FLIGHT_PER_JOB = 4;
+
+    private final ParserBackend backend;
+    private final int jobs;
+    private final ParseCache cache; // may be null
+
+    LogBatchParser(ParserBackend backend, int jobs) {
+        this(backend, jobs, null);
+    }
+
+    LogBatchParser(ParserBackend backend, int jobs, ParseCache cache) {
+        this.backend = backend;
+        this.jobs = Math.max(1, jobs);
+        this.cache = cache;
+    }
+
+    /**
+     * @return number of logs that were parsed successfully
+     */
+    int parseAll(List<Path> logFiles, BiConsumer<Path, BuildSummary> consumer) throws InterruptedException {
+        return parseAll(logFiles.iterator(), consumer);
+    }
+
+    /**
+     * Like {@link #parseAll(List, BiConsumer)}, pulling logs from the iterator only as
+     * parse slots free up, so a directory walk behind it overlaps with parsing.
+     *
+     * @return number of logs that were parsed successfully
+     */
+    int parseAll(Iterator<Path> logFiles, BiConsumer<Path, BuildSummary> consumer) throws InterruptedException {
+        MavenLogParser parser = new MavenLogParser(backend);
+        if (jobs <= 1) {
+            int parsed = 0;
+            while (logFiles.hasNext()) {
+                Path log = logFiles.next();
+                BuildSummary summary = parseOrWarn(parser, log, cache);
+                if (summary != null) {
+                    consumer.accept(log, summary);
+                    parsed++;
+                }
+            }
+            return parsed;
+        }
+
+        // threads are only started as tasks come in: a single log uses a single thread
+        ExecutorService pool = Executors.newFixedThreadPool(jobs, r -> {
+            Thread t = new Thread(r, "log-parser");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            int window = jobs * IN_FLIGHT_PER_JOB;
+            Deque<Pending> inFlight = new ArrayDeque<>(window);
+            int parsed = 0;
+
+            while (true) {
+                while (inFlight.size() < window && logFiles.hasNext()) {
+                    Path toParse = logFiles.next();
+                    inFlight.addLast(new Pending(toParse, pool.submit(() -> parse(parser, toParse, cache))));
+                }
+                if (inFlight.isEmpty()) {
+                    return parsed;
+                }
+                Pending next = inFlight.removeFirst();
+                BuildSummary summary = await(next.summary(), next.log());
+                if (summary != null) {
+                    consumer.accept(next.log(), summary);
+                    parsed++;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private record Pending(Path log, Future<BuildSummary> summary) {}
+
+    static BuildSummary parse(MavenLogParser parser, Path log, ParseCache cache) throws IOException {
+        return cache == null ? parser.parse(log) : cache.parse(log, parser);
+    }
+
+    private static BuildSummary parseOrWarn(MavenLogParser parser, Path log, ParseCache cache) {
+        try {
+            return parse(parser, log, cache);
+        } catch (IllegalStateException | IOException e) {
+            warnSkipping(log, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return the summary, or null if the log was skipped with a warning
+     */
+    private static BuildSummary await(Future<BuildSummary> future, Path log) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalStateException || cause instanceof IOException) {
+                warnSkipping(log, (Exception) cause);
+                return null;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static void warnSkipping(Path log, Exception e) {
+        System.err.println("WARN: Skipping log '" + log + "': " + e.getMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.cli.CliOptions;
+import com.buildanalyzer.core.aggregate.AccumulatorStateFile;
+import com.buildanalyzer.core.aggregate.BuildAccumulator;
+import com.buildanalyzer.core.aggregate.BuildAggregator;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CLI command: combine aggregate states written with --save-state (e.g. one per CI agent)
+ * into one report. With --save-state the merged state can itself be merged again.
+ */
+public class MergeStatesCommand implements CliCommand {
+
+    private final BuildAggregator aggregator = new BuildAggregator();
+    private final AggregateReport report = new AggregateReport();
+
+    @Override
+    public void execute(CliOptions options) throws Exception {
+        List<Path> stateFiles = new ArrayList<>();
+        for (String s : options.mergeStates()) {
+            Path file = Paths.get(s);
+            if (!Files.isRegularFile(file)) {
+                System.err.println("ERROR: State file not found: " + file.toAbsolutePath());
+                System.exit(2);
+            }
+            stateFiles.add(file);
+        }
+
+        BuildAccumulator merged = aggregator.newAccumulator();
+        for (Path file : stateFiles) {
+            merged.combine(AccumulatorStateFile.read(file));
+        }
+        AggregateReport.saveState(merged, options);
+
+        if (merged.buildCount() == 0) {
+            System.err.println("ERROR: The state files contain no builds.");
+            System.exit(8);
+        }
+
+        report.print("MERGE", stateFiles, merged.finish(), options);
+    }
+}
@@ -0,0 +1,42 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.cli.CliOptions;
+import com.buildanalyzer.core.cache.ParseCache;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Opens and closes the parse cache selected by --cache / --cache-dir.
+ */
+final class ParseCaches {
+
+    private ParseCaches() {
+    }
+
+    /**
+     * @return the cache, or null if caching is disabled
+     */
+    static ParseCache open(CliOptions options) {
+        if (options.cacheDir() == null) {
+            return null;
+        }
+        return new ParseCache(Paths.get(options.cacheDir()), options.cacheVerify());
+    }
+
+    /**
+     * Applies the size cap and reports hit/miss counts on stderr (stdout may be JSON).
+     */
+    static void close(ParseCache cache) {
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.evictToSizeCap();
+        } catch (IOException e) {
+            System.err.println("WARN: Failed to trim parse cache '" + cache.directory() + "': " + e.getMessage());
+        }
+        System.err.println("Parse cache: " + cache.hits() + " hit(s), " + cache.misses()
+                + " miss(es) in " + cache.directory());
+    }
+}
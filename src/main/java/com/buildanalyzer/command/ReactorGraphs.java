@@ -0,0 +1,72 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.core.graph.DependencyTreeReader;
+import com.buildanalyzer.core.graph.ModuleDag;
+import com.buildanalyzer.core.graph.PomReactorReader;
+import com.buildanalyzer.core.graph.ReactorGraph;
+import com.buildanalyzer.core.graph.SensitivityAnalyzer;
+import com.buildanalyzer.core.graph.SpeedupSensitivity;
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.util.LogSources;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads the reactor dependency graph selected by --graph, weights it with the module
+ * times of a build, and runs the analyses that need it.
+ */
+final class ReactorGraphs {
+
+    private ReactorGraphs() {
+    }
+
+    /**
+     * The graph from {@code source}, weighted with the module times of {@code summary}.
+     *
+     * @param source a project directory or *.xml pom, or a (possibly compressed) log with
+     *               dependency trees
+     * @throws IllegalStateException if the source yields no modules, or the graph has a cycle
+     */
+    static ModuleDag dag(Path source, BuildSummary summary) throws IOException {
+        ReactorGraph graph = load(source);
+        if (graph.size() == 0) {
+            throw new IllegalStateException("No reactor modules found in " + source
+                    + " (expected pom.xml files, or the log of 'mvn dependency:tree' or 'mvn -X').");
+        }
+        return ModuleDag.of(graph, summary);
+    }
+
+    /**
+     * Serial builds are analyzed directly; parallel builds need the graph.
+     *
+     * @param dag the build's module DAG, or null without --graph
+     * @return null, with a warning on stderr, for a parallel build without graph
+     */
+    static SpeedupSensitivity sensitivity(boolean parallel, BuildSummary summary, ModuleDag dag, int speedupPercent) {
+        double fraction = speedupPercent / 100.0;
+        if (!parallel) {
+            return SensitivityAnalyzer.serial(summary, fraction);
+        }
+        if (dag == null) {
+            System.err.println("WARN: --sensitivity needs --graph for a parallel build: which modules shorten the"
+                    + " build depends on the reactor dependencies.");
+            return null;
+        }
+        return SensitivityAnalyzer.parallel(dag, fraction);
+    }
+
+    static ReactorGraph load(Path source) throws IOException {
+        if (Files.isDirectory(source) || source.getFileName().toString().endsWith(".xml")) {
+            return PomReactorReader.read(source);
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(LogSources.open(source), StandardCharsets.UTF_8))) {
+            return DependencyTreeReader.read(reader);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.cli.CliOptions;
+import com.buildanalyzer.core.aggregate.AggregatedSummary;
+import com.buildanalyzer.core.aggregate.BuildAccumulator;
+import com.buildanalyzer.core.aggregate.BuildAggregator;
+import com.buildanalyzer.core.aggregate.Percentiles;
+import com.buildanalyzer.core.cache.ParseCache;
+import com.buildanalyzer.core.graph.BuilderSimulator;
+import com.buildanalyzer.core.graph.ThreadCountSimulation;
+import com.buildanalyzer.core.history.BuildHistoryReader;
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import com.buildanalyzer.output.JsonOutputWriter;
+import com.buildanalyzer.output.SimulationTextPrinter;
+import com.buildanalyzer.util.LogSources;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * CLI command: predict what other -T values would do to a build, from its module times
+ * and the reactor dependency graph.
+ *
+ * Module times come from one log as they are, or from many logs / a history store as the
+ * selected percentile per module (p50 for the typical build, p90 to plan for slow ones).
+ */
+public class SimulateCommand implements CliCommand {
+
+    private final BuildAggregator aggregator = new BuildAggregator();
+    private final JsonOutputWriter jsonWriter = new JsonOutputWriter();
+
+    @Override
+    public void execute(CliOptions options) throws Exception {
+        Path graphSource = Paths.get(options.reactorGraph());
+        if (!LogSources.exists(graphSource)) {
+            System.err.println("ERROR: Reactor graph source not found: " + graphSource.toAbsolutePath());
+            System.exit(2);
+        }
+
+        Path source = Paths.get(options.simulateSource());
+        BuildAccumulator accumulator = aggregator.newAccumulator();
+        BuildSummary[] single = new BuildSummary[1];
+        List<Path> inputs;
+        if (Files.isDirectory(source) && BuildHistoryReader.isStore(source)) {
+            inputs = List.of(source);
+            BuildHistoryReader.open(source).forEachBuild(Long.MIN_VALUE, Long.MAX_VALUE, build -> {
+                accumulator.accept(build);
+                single[0] = build;
+            });
+        } else {
+            inputs = LogArguments.resolve(options.simulateSource(), options);
+            ParseCache cache = ParseCaches.open(options);
+            try {
+                new LogBatchParser(options.parserBackend(), options.jobs(), cache).parseAll(inputs, (log, build) -> {
+                    accumulator.accept(build);
+                    single[0] = build;
+                });
+            } finally {
+                ParseCaches.close(cache);
+            }
+        }
+
+        if (accumulator.buildCount() == 0) {
+            System.err.println("ERROR: No valid Maven builds found in: " + options.simulateSource());
+            System.exit(8);
+        }
+
+        // one build: its own times, not a sketch estimate of them
+        boolean oneBuild = accumulator.buildCount() == 1;
+        BuildSummary moduleTimes = oneBuild ? single[0] : percentileBuild(accumulator.finish(), options.percentile());
+        String basis = oneBuild
+                ? "single build"
+                : "p" + options.percentile() + " of " + accumulator.buildCount() + " builds";
+
+        ThreadCountSimulation simulation =
+                BuilderSimulator.simulate(ReactorGraphs.dag(graphSource, moduleTimes), options.maxThreads());
+
+        if (options.jsonOutput()) {
+            jsonWriter.printSimulation(options.simulateSource(), inputs, accumulator.buildCount(), basis,
+                    options.reactorGraph(), simulation, options.prettyJson());
+        } else {
+            new SimulationTextPrinter().print(options.simulateSource(), basis, options.reactorGraph(), simulation);
+        }
+    }
+
+    /**
+     * @return a build with the given percentile of every module's time
+     */
+    static BuildSummary percentileBuild(AggregatedSummary summary, int percentile) {
+        List<ModuleSummary> modules = summary.modules().stream()
+                .map(m -> new ModuleSummary(m.name(), pick(m.secondsPercentiles(), percentile)))
+                .toList();
+        return new BuildSummary(pick(summary.totalSecondsPercentiles(), percentile), modules);
+    }
+
+    private static double pick(Percentiles percentiles, int percentile) {
+        return switch (percentile) {
+            case 90 -> percentiles.p90();
+            case 95 -> percentiles.p95();
+            case 99 -> percentiles.p99();
+            default -> percentiles.p50();
+        };
+    }
+}
@@ -3,10 +3,17 @@ package com.buildanalyzer.command;
 import com.buildanalyzer.cli.CliOptions;
 import com.buildanalyzer.output.JsonOutputWriter;
 import com.buildanalyzer.output.SingleBuildTextPrinter;
+import com.buildanalyzer.core.cache.ParseCache;
+import com.buildanalyzer.core.graph.CriticalPath;
+import com.buildanalyzer.core.graph.CriticalPathAnalyzer;
+import com.buildanalyzer.core.graph.ModuleDag;
+import com.buildanalyzer.core.graph.SpeedupSensitivity;
+import com.buildanalyzer.core.history.BuildHistoryWriter;
 import com.buildanalyzer.core.model.BuildSummary;
 import com.buildanalyzer.core.parser.MavenLogParser;
+import com.buildanalyzer.util.LogSources;
 
-import java.nio.file.Files;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -15,26 +22,53 @@ import java.nio.file.Paths;
  */
 public class SingleLogCommand implements CliCommand {
 
-    private final MavenLogParser parser = new MavenLogParser();
-    private final SingleBuildTextPrinter textPrinter = new SingleBuildTextPrinter();
     private final JsonOutputWriter jsonWriter = new JsonOutputWriter();
 
     @Override
     public void execute(CliOptions options) throws Exception {
         Path logPath = Paths.get(options.logFile());
 
-        if (!Files.exists(logPath)) {
+        if (!LogSources.exists(logPath)) {
             System.err.println("ERROR: File not found: " + logPath.toAbsolutePath());
             System.exit(2);
         }
 
-        BuildSummary summary = parser.parse(logPath);
+        Path graphSource = options.reactorGraph() == null ? null : Paths.get(options.reactorGraph());
+        if (graphSource != null && !LogSources.exists(graphSource)) {
+            System.err.println("ERROR: Reactor graph source not found: " + graphSource.toAbsolutePath());
+            System.exit(2);
+        }
+
+        MavenLogParser parser = new MavenLogParser(options.parserBackend());
+        ParseCache cache = ParseCaches.open(options);
+        BuildSummary summary;
+        try {
+            summary = LogBatchParser.parse(parser, logPath, cache);
+        } finally {
+            ParseCaches.close(cache);
+        }
+
+        BuildHistoryWriter history = HistoryIngest.open(options);
+        try {
+            HistoryIngest.append(history, logPath, summary);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            HistoryIngest.close(history);
+        }
+
+        ModuleDag dag = graphSource == null ? null : ReactorGraphs.dag(graphSource, summary);
+        CriticalPath criticalPath = dag == null ? null : CriticalPathAnalyzer.analyze(dag);
+        SpeedupSensitivity sensitivity = options.sensitivity()
+                ? ReactorGraphs.sensitivity(summary.isParallelBuild(), summary, dag, options.speedupPercent())
+                : null;
 
         if (options.jsonOutput()) {
-            jsonWriter.printSingleBuild(summary, options.prettyJson());
+            jsonWriter.printSingleBuild(summary, criticalPath, sensitivity, options.prettyJson());
         } else {
-            textPrinter.print(logPath, summary);
+            new SingleBuildTextPrinter(options.topModules()).print(logPath, summary, criticalPath, sensitivity);
         }
+        TraceExport.write(options, logPath, summary, dag);
     }
 }
 
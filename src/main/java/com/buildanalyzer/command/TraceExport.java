@@ -0,0 +1,46 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.cli.CliOptions;
+import com.buildanalyzer.core.graph.ModuleDag;
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.timeline.BuildTimeline;
+import com.buildanalyzer.output.TraceEventWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes the Chrome trace-event timeline selected by --trace.
+ */
+final class TraceExport {
+
+    private TraceExport() {
+    }
+
+    /**
+     * Does nothing without --trace; reports the written file on stderr (stdout may be JSON).
+     *
+     * @param dag the build's module DAG, or null without reactor graph
+     */
+    static void write(CliOptions options, Path log, BuildSummary summary, ModuleDag dag) throws IOException {
+        if (options.traceFile() == null) {
+            return;
+        }
+        if (summary.isParallelBuild() && !summary.isThreadAttributed()) {
+            System.err.println("WARN: this -T log has no builder thread names, so the trace shows all modules on one"
+                    + " track. Run Maven with -Dorg.slf4j.simpleLogger.showThreadName=true to get one per thread.");
+        }
+
+        BuildTimeline timeline = BuildTimeline.of(summary, dag);
+        Path file = Paths.get(options.traceFile());
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new TraceEventWriter().write(String.valueOf(log.getFileName()), summary, timeline, out);
+        }
+        System.err.println("Trace: " + timeline.spans().size() + " module(s) on " + timeline.tracks().size()
+                + " track(s) written to " + file + " (open in chrome://tracing or https://ui.perfetto.dev)");
+    }
+}
@@ -0,0 +1,85 @@
+package com.buildanalyzer.core.aggregate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+/**
+ * Saves and loads the raw state of a {@link BuildAccumulator}, so partial aggregations
+ * made on different machines can be merged later.
+ *
+ * The file holds sums, counts, min/max and quantile sketches, not finished averages:
+ * loading any number of state files and combining them (in any order or grouping, e.g.
+ * merged pairwise up a tree) finishes with the same {@link AggregatedSummary} as one
+ * process that saw all builds.
+ *
+ * <pre>
+ * file := magic "BAA" version:u8 accumulator   (big-endian, java.io.DataOutput)
+ * </pre>
+ */
+public final class AccumulatorStateFile {
+
+    private static final byte[] MAGIC = {'B', 'A', 'A'};
+
+    /** bump when the accumulator fields change; 2: running variances */
+    static final int VERSION = 2;
+
+    private AccumulatorStateFile() {
+    }
+
+    /**
+     * Writes the state atomically: readers see either the old file or the complete new one.
+     */
+    public static void write(Path file, BuildAccumulator accumulator) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, "state-", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.write(MAGIC);
+                out.writeByte(VERSION);
+                accumulator.writeTo(out);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * @throws IOException if the file is missing, not a state file, of another version or truncated
+     */
+    public static BuildAccumulator read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("Not an aggregate state file: " + file);
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported aggregate state version " + version
+                        + " (expected " + VERSION + "): " + file);
+            }
+            BuildAccumulator accumulator = BuildAccumulator.readFrom(in);
+            if (in.read() != -1) {
+                throw new IOException("Trailing bytes after aggregate state: " + file);
+            }
+            return accumulator;
+        } catch (EOFException e) {
+            throw new IOException("Truncated aggregate state file: " + file, e);
+        }
+    }
+}
@@ -11,5 +11,8 @@ public record AggregatedSummary(
         double averageTotalSeconds,
         double minTotalSeconds,
         double maxTotalSeconds,
-        List<ModuleStats> modules
+        Percentiles totalSecondsPercentiles,
+        Dispersion totalSecondsDispersion,
+        List<ModuleStats> modules,
+        List<String> mostUnstableModules     // names, highest coefficient of variation first
 ) {}
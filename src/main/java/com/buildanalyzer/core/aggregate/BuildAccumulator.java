@@ -0,0 +1,133 @@
+package com.buildanalyzer.core.aggregate;
+
+import com.buildanalyzer.core.model.BuildSummary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Incremental form of {@link BuildAggregator}: builds are folded in one at a time, so a
+ * caller never needs to hold more than one BuildSummary. Memory grows with the number of
+ * distinct modules, not with the number of builds; per-module statistics are kept in a
+ * columnar {@link ModuleTable}.
+ *
+ * Accumulators of disjoint sets of builds can be combined in any grouping and order
+ * (e.g. one per thread, or one per CI agent saved with {@link AccumulatorStateFile})
+ * and finish with exactly the same result. Not thread-safe.
+ */
+public final class BuildAccumulator {
+
+    static final int MIN_BUILDS_FOR_JITTER = 3;
+    static final int MOST_UNSTABLE_LIMIT = 5;
+
+    private int buildCount;
+
+    private final SecondsSum sumTotal = new SecondsSum();
+    private double minTotal = Double.POSITIVE_INFINITY;
+    private double maxTotal = 0.0;
+    private final QuantileSketch totalSketch = new QuantileSketch();
+    private final RunningVariance totalVariance = new RunningVariance();
+
+    private ModuleTable modules = new ModuleTable();
+
+    public void accept(BuildSummary build) {
+        buildCount++;
+
+        double total = build.getTotalSeconds();
+        sumTotal.add(total);
+        if (total < minTotal) minTotal = total;
+        if (total > maxTotal) maxTotal = total;
+        totalSketch.add(total);
+        totalVariance.add(total);
+
+        modules.addBuild(build.getModules());
+    }
+
+    /**
+     * Adds the builds of {@code other} to this accumulator. {@code other} is not modified and
+     * shares no state with this accumulator afterwards, so it can be combined again
+     * (e.g. a day bucket that is part of several rolling windows).
+     */
+    public BuildAccumulator combine(BuildAccumulator other) {
+        buildCount += other.buildCount;
+        sumTotal.merge(other.sumTotal);
+        minTotal = Math.min(minTotal, other.minTotal);
+        maxTotal = Math.max(maxTotal, other.maxTotal);
+        totalSketch.merge(other.totalSketch);
+        totalVariance.merge(other.totalVariance);
+
+        modules.merge(other.modules);
+        return this;
+    }
+
+    public int buildCount() {
+        return buildCount;
+    }
+
+    /**
+     * @throws IllegalStateException if no build has been accepted
+     */
+    public AggregatedSummary finish() {
+        if (buildCount == 0) {
+            throw new IllegalStateException("No builds to aggregate.");
+        }
+
+        double avgTotal = sumTotal.value() / buildCount;
+
+        List<ModuleStats> moduleStats = modules.toStats().stream()
+                .sorted(Comparator.comparingDouble(ModuleStats::averageSeconds).reversed()
+                        .thenComparing(ModuleStats::name))
+                .toList();
+
+        return new AggregatedSummary(buildCount, avgTotal, minTotal, maxTotal,
+                totalSketch.percentiles(), totalVariance.dispersion(), moduleStats, mostUnstable(moduleStats));
+    }
+
+    /**
+     * Modules whose time swings most relative to their typical time. Needs a few builds to
+     * mean anything, so modules seen in fewer than {@link #MIN_BUILDS_FOR_JITTER} builds
+     * are left out.
+     */
+    private static List<String> mostUnstable(List<ModuleStats> modules) {
+        return modules.stream()
+                .filter(m -> m.buildCount() >= MIN_BUILDS_FOR_JITTER)
+                .filter(m -> m.secondsDispersion().coefficientOfVariation() > 0.0)
+                .sorted(Comparator.comparingDouble((ModuleStats m) -> m.secondsDispersion().coefficientOfVariation())
+                        .reversed()
+                        .thenComparing(ModuleStats::name))
+                .limit(MOST_UNSTABLE_LIMIT)
+                .map(ModuleStats::name)
+                .toList();
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(buildCount);
+        sumTotal.writeTo(out);
+        out.writeDouble(minTotal);
+        out.writeDouble(maxTotal);
+        totalSketch.writeTo(out);
+        totalVariance.writeTo(out);
+
+        modules.writeTo(out);
+    }
+
+    static BuildAccumulator readFrom(DataInput in) throws IOException {
+        BuildAccumulator acc = new BuildAccumulator();
+        acc.buildCount = in.readInt();
+        acc.sumTotal.merge(SecondsSum.readFrom(in));
+        acc.minTotal = in.readDouble();
+        acc.maxTotal = in.readDouble();
+        acc.totalSketch.merge(QuantileSketch.readFrom(in));
+        acc.totalVariance.merge(RunningVariance.readFrom(in));
+        if (acc.buildCount < 0 || acc.totalSketch.count() != acc.buildCount
+                || acc.totalVariance.count() != acc.buildCount) {
+            throw new IOException("Corrupt accumulator state: build count does not match");
+        }
+
+        acc.modules = ModuleTable.readFrom(in);
+        return acc;
+    }
+}
@@ -0,0 +1,17 @@
+package com.buildanalyzer.core.aggregate;
+
+/**
+ * Spread of a duration distribution.
+ *
+ * @param variance               sample variance in seconds² (n - 1 in the denominator; 0 for fewer than 2 builds)
+ * @param stdDev                 sample standard deviation in seconds
+ * @param coefficientOfVariation stdDev / mean, i.e. jitter relative to the typical time (0 if the mean is 0)
+ */
+public record Dispersion(
+        double variance,
+        double stdDev,
+        double coefficientOfVariation
+) {
+    /** spread of an empty or single-value distribution */
+    public static final Dispersion NONE = new Dispersion(0.0, 0.0, 0.0);
+}
@@ -11,11 +11,14 @@ public record ModuleStats(
         double minSeconds,
         double maxSeconds,
         int buildCount,
+        Percentiles secondsPercentiles,
+        Dispersion secondsDispersion,         // how much the module time swings between builds
 
         // test time per module
         double averageTestSeconds,
         double minTestSeconds,
         double maxTestSeconds,
+        Percentiles testSecondsPercentiles,   // over builds in which the module ran tests
         int totalTestsRun,
         int totalFailures,
         int totalErrors,
@@ -0,0 +1,348 @@
+package com.buildanalyzer.core.aggregate;
+
+import com.buildanalyzer.core.model.ModuleSummary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Running statistics of all modules of a {@link BuildAccumulator}, stored column by column.
+ *
+ * Module names are interned to dense int ids once; every statistic is a primitive array
+ * indexed by id ({@code long[] secondsMillis}, {@code double[] minSeconds}, ...), grown
+ * on demand. Folding a (build, module) row touches a few array slots instead of a map
+ * entry plus a graph of per-module objects. Only the percentile sketches, which have a
+ * variable number of buckets, stay one object per module.
+ *
+ * Builds of one project list their modules in the same Reactor order, so the id of the
+ * module at each position of the previous build is remembered and checked first; the
+ * name map is only consulted when the order changes.
+ *
+ * Durations are split like {@link SecondsSum} and {@link RunningVariance}: exact whole
+ * milliseconds in long columns, anything else in double columns. The arithmetic is theirs,
+ * through their static helpers on array slots ({@code addAt}, {@code mergeAt}, ...). Not
+ * thread-safe.
+ */
+final class ModuleTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int size;
+    /** id of the module at each position of the last accepted build; -1 if unknown */
+    private int[] lastOrder = new int[0];
+
+    private int[] buildCount = new int[INITIAL_CAPACITY];
+
+    // total module time: exact millis + other (SecondsSum), min/max, sketch
+    private long[] secondsMillis = new long[INITIAL_CAPACITY];
+    private double[] secondsOther = new double[INITIAL_CAPACITY];
+    private double[] minSeconds = new double[INITIAL_CAPACITY];
+    private double[] maxSeconds = new double[INITIAL_CAPACITY];
+    private QuantileSketch[] secondsSketch = new QuantileSketch[INITIAL_CAPACITY];
+
+    // variance of module time (RunningVariance); the exact part shares secondsMillis
+    private long[] squaresHigh = new long[INITIAL_CAPACITY];
+    private long[] squaresLow = new long[INITIAL_CAPACITY];
+    private long[] otherCount = new long[INITIAL_CAPACITY];
+    private double[] otherMean = new double[INITIAL_CAPACITY];
+    private double[] otherM2 = new double[INITIAL_CAPACITY];
+
+    // tests
+    private boolean[] hasAnyTests = new boolean[INITIAL_CAPACITY];
+    private long[] testMillis = new long[INITIAL_CAPACITY];
+    private double[] testOther = new double[INITIAL_CAPACITY];
+    private double[] minTestSeconds = new double[INITIAL_CAPACITY];
+    private double[] maxTestSeconds = new double[INITIAL_CAPACITY];
+    // like min/max: only builds in which the module ran tests
+    private QuantileSketch[] testSecondsSketch = new QuantileSketch[INITIAL_CAPACITY];
+    private int[] testsRun = new int[INITIAL_CAPACITY];
+    private int[] failures = new int[INITIAL_CAPACITY];
+    private int[] errors = new int[INITIAL_CAPACITY];
+    private int[] skipped = new int[INITIAL_CAPACITY];
+
+    // compilation workload
+    private int[] mainSourceFiles = new int[INITIAL_CAPACITY];
+    private int[] testSourceFiles = new int[INITIAL_CAPACITY];
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Folds one build's modules in.
+     */
+    void addBuild(List<ModuleSummary> modules) {
+        if (lastOrder.length < modules.size()) {
+            int old = lastOrder.length;
+            lastOrder = Arrays.copyOf(lastOrder, modules.size());
+            Arrays.fill(lastOrder, old, lastOrder.length, -1);
+        }
+        for (int position = 0; position < modules.size(); position++) {
+            ModuleSummary m = modules.get(position);
+            int id = lastOrder[position];
+            if (id < 0 || !names[id].equals(m.getName())) {
+                id = idOf(m.getName());
+                lastOrder[position] = id;
+            }
+            add(id, m);
+        }
+    }
+
+    private void add(int id, ModuleSummary m) {
+        buildCount[id]++;
+
+        // --- total module time ---
+        double secs = m.getSeconds();
+        long ms = SecondsSum.addAt(secondsMillis, secondsOther, id, secs);
+        if (ms >= 0) {
+            RunningVariance.addSquareAt(squaresHigh, squaresLow, id, ms);
+        } else {
+            RunningVariance.addOtherAt(otherCount, otherMean, otherM2, id, secs);
+        }
+        if (secs < minSeconds[id]) minSeconds[id] = secs;
+        if (secs > maxSeconds[id]) maxSeconds[id] = secs;
+        secondsSketch[id].add(secs);
+
+        // --- tests ---
+        int run = m.getTestsRun();
+        int f = m.getFailures();
+        int e = m.getErrors();
+        int s = m.getSkipped();
+        double testSecs = m.getTestTimeSeconds();
+
+        // 没测试也参与平均（testSecs 通常是 0）
+        SecondsSum.addAt(testMillis, testOther, id, testSecs);
+
+        if (run > 0 || f > 0 || e > 0 || s > 0 || testSecs > 0.0) {
+            hasAnyTests[id] = true;
+            if (testSecs < minTestSeconds[id]) minTestSeconds[id] = testSecs;
+            if (testSecs > maxTestSeconds[id]) maxTestSeconds[id] = testSecs;
+            testSecondsSketch[id].add(testSecs);
+
+            testsRun[id] += run;
+            failures[id] += f;
+            errors[id] += e;
+            skipped[id] += s;
+        }
+
+        // --- compilation workload ---
+        mainSourceFiles[id] += m.getMainSourceFiles();
+        testSourceFiles[id] += m.getTestSourceFiles();
+    }
+
+    /**
+     * Adds the statistics of {@code other}; {@code other} is not modified and shares no
+     * state with this table afterwards.
+     */
+    void merge(ModuleTable other) {
+        for (int o = 0; o < other.size; o++) {
+            int id = idOf(other.names[o]);
+            buildCount[id] += other.buildCount[o];
+
+            SecondsSum.mergeAt(secondsMillis, secondsOther, id, other.secondsMillis[o], other.secondsOther[o]);
+            minSeconds[id] = Math.min(minSeconds[id], other.minSeconds[o]);
+            maxSeconds[id] = Math.max(maxSeconds[id], other.maxSeconds[o]);
+            secondsSketch[id].merge(other.secondsSketch[o]);
+
+            RunningVariance.addSquaresAt(squaresHigh, squaresLow, id, other.squaresHigh[o], other.squaresLow[o]);
+            RunningVariance.mergeOtherAt(otherCount, otherMean, otherM2, id,
+                    other.otherCount[o], other.otherMean[o], other.otherM2[o]);
+
+            hasAnyTests[id] |= other.hasAnyTests[o];
+            SecondsSum.mergeAt(testMillis, testOther, id, other.testMillis[o], other.testOther[o]);
+            minTestSeconds[id] = Math.min(minTestSeconds[id], other.minTestSeconds[o]);
+            maxTestSeconds[id] = Math.max(maxTestSeconds[id], other.maxTestSeconds[o]);
+            testSecondsSketch[id].merge(other.testSecondsSketch[o]);
+            testsRun[id] += other.testsRun[o];
+            failures[id] += other.failures[o];
+            errors[id] += other.errors[o];
+            skipped[id] += other.skipped[o];
+
+            mainSourceFiles[id] += other.mainSourceFiles[o];
+            testSourceFiles[id] += other.testSourceFiles[o];
+        }
+    }
+
+    List<ModuleStats> toStats() {
+        List<ModuleStats> stats = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            stats.add(toStats(id));
+        }
+        return stats;
+    }
+
+    private ModuleStats toStats(int id) {
+        int n = buildCount[id];
+        boolean tests = hasAnyTests[id];
+        long exactCount = n - otherCount[id];
+        return new ModuleStats(
+                names[id],
+                SecondsSum.value(secondsMillis[id], secondsOther[id]) / n,
+                minSeconds[id],
+                maxSeconds[id],
+                n,
+                secondsSketch[id].percentiles(),
+                RunningVariance.dispersion(exactCount, secondsMillis[id], squaresHigh[id], squaresLow[id],
+                        otherCount[id], otherMean[id], otherM2[id]),
+                SecondsSum.value(testMillis[id], testOther[id]) / n,
+                tests ? minTestSeconds[id] : 0.0,
+                tests ? maxTestSeconds[id] : 0.0,
+                testSecondsSketch[id].percentiles(),
+                testsRun[id],
+                failures[id],
+                errors[id],
+                skipped[id],
+                (double) mainSourceFiles[id] / n,
+                (double) testSourceFiles[id] / n
+        );
+    }
+
+    // ---------- state file ----------
+
+    /*
+     * Per module, in the layout of the former per-module objects, so state files keep
+     * their format: name, build count, SecondsSum, min, max, sketch, RunningVariance,
+     * hasAnyTests, test SecondsSum, test min/max, test sketch, test counts, source files.
+     */
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int id = 0; id < size; id++) {
+            out.writeUTF(names[id]);
+            out.writeInt(buildCount[id]);
+            out.writeLong(secondsMillis[id]);
+            out.writeDouble(secondsOther[id]);
+            out.writeDouble(minSeconds[id]);
+            out.writeDouble(maxSeconds[id]);
+            secondsSketch[id].writeTo(out);
+
+            out.writeLong(buildCount[id] - otherCount[id]);
+            out.writeLong(secondsMillis[id]);
+            out.writeLong(squaresHigh[id]);
+            out.writeLong(squaresLow[id]);
+            out.writeLong(otherCount[id]);
+            out.writeDouble(otherMean[id]);
+            out.writeDouble(otherM2[id]);
+
+            out.writeBoolean(hasAnyTests[id]);
+            out.writeLong(testMillis[id]);
+            out.writeDouble(testOther[id]);
+            out.writeDouble(minTestSeconds[id]);
+            out.writeDouble(maxTestSeconds[id]);
+            testSecondsSketch[id].writeTo(out);
+            out.writeInt(testsRun[id]);
+            out.writeInt(failures[id]);
+            out.writeInt(errors[id]);
+            out.writeInt(skipped[id]);
+
+            out.writeInt(mainSourceFiles[id]);
+            out.writeInt(testSourceFiles[id]);
+        }
+    }
+
+    static ModuleTable readFrom(DataInput in) throws IOException {
+        ModuleTable table = new ModuleTable();
+        int moduleCount = in.readInt();
+        if (moduleCount < 0) {
+            throw new IOException("Corrupt accumulator state: negative module count");
+        }
+        for (int i = 0; i < moduleCount; i++) {
+            String name = in.readUTF();
+            if (table.ids.containsKey(name)) {
+                throw new IOException("Corrupt accumulator state: module " + name + " appears twice");
+            }
+            int id = table.idOf(name);
+            table.buildCount[id] = in.readInt();
+            table.secondsMillis[id] = in.readLong();
+            table.secondsOther[id] = in.readDouble();
+            table.minSeconds[id] = in.readDouble();
+            table.maxSeconds[id] = in.readDouble();
+            table.secondsSketch[id] = QuantileSketch.readFrom(in);
+
+            long exactCount = in.readLong();
+            long millisSum = in.readLong();
+            table.squaresHigh[id] = in.readLong();
+            table.squaresLow[id] = in.readLong();
+            table.otherCount[id] = in.readLong();
+            table.otherMean[id] = in.readDouble();
+            table.otherM2[id] = in.readDouble();
+
+            table.hasAnyTests[id] = in.readBoolean();
+            table.testMillis[id] = in.readLong();
+            table.testOther[id] = in.readDouble();
+            table.minTestSeconds[id] = in.readDouble();
+            table.maxTestSeconds[id] = in.readDouble();
+            table.testSecondsSketch[id] = QuantileSketch.readFrom(in);
+            table.testsRun[id] = in.readInt();
+            table.failures[id] = in.readInt();
+            table.errors[id] = in.readInt();
+            table.skipped[id] = in.readInt();
+
+            table.mainSourceFiles[id] = in.readInt();
+            table.testSourceFiles[id] = in.readInt();
+
+            int n = table.buildCount[id];
+            if (n <= 0 || table.secondsSketch[id].count() != n
+                    || exactCount < 0 || table.otherCount[id] < 0 || exactCount + table.otherCount[id] != n
+                    || millisSum != table.secondsMillis[id]) {
+                throw new IOException("Corrupt accumulator state of module " + name);
+            }
+        }
+        return table;
+    }
+
+    // ---------- internals ----------
+
+    private int idOf(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (size == names.length) {
+            grow(size * 2);
+        }
+        int newId = size++;
+        ids.put(name, newId);
+        names[newId] = name;
+        minSeconds[newId] = Double.POSITIVE_INFINITY;
+        minTestSeconds[newId] = Double.POSITIVE_INFINITY;
+        secondsSketch[newId] = new QuantileSketch();
+        testSecondsSketch[newId] = new QuantileSketch();
+        return newId;
+    }
+
+    private void grow(int capacity) {
+        names = Arrays.copyOf(names, capacity);
+        buildCount = Arrays.copyOf(buildCount, capacity);
+        secondsMillis = Arrays.copyOf(secondsMillis, capacity);
+        secondsOther = Arrays.copyOf(secondsOther, capacity);
+        minSeconds = Arrays.copyOf(minSeconds, capacity);
+        maxSeconds = Arrays.copyOf(maxSeconds, capacity);
+        secondsSketch = Arrays.copyOf(secondsSketch, capacity);
+        squaresHigh = Arrays.copyOf(squaresHigh, capacity);
+        squaresLow = Arrays.copyOf(squaresLow, capacity);
+        otherCount = Arrays.copyOf(otherCount, capacity);
+        otherMean = Arrays.copyOf(otherMean, capacity);
+        otherM2 = Arrays.copyOf(otherM2, capacity);
+        hasAnyTests = Arrays.copyOf(hasAnyTests, capacity);
+        testMillis = Arrays.copyOf(testMillis, capacity);
+        testOther = Arrays.copyOf(testOther, capacity);
+        minTestSeconds = Arrays.copyOf(minTestSeconds, capacity);
+        maxTestSeconds = Arrays.copyOf(maxTestSeconds, capacity);
+        testSecondsSketch = Arrays.copyOf(testSecondsSketch, capacity);
+        testsRun = Arrays.copyOf(testsRun, capacity);
+        failures = Arrays.copyOf(failures, capacity);
+        errors = Arrays.copyOf(errors, capacity);
+        skipped = Arrays.copyOf(skipped, capacity);
+        mainSourceFiles = Arrays.copyOf(mainSourceFiles, capacity);
+        testSourceFiles = Arrays.copyOf(testSourceFiles, capacity);
+    }
+}
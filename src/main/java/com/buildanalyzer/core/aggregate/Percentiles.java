@@ -0,0 +1,17 @@
+package com.buildanalyzer.core.aggregate;
+
+/**
+ * Tail latency of a duration distribution, in seconds.
+ *
+ * Values come from a {@link QuantileSketch} and are accurate to about 1% of the value
+ * (exact if all samples are equal).
+ */
+public record Percentiles(
+        double p50,
+        double p90,
+        double p95,
+        double p99
+) {
+    /** percentiles of an empty distribution */
+    public static final Percentiles NONE = new Percentiles(0.0, 0.0, 0.0, 0.0);
+}
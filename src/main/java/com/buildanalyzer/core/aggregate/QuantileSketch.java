@@ -0,0 +1,165 @@
+package com.buildanalyzer.core.aggregate;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Bounded-memory, mergeable quantile sketch with relative error guarantees
+ * (log-spaced buckets, as in DDSketch / HdrHistogram).
+ *
+ * Bucket i counts the samples in (gamma^(i-1), gamma^i], so any quantile is reported
+ * within {@link #RELATIVE_ACCURACY} of a real sample value. Only the range of buckets that
+ * has been hit is stored: durations from 1 ms to 10 days need about 1,000 buckets,
+ * however many samples are added. Merging two sketches adds their bucket counts, so the
+ * result does not depend on how samples were split across threads or shards.
+ */
+final class QuantileSketch {
+
+    static final double RELATIVE_ACCURACY = 0.01;
+
+    /** smaller values are counted as zero; Maven prints times with millisecond resolution */
+    static final double MIN_TRACKED_VALUE = 1e-3;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private long[] buckets = new long[0];
+    /** bucket index of buckets[0] */
+    private int offset;
+
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+
+        if (value < MIN_TRACKED_VALUE) {
+            zeroCount++;
+            return;
+        }
+        int index = bucketIndex(value);
+        ensureRange(index, index);
+        buckets[index - offset]++;
+    }
+
+    void merge(QuantileSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        count += other.count;
+        zeroCount += other.zeroCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+
+        if (other.buckets.length > 0) {
+            ensureRange(other.offset, other.offset + other.buckets.length - 1);
+            for (int i = 0; i < other.buckets.length; i++) {
+                buckets[other.offset + i - offset] += other.buckets[i];
+            }
+        }
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * @param q in [0, 1]
+     * @return the nearest-rank quantile (the ceil(q * count)-th smallest sample), approximately; 0 if empty
+     */
+    double quantile(double q) {
+        if (count == 0) {
+            return 0.0;
+        }
+        long rank = Math.max(0, (long) Math.ceil(q * count) - 1);
+
+        double estimate;
+        if (rank < zeroCount) {
+            estimate = 0.0;
+        } else {
+            long seen = zeroCount;
+            int i = 0;
+            while (i < buckets.length - 1 && seen + buckets[i] <= rank) {
+                seen += buckets[i];
+                i++;
+            }
+            // midpoint (relative) of the bucket's range
+            estimate = 2 * Math.pow(GAMMA, offset + i) / (GAMMA + 1);
+        }
+        return Math.max(min, Math.min(max, estimate));
+    }
+
+    Percentiles percentiles() {
+        if (count == 0) {
+            return Percentiles.NONE;
+        }
+        return new Percentiles(quantile(0.50), quantile(0.90), quantile(0.95), quantile(0.99));
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(count);
+        out.writeLong(zeroCount);
+        out.writeDouble(min);
+        out.writeDouble(max);
+        out.writeInt(offset);
+        out.writeInt(buckets.length);
+        for (long b : buckets) {
+            out.writeLong(b);
+        }
+    }
+
+    static QuantileSketch readFrom(DataInput in) throws IOException {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.count = in.readLong();
+        sketch.zeroCount = in.readLong();
+        sketch.min = in.readDouble();
+        sketch.max = in.readDouble();
+        sketch.offset = in.readInt();
+        int length = in.readInt();
+        // log-spaced buckets: even 1 ns .. 100 years needs fewer than 2,500
+        if (length < 0 || length > 1 << 16) {
+            throw new IOException("Corrupt quantile sketch: " + length + " buckets");
+        }
+        sketch.buckets = new long[length];
+        long total = sketch.zeroCount;
+        for (int i = 0; i < length; i++) {
+            sketch.buckets[i] = in.readLong();
+            total += sketch.buckets[i];
+        }
+        if (sketch.zeroCount < 0 || total != sketch.count) {
+            throw new IOException("Corrupt quantile sketch: bucket counts do not add up");
+        }
+        return sketch;
+    }
+
+    private static int bucketIndex(double value) {
+        return (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    }
+
+    /** make buckets cover [lo, hi] */
+    private void ensureRange(int lo, int hi) {
+        if (buckets.length == 0) {
+            buckets = new long[hi - lo + 1];
+            offset = lo;
+            return;
+        }
+        int currentHi = offset + buckets.length - 1;
+        if (lo >= offset && hi <= currentHi) {
+            return;
+        }
+        int newLo = Math.min(lo, offset);
+        int newHi = Math.max(hi, currentHi);
+        long[] grown = new long[newHi - newLo + 1];
+        System.arraycopy(buckets, 0, grown, offset - newLo, buckets.length);
+        buckets = grown;
+        offset = newLo;
+    }
+}
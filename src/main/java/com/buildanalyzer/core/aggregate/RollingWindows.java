@@ -0,0 +1,112 @@
+package com.buildanalyzer.core.aggregate;
+
+import com.buildanalyzer.core.model.BuildSummary;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Buckets builds by their finish time for trend reports: the last N builds, one bucket per
+ * day, and a sliding window of D days ending at each of those days.
+ *
+ * Builds may arrive in any order (logs are listed by name, not by time). Each build is
+ * folded into the {@link BuildAccumulator} of its day right away, so adding new logs only
+ * touches one bucket; sliding windows are combined from day buckets when the summary is
+ * built, which is exact because accumulators combine without loss. The last N builds are
+ * kept in a min-heap by finish time, so memory is bounded by N builds plus one accumulator
+ * per day. Not thread-safe.
+ */
+public final class RollingWindows {
+
+    public static final int DEFAULT_LAST_BUILDS = 50;
+    public static final int DEFAULT_SLIDING_DAYS = 7;
+
+    private record TimedBuild(long timestampMillis, long sequence, BuildSummary build) {}
+
+    /** oldest first; ties go to the build accepted earlier */
+    private static final Comparator<TimedBuild> BY_AGE =
+            Comparator.comparingLong(TimedBuild::timestampMillis).thenComparingLong(TimedBuild::sequence);
+
+    private final int lastBuildsLimit;
+    private final int slidingDays;
+    private final ZoneId zone;
+
+    private final TreeMap<LocalDate, BuildAccumulator> days = new TreeMap<>();
+    private final PriorityQueue<TimedBuild> newest = new PriorityQueue<>(BY_AGE);
+    private long sequence;
+
+    public RollingWindows(int lastBuildsLimit, int slidingDays, ZoneId zone) {
+        if (lastBuildsLimit < 1 || slidingDays < 1) {
+            throw new IllegalArgumentException("window sizes must be positive");
+        }
+        this.lastBuildsLimit = lastBuildsLimit;
+        this.slidingDays = slidingDays;
+        this.zone = zone;
+    }
+
+    /**
+     * @param timestampMillis when the build finished, in epoch milliseconds
+     */
+    public void accept(BuildSummary build, long timestampMillis) {
+        LocalDate day = Instant.ofEpochMilli(timestampMillis).atZone(zone).toLocalDate();
+        days.computeIfAbsent(day, d -> new BuildAccumulator()).accept(build);
+
+        TimedBuild timed = new TimedBuild(timestampMillis, sequence++, build);
+        if (newest.size() < lastBuildsLimit) {
+            newest.add(timed);
+        } else if (BY_AGE.compare(timed, newest.peek()) > 0) {
+            newest.poll();
+            newest.add(timed);
+        }
+    }
+
+    public int buildCount() {
+        return (int) sequence;
+    }
+
+    /**
+     * @throws IllegalStateException if no build has been accepted
+     */
+    public WindowedSummary finish() {
+        if (days.isEmpty()) {
+            throw new IllegalStateException("No builds to aggregate.");
+        }
+
+        List<TimeWindow> daily = new ArrayList<>(days.size());
+        List<TimeWindow> sliding = new ArrayList<>(days.size());
+        for (Map.Entry<LocalDate, BuildAccumulator> e : days.entrySet()) {
+            LocalDate day = e.getKey();
+            daily.add(new TimeWindow(day.toString(), day.toString(), e.getValue().finish()));
+
+            LocalDate first = day.minusDays(slidingDays - 1L);
+            BuildAccumulator window = new BuildAccumulator();
+            days.subMap(first, true, day, true).values().forEach(window::combine);
+            sliding.add(new TimeWindow(first.toString(), day.toString(), window.finish()));
+        }
+
+        return new WindowedSummary(zone.getId(), lastBuildsLimit, slidingDays, lastBuildsWindow(), daily, sliding);
+    }
+
+    private TimeWindow lastBuildsWindow() {
+        BuildAccumulator window = new BuildAccumulator();
+        long oldest = Long.MAX_VALUE;
+        long newestTs = Long.MIN_VALUE;
+        for (TimedBuild b : newest) {
+            window.accept(b.build());
+            oldest = Math.min(oldest, b.timestampMillis());
+            newestTs = Math.max(newestTs, b.timestampMillis());
+        }
+        return new TimeWindow(format(oldest), format(newestTs), window.finish());
+    }
+
+    private String format(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(zone).toOffsetDateTime().toString();
+    }
+}
@@ -0,0 +1,195 @@
+package com.buildanalyzer.core.aggregate;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigInteger;
+
+/**
+ * Online, mergeable variance of durations (Welford's update, Chan et al.'s merge).
+ *
+ * Like {@link SecondsSum}, values with millisecond resolution - practically all Maven
+ * times - are kept apart as exact integer power sums (count, sum of millis, 128-bit sum of
+ * squared millis). Their mean and squared deviations are derived only in {@link #dispersion()},
+ * with exact integer arithmetic, so there is no cancellation and the result does not depend
+ * on the order or grouping of merges. Any other value goes through a classic Welford
+ * accumulator, and the two groups are combined with Chan's formula at the end.
+ */
+final class RunningVariance {
+
+    private static final BigInteger TWO_POW_64 = BigInteger.ONE.shiftLeft(64);
+
+    // values that are exactly millis / 1000.0
+    private long exactCount;
+    private long millisSum;
+    private long squaresHigh;   // sum of millis², as unsigned 128-bit (high, low)
+    private long squaresLow;
+
+    // all other values: Welford
+    private long otherCount;
+    private double otherMean;
+    private double otherM2;
+
+    void add(double seconds) {
+        long ms = SecondsSum.wholeMillis(seconds);
+        if (ms >= 0) {
+            exactCount++;
+            millisSum += ms;
+            squaresHigh = squaresHighPlus(squaresHigh, squaresLow, Math.multiplyHigh(ms, ms), ms * ms);
+            squaresLow += ms * ms;
+            return;
+        }
+        otherCount++;
+        double delta = seconds - otherMean;
+        otherMean += delta / otherCount;
+        otherM2 += delta * (seconds - otherMean);
+    }
+
+    void merge(RunningVariance o) {
+        exactCount += o.exactCount;
+        millisSum += o.millisSum;
+        squaresHigh = squaresHighPlus(squaresHigh, squaresLow, o.squaresHigh, o.squaresLow);
+        squaresLow += o.squaresLow;
+
+        if (o.otherCount > 0) {
+            long n = otherCount + o.otherCount;
+            otherM2 = chanM2(otherCount, otherMean, otherM2, o.otherCount, o.otherMean, o.otherM2);
+            otherMean = chanMean(otherCount, otherMean, o.otherCount, o.otherMean);
+            otherCount = n;
+        }
+    }
+
+    long count() {
+        return exactCount + otherCount;
+    }
+
+    Dispersion dispersion() {
+        return dispersion(exactCount, millisSum, squaresHigh, squaresLow, otherCount, otherMean, otherM2);
+    }
+
+    /**
+     * The same from the raw fields, for columnar accumulators that keep them in arrays.
+     */
+    static Dispersion dispersion(long exactCount, long millisSum, long squaresHigh, long squaresLow,
+                                 long otherCount, double otherMean, double otherM2) {
+        long n = exactCount + otherCount;
+        if (n < 2) {
+            return Dispersion.NONE;
+        }
+
+        double exactMean = 0.0;
+        double exactM2 = 0.0;
+        if (exactCount > 0) {
+            // M2 = (n * sum(x²) - sum(x)²) / n, exact up to the final division
+            BigInteger squares = BigInteger.valueOf(squaresHigh).multiply(TWO_POW_64)
+                    .add(new BigInteger(Long.toUnsignedString(squaresLow)));
+            BigInteger sum = BigInteger.valueOf(millisSum);
+            BigInteger numerator = squares.multiply(BigInteger.valueOf(exactCount)).subtract(sum.multiply(sum));
+            exactM2 = numerator.doubleValue() / exactCount / 1_000_000.0;
+            exactMean = (double) millisSum / exactCount / 1000.0;
+        }
+
+        double m2;
+        double mean;
+        if (otherCount == 0) {
+            m2 = exactM2;
+            mean = exactMean;
+        } else if (exactCount == 0) {
+            m2 = otherM2;
+            mean = otherMean;
+        } else {
+            m2 = chanM2(exactCount, exactMean, exactM2, otherCount, otherMean, otherM2);
+            mean = chanMean(exactCount, exactMean, otherCount, otherMean);
+        }
+
+        double variance = Math.max(0.0, m2 / (n - 1));
+        double stdDev = Math.sqrt(variance);
+        return new Dispersion(variance, stdDev, mean > 0.0 ? stdDev / mean : 0.0);
+    }
+
+    // ---------- columnar form: the fields as slot {@code slot} of parallel arrays ----------
+
+    /*
+     * For accumulators that keep many variances column by column (ModuleTable). The
+     * exact count and millisecond sum are not stored here: the count follows from the
+     * total count and otherCount, and the sum is the SecondsSum millis column.
+     */
+
+    /**
+     * Adds millis² of an exact value, i.e. the square-sum part of {@link #add(double)}.
+     */
+    static void addSquareAt(long[] squaresHigh, long[] squaresLow, int slot, long millis) {
+        addSquaresAt(squaresHigh, squaresLow, slot, Math.multiplyHigh(millis, millis), millis * millis);
+    }
+
+    /**
+     * Adds a 128-bit square sum (high, low), e.g. another slot's when merging.
+     */
+    static void addSquaresAt(long[] squaresHigh, long[] squaresLow, int slot, long high, long low) {
+        squaresHigh[slot] = squaresHighPlus(squaresHigh[slot], squaresLow[slot], high, low);
+        squaresLow[slot] += low;
+    }
+
+    /**
+     * Welford's update with a value that is not whole milliseconds.
+     */
+    static void addOtherAt(long[] otherCount, double[] otherMean, double[] otherM2, int slot, double seconds) {
+        long n = ++otherCount[slot];
+        double delta = seconds - otherMean[slot];
+        otherMean[slot] += delta / n;
+        otherM2[slot] += delta * (seconds - otherMean[slot]);
+    }
+
+    /**
+     * Chan's merge of another Welford accumulator (count, mean, M2) into the slot.
+     */
+    static void mergeOtherAt(long[] otherCount, double[] otherMean, double[] otherM2, int slot,
+                             long fromCount, double fromMean, double fromM2) {
+        if (fromCount > 0) {
+            long n = otherCount[slot];
+            otherM2[slot] = chanM2(n, otherMean[slot], otherM2[slot], fromCount, fromMean, fromM2);
+            otherMean[slot] = chanMean(n, otherMean[slot], fromCount, fromMean);
+            otherCount[slot] = n + fromCount;
+        }
+    }
+
+    /** high word of the unsigned 128-bit sum (high, low) + (addHigh, addLow); the low word is low + addLow */
+    private static long squaresHighPlus(long high, long low, long addHigh, long addLow) {
+        long sumLow = low + addLow;
+        return high + addHigh + (Long.compareUnsigned(sumLow, low) < 0 ? 1 : 0);
+    }
+
+    private static double chanM2(long countA, double meanA, double m2A, long countB, double meanB, double m2B) {
+        double delta = meanB - meanA;
+        return m2A + m2B + delta * delta * countA * countB / (countA + countB);
+    }
+
+    private static double chanMean(long countA, double meanA, long countB, double meanB) {
+        return meanA + (meanB - meanA) * countB / (countA + countB);
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(exactCount);
+        out.writeLong(millisSum);
+        out.writeLong(squaresHigh);
+        out.writeLong(squaresLow);
+        out.writeLong(otherCount);
+        out.writeDouble(otherMean);
+        out.writeDouble(otherM2);
+    }
+
+    static RunningVariance readFrom(DataInput in) throws IOException {
+        RunningVariance v = new RunningVariance();
+        v.exactCount = in.readLong();
+        v.millisSum = in.readLong();
+        v.squaresHigh = in.readLong();
+        v.squaresLow = in.readLong();
+        v.otherCount = in.readLong();
+        v.otherMean = in.readDouble();
+        v.otherM2 = in.readDouble();
+        if (v.exactCount < 0 || v.otherCount < 0) {
+            throw new IOException("Corrupt running variance: negative count");
+        }
+        return v;
+    }
+}
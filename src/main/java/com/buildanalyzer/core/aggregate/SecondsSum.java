@@ -0,0 +1,92 @@
+package com.buildanalyzer.core.aggregate;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Sum of durations that gives the same result in any order of addition.
+ *
+ * Maven prints times with millisecond resolution, so almost every value is exactly
+ * millis / 1000.0; those are summed as whole milliseconds in a long, which is exact and
+ * associative. Only other values (rare, e.g. hand-built summaries) go into a plain double.
+ * This keeps averages identical whether builds are aggregated in one process, on several
+ * threads or in shards that are merged later.
+ */
+final class SecondsSum {
+
+    private long millis;
+    private double other;
+
+    void add(double seconds) {
+        long ms = wholeMillis(seconds);
+        if (ms >= 0) {
+            millis += ms;
+        } else {
+            other += seconds;
+        }
+    }
+
+    /**
+     * @return seconds as whole milliseconds if that is exact, otherwise -1
+     */
+    static long wholeMillis(double seconds) {
+        if (seconds >= 0 && seconds < Long.MAX_VALUE / 2000.0) {
+            long ms = Math.round(seconds * 1000.0);
+            if (ms / 1000.0 == seconds) {
+                return ms;
+            }
+        }
+        return -1;
+    }
+
+    void merge(SecondsSum sum) {
+        millis += sum.millis;
+        other += sum.other;
+    }
+
+    double value() {
+        return value(millis, other);
+    }
+
+    // ---------- columnar form: the two fields as slot {@code slot} of two arrays ----------
+
+    /**
+     * {@link #add(double)} on a columnar sum.
+     *
+     * @return the whole milliseconds added, or -1 if the value went into {@code other}
+     */
+    static long addAt(long[] millis, double[] other, int slot, double seconds) {
+        long ms = wholeMillis(seconds);
+        if (ms >= 0) {
+            millis[slot] += ms;
+        } else {
+            other[slot] += seconds;
+        }
+        return ms;
+    }
+
+    /**
+     * {@link #merge(SecondsSum)} of another columnar sum's slot into this one.
+     */
+    static void mergeAt(long[] millis, double[] other, int slot, long fromMillis, double fromOther) {
+        millis[slot] += fromMillis;
+        other[slot] += fromOther;
+    }
+
+    static double value(long millis, double other) {
+        return millis / 1000.0 + other;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(millis);
+        out.writeDouble(other);
+    }
+
+    static SecondsSum readFrom(DataInput in) throws IOException {
+        SecondsSum sum = new SecondsSum();
+        sum.millis = in.readLong();
+        sum.other = in.readDouble();
+        return sum;
+    }
+}
@@ -0,0 +1,14 @@
+package com.buildanalyzer.core.aggregate;
+
+/**
+ * Aggregated statistics of the builds that finished within one time window.
+ *
+ * @param from first day (yyyy-MM-dd) or, for a window of the last N builds, the finish time
+ *             of its oldest build (ISO-8601 with offset); inclusive
+ * @param to   last day or finish time of the newest build; inclusive
+ */
+public record TimeWindow(
+        String from,
+        String to,
+        AggregatedSummary summary
+) {}
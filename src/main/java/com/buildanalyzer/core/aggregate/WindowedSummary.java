@@ -0,0 +1,20 @@
+package com.buildanalyzer.core.aggregate;
+
+import java.util.List;
+
+/**
+ * Trend view of a set of builds, produced by {@link RollingWindows}.
+ *
+ * @param zone        time zone in which days are cut
+ * @param lastBuilds  the newest {@code lastBuildsLimit} builds (fewer if there are not that many)
+ * @param days        one window per calendar day with builds, oldest first
+ * @param sliding     one window per entry of {@code days}: the {@code slidingDays} days ending that day
+ */
+public record WindowedSummary(
+        String zone,
+        int lastBuildsLimit,
+        int slidingDays,
+        TimeWindow lastBuilds,
+        List<TimeWindow> days,
+        List<TimeWindow> sliding
+) {}
@@ -0,0 +1,262 @@
+package com.buildanalyzer.core.cache;
+
+import com.buildanalyzer.core.codec.BuildSummaryReader;
+import com.buildanalyzer.core.codec.BuildSummaryWriter;
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.parser.MavenLogParser;
+import com.buildanalyzer.util.LogSources;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * On-disk cache of parse results, so unchanged logs are not parsed again on the next run.
+ *
+ * Each log gets one entry file, named after a hash of its absolute path. The entry records
+ * the size and modification time of the log (of the archive, for zip entries) and is only
+ * used if both still match; with {@code verifyContent} a SHA-256 of the log content must
+ * match as well, which costs a full read but is still much cheaper than parsing.
+ *
+ * Entry files are touched on every hit, so {@link #evictToSizeCap()} can drop the least
+ * recently used entries first. The cache is best-effort: unreadable or stale entries are
+ * treated as misses, failed writes are ignored. Safe to use from several threads.
+ */
+public final class ParseCache {
+
+    /** bump when the entry layout or the parser output changes */
+    static final int FORMAT_VERSION = 4;
+
+    public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+
+    private static final String ENTRY_SUFFIX = ".bin";
+    private static final Pattern ENTRY_FILE_PATTERN = Pattern.compile("[0-9a-f]{64}\\.(bin|json)");
+
+    private final Path directory;
+    private final boolean verifyContent;
+    private final long maxBytes;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    public ParseCache(Path directory, boolean verifyContent) {
+        this(directory, verifyContent, DEFAULT_MAX_BYTES);
+    }
+
+    public ParseCache(Path directory, boolean verifyContent, long maxBytes) {
+        this.directory = directory;
+        this.verifyContent = verifyContent;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cached summary of the log if it is still valid, otherwise parses the log
+     * with {@code parser} and stores the result. Logs that fail to parse are not cached.
+     */
+    public BuildSummary parse(Path log, MavenLogParser parser) throws IOException {
+        Path file = LogSources.storageFile(log);
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        String key = log.toAbsolutePath().normalize().toString();
+        String contentHash = verifyContent ? contentHash(log) : null;
+
+        Path entryFile = directory.resolve(sha256Hex(key) + ENTRY_SUFFIX);
+        CacheEntry entry = read(entryFile);
+        if (entry != null
+                && entry.version() == FORMAT_VERSION
+                && key.equals(entry.path())
+                && entry.size() == attrs.size()
+                && entry.lastModifiedMillis() == attrs.lastModifiedTime().toMillis()
+                && (contentHash == null || contentHash.equals(entry.contentHash()))
+                && entry.summary() != null) {
+            hits.incrementAndGet();
+            touch(entryFile);
+            return entry.summary();
+        }
+
+        misses.incrementAndGet();
+        BuildSummary summary = parser.parse(log);
+        write(entryFile, new CacheEntry(FORMAT_VERSION, key, attrs.size(),
+                attrs.lastModifiedTime().toMillis(), contentHash, summary));
+        return summary;
+    }
+
+    public int hits() {
+        return hits.get();
+    }
+
+    public int misses() {
+        return misses.get();
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * Deletes least recently used entries until the cache fits into its size cap.
+     */
+    public void evictToSizeCap() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        record Candidate(Path file, long size, FileTime lastUsed) {}
+        List<Candidate> entries = new ArrayList<>();
+        long total = 0;
+        try (var stream = Files.list(directory)) {
+            for (Path p : (Iterable<Path>) stream::iterator) {
+                // only our own entries: the directory may be shared with other files
+                if (!isEntryFileName(p.getFileName().toString()) || !Files.isRegularFile(p)) {
+                    continue;
+                }
+                try {
+                    BasicFileAttributes attrs = Files.readAttributes(p, BasicFileAttributes.class);
+                    entries.add(new Candidate(p, attrs.size(), attrs.lastModifiedTime()));
+                    total += attrs.size();
+                } catch (NoSuchFileException e) {
+                    // removed concurrently
+                }
+            }
+        }
+
+        entries.sort(Comparator.comparing(Candidate::lastUsed));
+        for (Candidate c : entries) {
+            if (total <= maxBytes) {
+                break;
+            }
+            Files.deleteIfExists(c.file());
+            total -= c.size();
+        }
+    }
+
+    // ---------- entry files ----------
+
+    /**
+     * "&lt;sha256-hex&gt;.bin" as written by {@link #parse}; older entry formats (*.json)
+     * are evicted like any other entry.
+     */
+    static boolean isEntryFileName(String name) {
+        return ENTRY_FILE_PATTERN.matcher(name).matches();
+    }
+
+    private record CacheEntry(
+            int version,
+            String path,
+            long size,
+            long lastModifiedMillis,
+            String contentHash,   // null unless verifyContent
+            BuildSummary summary
+    ) {}
+
+    /*
+     * Entry file: version:int path:UTF size:long lastModifiedMillis:long
+     *             hasHash:boolean [contentHash:UTF] summaryLength:int summary:BuildSummaryWriter bytes
+     */
+
+    private CacheEntry read(Path entryFile) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(entryFile)))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                return null;
+            }
+            String path = in.readUTF();
+            long size = in.readLong();
+            long lastModifiedMillis = in.readLong();
+            String contentHash = in.readBoolean() ? in.readUTF() : null;
+            byte[] summary = new byte[in.readInt()];
+            in.readFully(summary);
+            return new CacheEntry(version, path, size, lastModifiedMillis, contentHash,
+                    new BuildSummaryReader().read(summary));
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void write(Path entryFile, CacheEntry entry) {
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, "entry-", ".tmp");
+            try {
+                byte[] summary = new BuildSummaryWriter().write(entry.summary());
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(entry.version());
+                    out.writeUTF(entry.path());
+                    out.writeLong(entry.size());
+                    out.writeLong(entry.lastModifiedMillis());
+                    out.writeBoolean(entry.contentHash() != null);
+                    if (entry.contentHash() != null) {
+                        out.writeUTF(entry.contentHash());
+                    }
+                    out.writeInt(summary.length);
+                    out.write(summary);
+                }
+                moveIntoPlace(tmp, entryFile);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // best-effort: the log is simply parsed again next time
+        }
+    }
+
+    private static void moveIntoPlace(Path tmp, Path target) throws IOException {
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void touch(Path entryFile) {
+        try {
+            Files.setLastModifiedTime(entryFile, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // only affects eviction order
+        }
+    }
+
+    // ---------- hashing ----------
+
+    private static String contentHash(Path log) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream in = Files.newInputStream(LogSources.storageFile(log))) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, n);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String sha256Hex(String s) {
+        return HexFormat.of().formatHex(sha256().digest(s.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.buildanalyzer.core.codec;
+
+/**
+ * Binary format shared by {@link BuildSummaryWriter} and {@link BuildSummaryReader}.
+ *
+ * <pre>
+ * summary  := magic "BAS" version:u8
+ *             stringCount:varint (length:varint utf8-bytes){stringCount}
+ *             totalSeconds:decimal
+ *             finishedAt flags:varint
+ *             moduleCount:varint module{moduleCount}
+ * finishedAt := varint(0)                            if the log has no 'Finished at' line
+ *             | varint(1) epochMillis:zigzag-varint  otherwise
+ * flags    := bit 0: module lines attributed by builder thread name
+ *             bit 1: parallel build (MultiThreadedBuilder)
+ * module   := name:varint(string index) seconds:decimal
+ *             testsRun:varint failures:varint errors:varint skipped:varint testTimeSeconds:decimal
+ *             mainSourceFiles:varint testSourceFiles:varint
+ *             stepCount:varint step:varint(string index){stepCount}
+ *             thread:varint(0 = none, else string index + 1) startOrder:varint(order + 1, 0 = unknown)
+ * decimal  := varint(millis &lt;&lt; 1)           if the value is exactly millis / 1000.0
+ *           | varint(1) raw-ieee754:8 bytes LE  otherwise
+ * </pre>
+ *
+ * Module names and plugin steps repeat a lot (every module runs clean, compile, surefire,
+ * ...), so each distinct string is stored once. Seconds parsed from Maven output have at
+ * most three decimals and almost always fit the 2-3 byte millis form.
+ */
+final class BuildSummaryCodec {
+
+    static final byte[] MAGIC = {'B', 'A', 'S'};
+
+    /** 2: adds finishedAt; 3: adds flags; 4: adds builder thread and start order; 5: adds parallel flag */
+    static final int VERSION = 5;
+
+    static final int FLAG_THREAD_ATTRIBUTED = 1;
+    static final int FLAG_PARALLEL_BUILD = 2;
+
+    static final int RAW_DOUBLE_TAG = 1;
+
+    private BuildSummaryCodec() {
+    }
+}
@@ -0,0 +1,169 @@
+package com.buildanalyzer.core.codec;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Decodes summaries written by {@link BuildSummaryWriter}.
+ *
+ * Corrupt or truncated input and unknown format versions are reported as IOException,
+ * never as a partially filled summary.
+ */
+public final class BuildSummaryReader {
+
+    private byte[] data;
+    private int pos;
+    private int end;
+
+    public BuildSummary read(byte[] bytes) throws IOException {
+        return read(bytes, 0, bytes.length);
+    }
+
+    public BuildSummary read(byte[] bytes, int offset, int length) throws IOException {
+        data = bytes;
+        pos = offset;
+        end = offset + length;
+        try {
+            return readSummary();
+        } finally {
+            data = null;
+        }
+    }
+
+    private BuildSummary readSummary() throws IOException {
+        if (end - pos < BuildSummaryCodec.MAGIC.length + 1
+                || !Arrays.equals(data, pos, pos + BuildSummaryCodec.MAGIC.length,
+                BuildSummaryCodec.MAGIC, 0, BuildSummaryCodec.MAGIC.length)) {
+            throw new IOException("Not a build summary (bad magic).");
+        }
+        pos += BuildSummaryCodec.MAGIC.length;
+        int version = data[pos++] & 0xFF;
+        if (version != BuildSummaryCodec.VERSION) {
+            throw new IOException("Unsupported build summary format version " + version
+                    + " (expected " + BuildSummaryCodec.VERSION + ").");
+        }
+
+        String[] strings = new String[count()];
+        for (int i = 0; i < strings.length; i++) {
+            int length = count();
+            strings[i] = new String(data, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+        }
+
+        double totalSeconds = readDecimal();
+        Long finishedAt = readFinishedAt();
+        long flags = readVarint();
+        if ((flags & ~(BuildSummaryCodec.FLAG_THREAD_ATTRIBUTED | BuildSummaryCodec.FLAG_PARALLEL_BUILD)) != 0) {
+            throw corrupt();
+        }
+        int moduleCount = count();
+        List<ModuleSummary> modules = new ArrayList<>(moduleCount);
+        for (int i = 0; i < moduleCount; i++) {
+            String name = string(strings);
+            double seconds = readDecimal();
+            int testsRun = readInt();
+            int failures = readInt();
+            int errors = readInt();
+            int skipped = readInt();
+            double testSeconds = readDecimal();
+            int mainSources = readInt();
+            int testSources = readInt();
+
+            int stepCount = count();
+            List<String> steps = new ArrayList<>(stepCount);
+            for (int s = 0; s < stepCount; s++) {
+                steps.add(string(strings));
+            }
+            long threadId = readVarint();
+            if (threadId < 0 || threadId > strings.length) {
+                throw corrupt();
+            }
+            String thread = threadId == 0 ? null : strings[(int) threadId - 1];
+            int startOrder = readInt() - 1;
+
+            modules.add(new ModuleSummary(name, seconds, testsRun, failures, errors, skipped,
+                    testSeconds, mainSources, testSources, steps, thread, startOrder));
+        }
+
+        if (pos != end) {
+            throw new IOException("Trailing bytes after build summary.");
+        }
+        return new BuildSummary(totalSeconds, modules, finishedAt,
+                (flags & BuildSummaryCodec.FLAG_THREAD_ATTRIBUTED) != 0,
+                (flags & BuildSummaryCodec.FLAG_PARALLEL_BUILD) != 0);
+    }
+
+    private Long readFinishedAt() throws IOException {
+        long present = readVarint();
+        if (present == 0) {
+            return null;
+        }
+        if (present != 1) {
+            throw corrupt();
+        }
+        long zigzag = readVarint();
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private String string(String[] strings) throws IOException {
+        long id = readVarint();
+        if (id < 0 || id >= strings.length) {
+            throw corrupt();
+        }
+        return strings[(int) id];
+    }
+
+    /** a length or count; each counted item takes at least one byte, which bounds allocations */
+    private int count() throws IOException {
+        long n = readVarint();
+        if (n < 0 || n > end - pos) {
+            throw corrupt();
+        }
+        return (int) n;
+    }
+
+    private int readInt() throws IOException {
+        // the writer stores ints as unsigned 64-bit values
+        return (int) readVarint();
+    }
+
+    private double readDecimal() throws IOException {
+        long v = readVarint();
+        if ((v & 1) == 0) {
+            return (v >>> 1) / 1000.0;
+        }
+        if (v != BuildSummaryCodec.RAW_DOUBLE_TAG || end - pos < 8) {
+            throw corrupt();
+        }
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits |= (data[pos++] & 0xFFL) << (8 * i);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    private long readVarint() throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (pos >= end) {
+                throw corrupt();
+            }
+            byte b = data[pos++];
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw corrupt();
+    }
+
+    private static IOException corrupt() {
+        return new IOException("Corrupt or truncated build summary.");
+    }
+}
@@ -0,0 +1,104 @@
+package com.buildanalyzer.core.codec;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes a {@link BuildSummary} into the compact binary format described in
+ * {@link BuildSummaryCodec}. Instances are reusable but not thread-safe.
+ */
+public final class BuildSummaryWriter {
+
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private final ByteArrayOutputStream strings = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    public byte[] write(BuildSummary summary) {
+        stringIds.clear();
+        strings.reset();
+        body.reset();
+
+        writeDecimal(body, summary.getTotalSeconds());
+        Long finishedAt = summary.getFinishedAtMillis();
+        if (finishedAt == null) {
+            writeVarint(body, 0);
+        } else {
+            writeVarint(body, 1);
+            writeVarint(body, (finishedAt << 1) ^ (finishedAt >> 63));
+        }
+        writeVarint(body, (summary.isThreadAttributed() ? BuildSummaryCodec.FLAG_THREAD_ATTRIBUTED : 0)
+                | (summary.isParallelBuild() ? BuildSummaryCodec.FLAG_PARALLEL_BUILD : 0));
+        List<ModuleSummary> modules = summary.getModules();
+        writeVarint(body, modules.size());
+        for (ModuleSummary m : modules) {
+            writeVarint(body, stringId(m.getName()));
+            writeDecimal(body, m.getSeconds());
+            writeVarint(body, m.getTestsRun());
+            writeVarint(body, m.getFailures());
+            writeVarint(body, m.getErrors());
+            writeVarint(body, m.getSkipped());
+            writeDecimal(body, m.getTestTimeSeconds());
+            writeVarint(body, m.getMainSourceFiles());
+            writeVarint(body, m.getTestSourceFiles());
+
+            List<String> steps = m.getPipelineSteps();
+            writeVarint(body, steps.size());
+            for (String step : steps) {
+                writeVarint(body, stringId(step));
+            }
+            writeVarint(body, m.getBuilderThread() == null ? 0 : stringId(m.getBuilderThread()) + 1L);
+            writeVarint(body, m.getStartOrder() + 1L);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                BuildSummaryCodec.MAGIC.length + 6 + strings.size() + body.size());
+        out.writeBytes(BuildSummaryCodec.MAGIC);
+        out.write(BuildSummaryCodec.VERSION);
+        writeVarint(out, stringIds.size());
+        out.writeBytes(strings.toByteArray());
+        out.writeBytes(body.toByteArray());
+        return out.toByteArray();
+    }
+
+    private int stringId(String s) {
+        Integer id = stringIds.get(s);
+        if (id == null) {
+            id = stringIds.size();
+            stringIds.put(s, id);
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            writeVarint(strings, utf8.length);
+            strings.writeBytes(utf8);
+        }
+        return id;
+    }
+
+    private static void writeDecimal(ByteArrayOutputStream out, double value) {
+        if (value >= 0 && value < Long.MAX_VALUE / 2000.0) {
+            long millis = Math.round(value * 1000.0);
+            if (millis / 1000.0 == value) {
+                writeVarint(out, millis << 1);
+                return;
+            }
+        }
+        writeVarint(out, BuildSummaryCodec.RAW_DOUBLE_TAG);
+        long bits = Double.doubleToRawLongBits(value);
+        for (int i = 0; i < 8; i++) {
+            out.write((int) (bits >>> (8 * i)));
+        }
+    }
+
+    /** unsigned LEB128; negative ints (never produced by the parser) take 10 bytes */
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,96 @@
+package com.buildanalyzer.core.diff;
+
+import com.buildanalyzer.core.aggregate.AggregatedSummary;
+import com.buildanalyzer.core.aggregate.BuildAccumulator;
+import com.buildanalyzer.core.aggregate.BuildAggregator;
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One side of a diff: a single build or a set of builds (e.g. all CI logs of a branch).
+ *
+ * Averages come from a regular {@link BuildAccumulator}; on top of that the per-build
+ * values of each compared metric are kept, because a rank test needs the samples, not
+ * only their sums. That is a few doubles per module and build, fine for cohorts of
+ * hundreds of builds. Not thread-safe.
+ */
+public final class BuildCohort {
+
+    private final BuildAccumulator accumulator;
+
+    final Samples totalSeconds = new Samples();
+    final Samples overheadSeconds = new Samples();
+    final Map<String, ModuleSamples> modules = new HashMap<>();
+
+    public BuildCohort() {
+        this(new BuildAggregator());
+    }
+
+    public BuildCohort(BuildAggregator aggregator) {
+        this.accumulator = aggregator.newAccumulator();
+    }
+
+    public void accept(BuildSummary build) {
+        accumulator.accept(build);
+
+        double moduleSeconds = 0.0;
+        for (ModuleSummary m : build.getModules()) {
+            ModuleSamples samples = modules.computeIfAbsent(m.getName(), name -> new ModuleSamples());
+            samples.seconds.add(m.getSeconds());
+            samples.testSeconds.add(m.getTestTimeSeconds());
+            samples.sourceFiles.add(m.getMainSourceFiles() + m.getTestSourceFiles());
+            moduleSeconds += m.getSeconds();
+        }
+        totalSeconds.add(build.getTotalSeconds());
+        // same definition as OverheadRule: time not spent inside any module
+        overheadSeconds.add(Math.max(0.0, build.getTotalSeconds() - moduleSeconds));
+    }
+
+    public int buildCount() {
+        return accumulator.buildCount();
+    }
+
+    /**
+     * @throws IllegalStateException if the cohort has no builds
+     */
+    AggregatedSummary summary() {
+        return accumulator.finish();
+    }
+
+    static final class ModuleSamples {
+        final Samples seconds = new Samples();
+        final Samples testSeconds = new Samples();
+        final Samples sourceFiles = new Samples();
+    }
+
+    /** growable double[] */
+    static final class Samples {
+        private double[] values = new double[8];
+        private int size;
+        private double sum;
+
+        void add(double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            sum += value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        double mean() {
+            return size == 0 ? 0.0 : sum / size;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
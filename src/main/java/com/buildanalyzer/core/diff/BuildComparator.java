@@ -0,0 +1,103 @@
+package com.buildanalyzer.core.diff;
+
+import com.buildanalyzer.core.aggregate.AggregatedSummary;
+import com.buildanalyzer.core.aggregate.ModuleStats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compares a baseline cohort with a candidate cohort, module by module.
+ *
+ * Every metric gets its absolute and relative change of the average. When both sides
+ * have at least {@link #MIN_SAMPLES_FOR_TEST} values, a Mann-Whitney U test tells whether
+ * the change stands out from build-to-build noise. Note that with many modules some will
+ * pass the test by chance; the per-metric level is kept at the usual 5% anyway, since the
+ * report is read by people looking at the top few modules, not fed into automation.
+ */
+public class BuildComparator {
+
+    /**
+     * Smallest cohort size (per side) that can reach {@link #SIGNIFICANCE_LEVEL}: the most
+     * extreme exact two-sided p is 2 / C(2n, n), i.e. 0.333 for 2 vs 2, 0.1 for 3 vs 3 and
+     * 0.029 for 4 vs 4. Below that the test would call every change "not significant".
+     */
+    public static final int MIN_SAMPLES_FOR_TEST = 4;
+    public static final double SIGNIFICANCE_LEVEL = 0.05;
+
+    /**
+     * @throws IllegalStateException if either cohort has no builds
+     */
+    public BuildDiff compare(BuildCohort baseline, BuildCohort candidate) {
+        AggregatedSummary before = baseline.summary();
+        AggregatedSummary after = candidate.summary();
+
+        Map<String, ModuleStats> beforeModules = byName(before);
+        Map<String, ModuleStats> afterModules = byName(after);
+        TreeSet<String> names = new TreeSet<>(beforeModules.keySet());
+        names.addAll(afterModules.keySet());
+
+        List<ModuleDiff> modules = new ArrayList<>(names.size());
+        for (String name : names) {
+            ModuleStats b = beforeModules.get(name);
+            ModuleStats a = afterModules.get(name);
+            BuildCohort.ModuleSamples bs = baseline.modules.get(name);
+            BuildCohort.ModuleSamples as = candidate.modules.get(name);
+            modules.add(new ModuleDiff(
+                    name,
+                    b == null ? 0 : b.buildCount(),
+                    a == null ? 0 : a.buildCount(),
+                    metric(b == null ? 0.0 : b.averageSeconds(), a == null ? 0.0 : a.averageSeconds(),
+                            bs == null ? null : bs.seconds, as == null ? null : as.seconds),
+                    metric(b == null ? 0.0 : b.averageTestSeconds(), a == null ? 0.0 : a.averageTestSeconds(),
+                            bs == null ? null : bs.testSeconds, as == null ? null : as.testSeconds),
+                    metric(sourceFiles(b), sourceFiles(a),
+                            bs == null ? null : bs.sourceFiles, as == null ? null : as.sourceFiles)
+            ));
+        }
+        modules.sort(Comparator
+                .comparingDouble((ModuleDiff m) -> -Math.abs(m.seconds().delta()))
+                .thenComparing(ModuleDiff::name));
+
+        return new BuildDiff(
+                before.buildCount(),
+                after.buildCount(),
+                metric(before.averageTotalSeconds(), after.averageTotalSeconds(),
+                        baseline.totalSeconds, candidate.totalSeconds),
+                metric(baseline.overheadSeconds.mean(), candidate.overheadSeconds.mean(),
+                        baseline.overheadSeconds, candidate.overheadSeconds),
+                List.copyOf(modules)
+        );
+    }
+
+    /**
+     * @param beforeSamples null if the metric does not exist on that side
+     */
+    static MetricDiff metric(double before, double after,
+                             BuildCohort.Samples beforeSamples, BuildCohort.Samples afterSamples) {
+        double delta = after - before;
+        Double relative = before == 0.0 ? null : delta / before;
+
+        Double pValue = null;
+        Boolean significant = null;
+        if (beforeSamples != null && afterSamples != null
+                && beforeSamples.size() >= MIN_SAMPLES_FOR_TEST && afterSamples.size() >= MIN_SAMPLES_FOR_TEST) {
+            pValue = MannWhitneyU.test(beforeSamples.toArray(), afterSamples.toArray()).pValue();
+            significant = pValue < SIGNIFICANCE_LEVEL;
+        }
+        return new MetricDiff(before, after, delta, relative, pValue, significant);
+    }
+
+    private static double sourceFiles(ModuleStats m) {
+        return m == null ? 0.0 : m.averageMainSourceFiles() + m.averageTestSourceFiles();
+    }
+
+    private static Map<String, ModuleStats> byName(AggregatedSummary summary) {
+        return summary.modules().stream().collect(Collectors.toMap(ModuleStats::name, Function.identity()));
+    }
+}
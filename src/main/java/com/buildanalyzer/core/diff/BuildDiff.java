@@ -0,0 +1,16 @@
+package com.buildanalyzer.core.diff;
+
+import java.util.List;
+
+/**
+ * Result of comparing two builds or two cohorts of builds.
+ *
+ * @param modules all modules of either side, largest absolute change in module time first
+ */
+public record BuildDiff(
+        int baselineBuilds,
+        int candidateBuilds,
+        MetricDiff totalSeconds,
+        MetricDiff overheadSeconds,   // total time not spent inside any module
+        List<ModuleDiff> modules
+) {}
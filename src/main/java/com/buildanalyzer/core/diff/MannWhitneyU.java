@@ -0,0 +1,137 @@
+package com.buildanalyzer.core.diff;
+
+import java.util.Arrays;
+
+/**
+ * Two-sided Mann-Whitney U (Wilcoxon rank-sum) test.
+ *
+ * Build times are not normally distributed (a long tail of slow builds, cold caches,
+ * noisy agents), so a rank test is used instead of a t-test: it only asks whether values
+ * of one cohort tend to be larger than values of the other.
+ *
+ * Small samples without ties get the exact distribution of U; larger samples, or samples
+ * with ties (e.g. source file counts), use the normal approximation with tie correction
+ * and continuity correction.
+ */
+public final class MannWhitneyU {
+
+    /** exact distribution up to this many values per side */
+    static final int EXACT_MAX_SAMPLE = 20;
+
+    /**
+     * @param u      number of (a, b) pairs with a > b, ties counted as 1/2
+     * @param pValue two-sided p-value
+     */
+    public record Result(double u, double pValue) {}
+
+    private MannWhitneyU() {
+    }
+
+    public static Result test(double[] a, double[] b) {
+        int n1 = a.length;
+        int n2 = b.length;
+        if (n1 == 0 || n2 == 0) {
+            throw new IllegalArgumentException("Mann-Whitney test needs at least one value per sample");
+        }
+
+        // rank all values together; tied values get their average rank
+        double[][] all = new double[n1 + n2][];
+        for (int i = 0; i < n1; i++) {
+            all[i] = new double[]{a[i], 0};
+        }
+        for (int i = 0; i < n2; i++) {
+            all[n1 + i] = new double[]{b[i], 1};
+        }
+        Arrays.sort(all, (x, y) -> Double.compare(x[0], y[0]));
+
+        int n = n1 + n2;
+        double rankSumA = 0.0;
+        double tieTerm = 0.0;   // sum of t³ - t over groups of ties
+        for (int i = 0; i < n; ) {
+            int j = i;
+            while (j + 1 < n && all[j + 1][0] == all[i][0]) {
+                j++;
+            }
+            double averageRank = (i + j) / 2.0 + 1.0;
+            for (int k = i; k <= j; k++) {
+                if (all[k][1] == 0) {
+                    rankSumA += averageRank;
+                }
+            }
+            double t = j - i + 1;
+            tieTerm += t * t * t - t;
+            i = j + 1;
+        }
+
+        double u = rankSumA - n1 * (n1 + 1) / 2.0;
+        double pValue = tieTerm == 0.0 && n1 <= EXACT_MAX_SAMPLE && n2 <= EXACT_MAX_SAMPLE
+                ? exactPValue(n1, n2, u)
+                : normalPValue(n1, n2, u, tieTerm);
+        return new Result(u, pValue);
+    }
+
+    /**
+     * P(U <= min(u, n1*n2 - u)) * 2 under H0, from the exact distribution of U.
+     */
+    static double exactPValue(int n1, int n2, double u) {
+        int smaller = (int) Math.round(Math.min(u, (double) n1 * n2 - u));
+
+        // counts[j][v]: orderings of i values of A and j values of B with U = v.
+        // The largest value is either from A (beats all j values of B) or from B:
+        //   f(i, j, v) = f(i-1, j, v-j) + f(i, j-1, v)
+        double[][] counts = new double[n2 + 1][];
+        for (int j = 0; j <= n2; j++) {
+            counts[j] = new double[]{1.0};
+        }
+        for (int i = 1; i <= n1; i++) {
+            double[][] next = new double[n2 + 1][];
+            next[0] = new double[]{1.0};
+            for (int j = 1; j <= n2; j++) {
+                double[] f = new double[i * j + 1];
+                double[] fromA = counts[j];
+                for (int v = 0; v < fromA.length; v++) {
+                    f[v + j] += fromA[v];
+                }
+                double[] fromB = next[j - 1];
+                for (int v = 0; v < fromB.length; v++) {
+                    f[v] += fromB[v];
+                }
+                next[j] = f;
+            }
+            counts = next;
+        }
+
+        double[] distribution = counts[n2];
+        double total = 0.0;
+        double tail = 0.0;
+        for (int v = 0; v < distribution.length; v++) {
+            total += distribution[v];
+            if (v <= smaller) {
+                tail += distribution[v];
+            }
+        }
+        return Math.min(1.0, 2.0 * tail / total);
+    }
+
+    static double normalPValue(int n1, int n2, double u, double tieTerm) {
+        int n = n1 + n2;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0.0) {
+            // every value is the same
+            return 1.0;
+        }
+        double z = Math.max(0.0, Math.abs(u - mean) - 0.5) / Math.sqrt(variance);
+        return Math.min(1.0, erfc(z / Math.sqrt(2.0)));
+    }
+
+    /** complementary error function, |error| < 1.2e-7 (Numerical Recipes, erfcc) */
+    private static double erfc(double x) {
+        double z = Math.abs(x);
+        double t = 1.0 / (1.0 + 0.5 * z);
+        double r = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? r : 2.0 - r;
+    }
+}
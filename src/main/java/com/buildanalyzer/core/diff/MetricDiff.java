@@ -0,0 +1,22 @@
+package com.buildanalyzer.core.diff;
+
+/**
+ * Change of one metric between baseline and candidate.
+ *
+ * @param baseline      average over the baseline builds
+ * @param candidate     average over the candidate builds
+ * @param delta         candidate - baseline
+ * @param relativeDelta delta / baseline, or null if the baseline is 0
+ * @param pValue        two-sided Mann-Whitney p-value, or null if a side has fewer than
+ *                      {@link BuildComparator#MIN_SAMPLES_FOR_TEST} values (e.g. two single logs)
+ * @param significant   pValue below {@link BuildComparator#SIGNIFICANCE_LEVEL}, or null if not tested
+ */
+public record MetricDiff(
+        double baseline,
+        double candidate,
+        double delta,
+        Double relativeDelta,
+        Double pValue,
+        Boolean significant
+) {
+}
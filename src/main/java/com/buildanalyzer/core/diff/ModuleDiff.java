@@ -0,0 +1,14 @@
+package com.buildanalyzer.core.diff;
+
+/**
+ * Change of one module between baseline and candidate. A module that only exists on one
+ * side has 0 builds on the other; its metrics then compare against 0.
+ */
+public record ModuleDiff(
+        String name,
+        int baselineBuilds,
+        int candidateBuilds,
+        MetricDiff seconds,       // module time
+        MetricDiff testSeconds,   // test time per build
+        MetricDiff sourceFiles    // compile workload: main + test source files per build
+) {}
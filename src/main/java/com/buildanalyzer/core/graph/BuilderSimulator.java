@@ -0,0 +1,128 @@
+package com.buildanalyzer.core.graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Simulates Maven's MultiThreadedBuilder on a {@link ModuleDag} for a given number of
+ * threads, to predict what another -T value would do to the build.
+ *
+ * The builder is list scheduling with a FIFO queue: modules without reactor dependencies
+ * are queued in reactor order at the start, and whenever a module finishes, the modules
+ * it was the last missing dependency of are appended, again in reactor order. Each free
+ * thread takes the head of the queue. Module times are taken as fixed; in a real build
+ * they grow a little with the thread count as modules compete for CPU and disk, so the
+ * predictions for many threads are a lower bound.
+ */
+public final class BuilderSimulator {
+
+    /** a thread count is the knee when no larger one is more than this much faster */
+    public static final double KNEE_GAIN = 0.05;
+
+    private static final double EPS = 1e-9;
+
+    private BuilderSimulator() {
+    }
+
+    /**
+     * @param maxThreads highest thread count to simulate; capped at the number of modules,
+     *                   since more threads than modules cannot start more modules at once
+     */
+    public static ThreadCountSimulation simulate(ModuleDag dag, int maxThreads) {
+        double work = 0.0;
+        for (int m = 0; m < dag.size(); m++) {
+            work += dag.seconds(m);
+        }
+        int limit = Math.max(1, Math.min(maxThreads, dag.builtModules().length));
+
+        double[] wall = new double[limit + 1];
+        for (int t = 1; t <= limit; t++) {
+            wall[t] = wallSeconds(dag, t);
+        }
+
+        // list scheduling is not monotone in the thread count, so compare with all larger counts
+        int knee = limit;
+        double bestAbove = wall[limit];
+        for (int t = limit; t >= 1; t--) {
+            bestAbove = Math.min(bestAbove, wall[t]);
+            if (bestAbove >= wall[t] * (1.0 - KNEE_GAIN) - EPS) {
+                knee = t;
+            }
+        }
+
+        List<ThreadCountPrediction> predictions = new ArrayList<>(limit);
+        for (int t = 1; t <= limit; t++) {
+            predictions.add(new ThreadCountPrediction(
+                    t,
+                    wall[t],
+                    wall[t] > EPS ? wall[1] / wall[t] : 1.0,
+                    wall[t] > EPS ? work / (t * wall[t]) : 0.0));
+        }
+        return new ThreadCountSimulation(
+                work,
+                CriticalPathAnalyzer.analyze(dag).seconds(),
+                knee,
+                List.copyOf(predictions),
+                dag.unmatchedModules());
+    }
+
+    private record Running(double finish, int module, long sequence) {}
+
+    private static final Comparator<Running> FINISH_ORDER =
+            Comparator.comparingDouble(Running::finish).thenComparingLong(Running::sequence);
+
+    /**
+     * @return time from the first module start to the last module end with {@code threads} threads
+     */
+    static double wallSeconds(ModuleDag dag, int threads) {
+        int n = dag.size();
+        int[] order = dag.topologicalOrder();
+        int[] rank = new int[n];
+        for (int i = 0; i < n; i++) {
+            rank[order[i]] = i;
+        }
+
+        int[] waitingFor = new int[n];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int module : order) {
+            waitingFor[module] = dag.dependencies(module).length;
+            if (waitingFor[module] == 0) {
+                queue.add(module);
+            }
+        }
+
+        PriorityQueue<Running> running = new PriorityQueue<>(FINISH_ORDER);
+        double now = 0.0;
+        long sequence = 0;
+        int finished = 0;
+        while (finished < n) {
+            while (running.size() < threads && !queue.isEmpty()) {
+                int module = queue.poll();
+                running.add(new Running(now + dag.seconds(module), module, sequence++));
+            }
+
+            Running done = running.poll();
+            now = done.finish();
+            finished++;
+
+            int[] dependents = dag.dependents(done.module());
+            Integer[] unlocked = new Integer[dependents.length];
+            int count = 0;
+            for (int d : dependents) {
+                if (--waitingFor[d] == 0) {
+                    unlocked[count++] = d;
+                }
+            }
+            Arrays.sort(unlocked, 0, count, Comparator.comparingInt(m -> rank[m]));
+            for (int i = 0; i < count; i++) {
+                queue.add(unlocked[i]);
+            }
+        }
+        return now;
+    }
+}
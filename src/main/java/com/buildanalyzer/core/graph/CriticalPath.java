@@ -0,0 +1,21 @@
+package com.buildanalyzer.core.graph;
+
+import java.util.List;
+
+/**
+ * Longest chain of dependent modules in a build, weighted by module time.
+ *
+ * @param seconds          length of the path: the shortest wall clock time any number of
+ *                         builder threads could reach for these module times
+ * @param path             built modules on one longest path, first to last
+ * @param modules          every built module, in Reactor Summary order
+ * @param unmatchedModules built modules the reactor graph does not know; they were
+ *                         treated as having no dependencies
+ */
+public record CriticalPath(
+        double seconds,
+        List<String> path,
+        List<ModuleSlack> modules,
+        List<String> unmatchedModules
+) {
+}
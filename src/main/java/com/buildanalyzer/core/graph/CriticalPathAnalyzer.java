@@ -0,0 +1,98 @@
+package com.buildanalyzer.core.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Critical path method on a {@link ModuleDag}, in two passes over the topological order:
+ *   - forward: earliest finish = module time + latest earliest finish of its dependencies;
+ *     the largest earliest finish is the length of the critical path;
+ *   - backward: latest finish = smallest latest start of its dependents (the path length
+ *     for modules nothing depends on); slack = latest finish - earliest finish.
+ *
+ * Modules with zero slack are critical. More than one chain can be critical when paths
+ * tie; {@link CriticalPath#path()} follows one of them, from the module finishing last
+ * back through the dependency that finished last.
+ */
+public final class CriticalPathAnalyzer {
+
+    // module times are printed with ms resolution; sums of them are exact well beyond that
+    private static final double EPS = 1e-6;
+
+    private CriticalPathAnalyzer() {
+    }
+
+    public static CriticalPath analyze(ModuleDag dag) {
+        int[] order = dag.topologicalOrder();
+        int n = dag.size();
+
+        double[] earliestFinish = new double[n];
+        double length = length(dag.dependencyLists(), order, dag.secondsArray(), earliestFinish);
+        int last = -1;
+        for (int module : order) {
+            if (earliestFinish[module] > length - EPS) {
+                last = module;
+                break;
+            }
+        }
+
+        double[] latestFinish = new double[n];
+        for (int i = order.length - 1; i >= 0; i--) {
+            int module = order[i];
+            double finish = length;
+            for (int d : dag.dependents(module)) {
+                finish = Math.min(finish, latestFinish[d] - dag.seconds(d));
+            }
+            latestFinish[module] = finish;
+        }
+
+        List<String> path = new ArrayList<>();
+        // no modules: last stays -1 and the path is empty
+        for (int module = last; module >= 0; ) {
+            if (dag.isBuilt(module)) {
+                path.add(dag.name(module));
+            }
+            double start = earliestFinish[module] - dag.seconds(module);
+            int previous = -1;
+            for (int d : dag.dependencies(module)) {
+                if (Math.abs(earliestFinish[d] - start) < EPS && (previous < 0 || d < previous)) {
+                    previous = d;
+                }
+            }
+            module = previous;
+        }
+        Collections.reverse(path);
+
+        List<ModuleSlack> slack = new ArrayList<>();
+        for (int module : dag.builtModules()) {
+            double s = Math.max(0.0, latestFinish[module] - earliestFinish[module]);
+            slack.add(new ModuleSlack(
+                    dag.name(module),
+                    dag.seconds(module),
+                    earliestFinish[module] - dag.seconds(module),
+                    s,
+                    s < EPS));
+        }
+        return new CriticalPath(length, List.copyOf(path), List.copyOf(slack), dag.unmatchedModules());
+    }
+
+    /**
+     * Forward pass only.
+     *
+     * @param earliestFinish filled with the earliest finish of every module
+     * @return length of the critical path
+     */
+    static double length(int[][] dependencies, int[] order, double[] seconds, double[] earliestFinish) {
+        double length = 0.0;
+        for (int module : order) {
+            double start = 0.0;
+            for (int d : dependencies[module]) {
+                start = Math.max(start, earliestFinish[d]);
+            }
+            earliestFinish[module] = start + seconds[module];
+            length = Math.max(length, earliestFinish[module]);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,155 @@
+package com.buildanalyzer.core.graph;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the {@link ReactorGraph} from the log of a Maven run that printed each module's
+ * dependency tree, for projects whose pom.xml files are not at hand (e.g. CI artifacts).
+ * Two formats are understood:
+ *
+ * <pre>
+ * mvn dependency:tree                                 mvn -X ...
+ * [INFO] --- dependency:3.6.0:tree (default-cli) @ service ---
+ * [INFO] com.example:service:jar:1.0-SNAPSHOT        [DEBUG] com.example:service:jar:1.0-SNAPSHOT
+ * [INFO] +- com.example:core:jar:1.0-SNAPSHOT:compile [DEBUG]    com.example:core:jar:1.0-SNAPSHOT:compile
+ * [INFO] |  \- org.slf4j:slf4j-api:jar:2.0.9:compile  [DEBUG]       org.slf4j:slf4j-api:jar:2.0.9:compile
+ * [INFO] \- junit:junit:jar:4.13.2:test               [DEBUG]    junit:junit:jar:4.13.2:test
+ * </pre>
+ *
+ * Only the root and its direct children are used; transitive edges add nothing to the
+ * build order. Module names come from the "Building ..." line the tree belongs to, so
+ * they match the Reactor Summary of the same project. The trees do not show &lt;parent&gt;
+ * relations, so parent poms only get edges through regular dependencies.
+ */
+public final class DependencyTreeReader {
+
+    // optional "[thread] " prefix (showThreadName), then the level
+    private static final Pattern LEVEL_PATTERN =
+            Pattern.compile("^(?:\\[[^\\]]*] )?\\[(INFO|DEBUG)] ?(.*)$");
+
+    // Building core 1.0-SNAPSHOT                                         [2/4]
+    private static final Pattern BUILDING_PATTERN =
+            Pattern.compile("^Building\\s+(\\S+)\\s+.*\\[[0-9]+/[0-9]+]");
+
+    // -------------------< com.example:core >-------------------
+    private static final Pattern HEADER_PATTERN =
+            Pattern.compile("^-+< (\\S+:\\S+) >-+$");
+
+    // --- maven-dependency-plugin:3.6.0:tree (default-cli) @ core ---
+    private static final Pattern TREE_GOAL_PATTERN =
+            Pattern.compile("^--- \\S*:tree \\(.*\\) @ \\S+ ---");
+
+    // groupId:artifactId:type[:classifier]:version[:scope]
+    private static final Pattern COORDINATES_PATTERN =
+            Pattern.compile("^[\\w.-]+:[\\w.-]+:[\\w.-]+(?::[\\w.-]+){1,3}$");
+
+    private DependencyTreeReader() {
+    }
+
+    private enum State {
+        /** outside of any tree */
+        OUTSIDE,
+        /** after a dependency:tree goal header, before its root line */
+        TREE_ROOT,
+        /** in the children of an [INFO] dependency:tree root */
+        INFO_TREE,
+        /** in the children of a [DEBUG] (-X) dependency tree root */
+        DEBUG_TREE
+    }
+
+    public static ReactorGraph read(BufferedReader reader) throws IOException {
+        ReactorGraph graph = new ReactorGraph();
+
+        State state = State.OUTSIDE;
+        String building = null;  // module name of the last "Building ..." line
+        String header = null;    // coordinates of the last "---< g:a >---" line, if Maven prints them
+        String root = null;      // coordinates of the tree being read
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            Matcher level = LEVEL_PATTERN.matcher(line);
+            if (!level.matches()) {
+                state = state == State.TREE_ROOT ? State.TREE_ROOT : State.OUTSIDE;
+                continue;
+            }
+            boolean debug = "DEBUG".equals(level.group(1));
+            String content = level.group(2);
+
+            if (state == State.INFO_TREE) {
+                if (!debug && (content.startsWith("+- ") || content.startsWith("\\- "))) {
+                    graph.addDependency(root, coordinates(content.substring(3)));
+                    continue;
+                }
+                if (!debug && (content.startsWith("|  ") || content.startsWith("   "))) {
+                    continue; // transitive
+                }
+                state = State.OUTSIDE;
+            } else if (state == State.DEBUG_TREE) {
+                if (debug && content.startsWith("   ") && !content.startsWith("    ")) {
+                    graph.addDependency(root, coordinates(content.substring(3)));
+                    continue;
+                }
+                if (debug && content.startsWith("    ")) {
+                    continue; // transitive
+                }
+                state = State.OUTSIDE;
+            }
+
+            if (!debug) {
+                Matcher buildingMatcher = BUILDING_PATTERN.matcher(content);
+                if (buildingMatcher.find()) {
+                    building = buildingMatcher.group(1);
+                    state = State.OUTSIDE;
+                    continue;
+                }
+                Matcher headerMatcher = HEADER_PATTERN.matcher(content);
+                if (headerMatcher.matches()) {
+                    header = headerMatcher.group(1);
+                    building = null;
+                    state = State.OUTSIDE;
+                    continue;
+                }
+                if (TREE_GOAL_PATTERN.matcher(content).find()) {
+                    state = State.TREE_ROOT;
+                    continue;
+                }
+                if (state == State.TREE_ROOT && COORDINATES_PATTERN.matcher(content).matches()) {
+                    root = addRoot(graph, content, building);
+                    state = State.INFO_TREE;
+                    continue;
+                }
+                if (state == State.TREE_ROOT && !content.isBlank()) {
+                    state = State.OUTSIDE;
+                }
+            } else if (COORDINATES_PATTERN.matcher(content).matches()
+                    && (header == null || header.equals(coordinates(content)))) {
+                // -X prints trees of plugins too; with a module header only the module's own tree counts
+                root = addRoot(graph, content, building);
+                state = State.DEBUG_TREE;
+            }
+        }
+        return graph;
+    }
+
+    private static String addRoot(ReactorGraph graph, String content, String building) {
+        String root = coordinates(content);
+        graph.addModule(root, building != null ? building : ReactorGraph.artifactId(root));
+        return root;
+    }
+
+    /**
+     * @return "groupId:artifactId" of a tree entry such as
+     *         "com.example:core:jar:1.0-SNAPSHOT:compile (optional)"
+     */
+    static String coordinates(String entry) {
+        String trimmed = entry.trim();
+        int space = trimmed.indexOf(' ');
+        String artifact = space < 0 ? trimmed : trimmed.substring(0, space);
+        int first = artifact.indexOf(':');
+        int second = first < 0 ? -1 : artifact.indexOf(':', first + 1);
+        return second < 0 ? artifact : artifact.substring(0, second);
+    }
+}
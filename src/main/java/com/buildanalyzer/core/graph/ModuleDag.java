@@ -0,0 +1,230 @@
+package com.buildanalyzer.core.graph;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The modules of one build as a weighted DAG: a {@link ReactorGraph} with the Reactor
+ * Summary time of each module as its weight, indexed by int for the schedule
+ * computations.
+ *
+ * Build modules are matched to graph modules by name, by the first word of the name (the
+ * log parser keeps only that much of multi-word names) and finally by artifactId. Graph
+ * modules that were not built (e.g. -pl builds) stay in the DAG with weight 0 so their
+ * dependencies still order the others; built modules the graph does not know are added
+ * without dependencies and reported by {@link #unmatchedModules()}.
+ */
+public final class ModuleDag {
+
+    private final String[] names;
+    private final double[] seconds;
+    private final boolean[] built;
+    private final int[][] dependencies;
+    private final int[][] dependents;
+    private final int[] topologicalOrder;
+    private final int[] builtModules;
+    private final List<String> unmatched;
+
+    private ModuleDag(String[] names, double[] seconds, boolean[] built, int[][] dependencies,
+                      int[] builtModules, List<String> unmatched) {
+        this.names = names;
+        this.seconds = seconds;
+        this.built = built;
+        this.dependencies = dependencies;
+        this.builtModules = builtModules;
+        this.unmatched = unmatched;
+        this.dependents = invert(dependencies);
+        this.topologicalOrder = topologicalOrder(names, dependencies, dependents);
+    }
+
+    /**
+     * @throws IllegalStateException if the dependencies form a cycle
+     */
+    public static ModuleDag of(ReactorGraph graph, BuildSummary summary) {
+        List<String> coordinates = graph.modules();
+        Map<String, Integer> byName = new HashMap<>();
+        Map<String, Integer> byFirstWord = new HashMap<>();
+        Map<String, Integer> byArtifactId = new HashMap<>();
+        Map<String, Integer> byCoordinates = new HashMap<>();
+        for (int i = 0; i < coordinates.size(); i++) {
+            String name = graph.nameOf(coordinates.get(i));
+            byName.putIfAbsent(name, i);
+            byFirstWord.putIfAbsent(name.split("\\s+", 2)[0], i);
+            byArtifactId.putIfAbsent(ReactorGraph.artifactId(coordinates.get(i)), i);
+            byCoordinates.put(coordinates.get(i), i);
+        }
+
+        List<ModuleSummary> modules = summary.getModules();
+        int n = coordinates.size();
+        String[] names = new String[n + modules.size()];
+        double[] seconds = new double[names.length];
+        boolean[] built = new boolean[names.length];
+        for (int i = 0; i < n; i++) {
+            names[i] = graph.nameOf(coordinates.get(i));
+        }
+
+        int[] builtModules = new int[modules.size()];
+        List<String> unmatched = new ArrayList<>();
+        for (int b = 0; b < builtModules.length; b++) {
+            ModuleSummary m = modules.get(b);
+            Integer node = byName.get(m.getName());
+            if (node == null || built[node]) {
+                node = byFirstWord.get(m.getName());
+            }
+            if (node == null || built[node]) {
+                node = byArtifactId.get(m.getName());
+            }
+            if (node == null || built[node]) {
+                node = n + unmatched.size();
+                unmatched.add(m.getName());
+            }
+            names[node] = m.getName();
+            seconds[node] = m.getSeconds();
+            built[node] = true;
+            builtModules[b] = node;
+        }
+
+        int size = n + unmatched.size();
+        int[][] dependencies = new int[size][];
+        for (int i = 0; i < size; i++) {
+            if (i >= n) {
+                dependencies[i] = new int[0];
+                continue;
+            }
+            dependencies[i] = graph.dependenciesOf(coordinates.get(i)).stream()
+                    .mapToInt(byCoordinates::get)
+                    .toArray();
+        }
+        return new ModuleDag(
+                Arrays.copyOf(names, size),
+                Arrays.copyOf(seconds, size),
+                Arrays.copyOf(built, size),
+                dependencies,
+                builtModules,
+                List.copyOf(unmatched));
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @return the Reactor Summary name for built modules, the graph name otherwise
+     */
+    public String name(int module) {
+        return names[module];
+    }
+
+    public double seconds(int module) {
+        return seconds[module];
+    }
+
+    /**
+     * @return false for graph modules that are not in the build's Reactor Summary
+     */
+    public boolean isBuilt(int module) {
+        return built[module];
+    }
+
+    public int[] dependencies(int module) {
+        return dependencies[module].clone();
+    }
+
+    public int[] dependents(int module) {
+        return dependents[module].clone();
+    }
+
+    /** all dependency lists, shared for the hot loops in this package: do not modify */
+    int[][] dependencyLists() {
+        return dependencies;
+    }
+
+    /** module times, shared for the hot loops in this package: do not modify */
+    double[] secondsArray() {
+        return seconds;
+    }
+
+    /**
+     * @return the modules of the build, in Reactor Summary order
+     */
+    public int[] builtModules() {
+        return builtModules.clone();
+    }
+
+    /**
+     * @return all modules, every one after its dependencies; ties in reactor order
+     */
+    public int[] topologicalOrder() {
+        return topologicalOrder.clone();
+    }
+
+    /**
+     * @return built modules not found in the graph, treated as having no dependencies
+     */
+    public List<String> unmatchedModules() {
+        return unmatched;
+    }
+
+    private static int[][] invert(int[][] dependencies) {
+        int[] counts = new int[dependencies.length];
+        for (int[] deps : dependencies) {
+            for (int d : deps) {
+                counts[d]++;
+            }
+        }
+        int[][] dependents = new int[dependencies.length][];
+        for (int i = 0; i < dependents.length; i++) {
+            dependents[i] = new int[counts[i]];
+            counts[i] = 0;
+        }
+        for (int i = 0; i < dependencies.length; i++) {
+            for (int d : dependencies[i]) {
+                dependents[d][counts[d]++] = i;
+            }
+        }
+        return dependents;
+    }
+
+    /** Kahn's algorithm, always taking the ready module that comes first in reactor order */
+    private static int[] topologicalOrder(String[] names, int[][] dependencies, int[][] dependents) {
+        int[] waitingFor = new int[dependencies.length];
+        PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int i = 0; i < dependencies.length; i++) {
+            waitingFor[i] = dependencies[i].length;
+            if (waitingFor[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        int[] order = new int[dependencies.length];
+        int count = 0;
+        while (!ready.isEmpty()) {
+            int module = ready.poll();
+            order[count++] = module;
+            for (int dependent : dependents[module]) {
+                if (--waitingFor[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (count < order.length) {
+            List<String> cycle = new ArrayList<>();
+            for (int i = 0; i < waitingFor.length; i++) {
+                if (waitingFor[i] > 0) {
+                    cycle.add(names[i]);
+                }
+            }
+            throw new IllegalStateException("Reactor dependency graph has a cycle between: "
+                    + String.join(", ", cycle));
+        }
+        return order;
+    }
+}
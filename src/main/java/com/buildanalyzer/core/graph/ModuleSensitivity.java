@@ -0,0 +1,18 @@
+package com.buildanalyzer.core.graph;
+
+/**
+ * Wall time a build would save if one module got faster.
+ *
+ * @param savedSeconds    saved if the module took {@link SpeedupSensitivity#speedupFraction()}
+ *                        less time, all other modules unchanged
+ * @param maxSavedSeconds saved if the module took no time at all: the most that work on
+ *                        this module alone can give before another chain of modules
+ *                        becomes critical
+ */
+public record ModuleSensitivity(
+        String name,
+        double seconds,
+        double savedSeconds,
+        double maxSavedSeconds
+) {
+}
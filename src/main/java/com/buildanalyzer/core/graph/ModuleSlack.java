@@ -0,0 +1,18 @@
+package com.buildanalyzer.core.graph;
+
+/**
+ * Schedule of one module with unlimited builder threads: it starts as soon as its last
+ * dependency is done.
+ *
+ * @param earliestStart seconds after the start of the build
+ * @param slack         seconds the module could take longer without making the build longer
+ * @param critical      no slack: any delay of this module delays the whole build
+ */
+public record ModuleSlack(
+        String name,
+        double seconds,
+        double earliestStart,
+        double slack,
+        boolean critical
+) {
+}
@@ -0,0 +1,230 @@
+package com.buildanalyzer.core.graph;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the {@link ReactorGraph} of a multi-module project from its pom.xml files,
+ * starting at the root pom and following &lt;modules&gt; recursively.
+ *
+ * A module depends on the reactor modules it lists under &lt;dependencies&gt; and
+ * &lt;build&gt;&lt;plugins&gt;, and on its &lt;parent&gt; if that is part of the reactor,
+ * which is what Maven orders the reactor by as well. Modules only enabled by profiles
+ * are not followed, and of the ${...} expressions only project coordinates and the
+ * pom's own &lt;properties&gt; are resolved; that covers the usual
+ * "${project.groupId}" dependencies on sibling modules.
+ */
+public final class PomReactorReader {
+
+    private PomReactorReader() {
+    }
+
+    /**
+     * @param root the root pom.xml, or the directory containing it
+     */
+    public static ReactorGraph read(Path root) throws IOException {
+        Path rootPom = Files.isDirectory(root) ? root.resolve("pom.xml") : root;
+        if (!Files.isRegularFile(rootPom)) {
+            throw new NoSuchFileException(rootPom.toString(), null, "no pom.xml");
+        }
+
+        DocumentBuilder builder = newDocumentBuilder();
+        List<Pom> poms = new ArrayList<>();
+        collect(builder, rootPom, poms, new HashSet<>());
+
+        ReactorGraph graph = new ReactorGraph();
+        for (Pom pom : poms) {
+            graph.addModule(pom.coordinates, pom.name);
+        }
+        for (Pom pom : poms) {
+            for (String dependency : pom.dependencies) {
+                graph.addDependency(pom.coordinates, dependency);
+            }
+        }
+        return graph;
+    }
+
+    private record Pom(String coordinates, String name, List<String> dependencies) {}
+
+    /** depth-first, parent before its modules: the order Maven lists an unsorted reactor in */
+    private static void collect(DocumentBuilder builder, Path pomFile, List<Pom> poms, Set<Path> seen)
+            throws IOException {
+        Path normalized = pomFile.toAbsolutePath().normalize();
+        if (!seen.add(normalized)) {
+            return;
+        }
+
+        Element project = parse(builder, pomFile).getDocumentElement();
+        Element parent = child(project, "parent");
+        String parentGroupId = parent == null ? null : text(parent, "groupId");
+        String groupId = text(project, "groupId") != null ? text(project, "groupId") : parentGroupId;
+        String artifactId = text(project, "artifactId");
+        if (groupId == null || artifactId == null) {
+            throw new IOException("Cannot read " + pomFile + ": missing groupId or artifactId");
+        }
+
+        Map<String, String> properties = new HashMap<>();
+        Element props = child(project, "properties");
+        if (props != null) {
+            for (Element p : children(props)) {
+                properties.put(p.getTagName(), p.getTextContent().trim());
+            }
+        }
+        properties.put("project.groupId", groupId);
+        properties.put("project.artifactId", artifactId);
+        if (parentGroupId != null) {
+            properties.put("project.parent.groupId", parentGroupId);
+        }
+        if (text(project, "version") != null) {
+            properties.put("project.version", text(project, "version"));
+        } else if (parent != null && text(parent, "version") != null) {
+            properties.put("project.version", text(parent, "version"));
+        }
+
+        List<String> dependencies = new ArrayList<>();
+        if (parent != null && parentGroupId != null && text(parent, "artifactId") != null) {
+            dependencies.add(interpolate(parentGroupId, properties) + ":"
+                    + interpolate(text(parent, "artifactId"), properties));
+        }
+        addCoordinates(child(project, "dependencies"), "dependency", groupId, properties, dependencies);
+        Element build = child(project, "build");
+        if (build != null) {
+            // plugins without a groupId are org.apache.maven.plugins ones, never reactor modules
+            addCoordinates(child(build, "plugins"), "plugin", "org.apache.maven.plugins", properties, dependencies);
+        }
+
+        // Reactor Summary shows <name> when there is one
+        String name = text(project, "name") == null ? artifactId : interpolate(text(project, "name"), properties);
+        if (name.isBlank() || name.contains("${")) {
+            name = artifactId;
+        }
+        poms.add(new Pom(groupId + ":" + artifactId, name, dependencies));
+
+        Element modules = child(project, "modules");
+        if (modules == null) {
+            return;
+        }
+        for (Element module : children(modules)) {
+            if (!"module".equals(module.getTagName())) {
+                continue;
+            }
+            Path modulePath = pomFile.toAbsolutePath().getParent().resolve(module.getTextContent().trim());
+            Path modulePom = Files.isDirectory(modulePath) ? modulePath.resolve("pom.xml") : modulePath;
+            if (!Files.isRegularFile(modulePom)) {
+                throw new NoSuchFileException(modulePom.toString(), null,
+                        "module '" + module.getTextContent().trim() + "' of " + pomFile + " has no pom.xml");
+            }
+            collect(builder, modulePom, poms, seen);
+        }
+    }
+
+    private static void addCoordinates(Element list, String tag, String defaultGroupId,
+                                       Map<String, String> properties, List<String> out) {
+        if (list == null) {
+            return;
+        }
+        for (Element e : children(list)) {
+            String artifactId = text(e, "artifactId");
+            if (!tag.equals(e.getTagName()) || artifactId == null) {
+                continue;
+            }
+            String groupId = text(e, "groupId") == null ? defaultGroupId : text(e, "groupId");
+            out.add(interpolate(groupId, properties) + ":" + interpolate(artifactId, properties));
+        }
+    }
+
+    /** resolves ${key} from the given properties; unknown keys are left as they are */
+    static String interpolate(String value, Map<String, String> properties) {
+        if (!value.contains("${")) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < value.length()) {
+            int start = value.indexOf("${", i);
+            int end = start < 0 ? -1 : value.indexOf('}', start);
+            if (end < 0) {
+                sb.append(value, i, value.length());
+                break;
+            }
+            String key = value.substring(start + 2, end);
+            // ${pom.x} and ${x} are old spellings of ${project.x}
+            String resolved = properties.get(key);
+            if (resolved == null && key.startsWith("pom.")) {
+                resolved = properties.get("project." + key.substring(4));
+            }
+            if (resolved == null && !key.contains(".")) {
+                resolved = properties.get("project." + key);
+            }
+            sb.append(value, i, start).append(resolved != null ? resolved : value.substring(start, end + 1));
+            i = end + 1;
+        }
+        return sb.toString();
+    }
+
+    private static DocumentBuilder newDocumentBuilder() throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setExpandEntityReferences(false);
+            return factory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IOException("No XML parser available: " + e.getMessage(), e);
+        }
+    }
+
+    private static Document parse(DocumentBuilder builder, Path pomFile) throws IOException {
+        try {
+            return builder.parse(pomFile.toFile());
+        } catch (SAXException e) {
+            throw new IOException("Cannot parse " + pomFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static List<Element> children(Element parent) {
+        List<Element> elements = new ArrayList<>();
+        for (Node n = parent.getFirstChild(); n != null; n = n.getNextSibling()) {
+            if (n instanceof Element e) {
+                elements.add(e);
+            }
+        }
+        return elements;
+    }
+
+    private static Element child(Element parent, String tag) {
+        for (Element e : children(parent)) {
+            if (tag.equals(e.getTagName())) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /** trimmed text of a direct child element, or null */
+    private static String text(Element parent, String tag) {
+        Element e = child(parent, tag);
+        if (e == null) {
+            return null;
+        }
+        String text = e.getTextContent().trim();
+        return text.isEmpty() ? null : text;
+    }
+}
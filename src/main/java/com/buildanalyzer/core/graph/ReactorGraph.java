@@ -0,0 +1,99 @@
+package com.buildanalyzer.core.graph;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inter-module dependencies of a Maven reactor: which modules have to be built before
+ * which. Read from the project's pom.xml files ({@link PomReactorReader}) or from a
+ * dependency:tree / -X log ({@link DependencyTreeReader}).
+ *
+ * Modules are identified by "groupId:artifactId" and keep the order they were added in,
+ * which is the reactor order for both readers. Dependencies may be recorded before the
+ * module they point to is known; only dependencies on modules of this reactor are
+ * reported by {@link #dependenciesOf(String)}, so third-party artifacts drop out.
+ */
+public final class ReactorGraph {
+
+    private final Map<String, Node> modules = new LinkedHashMap<>();
+
+    private static final class Node {
+        final String name;
+        final Set<String> dependencies = new LinkedHashSet<>();
+
+        Node(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Adds a module; adding it again keeps the first name.
+     *
+     * @param coordinates "groupId:artifactId"
+     * @param name        name shown in the Reactor Summary (the artifactId if the pom has no &lt;name&gt;)
+     */
+    public void addModule(String coordinates, String name) {
+        modules.putIfAbsent(coordinates, new Node(name));
+    }
+
+    /**
+     * Records that {@code module} needs {@code dependency}; {@code module} must have been added.
+     */
+    public void addDependency(String module, String dependency) {
+        Node node = modules.get(module);
+        if (node == null) {
+            throw new IllegalArgumentException("Unknown reactor module: " + module);
+        }
+        if (!module.equals(dependency)) {
+            node.dependencies.add(dependency);
+        }
+    }
+
+    public int size() {
+        return modules.size();
+    }
+
+    /**
+     * @return coordinates of all modules, in reactor order
+     */
+    public List<String> modules() {
+        return List.copyOf(modules.keySet());
+    }
+
+    public boolean contains(String coordinates) {
+        return modules.containsKey(coordinates);
+    }
+
+    public String nameOf(String coordinates) {
+        Node node = modules.get(coordinates);
+        return node == null ? null : node.name;
+    }
+
+    /**
+     * @return coordinates of the modules of this reactor that {@code coordinates} depends on directly
+     */
+    public List<String> dependenciesOf(String coordinates) {
+        Node node = modules.get(coordinates);
+        if (node == null) {
+            return List.of();
+        }
+        List<String> inReactor = new ArrayList<>();
+        for (String dependency : node.dependencies) {
+            if (modules.containsKey(dependency)) {
+                inReactor.add(dependency);
+            }
+        }
+        return inReactor;
+    }
+
+    /**
+     * @return the artifactId part of "groupId:artifactId"
+     */
+    static String artifactId(String coordinates) {
+        return coordinates.substring(coordinates.indexOf(':') + 1);
+    }
+}
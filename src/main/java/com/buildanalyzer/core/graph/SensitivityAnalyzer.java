@@ -0,0 +1,65 @@
+package com.buildanalyzer.core.graph;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * "If module X got 50% faster, how much wall time would we save?", for every module.
+ *
+ * In a serial build every second cut from a module is a second cut from the build, so
+ * the ranking is the module time ranking. In a parallel build only modules on the
+ * critical path matter, and only until a parallel chain takes over: each module's time
+ * is shortened in turn and the critical path of the {@link ModuleDag} recomputed, one
+ * forward pass per module and scenario.
+ */
+public final class SensitivityAnalyzer {
+
+    private static final Comparator<ModuleSensitivity> MOST_SAVED_FIRST =
+            Comparator.comparingDouble(ModuleSensitivity::savedSeconds).reversed()
+                    .thenComparing(Comparator.comparingDouble(ModuleSensitivity::maxSavedSeconds).reversed());
+
+    private SensitivityAnalyzer() {
+    }
+
+    /**
+     * @param speedupFraction share of its time a module loses, in (0, 1]
+     */
+    public static SpeedupSensitivity serial(BuildSummary summary, double speedupFraction) {
+        List<ModuleSensitivity> modules = new ArrayList<>();
+        for (ModuleSummary m : summary.getModules()) {
+            modules.add(new ModuleSensitivity(m.getName(), m.getSeconds(),
+                    m.getSeconds() * speedupFraction, m.getSeconds()));
+        }
+        modules.sort(MOST_SAVED_FIRST);
+        return new SpeedupSensitivity(speedupFraction, false, summary.getTotalSeconds(), List.copyOf(modules));
+    }
+
+    /**
+     * @param speedupFraction share of its time a module loses, in (0, 1]
+     */
+    public static SpeedupSensitivity parallel(ModuleDag dag, double speedupFraction) {
+        int[] order = dag.topologicalOrder();
+        double[] seconds = dag.secondsArray().clone();
+        double[] finish = new double[seconds.length];
+        double baseline = CriticalPathAnalyzer.length(dag.dependencyLists(), order, seconds, finish);
+
+        List<ModuleSensitivity> modules = new ArrayList<>();
+        for (int module : dag.builtModules()) {
+            double original = seconds[module];
+            seconds[module] = original * (1.0 - speedupFraction);
+            double faster = CriticalPathAnalyzer.length(dag.dependencyLists(), order, seconds, finish);
+            seconds[module] = 0.0;
+            double without = CriticalPathAnalyzer.length(dag.dependencyLists(), order, seconds, finish);
+            seconds[module] = original;
+
+            modules.add(new ModuleSensitivity(dag.name(module), original,
+                    Math.max(0.0, baseline - faster), Math.max(0.0, baseline - without)));
+        }
+        modules.sort(MOST_SAVED_FIRST);
+        return new SpeedupSensitivity(speedupFraction, true, baseline, List.copyOf(modules));
+    }
+}
@@ -0,0 +1,20 @@
+package com.buildanalyzer.core.graph;
+
+import java.util.List;
+
+/**
+ * Modules ranked by the wall time a speed-up of each would save.
+ *
+ * @param speedupFraction   share of its time each module is assumed to lose, e.g. 0.5
+ * @param criticalPathBased true: savings on the critical path (parallel build, unlimited
+ *                          threads); false: savings of a serial build, one for one
+ * @param baselineSeconds   total build time (serial) or critical path length (parallel)
+ * @param modules           every built module, largest saving first
+ */
+public record SpeedupSensitivity(
+        double speedupFraction,
+        boolean criticalPathBased,
+        double baselineSeconds,
+        List<ModuleSensitivity> modules
+) {
+}
@@ -0,0 +1,17 @@
+package com.buildanalyzer.core.graph;
+
+/**
+ * Predicted module schedule for one builder thread count.
+ *
+ * @param wallSeconds from the first module start to the last module end; time outside of
+ *                    modules (startup, reactor summary) is not included
+ * @param speedup     single-thread wall time / this wall time
+ * @param utilization share of thread time spent building modules
+ */
+public record ThreadCountPrediction(
+        int threads,
+        double wallSeconds,
+        double speedup,
+        double utilization
+) {
+}
@@ -0,0 +1,22 @@
+package com.buildanalyzer.core.graph;
+
+import java.util.List;
+
+/**
+ * What-if predictions of a build for 1..N builder threads (-T).
+ *
+ * @param workSeconds         sum of module times: the single-thread wall time
+ * @param criticalPathSeconds no thread count gets below this
+ * @param kneeThreads         fewest threads from which no larger thread count is more than
+ *                            {@link BuilderSimulator#KNEE_GAIN} faster
+ * @param predictions         one per thread count, ascending
+ * @param unmatchedModules    modules the reactor graph does not know; simulated without dependencies
+ */
+public record ThreadCountSimulation(
+        double workSeconds,
+        double criticalPathSeconds,
+        int kneeThreads,
+        List<ThreadCountPrediction> predictions,
+        List<String> unmatchedModules
+) {
+}
@@ -1,6 +1,7 @@
 package com.buildanalyzer.core.health;
 
 import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleRanking;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,5 +31,16 @@ public class BuildHealthEvaluator {
         }
         return hints;
     }
+
+    /**
+     * @param ranking module ranking of {@code summary}, shared with rules that need one
+     */
+    public List<BuildHealthHint> evaluate(BuildSummary summary, ModuleRanking ranking) {
+        List<BuildHealthHint> hints = new ArrayList<>();
+        for (BuildHealthRule rule : rules) {
+            rule.apply(summary, ranking, hints);
+        }
+        return hints;
+    }
 }
 
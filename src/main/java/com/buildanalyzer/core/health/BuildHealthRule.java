@@ -1,6 +1,7 @@
 package com.buildanalyzer.core.health;
 
 import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleRanking;
 
 import java.util.List;
 
@@ -10,4 +11,12 @@ public interface BuildHealthRule {
      * 根据 BuildSummary 产生 0..N 条提示，追加到 hints 里。
      */
     void apply(BuildSummary summary, List<BuildHealthHint> hints);
+
+    /**
+     * Like {@link #apply(BuildSummary, List)}, for rules that can reuse the module ranking
+     * the report already computed instead of sorting the modules again.
+     */
+    default void apply(BuildSummary summary, ModuleRanking ranking, List<BuildHealthHint> hints) {
+        apply(summary, hints);
+    }
 }
@@ -1,7 +1,9 @@
 package com.buildanalyzer.core.health;
 
 import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleRanking;
 import com.buildanalyzer.core.model.ModuleSummary;
+import com.buildanalyzer.util.TopK;
 
 import java.util.Comparator;
 import java.util.List;
@@ -14,15 +16,31 @@ public class HotModuleRule implements BuildHealthRule {
 
     @Override
     public void apply(BuildSummary summary, List<BuildHealthHint> hints) {
+        apply(summary, null, hints);
+    }
+
+    @Override
+    public void apply(BuildSummary summary, ModuleRanking ranking, List<BuildHealthHint> hints) {
         double total = summary.getTotalSeconds();
         if (total <= 0.0) return;
 
-        List<ModuleSummary> modules = summary.getModules().stream()
-                .sorted(Comparator.comparingDouble(ModuleSummary::getSeconds).reversed())
-                .toList();
+        double minSeconds = INFO_SHARE * total;
+        List<ModuleSummary> modules;
+        if (ranking != null && ranking.coversModulesOfAtLeast(minSeconds)) {
+            modules = ranking.top();
+        } else {
+            // only a few modules can pass the threshold: filter first, then sort those
+            List<ModuleSummary> hot = summary.getModules().stream()
+                    .filter(m -> m.getSeconds() / total >= INFO_SHARE)
+                    .toList();
+            modules = TopK.first(hot, 0, Comparator.comparingDouble(ModuleSummary::getSeconds).reversed());
+        }
 
         for (ModuleSummary m : modules) {
             double share = m.getSeconds() / total;
+            if (share < INFO_SHARE) {
+                break; // slowest first: the rest is below the threshold too
+            }
 
             if (share >= WARN_SHARE) {
                 hints.add(new BuildHealthHint(
@@ -0,0 +1,171 @@
+package com.buildanalyzer.core.health;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the builds where a module got persistently slower, in one pass over builds in
+ * time order. Unlike a {@link BuildHealthRule} it looks at a sequence of builds, so it
+ * is fed build by build and reports at the end.
+ *
+ * Each module has two series, module time and test time (builds that ran tests only),
+ * each watched by a one-sided CUSUM:
+ *   - the first {@link #WARMUP_BUILDS} values give the baseline: median and MAD-based
+ *     sigma, so a slow outlier during warm-up does not skew it;
+ *   - S = max(0, S + min(x - baseline - K*sigma, CLIP*sigma)) for every later value;
+ *   - S > H*sigma raises a finding. The change point is the first build of the current
+ *     run of S > 0, the size of the slowdown is the mean of that run over the baseline.
+ *
+ * Clipping each step at CLIP*sigma means a single slow build, however slow, cannot raise
+ * a finding on its own: it takes at least H / (CLIP - K) elevated builds in a row. After
+ * a finding the series starts a new warm-up, so a later second slowdown is found too.
+ *
+ * Memory is two small series states per module, independent of the number of builds.
+ */
+public class RegressionDetector {
+
+    static final int WARMUP_BUILDS = 10;
+
+    // in units of sigma; classic CUSUM values (k = 0.5, h = 5)
+    private static final double K = 0.5;
+    private static final double H = 5.0;
+    private static final double CLIP = 2.0;
+
+    // module times are printed with ms resolution and jitter by a few percent anyway
+    private static final double MIN_RELATIVE_SIGMA = 0.05;
+    private static final double MIN_SIGMA_SECONDS = 0.05;
+
+    // 变慢 10% 以下不报；20% 以上：WARN
+    private static final double MIN_REPORTED_INCREASE = 0.10;
+    private static final double WARN_INCREASE = 0.20;
+
+    private final Map<String, Series> moduleSeconds = new HashMap<>();
+    private final Map<String, Series> testSeconds = new HashMap<>();
+    private final List<BuildHealthHint> hints = new ArrayList<>();
+    private int buildNumber;
+
+    /**
+     * @param build the next build in time order; its finish time (if known) is used in messages
+     */
+    public void accept(BuildSummary build) {
+        buildNumber++;
+        Long finishedAt = build.getFinishedAtMillis();
+        for (ModuleSummary m : build.getModules()) {
+            moduleSeconds.computeIfAbsent(m.getName(), name -> new Series(name, "module time"))
+                    .add(m.getSeconds(), buildNumber, finishedAt);
+            if (m.getTestsRun() > 0) {
+                testSeconds.computeIfAbsent(m.getName(), name -> new Series(name, "test time"))
+                        .add(m.getTestTimeSeconds(), buildNumber, finishedAt);
+            }
+        }
+    }
+
+    public int buildCount() {
+        return buildNumber;
+    }
+
+    /**
+     * @return one hint per detected slowdown, in the order they were detected
+     */
+    public List<BuildHealthHint> findings() {
+        return List.copyOf(hints);
+    }
+
+    private final class Series {
+        private final String module;
+        private final String metric;
+
+        private final double[] warmup = new double[WARMUP_BUILDS];
+        private int warmupCount;
+        private double baseline;
+        private double sigma;
+
+        private double cusum;
+        private int runStartBuild;
+        private Long runStartFinishedAt;
+        private double runSum;
+        private int runCount;
+
+        Series(String module, String metric) {
+            this.module = module;
+            this.metric = metric;
+        }
+
+        void add(double x, int build, Long finishedAt) {
+            if (warmupCount < WARMUP_BUILDS) {
+                warmup[warmupCount++] = x;
+                if (warmupCount == WARMUP_BUILDS) {
+                    startMonitoring();
+                }
+                return;
+            }
+
+            if (cusum == 0.0) {
+                runStartBuild = build;
+                runStartFinishedAt = finishedAt;
+                runSum = 0.0;
+                runCount = 0;
+            }
+            double step = Math.min(x - baseline - K * sigma, CLIP * sigma);
+            cusum = Math.max(0.0, cusum + step);
+            if (cusum == 0.0) {
+                return;
+            }
+            runSum += x;
+            runCount++;
+
+            if (cusum > H * sigma) {
+                report(build);
+                // re-learn the new normal from the following builds
+                warmupCount = 0;
+                cusum = 0.0;
+            }
+        }
+
+        private void startMonitoring() {
+            double[] sorted = warmup.clone();
+            Arrays.sort(sorted);
+            baseline = median(sorted);
+            double[] deviations = new double[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                deviations[i] = Math.abs(sorted[i] - baseline);
+            }
+            Arrays.sort(deviations);
+            // MAD * 1.4826 estimates the standard deviation of normal noise
+            sigma = Math.max(1.4826 * median(deviations),
+                    Math.max(MIN_RELATIVE_SIGMA * baseline, MIN_SIGMA_SECONDS));
+            cusum = 0.0;
+        }
+
+        private void report(int detectedAt) {
+            double after = runSum / runCount;
+            double increase = (after - baseline) / Math.max(baseline, MIN_SIGMA_SECONDS);
+            if (increase < MIN_REPORTED_INCREASE) {
+                return;
+            }
+
+            String since = runStartFinishedAt == null
+                    ? "build #" + runStartBuild
+                    : "build #" + runStartBuild + " (" + Instant.ofEpochMilli(runStartFinishedAt) + ")";
+            hints.add(new BuildHealthHint(
+                    increase >= WARN_INCREASE ? HealthSeverity.WARN : HealthSeverity.INFO,
+                    module,
+                    String.format("Module '%s' %s regressed since %s: %.3f s -> %.3f s (+%.1f%%), "
+                                    + "detected after %d slower build(s) at build #%d.",
+                            module, metric, since, baseline, after, increase * 100.0, runCount, detectedAt)
+            ));
+        }
+    }
+
+    private static double median(double[] sorted) {
+        int n = sorted.length;
+        return n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+    }
+}
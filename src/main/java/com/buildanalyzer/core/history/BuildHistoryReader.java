@@ -0,0 +1,179 @@
+package com.buildanalyzer.core.history;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Read-only, memory-mapped view of a build history store written by {@link BuildHistoryWriter}.
+ *
+ * Column files are mapped, not loaded, so opening a store with millions of builds costs
+ * next to nothing and a query only touches the columns it reads. Rows are addressed by
+ * long and columns mapped in windows (see {@link MappedColumn}), so module columns may
+ * grow past 2 GB. Builds are handed out
+ * one at a time as {@link BuildSummary} objects (without pipeline steps, which the store
+ * does not keep, and with the stored timestamp as finish time), ready to be folded into
+ * a BuildAccumulator.
+ *
+ * The view is a snapshot: builds appended after {@link #open(Path)} are not visible.
+ */
+public final class BuildHistoryReader {
+
+    private final Map<HistoryColumn, MappedColumn> columns = new EnumMap<>(HistoryColumn.class);
+    private final String[] moduleNames;
+    private final int buildCount;
+
+    private BuildHistoryReader(Path directory, long windowBytes) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new NoSuchFileException(directory.toString(), null, "not a build history store");
+        }
+
+        long builds = Long.MAX_VALUE;
+        long moduleRows = Long.MAX_VALUE;
+        for (HistoryColumn column : HistoryColumn.values()) {
+            MappedColumn mapped = MappedColumn.map(directory.resolve(column.fileName), windowBytes);
+            columns.put(column, mapped);
+            long rows = mapped.size() / column.width;
+            if (column.perBuild) {
+                builds = Math.min(builds, rows);
+            } else {
+                moduleRows = Math.min(moduleRows, rows);
+            }
+        }
+
+        // ignore a torn tail, like the writer does when it reopens the store
+        MappedColumn moduleEnd = columns.get(HistoryColumn.BUILD_MODULE_END);
+        while (builds > 0 && moduleEnd.getLong(builds - 1) > moduleRows) {
+            builds--;
+        }
+        if (builds > Integer.MAX_VALUE) {
+            throw corrupt(builds + " builds, more than a store can index");
+        }
+        this.buildCount = (int) builds;
+        this.moduleNames = HistoryFiles.readModuleNames(directory).toArray(String[]::new);
+    }
+
+    /**
+     * @return true if the directory looks like a store written by {@link BuildHistoryWriter}
+     */
+    public static boolean isStore(Path directory) {
+        return Files.isRegularFile(directory.resolve(HistoryColumn.BUILD_TIMESTAMP.fileName));
+    }
+
+    public static BuildHistoryReader open(Path directory) throws IOException {
+        return new BuildHistoryReader(directory, MappedColumn.DEFAULT_WINDOW_BYTES);
+    }
+
+    /**
+     * @param windowBytes size of the mapped windows of each column, a power of two
+     */
+    static BuildHistoryReader open(Path directory, long windowBytes) throws IOException {
+        return new BuildHistoryReader(directory, windowBytes);
+    }
+
+    public int buildCount() {
+        return buildCount;
+    }
+
+    public long timestampMillis(int build) {
+        return columns.get(HistoryColumn.BUILD_TIMESTAMP).getLong(build);
+    }
+
+    public BuildSummary build(int build) throws IOException {
+        MappedColumn moduleEnd = columns.get(HistoryColumn.BUILD_MODULE_END);
+        long from = build == 0 ? 0 : moduleEnd.getLong(build - 1);
+        long to = moduleEnd.getLong(build);
+        if (from < 0 || from > to || to - from > Integer.MAX_VALUE) {
+            throw corrupt("module offsets of build " + build + " are not ascending");
+        }
+
+        List<ModuleSummary> modules = new ArrayList<>((int) (to - from));
+        for (long row = from; row < to; row++) {
+            modules.add(module(row));
+        }
+        double total = columns.get(HistoryColumn.BUILD_TOTAL_SECONDS).getDouble(build);
+        return new BuildSummary(total, modules, timestampMillis(build));
+    }
+
+    /**
+     * Passes every build whose timestamp lies in [fromMillis, toMillis) to the consumer,
+     * in ingest order.
+     *
+     * @return number of builds passed to the consumer
+     */
+    public int forEachBuild(long fromMillis, long toMillis, Consumer<BuildSummary> consumer) throws IOException {
+        int matched = 0;
+        for (int b = 0; b < buildCount; b++) {
+            long ts = timestampMillis(b);
+            if (ts >= fromMillis && ts < toMillis) {
+                consumer.accept(build(b));
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Passes every build to the consumer ordered by timestamp (ingest order for equal
+     * timestamps). Only build indices are sorted; a store ingested in time order is
+     * streamed without sorting.
+     */
+    public void forEachBuildInTimeOrder(Consumer<BuildSummary> consumer) throws IOException {
+        boolean sorted = true;
+        for (int b = 1; b < buildCount && sorted; b++) {
+            sorted = timestampMillis(b - 1) <= timestampMillis(b);
+        }
+        if (sorted) {
+            forEachBuild(Long.MIN_VALUE, Long.MAX_VALUE, consumer);
+            return;
+        }
+
+        Integer[] order = new Integer[buildCount];
+        for (int b = 0; b < buildCount; b++) {
+            order[b] = b;
+        }
+        // stable: equal timestamps keep their ingest order
+        Arrays.sort(order, Comparator.comparingLong(this::timestampMillis));
+        for (int b : order) {
+            consumer.accept(build(b));
+        }
+    }
+
+    private ModuleSummary module(long row) throws IOException {
+        int id = columns.get(HistoryColumn.MODULE_ID).getInt(row);
+        if (id < 0 || id >= moduleNames.length) {
+            throw corrupt("unknown module id " + id);
+        }
+        return new ModuleSummary(
+                moduleNames[id],
+                columns.get(HistoryColumn.MODULE_SECONDS).getDouble(row),
+                intAt(HistoryColumn.MODULE_TESTS_RUN, row),
+                intAt(HistoryColumn.MODULE_FAILURES, row),
+                intAt(HistoryColumn.MODULE_ERRORS, row),
+                intAt(HistoryColumn.MODULE_SKIPPED, row),
+                columns.get(HistoryColumn.MODULE_TEST_SECONDS).getDouble(row),
+                intAt(HistoryColumn.MODULE_MAIN_SOURCES, row),
+                intAt(HistoryColumn.MODULE_TEST_SOURCES, row),
+                List.of()
+        );
+    }
+
+    private int intAt(HistoryColumn column, long row) {
+        return columns.get(column).getInt(row);
+    }
+
+    private static IOException corrupt(String detail) {
+        return new IOException("Corrupt build history store: " + detail);
+    }
+}
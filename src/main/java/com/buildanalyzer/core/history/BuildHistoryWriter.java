@@ -0,0 +1,284 @@
+package com.buildanalyzer.core.history;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import com.buildanalyzer.util.LogSources;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Appends parsed builds to a columnar build history store (see {@link HistoryColumn}).
+ *
+ * Writes are buffered and flushed in a fixed order: module names, module columns, build
+ * columns, and the build's module-end offset last. A crash can therefore only leave a
+ * torn tail, which {@link #open(Path)} cuts off again; no existing row is ever rewritten.
+ *
+ * Logs that were ingested before (same path, size and modification time) are skipped,
+ * so re-running an ingest over the same directory is harmless. Not thread-safe.
+ */
+public final class BuildHistoryWriter implements Closeable {
+
+    private static final int BUFFER_ROWS = 8192;
+
+    private final Path directory;
+    private final Map<HistoryColumn, FileChannel> channels = new EnumMap<>(HistoryColumn.class);
+    private final Map<HistoryColumn, ByteBuffer> buffers = new EnumMap<>(HistoryColumn.class);
+    private final BufferedWriter moduleNames;
+
+    private final Map<String, Integer> moduleIds = new HashMap<>();
+    private final Set<Long> sourceKeys = new HashSet<>();
+    private long moduleRows;
+
+    private int appended;
+    private int duplicates;
+
+    private BuildHistoryWriter(Path directory) throws IOException {
+        this.directory = directory;
+
+        HistoryFiles.repairModuleNames(directory);
+        List<String> names = HistoryFiles.readModuleNames(directory);
+        for (int id = 0; id < names.size(); id++) {
+            moduleIds.put(names.get(id), id);
+        }
+        moduleNames = Files.newBufferedWriter(directory.resolve(HistoryColumn.MODULE_NAMES_FILE),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        for (HistoryColumn column : HistoryColumn.values()) {
+            channels.put(column, FileChannel.open(directory.resolve(column.fileName),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+            buffers.put(column, ByteBuffer.allocate(BUFFER_ROWS * column.width).order(ByteOrder.LITTLE_ENDIAN));
+        }
+    }
+
+    /**
+     * Opens (or creates) the store in {@code directory} for appending.
+     */
+    public static BuildHistoryWriter open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        BuildHistoryWriter writer = new BuildHistoryWriter(directory);
+        try {
+            writer.recover();
+        } catch (IOException | RuntimeException e) {
+            writer.close();
+            throw e;
+        }
+        return writer;
+    }
+
+    /** cut every column back to the last complete build and load the source keys */
+    private void recover() throws IOException {
+        long builds = Long.MAX_VALUE;
+        long availableModuleRows = Long.MAX_VALUE;
+        for (HistoryColumn column : HistoryColumn.values()) {
+            long rows = channels.get(column).size() / column.width;
+            if (column.perBuild) {
+                builds = Math.min(builds, rows);
+            } else {
+                availableModuleRows = Math.min(availableModuleRows, rows);
+            }
+        }
+
+        FileChannel moduleEnd = channels.get(HistoryColumn.BUILD_MODULE_END);
+        moduleRows = 0;
+        while (builds > 0) {
+            moduleRows = readLong(moduleEnd, builds - 1);
+            if (moduleRows <= availableModuleRows) {
+                break;
+            }
+            builds--;
+            moduleRows = 0;
+        }
+
+        for (HistoryColumn column : HistoryColumn.values()) {
+            long rows = column.perBuild ? builds : moduleRows;
+            FileChannel channel = channels.get(column);
+            channel.truncate(rows * column.width);
+            channel.position(rows * column.width);
+        }
+
+        if (builds > 0) {
+            MappedColumn keys = MappedColumn.map(directory.resolve(HistoryColumn.BUILD_SOURCE_KEY.fileName),
+                    MappedColumn.DEFAULT_WINDOW_BYTES);
+            for (long b = 0; b < builds; b++) {
+                sourceKeys.add(keys.getLong(b));
+            }
+        }
+    }
+
+    /**
+     * Appends the build parsed from {@code log}. The timestamp is the 'Finished at' time of
+     * the build, or the log's modification time if the log does not have one.
+     *
+     * @return false if this log (same path, size and mtime) is already in the store
+     */
+    public boolean append(Path log, BuildSummary summary) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(LogSources.storageFile(log), BasicFileAttributes.class);
+        long mtime = attrs.lastModifiedTime().toMillis();
+        long timestamp = summary.getFinishedAtMillis() != null ? summary.getFinishedAtMillis() : mtime;
+        return append(summary, timestamp, sourceKey(log, attrs.size(), mtime));
+    }
+
+    /**
+     * @param sourceKey identity of the source log, or 0 to skip the duplicate check
+     * @return false if a build with the same non-zero source key is already in the store
+     */
+    public boolean append(BuildSummary summary, long timestampMillis, long sourceKey) throws IOException {
+        if (sourceKey != 0 && !sourceKeys.add(sourceKey)) {
+            duplicates++;
+            return false;
+        }
+
+        List<ModuleSummary> modules = summary.getModules();
+        ensureModuleCapacity(modules.size());
+        for (ModuleSummary m : modules) {
+            buffer(HistoryColumn.MODULE_ID).putInt(moduleId(m.getName()));
+            buffer(HistoryColumn.MODULE_SECONDS).putDouble(m.getSeconds());
+            buffer(HistoryColumn.MODULE_TEST_SECONDS).putDouble(m.getTestTimeSeconds());
+            buffer(HistoryColumn.MODULE_TESTS_RUN).putInt(m.getTestsRun());
+            buffer(HistoryColumn.MODULE_FAILURES).putInt(m.getFailures());
+            buffer(HistoryColumn.MODULE_ERRORS).putInt(m.getErrors());
+            buffer(HistoryColumn.MODULE_SKIPPED).putInt(m.getSkipped());
+            buffer(HistoryColumn.MODULE_MAIN_SOURCES).putInt(m.getMainSourceFiles());
+            buffer(HistoryColumn.MODULE_TEST_SOURCES).putInt(m.getTestSourceFiles());
+        }
+        moduleRows += modules.size();
+
+        if (!buffer(HistoryColumn.BUILD_MODULE_END).hasRemaining()) {
+            flush();
+        }
+        buffer(HistoryColumn.BUILD_TIMESTAMP).putLong(timestampMillis);
+        buffer(HistoryColumn.BUILD_TOTAL_SECONDS).putDouble(summary.getTotalSeconds());
+        buffer(HistoryColumn.BUILD_SOURCE_KEY).putLong(sourceKey);
+        buffer(HistoryColumn.BUILD_MODULE_END).putLong(moduleRows);
+
+        appended++;
+        return true;
+    }
+
+    /** builds appended by this writer */
+    public int appended() {
+        return appended;
+    }
+
+    /** builds skipped because their log was already ingested */
+    public int duplicates() {
+        return duplicates;
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    public void flush() throws IOException {
+        moduleNames.flush();
+        for (HistoryColumn column : HistoryColumn.values()) {
+            if (!column.perBuild) {
+                drain(column);
+            }
+        }
+        for (HistoryColumn column : HistoryColumn.values()) {
+            if (column.perBuild && column != HistoryColumn.BUILD_MODULE_END) {
+                drain(column);
+            }
+        }
+        drain(HistoryColumn.BUILD_MODULE_END);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            moduleNames.close();
+            for (FileChannel channel : channels.values()) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * @return a stable 64-bit identity of a log version; never 0
+     */
+    static long sourceKey(Path log, long size, long lastModifiedMillis) {
+        String identity = log.toAbsolutePath().normalize() + "|" + size + "|" + lastModifiedMillis;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(identity.getBytes(StandardCharsets.UTF_8));
+            long key = ByteBuffer.wrap(digest).getLong();
+            return key == 0 ? 1 : key;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // ---------- internals ----------
+
+    private int moduleId(String name) throws IOException {
+        Integer id = moduleIds.get(name);
+        if (id == null) {
+            id = moduleIds.size();
+            moduleIds.put(name, id);
+            moduleNames.write(name);
+            moduleNames.write('\n');
+        }
+        return id;
+    }
+
+    private ByteBuffer buffer(HistoryColumn column) {
+        return buffers.get(column);
+    }
+
+    private void ensureModuleCapacity(int rows) throws IOException {
+        ByteBuffer ids = buffer(HistoryColumn.MODULE_ID);
+        if (ids.remaining() >= rows * HistoryColumn.MODULE_ID.width) {
+            return;
+        }
+        flush();
+        if (ids.capacity() < rows * HistoryColumn.MODULE_ID.width) {
+            // a build with more modules than BUFFER_ROWS: grow every module buffer
+            for (HistoryColumn column : HistoryColumn.values()) {
+                if (!column.perBuild) {
+                    buffers.put(column, ByteBuffer.allocate(rows * column.width).order(ByteOrder.LITTLE_ENDIAN));
+                }
+            }
+        }
+    }
+
+    private void drain(HistoryColumn column) throws IOException {
+        ByteBuffer buffer = buffer(column);
+        buffer.flip();
+        FileChannel channel = channels.get(column);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static long readLong(FileChannel channel, long row) throws IOException {
+        ByteBuffer value = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long position = row * Long.BYTES;
+        while (value.hasRemaining()) {
+            if (channel.read(value, position + value.position()) < 0) {
+                throw new IOException("Unexpected end of history column");
+            }
+        }
+        return value.getLong(0);
+    }
+}
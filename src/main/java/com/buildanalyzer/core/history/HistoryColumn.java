@@ -0,0 +1,42 @@
+package com.buildanalyzer.core.history;
+
+/**
+ * Column files of a build history store. Every column is a flat little-endian array,
+ * one value per row; the n-th value of all build columns (resp. module columns)
+ * together form the n-th build (resp. module row).
+ */
+enum HistoryColumn {
+
+    // ---- one row per build ----
+    /** epoch millis when the build finished */
+    BUILD_TIMESTAMP("build.timestamp", Long.BYTES, true),
+    BUILD_TOTAL_SECONDS("build.total-seconds", Double.BYTES, true),
+    /** identity of the ingested log (see BuildHistoryWriter#sourceKey) to skip duplicates */
+    BUILD_SOURCE_KEY("build.source-key", Long.BYTES, true),
+    /** number of module rows up to and including this build; written last, acts as commit marker */
+    BUILD_MODULE_END("build.module-end", Long.BYTES, true),
+
+    // ---- one row per module of a build ----
+    MODULE_ID("module.id", Integer.BYTES, false),
+    MODULE_SECONDS("module.seconds", Double.BYTES, false),
+    MODULE_TEST_SECONDS("module.test-seconds", Double.BYTES, false),
+    MODULE_TESTS_RUN("module.tests-run", Integer.BYTES, false),
+    MODULE_FAILURES("module.failures", Integer.BYTES, false),
+    MODULE_ERRORS("module.errors", Integer.BYTES, false),
+    MODULE_SKIPPED("module.skipped", Integer.BYTES, false),
+    MODULE_MAIN_SOURCES("module.main-sources", Integer.BYTES, false),
+    MODULE_TEST_SOURCES("module.test-sources", Integer.BYTES, false);
+
+    /** module names, one per line; line n is the name of module id n */
+    static final String MODULE_NAMES_FILE = "module-names.txt";
+
+    final String fileName;
+    final int width;
+    final boolean perBuild;
+
+    HistoryColumn(String fileName, int width, boolean perBuild) {
+        this.fileName = fileName + ".col";
+        this.width = width;
+        this.perBuild = perBuild;
+    }
+}
@@ -0,0 +1,58 @@
+package com.buildanalyzer.core.history;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * File helpers shared by the history writer and reader.
+ */
+final class HistoryFiles {
+
+    private HistoryFiles() {
+    }
+
+    /**
+     * Reads the module name dictionary. A last line without '\n' is a torn write
+     * (no module row can refer to it yet) and is ignored.
+     */
+    static List<String> readModuleNames(Path directory) throws IOException {
+        Path file = directory.resolve(HistoryColumn.MODULE_NAMES_FILE);
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        List<String> names = new ArrayList<>();
+        int start = 0;
+        for (int nl = content.indexOf('\n'); nl >= 0; nl = content.indexOf('\n', start)) {
+            names.add(content.substring(start, nl));
+            start = nl + 1;
+        }
+        return names;
+    }
+
+    /**
+     * Cuts a torn last line off the module name dictionary before appending to it.
+     */
+    static void repairModuleNames(Path directory) throws IOException {
+        Path file = directory.resolve(HistoryColumn.MODULE_NAMES_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        int end = bytes.length;
+        while (end > 0 && bytes[end - 1] != '\n') {
+            end--;
+        }
+        if (end != bytes.length) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+    }
+}
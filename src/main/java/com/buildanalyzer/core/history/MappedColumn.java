@@ -0,0 +1,78 @@
+package com.buildanalyzer.core.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only, memory-mapped column file of a build history store, addressed by long row.
+ *
+ * A single mapping is limited to 2 GB, so the file is mapped in windows of a fixed size
+ * (a multiple of 8 bytes, so no value straddles two windows). Years of history with
+ * thousands of modules per build easily exceed 2 GB in the 8-byte module columns.
+ */
+final class MappedColumn {
+
+    static final long DEFAULT_WINDOW_BYTES = 1L << 30;
+
+    private static final MappedColumn EMPTY = new MappedColumn(new ByteBuffer[0], Long.BYTES, 0);
+
+    private final ByteBuffer[] windows;
+    private final int windowShift;
+    private final long windowMask;
+    private final long size;
+
+    private MappedColumn(ByteBuffer[] windows, long windowBytes, long size) {
+        this.windows = windows;
+        this.windowShift = Long.numberOfTrailingZeros(windowBytes);
+        this.windowMask = windowBytes - 1;
+        this.size = size;
+    }
+
+    /**
+     * @param windowBytes power of two, at least 8
+     * @return an empty column if the file does not exist
+     */
+    static MappedColumn map(Path file, long windowBytes) throws IOException {
+        if (windowBytes < Long.BYTES || windowBytes > Integer.MAX_VALUE || Long.bitCount(windowBytes) != 1) {
+            throw new IllegalArgumentException("Window size must be a power of two from 8 bytes to 1 GB: " + windowBytes);
+        }
+        if (!Files.exists(file)) {
+            return EMPTY;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] windows = new ByteBuffer[(int) ((size + windowBytes - 1) / windowBytes)];
+            for (int w = 0; w < windows.length; w++) {
+                long from = w * windowBytes;
+                windows[w] = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(windowBytes, size - from))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new MappedColumn(windows, windowBytes, size);
+        }
+    }
+
+    /** file size in bytes */
+    long size() {
+        return size;
+    }
+
+    long getLong(long row) {
+        long offset = row * Long.BYTES;
+        return windows[(int) (offset >>> windowShift)].getLong((int) (offset & windowMask));
+    }
+
+    double getDouble(long row) {
+        long offset = row * Double.BYTES;
+        return windows[(int) (offset >>> windowShift)].getDouble((int) (offset & windowMask));
+    }
+
+    int getInt(long row) {
+        long offset = row * Integer.BYTES;
+        return windows[(int) (offset >>> windowShift)].getInt((int) (offset & windowMask));
+    }
+}
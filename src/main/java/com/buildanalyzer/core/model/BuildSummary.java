@@ -9,10 +9,33 @@ import java.util.List;
 public class BuildSummary {
     private double totalSeconds;
     private List<ModuleSummary> modules;
+    /** from the 'Finished at:' line; null if the log has none */
+    private Long finishedAtMillis;
+    /** per-module lines were told apart by builder thread name (-T log with thread names) */
+    private boolean threadAttributed;
+    /** Maven used the MultiThreadedBuilder (-T), so module times overlap */
+    private boolean parallelBuild;
 
     public BuildSummary(double totalSeconds, List<ModuleSummary> modules) {
+        this(totalSeconds, modules, null);
+    }
+
+    public BuildSummary(double totalSeconds, List<ModuleSummary> modules, Long finishedAtMillis) {
+        this(totalSeconds, modules, finishedAtMillis, false);
+    }
+
+    public BuildSummary(double totalSeconds, List<ModuleSummary> modules, Long finishedAtMillis,
+                        boolean threadAttributed) {
+        this(totalSeconds, modules, finishedAtMillis, threadAttributed, false);
+    }
+
+    public BuildSummary(double totalSeconds, List<ModuleSummary> modules, Long finishedAtMillis,
+                        boolean threadAttributed, boolean parallelBuild) {
         this.totalSeconds = totalSeconds;
         this.modules = modules;
+        this.finishedAtMillis = finishedAtMillis;
+        this.threadAttributed = threadAttributed;
+        this.parallelBuild = parallelBuild;
     }
 
     public double getTotalSeconds() {
@@ -22,4 +45,27 @@ public class BuildSummary {
     public List<ModuleSummary> getModules() {
         return modules;
     }
+
+    /**
+     * @return end of the build in epoch milliseconds, or null if the log does not say
+     */
+    public Long getFinishedAtMillis() {
+        return finishedAtMillis;
+    }
+
+    /**
+     * @return true if the log carried builder thread names, so test, compile and plugin
+     *         lines of a parallel (-T) build were attributed to the right module
+     */
+    public boolean isThreadAttributed() {
+        return threadAttributed;
+    }
+
+    /**
+     * @return true if the log says Maven used the MultiThreadedBuilder (-T), so module
+     *         times overlap and do not add up to the wall clock time
+     */
+    public boolean isParallelBuild() {
+        return parallelBuild;
+    }
 }
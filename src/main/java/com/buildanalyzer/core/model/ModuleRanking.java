@@ -0,0 +1,75 @@
+package com.buildanalyzer.core.model;
+
+import com.buildanalyzer.util.TopK;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The slowest modules of one build, selected once and shared by the report and the
+ * health rules, plus a rollup of the modules that did not make the cut.
+ *
+ * Modules are ordered by time descending; modules with the same time keep their
+ * Reactor Summary order.
+ */
+public final class ModuleRanking {
+
+    private static final Comparator<ModuleSummary> SLOWEST_FIRST =
+            Comparator.comparingDouble(ModuleSummary::getSeconds).reversed();
+
+    private final List<ModuleSummary> top;
+    private final int othersCount;
+    private final double othersSeconds;
+
+    private ModuleRanking(List<ModuleSummary> top, int othersCount, double othersSeconds) {
+        this.top = top;
+        this.othersCount = othersCount;
+        this.othersSeconds = othersSeconds;
+    }
+
+    /**
+     * @param limit number of modules to rank; 0 or less ranks all modules
+     */
+    public static ModuleRanking bySeconds(BuildSummary summary, int limit) {
+        List<ModuleSummary> modules = summary.getModules();
+        List<ModuleSummary> top = List.copyOf(TopK.first(modules, limit, SLOWEST_FIRST));
+
+        double all = 0.0;
+        for (ModuleSummary m : modules) {
+            all += m.getSeconds();
+        }
+        double ranked = 0.0;
+        for (ModuleSummary m : top) {
+            ranked += m.getSeconds();
+        }
+        int others = modules.size() - top.size();
+        return new ModuleRanking(top, others, others == 0 ? 0.0 : Math.max(0.0, all - ranked));
+    }
+
+    /** slowest modules first */
+    public List<ModuleSummary> top() {
+        return top;
+    }
+
+    /** modules not in {@link #top()} */
+    public int othersCount() {
+        return othersCount;
+    }
+
+    /** summed time of the modules not in {@link #top()} */
+    public double othersSeconds() {
+        return othersSeconds;
+    }
+
+    public boolean isComplete() {
+        return othersCount == 0;
+    }
+
+    /**
+     * @return true if every module taking at least {@code seconds} is in {@link #top()},
+     *         i.e. a rule looking for such modules does not need the full list
+     */
+    public boolean coversModulesOfAtLeast(double seconds) {
+        return isComplete() || top.get(top.size() - 1).getSeconds() < seconds;
+    }
+}
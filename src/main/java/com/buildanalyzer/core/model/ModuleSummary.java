@@ -18,6 +18,8 @@ public class ModuleSummary {
     private final int mainSourceFiles;
     private final int testSourceFiles;
     private final List<String> pipelineSteps;
+    private final String builderThread;
+    private final int startOrder;
 
     /**
      * Minimal constructor: only name + total time.
@@ -31,7 +33,7 @@ public class ModuleSummary {
     }
 
     /**
-     * Full constructor with all metrics.
+     * Full constructor with all metrics; builder thread and start order unknown.
      */
     public ModuleSummary(String name,
                          double seconds,
@@ -43,6 +45,28 @@ public class ModuleSummary {
                          int mainSourceFiles,
                          int testSourceFiles,
                          List<String> pipelineSteps) {
+        this(name, seconds, testsRun, failures, errors, skipped, testTimeSeconds,
+                mainSourceFiles, testSourceFiles, pipelineSteps, null, -1);
+    }
+
+    /**
+     * @param builderThread thread that printed the module's "Building ..." line, or null
+     *                      if the log has no thread names
+     * @param startOrder    position of the module's "Building ..." line among those of the
+     *                      build (0 = started first), or -1 if unknown
+     */
+    public ModuleSummary(String name,
+                         double seconds,
+                         int testsRun,
+                         int failures,
+                         int errors,
+                         int skipped,
+                         double testTimeSeconds,
+                         int mainSourceFiles,
+                         int testSourceFiles,
+                         List<String> pipelineSteps,
+                         String builderThread,
+                         int startOrder) {
         this.name = name;
         this.seconds = seconds;
         this.testsRun = testsRun;
@@ -55,6 +79,8 @@ public class ModuleSummary {
         this.pipelineSteps = pipelineSteps == null
                 ? List.of()
                 : Collections.unmodifiableList(List.copyOf(pipelineSteps));
+        this.builderThread = builderThread;
+        this.startOrder = startOrder;
     }
 
     public String getName() {
@@ -96,4 +122,19 @@ public class ModuleSummary {
     public List<String> getPipelineSteps() {
         return pipelineSteps;
     }
+
+    /**
+     * @return the builder thread name ("BuilderThread 2", "main"), or null if the log has none
+     */
+    public String getBuilderThread() {
+        return builderThread;
+    }
+
+    /**
+     * @return the order the module started in (0 = first), or -1 if unknown; differs from
+     *         the Reactor Summary order in parallel builds
+     */
+    public int getStartOrder() {
+        return startOrder;
+    }
 }
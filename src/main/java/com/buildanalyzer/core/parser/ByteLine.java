@@ -0,0 +1,138 @@
+package com.buildanalyzer.core.parser;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A log line viewed directly on raw bytes.
+ *
+ * charAt() exposes ASCII bytes as-is and every non-ASCII byte as U+FFFD, which is enough
+ * for matching the ASCII markers of Maven output. Only {@link #toString()} decodes the
+ * underlying bytes as UTF-8, so captured fields (module names, plugin steps) keep their
+ * real text while all other lines are never decoded.
+ */
+final class ByteLine implements CharSequence {
+
+    private static final char NON_ASCII = '\uFFFD';
+
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private byte[] data;
+    private int start;
+    private int end;
+
+    ByteLine() {
+    }
+
+    private ByteLine(byte[] data, int start, int end) {
+        this.data = data;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Re-points this (reusable) view at another line.
+     */
+    ByteLine set(byte[] data, int start, int end) {
+        this.data = data;
+        this.start = start;
+        this.end = end;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        byte b = data[start + index];
+        return b >= 0 ? (char) b : NON_ASCII;
+    }
+
+    /**
+     * Same contract as String.indexOf(String, int) for an ASCII needle. Candidates for the
+     * first needle byte are located eight bytes at a time.
+     */
+    int indexOf(String needle, int from) {
+        int n = needle.length();
+        int last = end - n;
+        byte first = (byte) needle.charAt(0);
+        long pattern = (first & 0xFFL) * ONES;
+
+        int i = start + Math.max(from, 0);
+        while (i <= last) {
+            if (i + Long.BYTES <= end) {
+                long x = (long) LONG_LE.get(data, i) ^ pattern;
+                long found = (x - ONES) & ~x & HIGH_BITS;
+                if (found == 0) {
+                    i += Long.BYTES;
+                    continue;
+                }
+                // the lowest flagged byte is always a real match
+                i += Long.numberOfTrailingZeros(found) >>> 3;
+                if (i > last) {
+                    break;
+                }
+            } else if (data[i] != first) {
+                i++;
+                continue;
+            }
+            if (matchesAt(i, needle)) {
+                return i - start;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the first '\n' or '\r' in data[from, to), or {@code to} if there is none.
+     */
+    static int indexOfLineTerminator(byte[] data, int from, int to) {
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long word = (long) LONG_LE.get(data, i);
+            long lf = word ^ ('\n' * ONES);
+            long cr = word ^ ('\r' * ONES);
+            long found = ((lf - ONES) & ~lf | (cr - ONES) & ~cr) & HIGH_BITS;
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (data[i] == '\n' || data[i] == '\r') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private boolean matchesAt(int pos, String needle) {
+        for (int k = 1; k < needle.length(); k++) {
+            if (data[pos + k] != (byte) needle.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        if (from < 0 || to > length() || from > to) {
+            throw new IndexOutOfBoundsException("subSequence(" + from + ", " + to + ") of length " + length());
+        }
+        return new ByteLine(data, start + from, start + to);
+    }
+
+    @Override
+    public String toString() {
+        return new String(data, start, end - start, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,95 @@
+package com.buildanalyzer.core.parser;
+
+/**
+ * Allocation-free parsing of the fixed-format numbers in Maven output
+ * ("Tests run: 12", "Time elapsed: 0.064 s", "[  4.637 s]", "Total time:  8.294 s").
+ *
+ * Results are identical to Integer.parseInt / Double.parseDouble on the same characters:
+ * a decimal with at most 2^53 as its digit value and at most 22 fraction digits is an exact
+ * double divided by an exact power of ten, and IEEE division rounds that correctly, just
+ * like parseDouble. Anything longer falls back to Double.parseDouble.
+ */
+final class DecimalScanner {
+
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private DecimalScanner() {
+    }
+
+    /**
+     * Parses s[from, to), which must consist of ASCII digits only.
+     *
+     * @throws NumberFormatException if the range is empty, contains a non-digit or overflows int
+     */
+    static int parseInt(CharSequence s, int from, int to) {
+        if (from >= to) {
+            throw numberFormat(s, from, to);
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw numberFormat(s, from, to);
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE) {
+                throw numberFormat(s, from, to);
+            }
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses s[from, to) of the form {@code digits[.digits]}.
+     *
+     * @throws NumberFormatException if the range is not of that form
+     */
+    static double parseDecimal(CharSequence s, int from, int to) {
+        long mantissa = 0;
+        int fractionDigits = 0;
+        boolean seenDot = false;
+        boolean exact = true;
+        int digits = 0;
+
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c == '.' && !seenDot) {
+                seenDot = true;
+                continue;
+            }
+            int digit = c - '0';
+            if (digit < 0 || digit > 9) {
+                throw numberFormat(s, from, to);
+            }
+            digits++;
+            if (seenDot) {
+                fractionDigits++;
+            }
+            if (exact) {
+                mantissa = mantissa * 10 + digit;
+                if (mantissa > MAX_EXACT_MANTISSA) {
+                    exact = false;
+                }
+            }
+        }
+        if (digits == 0) {
+            throw numberFormat(s, from, to);
+        }
+
+        if (exact && fractionDigits < POWERS_OF_TEN.length) {
+            return fractionDigits == 0
+                    ? (double) mantissa
+                    : (double) mantissa / POWERS_OF_TEN[fractionDigits];
+        }
+        return Double.parseDouble(s.subSequence(from, to).toString());
+    }
+
+    private static NumberFormatException numberFormat(CharSequence s, int from, int to) {
+        return new NumberFormatException("For input string: \"" + s.subSequence(from, to) + "\"");
+    }
+}
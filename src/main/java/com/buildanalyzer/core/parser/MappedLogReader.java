@@ -0,0 +1,105 @@
+package com.buildanalyzer.core.parser;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Splits a memory-mapped log into lines without decoding it.
+ *
+ * The file is mapped in windows (a single mapping is limited to 2 GB). Bytes are moved
+ * out of the mapping in large bulk copies into a reusable block, because per-byte access
+ * to a direct buffer is considerably slower than scanning a heap array. A line that crosses
+ * a block or window boundary is carried over to the next block. Line terminators follow
+ * BufferedReader.readLine(): "\n", "\r" or "\r\n".
+ */
+final class MappedLogReader {
+
+    /**
+     * Receives lines from the reader.
+     */
+    interface LineSink {
+        /**
+         * @param line   the line without its terminator; only valid during this call
+         * @param offset byte offset of the first byte of the line in the file
+         * @return false to stop reading
+         */
+        boolean accept(CharSequence line, long offset);
+    }
+
+    static final long DEFAULT_WINDOW_BYTES = 256L * 1024 * 1024;
+    private static final int BLOCK_BYTES = 1 << 20;
+
+    private final long windowBytes;
+
+    MappedLogReader() {
+        this(DEFAULT_WINDOW_BYTES);
+    }
+
+    MappedLogReader(long windowBytes) {
+        this.windowBytes = windowBytes;
+    }
+
+    /**
+     * Feeds every line in [from, to) to the sink, until the sink asks to stop.
+     * A line that is not terminated before {@code to} is delivered as the last line.
+     */
+    void forEachLine(FileChannel channel, long from, long to, LineSink sink) throws IOException {
+        ByteLine line = new ByteLine();
+        byte[] block = new byte[(int) Math.min(BLOCK_BYTES, Math.max(16, to - from))];
+        int carried = 0;          // bytes of an unfinished line at the start of block
+        boolean skipLf = false;   // previous block ended with '\r'
+
+        long pos = from;
+        while (pos < to) {
+            int windowLen = (int) Math.min(windowBytes, to - pos);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, pos, windowLen);
+
+            int offset = 0;
+            while (offset < windowLen) {
+                long blockOffset = pos + offset - carried; // file offset of block[0]
+                if (carried == block.length) {
+                    block = Arrays.copyOf(block, block.length * 2); // very long line
+                }
+                int n = Math.min(block.length - carried, windowLen - offset);
+                window.get(offset, block, carried, n);
+                offset += n;
+
+                int limit = carried + n;
+                int lineStart = 0;
+                int i = carried;
+                if (skipLf && carried == 0 && limit > 0) {
+                    skipLf = false;
+                    if (block[0] == '\n') {
+                        lineStart = i = 1;
+                    }
+                }
+
+                while ((i = ByteLine.indexOfLineTerminator(block, i, limit)) < limit) {
+                    if (!sink.accept(line.set(block, lineStart, i), blockOffset + lineStart)) {
+                        return;
+                    }
+                    if (block[i] == '\r') {
+                        if (i + 1 < limit) {
+                            if (block[i + 1] == '\n') {
+                                i++;
+                            }
+                        } else {
+                            skipLf = true;
+                        }
+                    }
+                    lineStart = ++i;
+                }
+
+                carried = limit - lineStart;
+                System.arraycopy(block, lineStart, block, 0, carried);
+            }
+            pos += windowLen;
+        }
+
+        if (carried > 0) {
+            sink.accept(line.set(block, 0, carried), to - carried);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.buildanalyzer.core.parser;
+
+/**
+ * Regex-free fast path for the per-module lines of a Maven log.
+ *
+ * The vast majority of log lines are noise for the parser. Instead of running every
+ * line through several regular expressions, the classifier locates the "[INFO] " marker,
+ * dispatches on the fixed keyword that follows it and only then extracts fields with
+ * hand-written scanners. The scanners accept exactly what the corresponding patterns in
+ * {@link MavenLogParser} accept; if a scanner cannot make sense of a line that starts with
+ * a known keyword, it returns {@link LineKind#UNRECOGNIZED} and the caller falls back to
+ * the regex path. The section markers 'Total time' and 'Reactor Summary' are recognized by
+ * the same dispatch; only lines without an "[INFO] " marker ({@link #marker} -1) need a
+ * full-line search for them.
+ *
+ * Instances are not thread-safe: extracted fields are stored in the classifier itself
+ * to avoid allocating a result object per line.
+ */
+final class MavenLineClassifier {
+
+    enum LineKind {
+        /** line cannot match any per-module pattern */
+        NOISE,
+        /** "[INFO] Building core 1.0-SNAPSHOT [2/4]" */
+        BUILDING,
+        /** "[INFO] --- clean:3.4.0:clean (default-clean) @ core ---" */
+        PLUGIN,
+        /** "[INFO] Compiling 1 source file with javac [...] to target\classes" */
+        COMPILE,
+        /** "[INFO] Tests run: 1, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: 0.064 s" */
+        TEST_RESULT,
+        /** "[INFO] Total time:  8.294 s"; the value is left to the caller */
+        TOTAL_TIME,
+        /** "[INFO] Reactor Summary for parent 1.0-SNAPSHOT:" (Maven 3.6+) or "[INFO] Reactor Summary:" */
+        REACTOR_SUMMARY,
+        /** known prefix, but the line has an unusual shape -> use the regex path */
+        UNRECOGNIZED
+    }
+
+    private static final String INFO_MARKER = "[INFO] ";
+
+    // ---- fields of the last classified line ----
+    /** position of "[INFO] " in the line, -1 if it has none */
+    int marker;
+    String moduleName;
+    String pluginStep;
+    int compiledFiles;
+    boolean compiledTestSources;
+    int testsRun;
+    int failures;
+    int errors;
+    int skipped;
+    double testSeconds;
+
+    LineKind classify(CharSequence line) {
+        marker = startsWith(line, 0, INFO_MARKER) ? 0 : indexOf(line, INFO_MARKER, 0);
+        if (marker < 0) {
+            return LineKind.NOISE;
+        }
+
+        int p = marker + INFO_MARKER.length();
+        if (p >= line.length()) {
+            return LineKind.NOISE;
+        }
+
+        return switch (line.charAt(p)) {
+            case 'B' -> startsWith(line, p, "Building")
+                    ? (scanBuilding(line, p + 8) ? LineKind.BUILDING : LineKind.UNRECOGNIZED)
+                    : LineKind.NOISE;
+            case '-' -> startsWith(line, p, "---") && p + 3 < line.length() && isWhitespace(line.charAt(p + 3))
+                    ? (scanPluginHeader(line, p + 3) ? LineKind.PLUGIN : LineKind.UNRECOGNIZED)
+                    : LineKind.NOISE;
+            case 'C' -> startsWith(line, p, "Compiling")
+                    ? (scanCompile(line, p + 9) ? LineKind.COMPILE : LineKind.UNRECOGNIZED)
+                    : LineKind.NOISE;
+            case 'T' -> startsWith(line, p, "Tests run:")
+                    ? (scanTestResult(line, p + 10) ? LineKind.TEST_RESULT : LineKind.UNRECOGNIZED)
+                    : startsWith(line, p, "Total time:") ? LineKind.TOTAL_TIME : LineKind.NOISE;
+            case 'R' -> startsWith(line, p, "Reactor Summary") ? LineKind.REACTOR_SUMMARY : LineKind.NOISE;
+            default -> LineKind.NOISE;
+        };
+    }
+
+    /**
+     * Thread name of the last classified line, from the "[thread] [INFO] " prefix Maven
+     * prints with -Dorg.slf4j.simpleLogger.showThreadName=true, e.g. "[BuilderThread 2]"
+     * or "[mvn-builder-core]". Bracketed CI timestamps ("[2024-05-01T10:00:00Z] [INFO]")
+     * are not thread names: a thread name does not start with a digit.
+     *
+     * @param previous returned instead of a new string if the name is the same
+     * @return the thread name, or null if the line has none
+     */
+    String threadName(CharSequence line, String previous) {
+        int close = marker - 2;
+        if (close < 1 || line.charAt(marker - 1) != ' ' || line.charAt(close) != ']') {
+            return null;
+        }
+        int open = close - 1;
+        while (open >= 0 && line.charAt(open) != '[') {
+            open--;
+        }
+        if (open < 0 || open + 1 == close || isDigit(line.charAt(open + 1))) {
+            return null;
+        }
+        if (previous != null && previous.length() == close - open - 1 && startsWith(line, open + 1, previous)) {
+            return previous;
+        }
+        return line.subSequence(open + 1, close).toString();
+    }
+
+    // ---------- scanners ----------
+
+    // Building\s+([^\s]+)\s+.*\[[0-9]+/[0-9]+]
+    private boolean scanBuilding(CharSequence s, int p) {
+        int len = s.length();
+        int start = skipWhitespace(s, p);
+        if (start == p || start >= len) {
+            return false;
+        }
+        int end = start;
+        while (end < len && !isWhitespace(s.charAt(end))) {
+            end++;
+        }
+        if (end >= len) {
+            return false;
+        }
+        if (!containsReactorCounter(s, end + 1)) {
+            return false;
+        }
+        moduleName = s.subSequence(start, end).toString().trim();
+        return true;
+    }
+
+    // ---\s+(.+?)\s+\(.*
+    private boolean scanPluginHeader(CharSequence s, int p) {
+        int len = s.length();
+        int start = skipWhitespace(s, p);
+        for (int e = start + 1; e < len; e++) {
+            if (isWhitespace(s.charAt(e))) {
+                int next = skipWhitespace(s, e);
+                if (next < len && s.charAt(next) == '(') {
+                    pluginStep = s.subSequence(start, e).toString().trim();
+                    return true;
+                }
+                e = next - 1;
+            }
+        }
+        return false;
+    }
+
+    // Compiling\s+(\d+)\s+source file(?:s)?\s+.*to\s+(.+)$
+    private boolean scanCompile(CharSequence s, int p) {
+        int len = s.length();
+        int digitsStart = skipWhitespace(s, p);
+        if (digitsStart == p) {
+            return false;
+        }
+        int digitsEnd = skipDigits(s, digitsStart);
+        if (digitsEnd == digitsStart) {
+            return false;
+        }
+        int q = skipWhitespace(s, digitsEnd);
+        if (q == digitsEnd || !startsWith(s, q, "source file")) {
+            return false;
+        }
+        q += "source file".length();
+        if (q < len && s.charAt(q) == 's') {
+            q++;
+        }
+        if (q >= len || !isWhitespace(s.charAt(q))) {
+            return false;
+        }
+
+        // greedy ".*to\s+(.+)$": the last "to" followed by whitespace and at least one more char
+        int to = -1;
+        for (int k = len - 4; k > q; k--) {
+            if (s.charAt(k) == 't' && s.charAt(k + 1) == 'o' && isWhitespace(s.charAt(k + 2))) {
+                to = k;
+                break;
+            }
+        }
+        if (to < 0) {
+            return false;
+        }
+
+        compiledFiles = DecimalScanner.parseInt(s, digitsStart, digitsEnd);
+        compiledTestSources = indexOf(s, "test-classes", to + 2) >= 0;
+        return true;
+    }
+
+    // Tests run:\s*(\d+),\s*Failures:\s*(\d+),\s*Errors:\s*(\d+),\s*Skipped:\s*(\d+),\s*Time elapsed:\s*([0-9]+(?:\.[0-9]+)?)\s*s
+    private boolean scanTestResult(CharSequence s, int p) {
+        int len = s.length();
+
+        int a = skipWhitespace(s, p);
+        int b = skipDigits(s, a);
+        if (b == a || b >= len || s.charAt(b) != ',') return false;
+        int c = skipWhitespace(s, b + 1);
+        if (!startsWith(s, c, "Failures:")) return false;
+
+        int d = skipWhitespace(s, c + 9);
+        int e = skipDigits(s, d);
+        if (e == d || e >= len || s.charAt(e) != ',') return false;
+        int f = skipWhitespace(s, e + 1);
+        if (!startsWith(s, f, "Errors:")) return false;
+
+        int g = skipWhitespace(s, f + 7);
+        int h = skipDigits(s, g);
+        if (h == g || h >= len || s.charAt(h) != ',') return false;
+        int i = skipWhitespace(s, h + 1);
+        if (!startsWith(s, i, "Skipped:")) return false;
+
+        int j = skipWhitespace(s, i + 8);
+        int k = skipDigits(s, j);
+        if (k == j || k >= len || s.charAt(k) != ',') return false;
+        int l = skipWhitespace(s, k + 1);
+        if (!startsWith(s, l, "Time elapsed:")) return false;
+
+        int numStart = skipWhitespace(s, l + 13);
+        int numEnd = skipDigits(s, numStart);
+        if (numEnd == numStart) return false;
+        if (numEnd + 1 < len && s.charAt(numEnd) == '.' && isDigit(s.charAt(numEnd + 1))) {
+            numEnd = skipDigits(s, numEnd + 1);
+        }
+        int unit = skipWhitespace(s, numEnd);
+        if (unit >= len || s.charAt(unit) != 's') return false;
+
+        testsRun = DecimalScanner.parseInt(s, a, b);
+        failures = DecimalScanner.parseInt(s, d, e);
+        errors = DecimalScanner.parseInt(s, g, h);
+        skipped = DecimalScanner.parseInt(s, j, k);
+        testSeconds = DecimalScanner.parseDecimal(s, numStart, numEnd);
+        return true;
+    }
+
+    // ---------- character helpers ----------
+
+    /** \[[0-9]+/[0-9]+] anywhere at or after {@code from} */
+    private static boolean containsReactorCounter(CharSequence s, int from) {
+        int len = s.length();
+        for (int i = from; i < len; i++) {
+            if (s.charAt(i) != '[') continue;
+            int a = skipDigits(s, i + 1);
+            if (a == i + 1 || a >= len || s.charAt(a) != '/') continue;
+            int b = skipDigits(s, a + 1);
+            if (b == a + 1 || b >= len || s.charAt(b) != ']') continue;
+            return true;
+        }
+        return false;
+    }
+
+    static boolean startsWith(CharSequence s, int offset, String prefix) {
+        int n = prefix.length();
+        if (offset < 0 || offset + n > s.length()) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            if (s.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int indexOf(CharSequence s, String needle, int from) {
+        if (s instanceof String str) {
+            return str.indexOf(needle, from);
+        }
+        if (s instanceof ByteLine bytes) {
+            return bytes.indexOf(needle, from);
+        }
+        int last = s.length() - needle.length();
+        char first = needle.charAt(0);
+        for (int i = Math.max(from, 0); i <= last; i++) {
+            if (s.charAt(i) == first && startsWith(s, i, needle)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static boolean contains(CharSequence s, String needle) {
+        return indexOf(s, needle, 0) >= 0;
+    }
+
+    private static int skipWhitespace(CharSequence s, int i) {
+        int len = s.length();
+        while (i < len && isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipDigits(CharSequence s, int i) {
+        int len = s.length();
+        while (i < len && isDigit(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /** same set as regex \s */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -2,10 +2,20 @@ package com.buildanalyzer.core.parser;
 
 import com.buildanalyzer.core.model.BuildSummary;
 import com.buildanalyzer.core.model.ModuleSummary;
+import com.buildanalyzer.util.LogSources;
 
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -15,10 +25,20 @@ import java.util.regex.Pattern;
  */
 public class MavenLogParser {
 
+    private static final int READ_BUFFER_CHARS = 1 << 16;
+
     // [INFO] Total time:  8.294 s
     private static final Pattern TOTAL_TIME_PATTERN =
             Pattern.compile("Total time:\\s*([0-9]+(?:\\.[0-9]+)?)\\s*([a-zA-Z]+)");
 
+    // [INFO] Finished at: 2025-11-27T17:21:55Z          (Maven 3.3+, ISO-8601 with offset)
+    // [INFO] Finished at: Wed Jul 01 12:34:56 CEST 2015  (older versions, Date.toString())
+    private static final Pattern FINISHED_AT_PATTERN =
+            Pattern.compile("Finished at:\\s*(.+?)\\s*$");
+
+    private static final DateTimeFormatter LEGACY_FINISHED_AT =
+            DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy", Locale.ROOT);
+
     // [INFO] core ............................................... SUCCESS [  4.637 s]
     private static final Pattern MODULE_LINE_PATTERN =
             Pattern.compile("\\[INFO]\\s+(.+?)\\s+.*\\[\\s*([0-9]+(?:\\.[0-9]+)?)\\s*s]");
@@ -39,72 +59,351 @@ public class MavenLogParser {
     private static final Pattern PLUGIN_HEADER_PATTERN =
             Pattern.compile("\\[INFO] ---\\s+(.+?)\\s+\\(.*");
 
-    public BuildSummary parse(Path logPath) throws IOException {
-        List<String> lines = Files.readAllLines(logPath);
+    private final ParserBackend backend;
 
-        double totalSeconds = parseTotalTime(lines);
+    public MavenLogParser() {
+        this(ParserBackend.STREAM);
+    }
 
-        // Pass 1: per-module metrics (compile / test / pipeline)
-        Map<String, ModuleMetrics> metricsByModule = parseModuleMetrics(lines);
+    public MavenLogParser(ParserBackend backend) {
+        this.backend = Objects.requireNonNull(backend, "backend");
+    }
 
-        // Pass 2: Reactor Summary -> fill module total time + preserve order
-        List<ModuleSummary> modules = parseReactorSummary(lines, metricsByModule);
+    /**
+     * Parses the log in a single pass. Only per-module state is kept in memory,
+     * so very large logs do not need to fit into the heap.
+     *
+     * Compressed logs (.log.gz, zip entries, see {@link LogSources}) are decompressed on
+     * the fly; they cannot be mapped, so they are always read by the streaming backend.
+     */
+    public BuildSummary parse(Path logPath) throws IOException {
+        if (LogSources.isCompressed(logPath)) {
+            return parseStreaming(logPath);
+        }
+        return switch (backend) {
+            case STREAM -> parseStreaming(logPath);
+            case MMAP -> parseMapped(logPath);
+            case PARALLEL -> new ParallelLogParser().parse(logPath);
+        };
+    }
 
-        return new BuildSummary(totalSeconds, modules);
+    private BuildSummary parseStreaming(Path logPath) throws IOException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder(); // strict, like Files.readAllLines
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(LogSources.open(logPath), decoder), READ_BUFFER_CHARS)) {
+            return parse(reader);
+        }
+    }
+
+    public BuildSummary parse(BufferedReader reader) throws IOException {
+        ParseSession session = new ParseSession();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            session.accept(line);
+        }
+        return session.finish();
+    }
+
+    private BuildSummary parseMapped(Path logPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.READ)) {
+            ParseSession session = new ParseSession();
+            new MappedLogReader().forEachLine(channel, 0, channel.size(), (line, offset) -> {
+                session.accept(line);
+                return true;
+            });
+            return session.finish();
+        }
     }
 
     // ---------- total time ----------
 
     double parseTotalTime(List<String> lines) {
         for (int i = lines.size() - 1; i >= 0; i--) {
-            String line = lines.get(i);
-            if (line.contains("Total time:")) {
-                Matcher m = TOTAL_TIME_PATTERN.matcher(line);
-                if (m.find()) {
-                    double value = Double.parseDouble(m.group(1));
-                    String unit = m.group(2).toLowerCase();
-                    return switch (unit) {
-                        case "s", "sec", "secs", "second", "seconds" -> value;
-                        case "ms" -> value / 1000.0;
-                        case "min", "mins", "minute", "minutes" -> value * 60.0;
-                        default -> value;
-                    };
-                }
+            double value = parseTotalTimeLine(lines.get(i));
+            if (!Double.isNaN(value)) {
+                return value;
             }
         }
-        throw new IllegalStateException(
+        throw missingTotalTime();
+    }
+
+    /**
+     * @return total time in seconds, or NaN if the line is not a 'Total time' line
+     */
+    static double parseTotalTimeLine(CharSequence line) {
+        if (!MavenLineClassifier.contains(line, "Total time:")) {
+            return Double.NaN;
+        }
+        Matcher m = TOTAL_TIME_PATTERN.matcher(line);
+        if (!m.find()) {
+            return Double.NaN;
+        }
+        double value = DecimalScanner.parseDecimal(line, m.start(1), m.end(1));
+        String unit = m.group(2).toLowerCase();
+        return switch (unit) {
+            case "s", "sec", "secs", "second", "seconds" -> value;
+            case "ms" -> value / 1000.0;
+            case "min", "mins", "minute", "minutes" -> value * 60.0;
+            default -> value;
+        };
+    }
+
+    // ---------- build timestamp ----------
+
+    /**
+     * @return the 'Finished at' time in epoch milliseconds, or null if the line is not a
+     *         'Finished at' line or the date cannot be read
+     */
+    static Long parseFinishedAtLine(CharSequence line) {
+        if (!MavenLineClassifier.contains(line, "Finished at:")) {
+            return null;
+        }
+        Matcher m = FINISHED_AT_PATTERN.matcher(line);
+        if (!m.find()) {
+            return null;
+        }
+        String text = m.group(1);
+        try {
+            return OffsetDateTime.parse(text).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            // fall through to the pre-3.3 format
+        }
+        try {
+            return ZonedDateTime.parse(text, LEGACY_FINISHED_AT).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // ---------- Reactor Summary ----------
+
+    List<ModuleSummary> parseReactorSummary(List<String> lines) {
+        ParseSession session = new ParseSession();
+        for (String line : lines) {
+            session.accept(line);
+        }
+        return session.reactorModules();
+    }
+
+    private static IllegalStateException missingTotalTime() {
+        return new IllegalStateException(
                 "Could not find 'Total time' line in the log. " +
                         "Is this a Maven build log with INFO-level output?");
     }
 
-    // ---------- pass 1: collect per-module metrics ----------
+    private static IllegalStateException missingReactorSummary() {
+        return new IllegalStateException(
+                "Could not find any modules in 'Reactor Summary'. " +
+                        "Multi-module Maven builds usually print it as '[INFO] Reactor Summary ...'. " +
+                        "For single-module builds, the Reactor Summary section may be missing.");
+    }
+
+    // ---------- streaming state machine ----------
+
+    enum Phase {
+        /** before the first "Building ..." line */
+        PRE_REACTOR,
+        /** inside a module: plugin / compile / test lines belong to the current module */
+        BUILDING_MODULE,
+        /** between "Reactor Summary" and "BUILD SUCCESS/FAILURE" */
+        REACTOR_SUMMARY,
+        /** after the Reactor Summary; only 'Total time' and 'Finished at' are of interest */
+        TRAILER
+    }
 
-    private Map<String, ModuleMetrics> parseModuleMetrics(List<String> lines) {
-        Map<String, ModuleMetrics> map = new LinkedHashMap<>();
-        String currentModule = null;
+    /**
+     * Consumes log lines one by one. Memory is bounded by the number of modules
+     * (and their plugin steps), not by the size of the log.
+     *
+     * Plugin, compile and test lines belong to the module of the last "Building ..." line.
+     * In a parallel build (-T) the lines of several modules interleave; if Maven prints
+     * thread names ("[BuilderThread 2] [INFO] ...", see {@link MavenLineClassifier#threadName}),
+     * every thread has its own current module, so the lines still end up in the right
+     * module. Lines without a thread name share one slot, as in a serial build.
+     */
+    static final class ParseSession {
+        private final Map<String, ModuleMetrics> metricsByModule = new LinkedHashMap<>();
+        private final List<ModuleSummary> modules = new ArrayList<>();
+
+        private Phase phase = Phase.PRE_REACTOR;
+        private final MavenLineClassifier classifier = new MavenLineClassifier();
+
+        private final boolean midLog;
+        // "" for lines without a thread name
+        private final Map<String, Lane> lanes = new LinkedHashMap<>();
+        private String lastThread;
+        private Lane lastLane;
+        private boolean threadAttributed;
+        private boolean parallelBuild;
+
+        private double totalSeconds = Double.NaN;
+        private Long finishedAtMillis;
+
+        ParseSession() {
+            this(false);
+        }
 
-        for (String line : lines) {
+        /**
+         * @param midLog if true, the session starts in the middle of a module that is not
+         *               known yet (a chunk of a larger log); the lines of each thread up to
+         *               its first "Building ..." line are collected in {@link #leadingByThread()}
+         */
+        ParseSession(boolean midLog) {
+            this.midLog = midLog;
+            if (midLog) {
+                phase = Phase.BUILDING_MODULE;
+            }
+        }
+
+        /** the current module of one builder thread */
+        private static final class Lane {
+            ModuleMetrics current;
+            ModuleMetrics leading;
+        }
+
+        void accept(CharSequence line) {
+            MavenLineClassifier.LineKind kind = classifier.classify(line);
+            // no "[INFO] " marker: the classifier cannot place the line, search it as a whole
+            boolean unplaced = classifier.marker < 0;
+
+            // the last 'Total time' line wins, wherever it appears
+            if (kind == MavenLineClassifier.LineKind.TOTAL_TIME || unplaced) {
+                double total = parseTotalTimeLine(line);
+                if (!Double.isNaN(total)) {
+                    totalSeconds = total;
+                    return;
+                }
+            }
+
+            switch (phase) {
+                case PRE_REACTOR, BUILDING_MODULE -> acceptModuleLine(line, kind, unplaced);
+                case REACTOR_SUMMARY -> acceptSummaryLine(line);
+                case TRAILER -> {
+                    // Maven prints it right after 'Total time'; the first one belongs to the build
+                    if (finishedAtMillis == null) {
+                        finishedAtMillis = parseFinishedAtLine(line);
+                    }
+                }
+            }
+        }
+
+        private void acceptModuleLine(CharSequence line, MavenLineClassifier.LineKind kind, boolean unplaced) {
+            // "Using the MultiThreadedBuilder implementation with a thread count of 4", printed
+            // before the first module; the few lines up to there are cheap to search
+            if (phase == Phase.PRE_REACTOR && !parallelBuild
+                    && MavenLineClassifier.contains(line, "MultiThreadedBuilder")) {
+                parallelBuild = true;
+                return;
+            }
+            if (kind == MavenLineClassifier.LineKind.REACTOR_SUMMARY
+                    || unplaced && MavenLineClassifier.contains(line, "Reactor Summary")) {
+                phase = Phase.REACTOR_SUMMARY;
+                return;
+            }
+
+            if (kind == MavenLineClassifier.LineKind.NOISE) {
+                // irrelevant line, the common case
+                return;
+            }
+            String thread = classifier.threadName(line, lastThread);
+            Lane lane = lane(thread);
+            ModuleMetrics current = lane.current;
+
+            switch (kind) {
+                case BUILDING -> switchModule(lane, thread, classifier.moduleName);
+                case PLUGIN -> {
+                    if (current != null) {
+                        current.addPipelineStep(classifier.pluginStep);
+                    }
+                }
+                case COMPILE -> {
+                    if (current != null) {
+                        if (classifier.compiledTestSources) {
+                            current.addTestSources(classifier.compiledFiles);
+                        } else {
+                            current.addMainSources(classifier.compiledFiles);
+                        }
+                    }
+                }
+                case TEST_RESULT -> {
+                    if (current != null) {
+                        current.addTestStats(classifier.testsRun, classifier.failures,
+                                classifier.errors, classifier.skipped, classifier.testSeconds);
+                    }
+                }
+                case UNRECOGNIZED -> acceptModuleLineWithRegex(line, lane, thread);
+                default -> {
+                    // NOISE and REACTOR_SUMMARY: handled above; TOTAL_TIME without a readable value
+                }
+            }
+        }
+
+        private Lane lane(String thread) {
+            // threadName() hands back the same instance for the same name
+            if (thread == lastThread && lastLane != null) {
+                return lastLane;
+            }
+            Lane lane = lanes.computeIfAbsent(thread == null ? "" : thread, key -> {
+                Lane created = new Lane();
+                if (midLog) {
+                    created.leading = new ModuleMetrics(null);
+                    created.current = created.leading;
+                }
+                return created;
+            });
+            lastThread = thread;
+            lastLane = lane;
+            return lane;
+        }
+
+        private void switchModule(Lane lane, String thread, String name) {
+            lane.current = module(name);
+            phase = Phase.BUILDING_MODULE;
+            if (thread != null) {
+                threadAttributed = true;
+                if (lane.current.builderThread == null) {
+                    lane.current.builderThread = thread;
+                }
+            }
+        }
+
+        /**
+         * The metrics of a module, created on its first mention; modules are numbered in
+         * that order, which is the order they started in.
+         */
+        ModuleMetrics module(String name) {
+            ModuleMetrics metrics = metricsByModule.get(name);
+            if (metrics == null) {
+                metrics = new ModuleMetrics(name);
+                metrics.startOrder = metricsByModule.size();
+                metricsByModule.put(name, metrics);
+            }
+            return metrics;
+        }
+
+        /**
+         * Fallback for lines with a known prefix but an unusual shape.
+         */
+        private void acceptModuleLineWithRegex(CharSequence line, Lane lane, String thread) {
             // module switch: [INFO] Building core 1.0-SNAPSHOT [2/4]
             Matcher buildingMatcher = BUILDING_MODULE_PATTERN.matcher(line);
             if (buildingMatcher.find()) {
-                currentModule = buildingMatcher.group(1).trim();
-                map.computeIfAbsent(currentModule, ModuleMetrics::new);
-                continue;
+                switchModule(lane, thread, buildingMatcher.group(1).trim());
+                return;
             }
 
-            if (currentModule == null) {
+            ModuleMetrics current = lane.current;
+            if (current == null) {
                 // still before the first "Building ..." line
-                continue;
+                return;
             }
 
-            ModuleMetrics metrics = map.get(currentModule);
-
             // plugin goal header
             Matcher pluginMatcher = PLUGIN_HEADER_PATTERN.matcher(line);
             if (pluginMatcher.find()) {
                 String step = pluginMatcher.group(1).trim(); // e.g. "clean:3.4.0:clean"
-                metrics.addPipelineStep(step);
-                continue;
+                current.addPipelineStep(step);
+                return;
             }
 
             // compilation workload
@@ -114,11 +413,11 @@ public class MavenLogParser {
                 String target = compileMatcher.group(2);
 
                 if (target.contains("test-classes")) {
-                    metrics.addTestSources(files);
+                    current.addTestSources(files);
                 } else {
-                    metrics.addMainSources(files);
+                    current.addMainSources(files);
                 }
-                continue;
+                return;
             }
 
             // test stats (per test class, aggregated per module)
@@ -130,58 +429,111 @@ public class MavenLogParser {
                 int skipped = Integer.parseInt(testMatcher.group(4));
                 double time = Double.parseDouble(testMatcher.group(5));
 
-                metrics.addTestStats(run, failures, errors, skipped, time);
+                current.addTestStats(run, failures, errors, skipped, time);
             }
         }
 
-        return map;
-    }
-
-    // ---------- pass 2: Reactor Summary + merge metrics ----------
-
-    List<ModuleSummary> parseReactorSummary(List<String> lines,
-                                            Map<String, ModuleMetrics> metricsByModule) {
-        List<ModuleSummary> modules = new ArrayList<>();
-        boolean inSummary = false;
-
-        for (String line : lines) {
-            if (!inSummary) {
-                if (line.contains("Reactor Summary")) {
-                    inSummary = true;
-                }
-                continue;
-            }
-
-            if (line.contains("BUILD SUCCESS") || line.contains("BUILD FAILURE")) {
-                break;
+        private void acceptSummaryLine(CharSequence line) {
+            if (MavenLineClassifier.contains(line, "BUILD SUCCESS")
+                    || MavenLineClassifier.contains(line, "BUILD FAILURE")) {
+                phase = Phase.TRAILER;
+                return;
             }
 
             Matcher m = MODULE_LINE_PATTERN.matcher(line);
             if (m.find()) {
                 String moduleName = m.group(1).trim();
-                double seconds = Double.parseDouble(m.group(2));
+                double seconds = DecimalScanner.parseDecimal(line, m.start(2), m.end(2));
 
-                ModuleMetrics metrics =
-                        metricsByModule.computeIfAbsent(moduleName, ModuleMetrics::new);
+                ModuleMetrics metrics = module(moduleName);
                 metrics.totalSeconds = seconds;
 
                 modules.add(metrics.toSummary());
             }
         }
 
-        if (modules.isEmpty()) {
-            throw new IllegalStateException(
-                    "Could not find any modules in 'Reactor Summary'. " +
-                            "Multi-module Maven builds usually print it as '[INFO] Reactor Summary ...'. " +
-                            "For single-module builds, the Reactor Summary section may be missing.");
+        List<ModuleSummary> reactorModules() {
+            if (modules.isEmpty()) {
+                throw missingReactorSummary();
+            }
+            return modules;
+        }
+
+        Phase phase() {
+            return phase;
         }
 
-        return modules;
+        /**
+         * @return per thread ("" for lines without one): the module its last line belonged
+         *         to; threads without a "Building ..." line are left out
+         */
+        Map<String, String> lastModuleByThread() {
+            Map<String, String> last = new HashMap<>();
+            lanes.forEach((thread, lane) -> {
+                if (lane.current != null && lane.current != lane.leading) {
+                    last.put(thread, lane.current.name);
+                }
+            });
+            return last;
+        }
+
+        /**
+         * @return per thread: metrics of its lines before its first "Building ..." line;
+         *         empty unless the session started mid-log
+         */
+        Map<String, ModuleMetrics> leadingByThread() {
+            Map<String, ModuleMetrics> leading = new LinkedHashMap<>();
+            lanes.forEach((thread, lane) -> {
+                if (lane.leading != null) {
+                    leading.put(thread, lane.leading);
+                }
+            });
+            return leading;
+        }
+
+        boolean threadAttributed() {
+            return threadAttributed;
+        }
+
+        void threadAttributed(boolean threadAttributed) {
+            this.threadAttributed = threadAttributed;
+        }
+
+        boolean parallelBuild() {
+            return parallelBuild;
+        }
+
+        void parallelBuild(boolean parallelBuild) {
+            this.parallelBuild = parallelBuild;
+        }
+
+        Map<String, ModuleMetrics> metricsByModule() {
+            return metricsByModule;
+        }
+
+        double totalSeconds() {
+            return totalSeconds;
+        }
+
+        void totalSeconds(double totalSeconds) {
+            this.totalSeconds = totalSeconds;
+        }
+
+        Long finishedAtMillis() {
+            return finishedAtMillis;
+        }
+
+        BuildSummary finish() {
+            if (Double.isNaN(totalSeconds)) {
+                throw missingTotalTime();
+            }
+            return new BuildSummary(totalSeconds, reactorModules(), finishedAtMillis, threadAttributed, parallelBuild);
+        }
     }
 
     // ---------- internal accumulator ----------
 
-    private static final class ModuleMetrics {
+    static final class ModuleMetrics {
         final String name;
         double totalSeconds; // from Reactor Summary
 
@@ -196,6 +548,9 @@ public class MavenLogParser {
 
         final List<String> pipelineSteps = new ArrayList<>();
 
+        String builderThread; // thread of the first "Building ..." line, null without thread names
+        int startOrder = -1;  // set by ParseSession#module
+
         ModuleMetrics(String name) {
             this.name = name;
         }
@@ -220,6 +575,25 @@ public class MavenLogParser {
             testTimeSeconds += time;
         }
 
+        /**
+         * Adds the metrics of another accumulator for the same module. All fields are
+         * additive; pipeline steps of {@code other} are appended after ours. The builder
+         * thread is taken from {@code other} if we have none; the start order is ours.
+         */
+        void merge(ModuleMetrics other) {
+            testsRun += other.testsRun;
+            failures += other.failures;
+            errors += other.errors;
+            skipped += other.skipped;
+            testTimeSeconds += other.testTimeSeconds;
+            mainSourceFiles += other.mainSourceFiles;
+            testSourceFiles += other.testSourceFiles;
+            pipelineSteps.addAll(other.pipelineSteps);
+            if (builderThread == null) {
+                builderThread = other.builderThread;
+            }
+        }
+
         ModuleSummary toSummary() {
             return new ModuleSummary(
                     name,
@@ -231,7 +605,9 @@ public class MavenLogParser {
                     testTimeSeconds,
                     mainSourceFiles,
                     testSourceFiles,
-                    pipelineSteps
+                    pipelineSteps,
+                    builderThread,
+                    startOrder
             );
         }
     }
@@ -0,0 +1,253 @@
+package com.buildanalyzer.core.parser;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.parser.MavenLogParser.ModuleMetrics;
+import com.buildanalyzer.core.parser.MavenLogParser.ParseSession;
+import com.buildanalyzer.core.parser.MavenLogParser.Phase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Parses a single large log by scanning newline-aligned byte ranges concurrently.
+ *
+ * Every chunk except the first starts in the middle of some module. Its lines up to the
+ * first "Building ..." line are collected in a separate "leading" accumulator, and the merge
+ * step attributes them to the last module of the previous chunks. In a parallel build with
+ * thread names this is done per builder thread. Since ModuleMetrics is purely additive,
+ * merging chunk results in file order gives the same metrics as a sequential parse.
+ *
+ * The Reactor Summary may straddle a chunk boundary, so chunks only remember where it
+ * starts; it is read sequentially once all chunks are merged (it is short).
+ */
+final class ParallelLogParser {
+
+    /** below this size per chunk, splitting costs more than it saves */
+    static final long MIN_CHUNK_BYTES = 8L * 1024 * 1024;
+
+    private static final int BOUNDARY_PROBE_BYTES = 64 * 1024;
+
+    private final int parallelism;
+    private final long minChunkBytes;
+
+    ParallelLogParser() {
+        this(Runtime.getRuntime().availableProcessors(), MIN_CHUNK_BYTES);
+    }
+
+    ParallelLogParser(int parallelism, long minChunkBytes) {
+        this.parallelism = Math.max(1, parallelism);
+        this.minChunkBytes = Math.max(1, minChunkBytes);
+    }
+
+    BuildSummary parse(Path logPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Long> bounds = chunkBounds(channel, size);
+
+            List<ChunkResult> results = parseChunks(channel, bounds);
+            return merge(channel, size, results);
+        }
+    }
+
+    // ---------- splitting ----------
+
+    /**
+     * @return ascending offsets [0, b1, ..., size]; every inner offset is the start of a line
+     */
+    List<Long> chunkBounds(FileChannel channel, long size) throws IOException {
+        int chunks = (int) Math.max(1, Math.min(parallelism, size / minChunkBytes));
+
+        List<Long> bounds = new ArrayList<>(chunks + 1);
+        bounds.add(0L);
+        for (int k = 1; k < chunks; k++) {
+            long aligned = nextLineStart(channel, size * k / chunks, size);
+            if (aligned > bounds.get(bounds.size() - 1) && aligned < size) {
+                bounds.add(aligned);
+            }
+        }
+        bounds.add(size);
+        return bounds;
+    }
+
+    /**
+     * @return offset of the first line that starts after {@code from}, or {@code size}
+     */
+    private static long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(BOUNDARY_PROBE_BYTES);
+        long pos = from;
+        while (pos < size) {
+            probe.clear();
+            int n = channel.read(probe, pos);
+            if (n <= 0) {
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                byte b = probe.get(i);
+                if (b == '\n') {
+                    return pos + i + 1;
+                }
+                if (b == '\r') {
+                    long next = pos + i + 1;
+                    if (i + 1 < n) {
+                        return probe.get(i + 1) == '\n' ? next + 1 : next;
+                    }
+                    ByteBuffer one = ByteBuffer.allocate(1);
+                    return channel.read(one, next) == 1 && one.get(0) == '\n' ? next + 1 : next;
+                }
+            }
+            pos += n;
+        }
+        return size;
+    }
+
+    // ---------- concurrent scan ----------
+
+    private List<ChunkResult> parseChunks(FileChannel channel, List<Long> bounds) throws IOException {
+        int chunks = bounds.size() - 1;
+        if (chunks == 1) {
+            return List.of(scanChunk(channel, 0, bounds.get(0), bounds.get(1)));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, chunks));
+        try {
+            List<ForkJoinTask<ChunkResult>> tasks = new ArrayList<>(chunks);
+            for (int i = 0; i < chunks; i++) {
+                tasks.add(pool.submit(new ChunkTask(channel, i, bounds.get(i), bounds.get(i + 1))));
+            }
+
+            List<ChunkResult> results = new ArrayList<>(chunks);
+            for (ForkJoinTask<ChunkResult> task : tasks) {
+                results.add(task.join());
+            }
+            return results;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static ChunkResult scanChunk(FileChannel channel, int index, long from, long to) throws IOException {
+        // the first chunk starts at the top of the log, where "no module yet" really means that
+        ParseSession session = new ParseSession(index > 0);
+        long[] summaryOffset = {-1};
+
+        new MappedLogReader().forEachLine(channel, from, to, (line, offset) -> {
+            boolean beforeSummary = session.phase() == Phase.PRE_REACTOR || session.phase() == Phase.BUILDING_MODULE;
+            session.accept(line);
+            if (beforeSummary && session.phase() == Phase.REACTOR_SUMMARY) {
+                summaryOffset[0] = offset;
+            }
+            return true;
+        });
+
+        return new ChunkResult(session.leadingByThread(), session.metricsByModule(), session.lastModuleByThread(),
+                session.threadAttributed(), session.parallelBuild(), session.totalSeconds(), summaryOffset[0]);
+    }
+
+    @SuppressWarnings("serial") // fork/join task, never serialized
+    private static final class ChunkTask extends RecursiveTask<ChunkResult> {
+        private final FileChannel channel;
+        private final int index;
+        private final long from;
+        private final long to;
+
+        ChunkTask(FileChannel channel, int index, long from, long to) {
+            this.channel = channel;
+            this.index = index;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            try {
+                return scanChunk(channel, index, from, to);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Threads are keyed by name, "" for lines without one.
+     *
+     * @param leading          per thread: metrics of lines before its first "Building ..." line
+     *                         (empty for chunk 0)
+     * @param modules          metrics of modules whose "Building ..." line is in this chunk
+     * @param lastModules      per thread: module the chunk ends in, if it has a "Building ..." line
+     * @param threadAttributed the chunk has "Building ..." lines with a thread name
+     * @param parallelBuild    the chunk says Maven used the MultiThreadedBuilder (only chunk 0 can)
+     * @param totalSeconds     last 'Total time' in this chunk, or NaN
+     * @param summaryOffset    offset of the line that starts the Reactor Summary, or -1
+     */
+    private record ChunkResult(
+            Map<String, ModuleMetrics> leading,
+            Map<String, ModuleMetrics> modules,
+            Map<String, String> lastModules,
+            boolean threadAttributed,
+            boolean parallelBuild,
+            double totalSeconds,
+            long summaryOffset
+    ) {}
+
+    // ---------- stitching ----------
+
+    private static BuildSummary merge(FileChannel channel, long size, List<ChunkResult> results) throws IOException {
+        ParseSession merged = new ParseSession();
+        Map<String, ModuleMetrics> modules = merged.metricsByModule();
+
+        Map<String, String> lastModules = new HashMap<>();
+        boolean threadAttributed = false;
+        boolean parallelBuild = false;
+        long summaryOffset = -1;
+        double totalSeconds = Double.NaN;
+
+        for (ChunkResult chunk : results) {
+            if (!Double.isNaN(chunk.totalSeconds())) {
+                totalSeconds = chunk.totalSeconds();
+            }
+            if (summaryOffset >= 0) {
+                // a sequential parse stops collecting module metrics at the Reactor Summary
+                continue;
+            }
+
+            chunk.leading().forEach((thread, metrics) -> {
+                String lastModule = lastModules.get(thread);
+                if (lastModule != null) {
+                    modules.get(lastModule).merge(metrics);
+                }
+            });
+            // chunks in log order: the merged modules keep the order they started in
+            chunk.modules().forEach((name, metrics) -> merged.module(name).merge(metrics));
+            lastModules.putAll(chunk.lastModules());
+            threadAttributed |= chunk.threadAttributed();
+            parallelBuild |= chunk.parallelBuild();
+            summaryOffset = chunk.summaryOffset();
+        }
+
+        if (summaryOffset >= 0) {
+            // the trailer after BUILD SUCCESS/FAILURE is short; read it up to 'Finished at'
+            new MappedLogReader().forEachLine(channel, summaryOffset, size, (line, offset) -> {
+                merged.accept(line);
+                return merged.phase() != Phase.TRAILER || merged.finishedAtMillis() == null;
+            });
+        }
+
+        merged.totalSeconds(totalSeconds);
+        merged.threadAttributed(threadAttributed);
+        merged.parallelBuild(parallelBuild);
+        return merged.finish();
+    }
+}
@@ -0,0 +1,40 @@
+package com.buildanalyzer.core.parser;
+
+import java.util.Locale;
+
+/**
+ * How {@link MavenLogParser} reads a log file. All backends produce the same BuildSummary.
+ */
+public enum ParserBackend {
+    /**
+     * Buffered reader, one decoded String per line (default).
+     */
+    STREAM,
+
+    /**
+     * Memory-mapped file scanned byte by byte; only captured fields are decoded.
+     */
+    MMAP,
+
+    /**
+     * Large logs are split into newline-aligned byte ranges that are scanned concurrently
+     * (like MMAP) and stitched together afterwards. Small logs are read as a single range.
+     */
+    PARALLEL;
+
+    public String cliName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the name does not denote a backend
+     */
+    public static ParserBackend fromCliName(String name) {
+        for (ParserBackend b : values()) {
+            if (b.cliName().equals(name)) {
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unknown parser backend: " + name);
+    }
+}
@@ -0,0 +1,109 @@
+package com.buildanalyzer.core.timeline;
+
+import com.buildanalyzer.core.graph.ModuleDag;
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * When and on which builder thread each module of a build ran, laid out from the log.
+ *
+ * Maven logs carry no timestamps by default, only each module's duration (Reactor
+ * Summary), the thread that built it (with thread names, see
+ * {@link ModuleSummary#getBuilderThread()}) and the order the modules started in. Each
+ * thread gets one track and runs its modules back to back in start order; modules without
+ * a thread name share one track, which is exact for a serial build. With a reactor graph a
+ * module also waits for its dependencies, which is where a -T build spends its idle time;
+ * without one, waits are invisible and modules start as early as their thread allows.
+ */
+public final class BuildTimeline {
+
+    /** track of modules without a builder thread name */
+    public static final String DEFAULT_TRACK = "main";
+
+    private final List<String> tracks;
+    private final List<ModuleSpan> spans;
+    private final boolean dependencyAware;
+
+    private BuildTimeline(List<String> tracks, List<ModuleSpan> spans, boolean dependencyAware) {
+        this.tracks = tracks;
+        this.spans = spans;
+        this.dependencyAware = dependencyAware;
+    }
+
+    /**
+     * @param dag the build's module DAG, or null if the reactor dependencies are unknown
+     */
+    public static BuildTimeline of(BuildSummary summary, ModuleDag dag) {
+        // unknown start order (-1) after the known ones; the sort is stable, so those keep reactor order
+        List<ModuleSummary> byStart = new ArrayList<>(summary.getModules());
+        byStart.sort(Comparator.comparingInt(m -> m.getStartOrder() < 0 ? Integer.MAX_VALUE : m.getStartOrder()));
+
+        Map<String, Integer> dagIndex = new HashMap<>();
+        if (dag != null) {
+            for (int module : dag.builtModules()) {
+                dagIndex.put(dag.name(module), module);
+            }
+        }
+        double[] finished = new double[dag == null ? 0 : dag.size()];
+
+        Map<String, Integer> trackByThread = new LinkedHashMap<>();
+        List<Double> trackFree = new ArrayList<>();
+        List<ModuleSpan> spans = new ArrayList<>(byStart.size());
+        for (ModuleSummary m : byStart) {
+            String thread = m.getBuilderThread() == null ? DEFAULT_TRACK : m.getBuilderThread();
+            int track = trackByThread.computeIfAbsent(thread, t -> {
+                trackFree.add(0.0);
+                return trackFree.size() - 1;
+            });
+
+            double start = trackFree.get(track);
+            Integer node = dagIndex.get(m.getName());
+            if (node != null) {
+                // dependencies that start later in the log (not possible in a real build) count as done
+                for (int dependency : dag.dependencies(node)) {
+                    start = Math.max(start, finished[dependency]);
+                }
+            }
+
+            ModuleSpan span = new ModuleSpan(m, track, start);
+            spans.add(span);
+            trackFree.set(track, span.endSeconds());
+            if (node != null) {
+                finished[node] = span.endSeconds();
+            }
+        }
+        return new BuildTimeline(List.copyOf(trackByThread.keySet()), List.copyOf(spans), dag != null);
+    }
+
+    /**
+     * @return builder thread names, in the order their first module started
+     */
+    public List<String> tracks() {
+        return tracks;
+    }
+
+    /**
+     * @return every module of the build, in start order
+     */
+    public List<ModuleSpan> spans() {
+        return spans;
+    }
+
+    /**
+     * @return true if modules were made to wait for their reactor dependencies
+     */
+    public boolean isDependencyAware() {
+        return dependencyAware;
+    }
+
+    public double endSeconds() {
+        return spans.stream().mapToDouble(ModuleSpan::endSeconds).max().orElse(0.0);
+    }
+}
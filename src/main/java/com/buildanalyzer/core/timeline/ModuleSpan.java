@@ -0,0 +1,20 @@
+package com.buildanalyzer.core.timeline;
+
+import com.buildanalyzer.core.model.ModuleSummary;
+
+/**
+ * One module placed on a {@link BuildTimeline}.
+ *
+ * @param track        index into {@link BuildTimeline#tracks()}
+ * @param startSeconds seconds after the build started
+ */
+public record ModuleSpan(
+        ModuleSummary module,
+        int track,
+        double startSeconds
+) {
+
+    public double endSeconds() {
+        return startSeconds + module.getSeconds();
+    }
+}
@@ -2,19 +2,54 @@ package com.buildanalyzer.output;
 
 import com.buildanalyzer.core.aggregate.AggregatedSummary;
 import com.buildanalyzer.core.aggregate.ModuleStats;
+import com.buildanalyzer.core.aggregate.Percentiles;
+import com.buildanalyzer.core.aggregate.TimeWindow;
+import com.buildanalyzer.core.aggregate.WindowedSummary;
+import com.buildanalyzer.core.health.BuildHealthHint;
+import com.buildanalyzer.util.TopK;
 
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Renders aggregated build statistics as human-readable text.
+ *
+ * With a module limit (--top), per-module sections only list the first modules of their
+ * ranking and end with one "others" line for the rest.
  */
 public class AggregatedTextPrinter {
 
+    private final int topModules;
+
+    public AggregatedTextPrinter() {
+        this(0);
+    }
+
+    /**
+     * @param topModules modules listed per section; 0 lists all
+     */
+    public AggregatedTextPrinter(int topModules) {
+        this.topModules = topModules;
+    }
+
     public void print(String modeLabel,
                       List<Path> logFiles,
                       AggregatedSummary summary) {
+        print(modeLabel, logFiles, summary, null, null);
+    }
+
+    /**
+     * @param windows     rolling windows (--windows), or null
+     * @param regressions regression findings (--regressions), or null
+     */
+    public void print(String modeLabel,
+                      List<Path> logFiles,
+                      AggregatedSummary summary,
+                      WindowedSummary windows,
+                      List<BuildHealthHint> regressions) {
 
         System.out.println("=== Build Analyzer CLI (aggregate: " + modeLabel.toLowerCase() + ") ===");
         System.out.println("Log files (" + logFiles.size() + "):");
@@ -28,12 +63,20 @@ public class AggregatedTextPrinter {
                 summary.averageTotalSeconds(),
                 summary.minTotalSeconds(),
                 summary.maxTotalSeconds());
+        System.out.printf("Total time percentiles: %s%n", formatPercentiles(summary.totalSecondsPercentiles()));
+        System.out.printf("Total time jitter    : stddev %.3f s, CV %.1f%%%n",
+                summary.totalSecondsDispersion().stdDev(),
+                summary.totalSecondsDispersion().coefficientOfVariation() * 100.0);
         System.out.println();
 
+        // modules() is already ranked by average time; nothing to sort again
+        List<ModuleStats> ranked = limit(summary.modules());
+        List<ModuleStats> others = summary.modules().subList(ranked.size(), summary.modules().size());
+
         // 1) average total workload
         System.out.println("Modules by average total time:");
         int index = 0;
-        for (ModuleStats m : summary.modules()) {
+        for (ModuleStats m : ranked) {
             index++;
             System.out.printf(
                     "  %d) %-15s avg %6.3f s  (min %6.3f s, max %6.3f s, builds %d)%n",
@@ -45,15 +88,47 @@ public class AggregatedTextPrinter {
                     m.buildCount()
             );
         }
+        if (!others.isEmpty()) {
+            System.out.printf("  ... %d other module(s), avg %6.3f s together%n",
+                    others.size(), others.stream().mapToDouble(ModuleStats::averageSeconds).sum());
+        }
+
+        System.out.println();
+        System.out.println("Module time percentiles (seconds):");
+        for (ModuleStats m : ranked) {
+            System.out.printf("  %-15s %s%n", m.name(), formatPercentiles(m.secondsPercentiles()));
+        }
+
+        // 1b) jitter: a module that swings 20-120 s is a different problem than a steady 60 s one
+        if (!summary.mostUnstableModules().isEmpty()) {
+            Map<String, ModuleStats> byName = summary.modules().stream()
+                    .collect(Collectors.toMap(ModuleStats::name, m -> m));
+            System.out.println();
+            System.out.println("Most unstable modules (by coefficient of variation):");
+            int rank = 0;
+            for (String name : summary.mostUnstableModules()) {
+                ModuleStats m = byName.get(name);
+                rank++;
+                System.out.printf("  %d) %-15s CV %5.1f%%  (stddev %6.3f s, avg %6.3f s, min %6.3f s, max %6.3f s)%n",
+                        rank,
+                        name,
+                        m.secondsDispersion().coefficientOfVariation() * 100.0,
+                        m.secondsDispersion().stdDev(),
+                        m.averageSeconds(),
+                        m.minSeconds(),
+                        m.maxSeconds());
+            }
+        }
 
         // 2) average test workload
         System.out.println();
         System.out.println("Modules by average test time (seconds):");
 
-        List<ModuleStats> withTests = summary.modules().stream()
+        List<ModuleStats> allWithTests = summary.modules().stream()
                 .filter(m -> m.averageTestSeconds() > 0.0)
-                .sorted(Comparator.comparingDouble(ModuleStats::averageTestSeconds).reversed())
                 .toList();
+        List<ModuleStats> withTests = TopK.first(allWithTests, topModules,
+                Comparator.comparingDouble(ModuleStats::averageTestSeconds).reversed());
 
         if (withTests.isEmpty()) {
             System.out.println("  (no tests detected in any module)");
@@ -73,12 +148,24 @@ public class AggregatedTextPrinter {
                         m.totalFailures()
                 );
             }
+            if (withTests.size() < allWithTests.size()) {
+                System.out.printf("  ... %d other module(s) with tests, avg %6.3f s together%n",
+                        allWithTests.size() - withTests.size(),
+                        allWithTests.stream().mapToDouble(ModuleStats::averageTestSeconds).sum()
+                                - withTests.stream().mapToDouble(ModuleStats::averageTestSeconds).sum());
+            }
+
+            System.out.println();
+            System.out.println("Module test time percentiles (seconds, builds with tests):");
+            for (ModuleStats m : withTests) {
+                System.out.printf("  %-15s %s%n", m.name(), formatPercentiles(m.testSecondsPercentiles()));
+            }
         }
 
         // 3) average compilation workload
         System.out.println();
         System.out.println("Average compilation workload per build (source files):");
-        for (ModuleStats m : summary.modules()) {
+        for (ModuleStats m : ranked) {
             System.out.printf(
                     "  %s: main ~%.1f, test ~%.1f%n",
                     m.name(),
@@ -86,5 +173,68 @@ public class AggregatedTextPrinter {
                     m.averageTestSourceFiles()
             );
         }
+        if (!others.isEmpty()) {
+            System.out.printf("  ... %d other module(s): main ~%.1f, test ~%.1f%n",
+                    others.size(),
+                    others.stream().mapToDouble(ModuleStats::averageMainSourceFiles).sum(),
+                    others.stream().mapToDouble(ModuleStats::averageTestSourceFiles).sum());
+        }
+
+        if (windows != null) {
+            printWindows(windows);
+        }
+        if (regressions != null) {
+            printRegressions(regressions);
+        }
+    }
+
+    private void printRegressions(List<BuildHealthHint> regressions) {
+        System.out.println();
+        System.out.println("Performance regressions (by build time order):");
+        if (regressions.isEmpty()) {
+            System.out.println("  (no persistent slowdowns detected)");
+            return;
+        }
+        for (BuildHealthHint hint : regressions) {
+            System.out.printf("  [%s] %s%n", hint.severity(), hint.message());
+        }
+    }
+
+    private void printWindows(WindowedSummary windows) {
+        System.out.println();
+        System.out.println("Rolling windows (days in " + windows.zone() + "):");
+
+        TimeWindow last = windows.lastBuilds();
+        System.out.printf("  Last %d builds (%s .. %s): %d build(s), avg %.3f s, %s%n",
+                windows.lastBuildsLimit(),
+                last.from(),
+                last.to(),
+                last.summary().buildCount(),
+                last.summary().averageTotalSeconds(),
+                formatPercentiles(last.summary().totalSecondsPercentiles()));
+
+        System.out.println();
+        System.out.printf("  %-10s  %6s  %9s  %9s  %10s  %10s%n",
+                "Day", "Builds", "Avg (s)", "p90 (s)",
+                windows.slidingDays() + "d avg", windows.slidingDays() + "d p90");
+        for (int i = 0; i < windows.days().size(); i++) {
+            AggregatedSummary day = windows.days().get(i).summary();
+            AggregatedSummary sliding = windows.sliding().get(i).summary();
+            System.out.printf("  %-10s  %6d  %9.3f  %9.3f  %10.3f  %10.3f%n",
+                    windows.days().get(i).from(),
+                    day.buildCount(),
+                    day.averageTotalSeconds(),
+                    day.totalSecondsPercentiles().p90(),
+                    sliding.averageTotalSeconds(),
+                    sliding.totalSecondsPercentiles().p90());
+        }
+    }
+
+    private <T> List<T> limit(List<T> ranked) {
+        return topModules <= 0 || ranked.size() <= topModules ? ranked : ranked.subList(0, topModules);
+    }
+
+    private static String formatPercentiles(Percentiles p) {
+        return String.format("p50 %6.3f, p90 %6.3f, p95 %6.3f, p99 %6.3f", p.p50(), p.p90(), p.p95(), p.p99());
     }
 }
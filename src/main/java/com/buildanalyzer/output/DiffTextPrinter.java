@@ -0,0 +1,134 @@
+package com.buildanalyzer.output;
+
+import com.buildanalyzer.core.diff.BuildComparator;
+import com.buildanalyzer.core.diff.BuildDiff;
+import com.buildanalyzer.core.diff.MetricDiff;
+import com.buildanalyzer.core.diff.ModuleDiff;
+import com.buildanalyzer.util.TopK;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Renders a baseline/candidate comparison as human-readable text.
+ */
+public class DiffTextPrinter {
+
+    private final int topModules;
+
+    public DiffTextPrinter() {
+        this(0);
+    }
+
+    /**
+     * @param topModules modules listed per section; 0 lists all
+     */
+    public DiffTextPrinter(int topModules) {
+        this.topModules = topModules;
+    }
+
+    public void print(String baselineLabel,
+                      List<Path> baselineLogs,
+                      String candidateLabel,
+                      List<Path> candidateLogs,
+                      BuildDiff diff) {
+
+        System.out.println("=== Build Analyzer CLI (diff) ===");
+        printSide("Baseline ", baselineLabel, baselineLogs, diff.baselineBuilds());
+        printSide("Candidate", candidateLabel, candidateLogs, diff.candidateBuilds());
+        System.out.println();
+
+        System.out.printf("Total time    : %s%n", format(diff.totalSeconds(), "s"));
+        System.out.printf("Overhead      : %s%n", format(diff.overheadSeconds(), "s"));
+        System.out.println();
+
+        System.out.println("Module time (seconds, largest change first):");
+        int listed = 0;
+        for (ModuleDiff m : diff.modules()) {
+            if (topModules > 0 && listed == topModules) {
+                printOthers(diff.modules().subList(listed, diff.modules().size()), ModuleDiff::seconds, "s");
+                break;
+            }
+            System.out.printf("  %-15s %s%s%n", m.name(), format(m.seconds(), "s"), presence(m));
+            listed++;
+        }
+
+        printChanged("Module test time (seconds per build):", diff, ModuleDiff::testSeconds, "s");
+        printChanged("Compile workload (source files per build):", diff, ModuleDiff::sourceFiles, "files");
+
+        if (diff.baselineBuilds() >= BuildComparator.MIN_SAMPLES_FOR_TEST
+                && diff.candidateBuilds() >= BuildComparator.MIN_SAMPLES_FOR_TEST) {
+            System.out.println();
+            System.out.printf("* significant at %.0f%% (Mann-Whitney U test); 'not significant': no evidence beyond build-to-build variation%n",
+                    BuildComparator.SIGNIFICANCE_LEVEL * 100.0);
+        }
+    }
+
+    private static void printSide(String title, String label, List<Path> logs, int builds) {
+        System.out.println(title + ": " + label + " (" + builds + " build(s) from " + logs.size() + " log file(s))");
+        if (logs.size() > 1) {
+            for (Path p : logs) {
+                System.out.println("  - " + p);
+            }
+        }
+    }
+
+    /** modules whose metric changed; unchanged modules are left out to keep the section short */
+    private void printChanged(String title, BuildDiff diff, Function<ModuleDiff, MetricDiff> metric, String unit) {
+        System.out.println();
+        System.out.println(title);
+        List<ModuleDiff> changed = diff.modules().stream()
+                .filter(m -> metric.apply(m).delta() != 0.0)
+                .toList();
+        List<ModuleDiff> ranked = TopK.first(changed, topModules,
+                Comparator.comparingDouble((ModuleDiff m) -> -Math.abs(metric.apply(m).delta())));
+        for (ModuleDiff m : ranked) {
+            System.out.printf("  %-15s %s%s%n", m.name(), format(metric.apply(m), unit), presence(m));
+        }
+        if (ranked.size() < changed.size()) {
+            Set<ModuleDiff> listed = new HashSet<>(ranked);
+            printOthers(changed.stream().filter(m -> !listed.contains(m)).toList(), metric, unit);
+        }
+        if (changed.isEmpty()) {
+            System.out.println("  (no change)");
+        }
+    }
+
+    /** one rollup line for the modules cut off by --top */
+    private static void printOthers(List<ModuleDiff> others, Function<ModuleDiff, MetricDiff> metric, String unit) {
+        double baseline = 0.0;
+        double candidate = 0.0;
+        for (ModuleDiff m : others) {
+            baseline += metric.apply(m).baseline();
+            candidate += metric.apply(m).candidate();
+        }
+        System.out.printf("  ... %d other module(s) %8.3f %s -> %8.3f %s  (%+8.3f %s together)%n",
+                others.size(), baseline, unit, candidate, unit, candidate - baseline, unit);
+    }
+
+    private static String format(MetricDiff d, String unit) {
+        String relative = d.relativeDelta() == null
+                ? "      -"
+                : String.format("%+6.1f%%", d.relativeDelta() * 100.0);
+        String line = String.format("%8.3f %s -> %8.3f %s  (%+8.3f %s, %s)",
+                d.baseline(), unit, d.candidate(), unit, d.delta(), unit, relative);
+        if (d.pValue() != null) {
+            line += String.format("  p=%.3f%s", d.pValue(), d.significant() ? " *" : " not significant");
+        }
+        return line;
+    }
+
+    private static String presence(ModuleDiff m) {
+        if (m.baselineBuilds() == 0) {
+            return "  [new]";
+        }
+        if (m.candidateBuilds() == 0) {
+            return "  [removed]";
+        }
+        return "";
+    }
+}
@@ -1,9 +1,16 @@
 package com.buildanalyzer.output;
 
 import com.buildanalyzer.core.aggregate.AggregatedSummary;
+import com.buildanalyzer.core.aggregate.WindowedSummary;
+import com.buildanalyzer.core.diff.BuildDiff;
+import com.buildanalyzer.core.graph.CriticalPath;
+import com.buildanalyzer.core.graph.SpeedupSensitivity;
+import com.buildanalyzer.core.graph.ThreadCountSimulation;
+import com.buildanalyzer.core.health.BuildHealthHint;
 import com.buildanalyzer.core.model.BuildSummary;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
 
 import java.nio.file.Path;
 import java.util.List;
@@ -17,20 +24,93 @@ public class JsonOutputWriter {
     private final Gson prettyGson = new GsonBuilder().setPrettyPrinting().create();
 
     public void printSingleBuild(BuildSummary summary, boolean pretty) {
+        printSingleBuild(summary, null, null, pretty);
+    }
+
+    /**
+     * @param criticalPath added as "criticalPath" next to the summary fields; null leaves it out
+     * @param sensitivity  added as "sensitivity"; null leaves it out
+     */
+    public void printSingleBuild(BuildSummary summary,
+                                 CriticalPath criticalPath,
+                                 SpeedupSensitivity sensitivity,
+                                 boolean pretty) {
         Gson gson = pretty ? prettyGson : compactGson;
-        System.out.println(gson.toJson(summary));
+        if (criticalPath == null && sensitivity == null) {
+            System.out.println(gson.toJson(summary));
+            return;
+        }
+        JsonObject json = gson.toJsonTree(summary).getAsJsonObject();
+        if (criticalPath != null) {
+            json.add("criticalPath", gson.toJsonTree(criticalPath));
+        }
+        if (sensitivity != null) {
+            json.add("sensitivity", gson.toJsonTree(sensitivity));
+        }
+        System.out.println(gson.toJson(json));
+    }
+
+    public void printAggregated(String modeLabel,
+                                List<Path> logFiles,
+                                AggregatedSummary summary,
+                                boolean pretty) {
+        printAggregated(modeLabel, logFiles, summary, null, null, pretty);
     }
 
+    /**
+     * @param windows     rolling windows, or null to leave the "windows" field out
+     * @param regressions regression findings, or null to leave the "regressions" field out
+     */
     public void printAggregated(String modeLabel,
                                 List<Path> logFiles,
                                 AggregatedSummary summary,
+                                WindowedSummary windows,
+                                List<BuildHealthHint> regressions,
                                 boolean pretty) {
 
         List<String> fileStrings = logFiles.stream()
                 .map(Path::toString)
                 .toList();
 
-        AggregatedJsonResult dto = new AggregatedJsonResult(modeLabel, fileStrings, summary);
+        AggregatedJsonResult dto = new AggregatedJsonResult(modeLabel, fileStrings, summary, windows, regressions);
+
+        Gson gson = pretty ? prettyGson : compactGson;
+        System.out.println(gson.toJson(dto));
+    }
+
+    public void printDiff(String baselineLabel,
+                          List<Path> baselineLogs,
+                          String candidateLabel,
+                          List<Path> candidateLogs,
+                          BuildDiff diff,
+                          boolean pretty) {
+
+        DiffJsonResult dto = new DiffJsonResult(
+                "DIFF",
+                new DiffSide(baselineLabel, baselineLogs.stream().map(Path::toString).toList()),
+                new DiffSide(candidateLabel, candidateLogs.stream().map(Path::toString).toList()),
+                diff);
+
+        Gson gson = pretty ? prettyGson : compactGson;
+        System.out.println(gson.toJson(dto));
+    }
+
+    public void printSimulation(String input,
+                                List<Path> inputs,
+                                int buildCount,
+                                String moduleTimes,
+                                String reactorGraph,
+                                ThreadCountSimulation simulation,
+                                boolean pretty) {
+
+        SimulationJsonResult dto = new SimulationJsonResult(
+                "SIMULATE",
+                input,
+                inputs.stream().map(Path::toString).toList(),
+                buildCount,
+                moduleTimes,
+                reactorGraph,
+                simulation);
 
         Gson gson = pretty ? prettyGson : compactGson;
         System.out.println(gson.toJson(dto));
@@ -39,7 +119,30 @@ public class JsonOutputWriter {
     private record AggregatedJsonResult(
             String mode,
             List<String> logFiles,
-            AggregatedSummary summary
+            AggregatedSummary summary,
+            WindowedSummary windows,             // null -> omitted by Gson
+            List<BuildHealthHint> regressions    // null -> omitted by Gson
+    ) {}
+
+    private record DiffSide(
+            String input,
+            List<String> logFiles
     ) {}
-}
 
+    private record DiffJsonResult(
+            String mode,
+            DiffSide baseline,
+            DiffSide candidate,
+            BuildDiff diff
+    ) {}
+
+    private record SimulationJsonResult(
+            String mode,
+            String input,
+            List<String> logFiles,
+            int buildCount,
+            String moduleTimes,          // "single build" or e.g. "p90 of 42 builds"
+            String reactorGraph,
+            ThreadCountSimulation simulation
+    ) {}
+}
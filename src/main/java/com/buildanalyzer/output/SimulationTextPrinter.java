@@ -0,0 +1,50 @@
+package com.buildanalyzer.output;
+
+import com.buildanalyzer.core.graph.BuilderSimulator;
+import com.buildanalyzer.core.graph.ThreadCountPrediction;
+import com.buildanalyzer.core.graph.ThreadCountSimulation;
+
+import java.util.Locale;
+
+/**
+ * Renders a thread-count what-if simulation as a table, one row per -T value.
+ */
+public class SimulationTextPrinter {
+
+    public void print(String sourceLabel, String basis, String graphLabel, ThreadCountSimulation simulation) {
+        System.out.println("=== Build Analyzer CLI (thread-count simulation) ===");
+        System.out.println("Module times : " + basis + " from " + sourceLabel);
+        System.out.println("Reactor graph: " + graphLabel);
+        System.out.println();
+
+        System.out.printf(Locale.ROOT, "Module work (1 thread)     : %.3f s%n", simulation.workSeconds());
+        System.out.printf(Locale.ROOT, "Critical path (lower bound): %.3f s%n", simulation.criticalPathSeconds());
+        System.out.println();
+
+        System.out.println("Threads   Predicted wall   Speedup   Utilization");
+        for (ThreadCountPrediction p : simulation.predictions()) {
+            System.out.printf(Locale.ROOT, "  %5d   %12.3f s   %6.2fx   %10.1f%%%s%n",
+                    p.threads(), p.wallSeconds(), p.speedup(), p.utilization() * 100.0,
+                    p.threads() == simulation.kneeThreads() ? "   <- knee" : "");
+        }
+        System.out.println();
+
+        ThreadCountPrediction knee = simulation.predictions().get(simulation.kneeThreads() - 1);
+        ThreadCountPrediction last = simulation.predictions().get(simulation.predictions().size() - 1);
+        System.out.printf(Locale.ROOT, "Knee: -T %d (%.3f s). No higher thread count is more than %.0f%% faster",
+                knee.threads(), knee.wallSeconds(), BuilderSimulator.KNEE_GAIN * 100.0);
+        double saved = knee.wallSeconds() - last.wallSeconds();
+        if (saved > 5e-4) {
+            System.out.printf(Locale.ROOT, "; -T %d would save %.3f s (%.1f%%).%n",
+                    last.threads(), saved, saved / knee.wallSeconds() * 100.0);
+        } else {
+            System.out.println(".");
+        }
+        System.out.println("NOTE: time outside of modules (startup, plugin resolution) is not included, and");
+        System.out.println("      module times are assumed not to grow when modules share CPU and disk.");
+        if (!simulation.unmatchedModules().isEmpty()) {
+            System.out.println("NOTE: not in the reactor graph, simulated without dependencies: "
+                    + String.join(", ", simulation.unmatchedModules()));
+        }
+    }
+}
@@ -1,48 +1,106 @@
 package com.buildanalyzer.output;
 
+import com.buildanalyzer.core.graph.CriticalPath;
+import com.buildanalyzer.core.graph.ModuleSensitivity;
+import com.buildanalyzer.core.graph.ModuleSlack;
+import com.buildanalyzer.core.graph.SpeedupSensitivity;
 import com.buildanalyzer.core.health.BuildHealthEvaluator;
 import com.buildanalyzer.core.health.BuildHealthHint;
 import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleRanking;
 import com.buildanalyzer.core.model.ModuleSummary;
+import com.buildanalyzer.util.TopK;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Renders a single BuildSummary as human-readable text.
  *
  * Parallel build handling (Maven -T):
- * - If log indicates MultiThreadedBuilder, we degrade:
- *   * Keep wall clock total time + Reactor Summary module durations
+ * - If log indicates MultiThreadedBuilder, module times overlap: report wall clock vs.
+ *   module work instead of shares of the build
+ * - If the log carries thread names, the parser attributed every line to its module, so
+ *   per-module test/compile sections and health rules are shown as for a serial build
+ * - Otherwise we degrade:
  *   * Disable per-module test/compile attribution (interleaved logs)
  *   * Show build-wide totals for tests/compile
+ *
+ * With a module limit (--top), per-module sections only list the slowest modules and
+ * end with one "others" line for the rest.
+ *
+ * With a reactor dependency graph (--graph, or the project's poms for --clean-install)
+ * the report shows the real critical path and the slack of every module; without one,
+ * parallel builds fall back to the slowest module as critical-path estimate.
+ *
+ * With --sensitivity, a last section ranks the modules by the time a speed-up would
+ * save, which for parallel builds is often a different order than by duration.
  */
 public class SingleBuildTextPrinter {
 
     private static final double EPS = 1e-9;
+    private static final int CRITICAL_PATH_CANDIDATES = 5;
+
+    private final int topModules;
+
+    public SingleBuildTextPrinter() {
+        this(0);
+    }
+
+    /**
+     * @param topModules modules listed per section; 0 lists all
+     */
+    public SingleBuildTextPrinter(int topModules) {
+        this.topModules = topModules;
+    }
 
     public void print(Path logPath, BuildSummary summary) {
-        boolean parallel = logIndicatesParallelBuild(logPath);
+        print(logPath, summary, null);
+    }
+
+    /**
+     * @param criticalPath critical path from the reactor dependency graph, or null if unknown
+     */
+    public void print(Path logPath, BuildSummary summary, CriticalPath criticalPath) {
+        print(logPath, summary, criticalPath, null);
+    }
+
+    /**
+     * @param criticalPath critical path from the reactor dependency graph, or null if unknown
+     * @param sensitivity  modules ranked by the time a speed-up would save, or null to leave it out
+     */
+    public void print(Path logPath, BuildSummary summary, CriticalPath criticalPath,
+                      SpeedupSensitivity sensitivity) {
+        boolean parallel = summary.isParallelBuild();
+        // ranked once, shared by every section and the health rules
+        ModuleRanking ranking = ModuleRanking.bySeconds(summary, topModules);
 
         System.out.println("=== Build Analyzer CLI ===");
         System.out.println("Log file : " + logPath);
         System.out.println();
 
-        if (parallel) {
-            printParallelDegraded(summary);
+        if (parallel && summary.isThreadAttributed()) {
+            printParallelAttributed(summary, ranking, criticalPath, sensitivity);
+        } else if (parallel) {
+            printParallelDegraded(summary, ranking, criticalPath, sensitivity);
         } else {
-            printSerial(summary);
-            printHealthHints(summary); // keep your existing evaluator for serial logs
+            printSerial(summary, ranking, criticalPath);
+            printSensitivity(sensitivity);
+            printHealthHints(summary, ranking, null); // keep your existing evaluator for serial logs
         }
     }
 
     // ---------------- Serial (original behavior) ----------------
 
-    private void printSerial(BuildSummary summary) {
+    private void printSerial(BuildSummary summary, ModuleRanking ranking, CriticalPath criticalPath) {
         double totalBuild = summary.getTotalSeconds();
         double totalModules = summary.getModules().stream()
                 .mapToDouble(ModuleSummary::getSeconds)
@@ -63,45 +121,62 @@ public class SingleBuildTextPrinter {
 
         System.out.println("Modules by time (share of whole build):");
 
-        summary.getModules().stream()
-                .sorted(Comparator.comparingDouble(ModuleSummary::getSeconds).reversed())
-                .forEachOrdered(new java.util.function.Consumer<>() {
-                    int index = 0;
-
-                    @Override
-                    public void accept(ModuleSummary m) {
-                        index++;
-                        double percentOfBuild = (totalBuild > EPS)
-                                ? (m.getSeconds() / totalBuild) * 100.0
-                                : 0.0;
-                        System.out.printf(Locale.ROOT,
-                                "  %d) %-15s %6.3f s  (%4.1f%% of build)%n",
-                                index,
-                                m.getName(),
-                                m.getSeconds(),
-                                percentOfBuild
-                        );
-                    }
-                });
+        int index = 0;
+        for (ModuleSummary m : ranking.top()) {
+            index++;
+            double percentOfBuild = (totalBuild > EPS)
+                    ? (m.getSeconds() / totalBuild) * 100.0
+                    : 0.0;
+            System.out.printf(Locale.ROOT,
+                    "  %d) %-15s %6.3f s  (%4.1f%% of build)%n",
+                    index,
+                    m.getName(),
+                    m.getSeconds(),
+                    percentOfBuild
+            );
+        }
+        if (!ranking.isComplete()) {
+            System.out.printf(Locale.ROOT,
+                    "  ... %d other module(s) %6.3f s  (%4.1f%% of build)%n",
+                    ranking.othersCount(),
+                    ranking.othersSeconds(),
+                    totalBuild > EPS ? ranking.othersSeconds() / totalBuild * 100.0 : 0.0);
+        }
 
         System.out.println();
 
-        summary.getModules().stream()
-                .max(Comparator.comparingDouble(ModuleSummary::getSeconds))
-                .ifPresent(slowest -> {
-                    double percentOfBuild = (totalBuild > EPS)
-                            ? slowest.getSeconds() / totalBuild * 100.0
-                            : 0.0;
-                    System.out.printf(Locale.ROOT,
-                            "Slowest module: %s (%.3f s, %.1f%% of build)%n",
-                            slowest.getName(), slowest.getSeconds(), percentOfBuild);
-                });
+        if (!ranking.top().isEmpty()) {
+            ModuleSummary slowest = ranking.top().get(0);
+            double percentOfBuild = (totalBuild > EPS)
+                    ? slowest.getSeconds() / totalBuild * 100.0
+                    : 0.0;
+            System.out.printf(Locale.ROOT,
+                    "Slowest module: %s (%.3f s, %.1f%% of build)%n",
+                    slowest.getName(), slowest.getSeconds(), percentOfBuild);
+        }
+
+        if (criticalPath != null) {
+            printCriticalPath(criticalPath, totalBuild, false);
+        }
+
+        printModuleBreakdowns(summary, ranking);
+    }
+
+    /**
+     * Per-module test and compilation sections; needs lines attributed to modules.
+     */
+    private void printModuleBreakdowns(BuildSummary summary, ModuleRanking ranking) {
+        // with --top: the same modules as above, in Reactor Summary order
+        Set<ModuleSummary> ranked = Collections.newSetFromMap(new IdentityHashMap<>());
+        ranked.addAll(ranking.top());
+        List<ModuleSummary> listed = summary.getModules().stream().filter(ranked::contains).toList();
+        List<ModuleSummary> others = summary.getModules().stream().filter(m -> !ranked.contains(m)).toList();
 
         // --- Test breakdown per module ---
         System.out.println();
         System.out.println("Test breakdown per module:");
 
-        for (ModuleSummary m : summary.getModules()) {
+        for (ModuleSummary m : listed) {
             if (m.getTestsRun() == 0 && m.getTestTimeSeconds() <= 0.0) {
                 System.out.printf(Locale.ROOT, "  %s: no tests detected%n", m.getName());
             } else {
@@ -120,12 +195,22 @@ public class SingleBuildTextPrinter {
                 );
             }
         }
+        if (!others.isEmpty()) {
+            System.out.printf(Locale.ROOT,
+                    "  ... %d other module(s): tests %d (F:%d, E:%d, S:%d) in %.3f s%n",
+                    others.size(),
+                    others.stream().mapToInt(ModuleSummary::getTestsRun).sum(),
+                    others.stream().mapToInt(ModuleSummary::getFailures).sum(),
+                    others.stream().mapToInt(ModuleSummary::getErrors).sum(),
+                    others.stream().mapToInt(ModuleSummary::getSkipped).sum(),
+                    others.stream().mapToDouble(ModuleSummary::getTestTimeSeconds).sum());
+        }
 
         // --- Compilation workload ---
         System.out.println();
         System.out.println("Compilation workload (source files):");
 
-        for (ModuleSummary m : summary.getModules()) {
+        for (ModuleSummary m : listed) {
             System.out.printf(Locale.ROOT,
                     "  %s: main %d, test %d%n",
                     m.getName(),
@@ -133,15 +218,81 @@ public class SingleBuildTextPrinter {
                     m.getTestSourceFiles()
             );
         }
+        if (!others.isEmpty()) {
+            System.out.printf(Locale.ROOT,
+                    "  ... %d other module(s): main %d, test %d%n",
+                    others.size(),
+                    others.stream().mapToInt(ModuleSummary::getMainSourceFiles).sum(),
+                    others.stream().mapToInt(ModuleSummary::getTestSourceFiles).sum());
+        }
     }
 
-    // ---------------- Parallel (degraded) ----------------
 
-    private void printParallelDegraded(BuildSummary summary) {
+    // ---------------- Parallel ----------------
+
+    private void printParallelAttributed(BuildSummary summary, ModuleRanking ranking, CriticalPath criticalPath,
+                                         SpeedupSensitivity sensitivity) {
+        System.out.println("NOTE: Parallel build detected (MultiThreadedBuilder / -T).");
+        System.out.println("      Module times overlap; log lines were attributed to modules by thread name.");
+        System.out.println();
+
+        printParallelTimes(summary, ranking, criticalPath);
+        printModuleBreakdowns(summary, ranking);
+        printSensitivity(sensitivity);
+        printHealthHints(summary, ranking, criticalPathHint(summary, ranking, criticalPath));
+    }
+
+    private void printParallelDegraded(BuildSummary summary, ModuleRanking ranking, CriticalPath criticalPath,
+                                       SpeedupSensitivity sensitivity) {
         System.out.println("NOTE: Parallel build detected (MultiThreadedBuilder / -T).");
         System.out.println("      In parallel builds, module times overlap, so some per-module metrics are disabled.");
+        System.out.println("      Run Maven with -Dorg.slf4j.simpleLogger.showThreadName=true to get them back.");
+        System.out.println();
+
+        printParallelTimes(summary, ranking, criticalPath);
+
+        // build-wide totals (safer than per-module attribution)
+        int tests = summary.getModules().stream().mapToInt(ModuleSummary::getTestsRun).sum();
+        int failures = summary.getModules().stream().mapToInt(ModuleSummary::getFailures).sum();
+        int errors = summary.getModules().stream().mapToInt(ModuleSummary::getErrors).sum();
+        int skipped = summary.getModules().stream().mapToInt(ModuleSummary::getSkipped).sum();
+        double testTime = summary.getModules().stream().mapToDouble(ModuleSummary::getTestTimeSeconds).sum();
+
+        System.out.println();
+        System.out.println("Tests (build-wide, not per module):");
+        if (tests == 0 && testTime <= EPS) {
+            System.out.println("  (no tests detected)");
+        } else {
+            System.out.printf(Locale.ROOT,
+                    "  tests %d (F:%d, E:%d, S:%d) in %.3f s%n",
+                    tests, failures, errors, skipped, testTime);
+        }
+
+        int mainSources = summary.getModules().stream().mapToInt(ModuleSummary::getMainSourceFiles).sum();
+        int testSources = summary.getModules().stream().mapToInt(ModuleSummary::getTestSourceFiles).sum();
+
+        System.out.println();
+        System.out.println("Compilation workload (build-wide, not per module):");
+        System.out.printf(Locale.ROOT, "  main %d, test %d%n", mainSources, testSources);
+
+        printSensitivity(sensitivity);
+
+        // parallel-friendly hints
         System.out.println();
+        System.out.println("Build health hints:");
+        System.out.println("  [INFO] Parallel build detected. Per-module test/compile attribution is disabled to avoid incorrect data.");
+
+        String criticalPathHint = criticalPathHint(summary, ranking, criticalPath);
+        if (criticalPathHint != null) {
+            System.out.println(criticalPathHint);
+        }
+    }
 
+    /**
+     * Wall clock vs. module work, modules by duration, the slowest module(s) and, with a
+     * reactor graph, the critical path.
+     */
+    private void printParallelTimes(BuildSummary summary, ModuleRanking ranking, CriticalPath criticalPath) {
         double wall = summary.getTotalSeconds();
         double work = summary.getModules().stream().mapToDouble(ModuleSummary::getSeconds).sum();
         double maxModule = summary.getModules().stream().mapToDouble(ModuleSummary::getSeconds).max().orElse(0.0);
@@ -149,18 +300,22 @@ public class SingleBuildTextPrinter {
 
         System.out.printf(Locale.ROOT, "Wall clock total time : %.3f s%n", wall);
 
+        String criticalLabel = criticalPath != null
+                ? "Critical path (reactor graph)        "
+                : "Critical-path estimate (max module)  ";
+        double critical = criticalPath != null ? criticalPath.seconds() : maxModule;
         if (wall > EPS) {
             System.out.printf(Locale.ROOT,
                     "Module work (sum of module durations): %.3f s  (%.2fx wall clock)%n",
                     work, work / wall);
             System.out.printf(Locale.ROOT,
-                    "Critical-path estimate (max module)  : %.3f s  (%.1f%% of wall clock)%n",
-                    maxModule, (maxModule / wall) * 100.0);
+                    "%s: %.3f s  (%.1f%% of wall clock)%n",
+                    criticalLabel, critical, (critical / wall) * 100.0);
         } else {
             System.out.printf(Locale.ROOT,
                     "Module work (sum of module durations): %.3f s%n", work);
             System.out.printf(Locale.ROOT,
-                    "Critical-path estimate (max module)  : %.3f s%n", maxModule);
+                    "%s: %.3f s%n", criticalLabel, critical);
         }
 
         System.out.printf(Locale.ROOT,
@@ -169,9 +324,7 @@ public class SingleBuildTextPrinter {
         // modules list
         System.out.println("Modules by duration (Reactor Summary):");
 
-        List<ModuleSummary> sorted = summary.getModules().stream()
-                .sorted(Comparator.comparingDouble(ModuleSummary::getSeconds).reversed())
-                .toList();
+        List<ModuleSummary> sorted = ranking.top();
 
         int idx = 0;
         for (ModuleSummary m : sorted) {
@@ -184,6 +337,13 @@ public class SingleBuildTextPrinter {
                     idx, m.getName(), m.getSeconds(), pctWall, pctWork
             );
         }
+        if (!ranking.isComplete()) {
+            System.out.printf(Locale.ROOT,
+                    "  ... %d other module(s) %6.3f s   (%4.1f%% of work)%n",
+                    ranking.othersCount(),
+                    ranking.othersSeconds(),
+                    work > EPS ? ranking.othersSeconds() / work * 100.0 : 0.0);
+        }
 
         System.out.println();
 
@@ -203,63 +363,168 @@ public class SingleBuildTextPrinter {
             }
         }
 
-        // build-wide totals (safer than per-module attribution)
-        int tests = summary.getModules().stream().mapToInt(ModuleSummary::getTestsRun).sum();
-        int failures = summary.getModules().stream().mapToInt(ModuleSummary::getFailures).sum();
-        int errors = summary.getModules().stream().mapToInt(ModuleSummary::getErrors).sum();
-        int skipped = summary.getModules().stream().mapToInt(ModuleSummary::getSkipped).sum();
-        double testTime = summary.getModules().stream().mapToDouble(ModuleSummary::getTestTimeSeconds).sum();
+        if (criticalPath != null) {
+            printCriticalPath(criticalPath, wall, true);
+        }
+    }
 
+    /**
+     * Modules by the wall time a speed-up of each would save, with --top and a rollup of
+     * the modules that would save nothing (off the critical path, or no time to lose).
+     */
+    private void printSensitivity(SpeedupSensitivity sensitivity) {
+        if (sensitivity == null) {
+            return;
+        }
+        double baseline = sensitivity.baselineSeconds();
+        String of = sensitivity.criticalPathBased() ? "of critical path" : "of build";
         System.out.println();
-        System.out.println("Tests (build-wide, not per module):");
-        if (tests == 0 && testTime <= EPS) {
-            System.out.println("  (no tests detected)");
-        } else {
-            System.out.printf(Locale.ROOT,
-                    "  tests %d (F:%d, E:%d, S:%d) in %.3f s%n",
-                    tests, failures, errors, skipped, testTime);
+        System.out.printf(Locale.ROOT,
+                "Speed-up sensitivity (one module %.0f%% faster, the others unchanged; by time saved):%n",
+                sensitivity.speedupFraction() * 100.0);
+        if (sensitivity.criticalPathBased()) {
+            System.out.println("  (savings on the critical path; a build with fewer threads may save less)");
         }
 
-        int mainSources = summary.getModules().stream().mapToInt(ModuleSummary::getMainSourceFiles).sum();
-        int testSources = summary.getModules().stream().mapToInt(ModuleSummary::getTestSourceFiles).sum();
+        List<ModuleSensitivity> saving = sensitivity.modules().stream()
+                .filter(m -> m.savedSeconds() > 5e-4)
+                .toList();
+        List<ModuleSensitivity> listed = topModules > 0 && saving.size() > topModules
+                ? saving.subList(0, topModules)
+                : saving;
+        int index = 0;
+        for (ModuleSensitivity m : listed) {
+            index++;
+            System.out.printf(Locale.ROOT, "  %d) %-15s %6.3f s -> saves %6.3f s (%4.1f%% %s), at most %.3f s%n",
+                    index,
+                    m.name(),
+                    m.seconds(),
+                    m.savedSeconds(),
+                    baseline > EPS ? m.savedSeconds() / baseline * 100.0 : 0.0,
+                    of,
+                    m.maxSavedSeconds());
+        }
+        if (listed.size() < saving.size()) {
+            System.out.printf(Locale.ROOT, "  ... %d other module(s) saving %.3f s or less each%n",
+                    saving.size() - listed.size(), saving.get(listed.size()).savedSeconds());
+        }
+        int nothing = sensitivity.modules().size() - saving.size();
+        if (nothing > 0) {
+            System.out.printf(Locale.ROOT, "  ... %d module(s) would save nothing%s%n",
+                    nothing, sensitivity.criticalPathBased() ? " (enough slack)" : "");
+        }
+    }
 
+    /**
+     * The modules on the critical path, then modules by slack, least slack first.
+     *
+     * @param parallel for a serial build the path is what a -T build could get down to
+     */
+    private void printCriticalPath(CriticalPath criticalPath, double wall, boolean parallel) {
         System.out.println();
-        System.out.println("Compilation workload (build-wide, not per module):");
-        System.out.printf(Locale.ROOT, "  main %d, test %d%n", mainSources, testSources);
+        String of = parallel ? "of wall clock" : "of this serial build";
+        String title = parallel
+                ? "Critical path (reactor dependencies)"
+                : "Critical path (reactor dependencies; lower bound for a parallel -T build)";
+        if (wall > EPS) {
+            System.out.printf(Locale.ROOT, "%s: %.3f s (%.1f%% %s)%n",
+                    title, criticalPath.seconds(), criticalPath.seconds() / wall * 100.0, of);
+        } else {
+            System.out.printf(Locale.ROOT, "%s: %.3f s%n", title, criticalPath.seconds());
+        }
 
-        // parallel-friendly hints
-        System.out.println();
-        System.out.println("Build health hints:");
-        System.out.println("  [INFO] Parallel build detected. Per-module test/compile attribution is disabled to avoid incorrect data.");
+        Map<String, Double> seconds = new HashMap<>();
+        for (ModuleSlack m : criticalPath.modules()) {
+            seconds.put(m.name(), m.seconds());
+        }
+        System.out.println("  " + criticalPath.path().stream()
+                .map(name -> String.format(Locale.ROOT, "%s (%.3f s)", name, seconds.get(name)))
+                .collect(Collectors.joining(" -> ")));
 
-        // critical-path candidates within 95% of max
+        // 按 slack 升序；相同 slack 保持 Reactor Summary 顺序
+        List<ModuleSlack> bySlack = criticalPath.modules().stream()
+                .sorted(Comparator.comparingDouble(ModuleSlack::slack))
+                .toList();
+        // --top limits the modules with slack; critical ones are always listed
+        long critical = bySlack.stream().filter(ModuleSlack::critical).count();
+        int limit = (int) Math.max(topModules, critical);
+        List<ModuleSlack> listed = topModules > 0 && bySlack.size() > limit
+                ? bySlack.subList(0, limit)
+                : bySlack;
+
+        System.out.println("Slack per module (how much longer a module could take without delaying the build):");
+        for (ModuleSlack m : listed) {
+            System.out.printf(Locale.ROOT, "  %-15s %6.3f s   (starts at %.3f s)%s%n",
+                    m.name(), m.slack(), m.earliestStart(), m.critical() ? "  critical" : "");
+        }
+        if (listed.size() < bySlack.size()) {
+            System.out.printf(Locale.ROOT, "  ... %d other module(s) with %.3f s or more%n",
+                    bySlack.size() - listed.size(), bySlack.get(listed.size()).slack());
+        }
+        if (parallel && criticalPath.seconds() > wall * 1.01 + 1e-3) {
+            System.out.println("  NOTE: longer than the wall clock time, so this build did not wait for some of");
+            System.out.println("        these dependencies; check that the graph belongs to the logged build.");
+        }
+        if (!criticalPath.unmatchedModules().isEmpty()) {
+            System.out.println("  NOTE: not in the reactor graph, assumed to have no dependencies: "
+                    + String.join(", ", criticalPath.unmatchedModules()));
+        }
+    }
+
+    /**
+     * @return the "[WARN] Critical path" hint line with a reactor graph, the "[WARN]
+     *         Critical-path candidates" one (modules within 95% of the slowest) without,
+     *         or null if the build has no modules
+     */
+    private static String criticalPathHint(BuildSummary summary, ModuleRanking ranking, CriticalPath criticalPath) {
+        if (criticalPath != null) {
+            if (criticalPath.path().isEmpty()) {
+                return null;
+            }
+            return String.format(Locale.ROOT,
+                    "  [WARN] Critical path: %s (%.3f s). Only speeding up these modules reduces wall time.",
+                    String.join(" -> ", criticalPath.path()),
+                    criticalPath.seconds()
+            );
+        }
+        double maxModule = summary.getModules().stream().mapToDouble(ModuleSummary::getSeconds).max().orElse(0.0);
         double threshold = maxModule * 0.95;
-        List<String> candidates = summary.getModules().stream()
+        List<ModuleSummary> ranked = ranking.top().size() >= CRITICAL_PATH_CANDIDATES
+                || ranking.coversModulesOfAtLeast(threshold - 1e-6)
+                ? ranking.top()
+                : TopK.first(summary.getModules(), CRITICAL_PATH_CANDIDATES,
+                        Comparator.comparingDouble(ModuleSummary::getSeconds).reversed());
+        List<String> candidates = ranked.stream()
                 .filter(m -> m.getSeconds() + 1e-6 >= threshold)
-                .sorted(Comparator.comparingDouble(ModuleSummary::getSeconds).reversed())
                 .map(ModuleSummary::getName)
                 .toList();
 
-        if (!candidates.isEmpty()) {
-            List<String> top = candidates.size() > 5 ? candidates.subList(0, 5) : candidates;
-            System.out.printf(Locale.ROOT,
-                    "  [WARN] Critical-path candidates: %s (~%.3f s). Speeding up any of them may reduce wall time.%n",
-                    String.join(", ", top),
-                    maxModule
-            );
+        if (candidates.isEmpty()) {
+            return null;
         }
+        List<String> top = candidates.size() > CRITICAL_PATH_CANDIDATES
+                ? candidates.subList(0, CRITICAL_PATH_CANDIDATES)
+                : candidates;
+        return String.format(Locale.ROOT,
+                "  [WARN] Critical-path candidates: %s (~%.3f s). Speeding up any of them may reduce wall time.",
+                String.join(", ", top),
+                maxModule
+        );
     }
 
-    // ---------------- Original health hints (serial only) ----------------
+    // ---------------- Health hints (serial, or parallel with attributed lines) ----------------
 
-    private void printHealthHints(BuildSummary summary) {
+    /**
+     * @param extraHint an already formatted hint line printed after the rule hints, or null
+     */
+    private void printHealthHints(BuildSummary summary, ModuleRanking ranking, String extraHint) {
         BuildHealthEvaluator evaluator = new BuildHealthEvaluator();
-        var hints = evaluator.evaluate(summary);
+        var hints = evaluator.evaluate(summary, ranking);
 
         System.out.println();
         System.out.println("Build health hints:");
 
-        if (hints.isEmpty()) {
+        if (hints.isEmpty() && extraHint == null) {
             System.out.println("  (no issues detected by current rules)");
             return;
         }
@@ -278,13 +543,8 @@ public class SingleBuildTextPrinter {
                 System.out.printf("  %s %s%n", label, hint.message());
             }
         }
-    }
-
-    private static boolean logIndicatesParallelBuild(Path logPath) {
-        try (var lines = Files.lines(logPath)) {
-            return lines.anyMatch(l -> l != null && l.contains("MultiThreadedBuilder"));
-        } catch (IOException e) {
-            return false;
+        if (extraHint != null) {
+            System.out.println(extraHint);
         }
     }
 }
@@ -0,0 +1,202 @@
+package com.buildanalyzer.output;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import com.buildanalyzer.core.timeline.BuildTimeline;
+import com.buildanalyzer.core.timeline.ModuleSpan;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Writes a {@link BuildTimeline} in the Chrome trace-event format ("traceEvents" JSON),
+ * for chrome://tracing or https://ui.perfetto.dev:
+ *
+ * <ul>
+ *   <li>one track (tid) per builder thread, named after it</li>
+ *   <li>one span per module, with its test and compile numbers as args</li>
+ *   <li>nested spans for the module's plugin goals, in the order they ran</li>
+ *   <li>a "tests" counter: tests passed / failed / skipped so far, at every module end</li>
+ * </ul>
+ *
+ * Maven logs have no per-goal times, so goal spans are estimated: the test goal gets the
+ * module's Surefire time, the other goals share the rest evenly (args "estimated": true).
+ *
+ * Events are streamed to the writer one by one; only the counter samples (one per module)
+ * are kept, because they must be in time order.
+ */
+public class TraceEventWriter {
+
+    private static final int PID = 1;
+
+    /**
+     * @param title process name shown above the tracks, e.g. the log file name
+     */
+    public void write(String title, BuildSummary summary, BuildTimeline timeline, Writer out) throws IOException {
+        JsonWriter json = new JsonWriter(out);
+        json.beginObject();
+        json.name("displayTimeUnit").value("ms");
+        json.name("otherData").beginObject()
+                .name("totalSeconds").value(summary.getTotalSeconds())
+                .name("parallelBuild").value(summary.isParallelBuild())
+                .name("threadAttributed").value(summary.isThreadAttributed())
+                .name("dependencyAware").value(timeline.isDependencyAware())
+                .endObject();
+
+        json.name("traceEvents").beginArray();
+        metadata(json, "process_name", 0, "name", title);
+        List<String> tracks = timeline.tracks();
+        for (int t = 0; t < tracks.size(); t++) {
+            metadata(json, "thread_name", tid(t), "name", tracks.get(t));
+            json.beginObject()
+                    .name("name").value("thread_sort_index")
+                    .name("ph").value("M")
+                    .name("pid").value(PID)
+                    .name("tid").value(tid(t))
+                    .name("args").beginObject().name("sort_index").value(t).endObject()
+                    .endObject();
+        }
+
+        for (ModuleSpan span : timeline.spans()) {
+            writeModule(json, span);
+            writeGoals(json, span);
+        }
+        writeTestCounters(json, timeline.spans());
+
+        json.endArray();
+        json.endObject();
+        json.flush();
+    }
+
+    private static void writeModule(JsonWriter json, ModuleSpan span) throws IOException {
+        ModuleSummary m = span.module();
+        long start = micros(span.startSeconds());
+        completeEvent(json, m.getName(), "module", span.track(), start, micros(span.endSeconds()) - start);
+        json.name("args").beginObject()
+                .name("seconds").value(m.getSeconds())
+                .name("testsRun").value(m.getTestsRun())
+                .name("failures").value(m.getFailures())
+                .name("errors").value(m.getErrors())
+                .name("skipped").value(m.getSkipped())
+                .name("testTimeSeconds").value(m.getTestTimeSeconds())
+                .name("mainSourceFiles").value(m.getMainSourceFiles())
+                .name("testSourceFiles").value(m.getTestSourceFiles())
+                .endObject();
+        json.endObject();
+    }
+
+    private static void writeGoals(JsonWriter json, ModuleSpan span) throws IOException {
+        ModuleSummary m = span.module();
+        List<String> steps = m.getPipelineSteps();
+        if (steps.isEmpty()) {
+            return;
+        }
+
+        int testGoal = -1;
+        for (int i = 0; i < steps.size() && testGoal < 0; i++) {
+            if (isTestGoal(steps.get(i))) {
+                testGoal = i;
+            }
+        }
+        double testSeconds = testGoal < 0 ? 0.0 : Math.min(m.getTestTimeSeconds(), m.getSeconds());
+        int others = testGoal < 0 ? steps.size() : steps.size() - 1;
+        double otherSeconds = others == 0 ? 0.0 : (m.getSeconds() - testSeconds) / others;
+
+        // boundaries from the running sum, so the goals exactly fill the module span
+        double elapsed = 0.0;
+        long start = micros(span.startSeconds());
+        for (int i = 0; i < steps.size(); i++) {
+            elapsed += i == testGoal ? testSeconds : otherSeconds;
+            long end = micros(span.startSeconds() + elapsed);
+            completeEvent(json, steps.get(i), "goal", span.track(), start, end - start);
+            json.name("args").beginObject().name("estimated").value(true).endObject();
+            json.endObject();
+            start = end;
+        }
+    }
+
+    private static void writeTestCounters(JsonWriter json, List<ModuleSpan> spans) throws IOException {
+        List<ModuleSpan> byEnd = spans.stream()
+                .filter(s -> s.module().getTestsRun() > 0)
+                .sorted(Comparator.comparingDouble(ModuleSpan::endSeconds))
+                .toList();
+        if (byEnd.isEmpty()) {
+            return;
+        }
+
+        long passed = 0;
+        long failed = 0;
+        long skipped = 0;
+        json.beginObject()
+                .name("name").value("tests")
+                .name("ph").value("C")
+                .name("ts").value(0)
+                .name("pid").value(PID)
+                .name("args").beginObject()
+                .name("passed").value(0)
+                .name("failed").value(0)
+                .name("skipped").value(0)
+                .endObject()
+                .endObject();
+        for (ModuleSpan span : byEnd) {
+            ModuleSummary m = span.module();
+            int failedHere = m.getFailures() + m.getErrors();
+            passed += Math.max(0, m.getTestsRun() - failedHere - m.getSkipped());
+            failed += failedHere;
+            skipped += m.getSkipped();
+            json.beginObject()
+                    .name("name").value("tests")
+                    .name("ph").value("C")
+                    .name("ts").value(micros(span.endSeconds()))
+                    .name("pid").value(PID)
+                    .name("args").beginObject()
+                    .name("passed").value(passed)
+                    .name("failed").value(failed)
+                    .name("skipped").value(skipped)
+                    .endObject()
+                    .endObject();
+        }
+    }
+
+    /** opens a complete ("X") event; the caller adds args and closes it */
+    private static void completeEvent(JsonWriter json, String name, String category, int track,
+                                      long start, long duration) throws IOException {
+        json.beginObject()
+                .name("name").value(name)
+                .name("cat").value(category)
+                .name("ph").value("X")
+                .name("ts").value(start)
+                .name("dur").value(duration)
+                .name("pid").value(PID)
+                .name("tid").value(tid(track));
+    }
+
+    private static void metadata(JsonWriter json, String name, int tid, String argName, String argValue)
+            throws IOException {
+        json.beginObject()
+                .name("name").value(name)
+                .name("ph").value("M")
+                .name("pid").value(PID)
+                .name("tid").value(tid)
+                .name("args").beginObject().name(argName).value(argValue).endObject()
+                .endObject();
+    }
+
+    /** "surefire:3.2.5:test" and "failsafe:3.2.5:integration-test" run the tests */
+    static boolean isTestGoal(String step) {
+        String goal = step.substring(step.lastIndexOf(':') + 1);
+        return goal.equals("test") || goal.equals("integration-test");
+    }
+
+    private static int tid(int track) {
+        return track + 1;
+    }
+
+    /** trace timestamps are in microseconds */
+    private static long micros(double seconds) {
+        return Math.round(seconds * 1_000_000.0);
+    }
+}
@@ -0,0 +1,41 @@
+package com.buildanalyzer.util;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * A log glob pattern split into the directory to start from and the glob for the paths
+ * below it, e.g. "logs/ci/build-*.log" -> ("logs/ci", "build-*.log") or
+ * "logs/*&#47;2024/**" -> ("logs", "*&#47;2024/**").
+ *
+ * The base directory is the longest prefix of whole path segments without glob
+ * characters; the last segment always belongs to the glob. Both '/' and '\' separate
+ * segments.
+ */
+public record GlobPattern(Path baseDir, String glob) {
+
+    public static GlobPattern parse(String raw) {
+        int firstGlobChar = raw.length();
+        for (int i = 0; i < raw.length(); i++) {
+            if ("*?[{".indexOf(raw.charAt(i)) >= 0) {
+                firstGlobChar = i;
+                break;
+            }
+        }
+
+        int split = -1;
+        for (int i = 0; i < firstGlobChar; i++) {
+            char c = raw.charAt(i);
+            if (c == '/' || c == '\\') {
+                split = i;
+            }
+        }
+
+        if (split < 0) {
+            return new GlobPattern(Paths.get("."), raw);
+        }
+        // "/x*.log": the base is the root itself
+        String dirPart = split == 0 ? raw.substring(0, 1) : raw.substring(0, split);
+        return new GlobPattern(Paths.get(dirPart), raw.substring(split + 1));
+    }
+}
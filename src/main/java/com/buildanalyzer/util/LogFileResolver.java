@@ -1,45 +1,160 @@
 package com.buildanalyzer.util;
 
 import java.io.IOException;
-import java.nio.file.DirectoryStream;
-import java.nio.file.Files;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Helper for discovering log files on disk.
+ *
+ * Besides plain *.log files, gzip-compressed *.log.gz files are returned as-is and
+ * *.zip archives are expanded into one "archive.zip!/entry.log" path per log entry
+ * (see {@link LogSources}).
+ *
+ * The stream methods walk directory trees lazily (see {@link LogTreeWalker}): logs come
+ * out in path order while the walk is still running, and logs outside the requested
+ * modification time range are skipped without being opened. Close the returned streams
+ * to stop the walker threads early.
  */
 public final class LogFileResolver {
 
     /**
-     * List all regular *.log files directly under the given directory.
+     * List all regular *.log / *.log.gz files and the *.log entries of *.zip archives
+     * directly under the given directory.
      */
     public List<Path> listLogFilesInDirectory(Path dir) throws IOException {
-        try (var stream = Files.list(dir)) {
-            return stream
-                    .filter(Files::isRegularFile)
-                    .filter(p -> p.getFileName().toString().endsWith(".log"))
-                    .sorted()
-                    .toList();
+        try (Stream<Path> logs = streamLogFilesInDirectory(dir, false, ModifiedTimeRange.ALL, 1)) {
+            return collect(logs);
         }
     }
 
     /**
      * List all regular files in the given directory matching the given glob pattern
-     * (e.g. "build-*.log").
+     * (e.g. "build-*.log"). Matching *.zip archives are expanded into their *.log entries.
      */
     public List<Path> listLogFilesByPattern(Path dir, String filePattern) throws IOException {
-        List<Path> result = new ArrayList<>();
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, filePattern)) {
-            for (Path p : stream) {
-                if (Files.isRegularFile(p)) {
-                    result.add(p);
-                }
+        try (Stream<Path> logs = streamLogFilesByPattern(dir, filePattern, ModifiedTimeRange.ALL, 1)) {
+            return collect(logs);
+        }
+    }
+
+    /**
+     * Like {@link #listLogFilesInDirectory(Path)}, optionally including all subdirectories.
+     *
+     * @param threads directories listed concurrently when {@code recursive}
+     */
+    public Stream<Path> streamLogFilesInDirectory(Path dir,
+                                                  boolean recursive,
+                                                  ModifiedTimeRange modifiedTime,
+                                                  int threads) throws IOException {
+        LogTreeWalker.Selector logFiles = new LogTreeWalker.Selector() {
+            @Override
+            public boolean acceptDirectory(Path relative, int depth) {
+                return true;
+            }
+
+            @Override
+            public boolean acceptFile(Path relative) {
+                return isLogFileName(relative.getFileName().toString());
+            }
+        };
+        return stream(new LogTreeWalker(dir, logFiles, recursive ? Integer.MAX_VALUE : 0, modifiedTime, threads));
+    }
+
+    /**
+     * All regular files below {@code dir} whose path relative to {@code dir} matches the
+     * glob, e.g. "build-*.log" (directly in dir), "*&#47;2024/*&#47;*.log" or "**&#47;*.log".
+     *
+     * '**' matches any number of directories, including none, so "**&#47;*.log" also
+     * matches the logs directly in dir. Only directories that can still lead to a match
+     * are entered: without '**' the walk stops at the depth of the pattern, and literal
+     * leading segments ("*&#47;2024/...") prune the directories they do not match.
+     *
+     * @param threads directories listed concurrently
+     */
+    public Stream<Path> streamLogFilesByPattern(Path dir,
+                                                String glob,
+                                                ModifiedTimeRange modifiedTime,
+                                                int threads) throws IOException {
+        FileSystem fs = dir.getFileSystem();
+        String[] segments = glob.split("/", -1);
+
+        // matchers for the directory levels before the first '**'; null from there on
+        List<PathMatcher> levels = new ArrayList<>();
+        boolean unbounded = false;
+        for (int i = 0; i < segments.length - 1; i++) {
+            if (segments[i].contains("**")) {
+                unbounded = true;
+                break;
+            }
+            levels.add(fs.getPathMatcher("glob:" + segments[i]));
+        }
+        unbounded |= segments[segments.length - 1].contains("**");
+        int maxDepth = unbounded ? Integer.MAX_VALUE : segments.length - 1;
+
+        PathMatcher files = fs.getPathMatcher("glob:" + zeroOrMoreDirectories(glob));
+        LogTreeWalker.Selector selector = new LogTreeWalker.Selector() {
+            @Override
+            public boolean acceptDirectory(Path relative, int depth) {
+                return depth > levels.size() || levels.get(depth - 1).matches(relative.getFileName());
+            }
+
+            @Override
+            public boolean acceptFile(Path relative) {
+                return files.matches(relative);
             }
+        };
+        return stream(new LogTreeWalker(dir, selector, maxDepth, modifiedTime, threads));
+    }
+
+    static boolean isLogFileName(String name) {
+        return name.endsWith(".log") || name.endsWith(".log.gz") || name.endsWith(".zip");
+    }
+
+    /**
+     * java.nio globs need at least one directory for "**&#47;"; as in shells with globstar,
+     * let it match none as well. Patterns with their own {...} groups are left alone,
+     * since groups cannot nest.
+     */
+    static String zeroOrMoreDirectories(String glob) {
+        if (!glob.contains("**/") || glob.indexOf('{') >= 0) {
+            return glob;
         }
-        result.sort(null);
-        return result;
+        return glob.replace("**/", "{**/,}");
     }
-}
 
+    private static Stream<Path> stream(LogTreeWalker walker) {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(walker, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(walker::close)
+                .flatMap(LogFileResolver::expandArchive);
+    }
+
+    private static Stream<Path> expandArchive(Path p) {
+        if (!LogSources.isZip(p)) {
+            return Stream.of(p);
+        }
+        try {
+            return LogSources.listLogEntries(p).stream().map(entry -> LogSources.zipEntry(p, entry));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<Path> collect(Stream<Path> logs) throws IOException {
+        try {
+            return logs.toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.buildanalyzer.util;
+
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Opens build logs that may be stored compressed, without extracting them to disk.
+ *
+ * Supported sources:
+ *   - plain files, e.g. build-12.log
+ *   - gzip files, e.g. build-12.log.gz
+ *   - entries of a zip archive, addressed as "artifacts.zip!/logs/build-12.log"
+ *     (same notation as jar: URLs)
+ *   - a zip archive itself, if it contains exactly one *.log entry
+ */
+public final class LogSources {
+
+    /** separates the archive path from the entry name */
+    public static final String ZIP_ENTRY_SEPARATOR = "!/";
+
+    private static final int DECOMPRESS_BUFFER_BYTES = 1 << 16;
+
+    private LogSources() {
+    }
+
+    public static boolean isGzip(Path path) {
+        return fileName(path).endsWith(".gz");
+    }
+
+    public static boolean isZip(Path path) {
+        return fileName(path).endsWith(".zip");
+    }
+
+    public static boolean isZipEntry(Path path) {
+        return entrySeparator(path.toString()) >= 0;
+    }
+
+    /**
+     * @return true if the log can only be read sequentially (no mmap / random access)
+     */
+    public static boolean isCompressed(Path path) {
+        return isGzip(path) || isZip(path) || isZipEntry(path);
+    }
+
+    /**
+     * @return "archive.zip!/entry" as a path, so it can travel with plain log paths
+     */
+    public static Path zipEntry(Path archive, String entryName) {
+        return Paths.get(archive + ZIP_ENTRY_SEPARATOR + entryName);
+    }
+
+    /**
+     * Like Files.exists, but for a zip entry checks that the archive exists.
+     */
+    public static boolean exists(Path path) {
+        return Files.exists(storageFile(path));
+    }
+
+    /**
+     * @return the file on disk that holds the log: the archive for a zip entry, else the path itself
+     */
+    public static Path storageFile(Path path) {
+        String s = path.toString();
+        int sep = entrySeparator(s);
+        return sep >= 0 ? Paths.get(s.substring(0, sep)) : path;
+    }
+
+    /**
+     * Names of all *.log entries in the archive, in archive order.
+     */
+    public static List<String> listLogEntries(Path archive) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (!entry.isDirectory() && entry.getName().endsWith(".log")) {
+                    names.add(entry.getName());
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Opens the decompressed log content. The caller must close the stream.
+     */
+    public static InputStream open(Path path) throws IOException {
+        String s = path.toString();
+        int sep = entrySeparator(s);
+        if (sep >= 0) {
+            // zip entry names always use '/', even if the Path was normalized to '\\'
+            String entryName = s.substring(sep + ZIP_ENTRY_SEPARATOR.length()).replace('\\', '/');
+            return openZipEntry(Paths.get(s.substring(0, sep)), entryName);
+        }
+        if (isGzip(path)) {
+            return new GZIPInputStream(Files.newInputStream(path), DECOMPRESS_BUFFER_BYTES);
+        }
+        if (isZip(path)) {
+            List<String> entries = listLogEntries(path);
+            if (entries.size() != 1) {
+                throw new IllegalStateException("Archive " + path + " contains " + entries.size()
+                        + " .log entries; select one as '" + path + ZIP_ENTRY_SEPARATOR + "<entry>'.");
+            }
+            return openZipEntry(path, entries.get(0));
+        }
+        return Files.newInputStream(path);
+    }
+
+    private static InputStream openZipEntry(Path archive, String entryName) throws IOException {
+        ZipFile zip = new ZipFile(archive.toFile());
+        try {
+            ZipEntry entry = zip.getEntry(entryName);
+            if (entry == null) {
+                throw new NoSuchFileException(archive + ZIP_ENTRY_SEPARATOR + entryName);
+            }
+            InputStream in = new BufferedInputStream(zip.getInputStream(entry), DECOMPRESS_BUFFER_BYTES);
+            // closing the entry stream also releases the archive
+            return new FilterInputStream(in) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        zip.close();
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            zip.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return index of the "!/" after ".zip" (or "!\\" once Windows normalized the path), or -1
+     */
+    private static int entrySeparator(String path) {
+        String lower = path.toLowerCase(Locale.ROOT);
+        for (int i = lower.indexOf(".zip!"); i >= 0; i = lower.indexOf(".zip!", i + 1)) {
+            int sep = i + 4;
+            if (sep + 1 < path.length() && (path.charAt(sep + 1) == '/' || path.charAt(sep + 1) == '\\')) {
+                return sep;
+            }
+        }
+        return -1;
+    }
+
+    private static String fileName(Path path) {
+        Path name = path.getFileName();
+        return name == null ? "" : name.toString().toLowerCase(Locale.ROOT);
+    }
+}
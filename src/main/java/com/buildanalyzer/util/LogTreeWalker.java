@@ -0,0 +1,231 @@
+package com.buildanalyzer.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Walks a log directory tree depth-first and hands out the selected files one at a time,
+ * in name order within each directory (so "2024/05/31" comes before "2024/06/01").
+ *
+ * Directory listings run ahead of the iterator on a few threads: while the caller is
+ * looking at one directory, the next {@code 2 * threads} subdirectories of every directory
+ * on the current path are already being listed. On a network file system listing is
+ * mostly waiting, so this is where the time goes for archives with many small directories.
+ *
+ * Files are filtered by name and modification time while listing, from the attributes
+ * the listing reads anyway; files that are filtered out are never opened. Symbolic links
+ * to directories are not followed.
+ */
+final class LogTreeWalker implements Iterator<Path>, Closeable {
+
+    /** which files and directories a walk keeps; paths are relative to the root */
+    interface Selector {
+        boolean acceptDirectory(Path relative, int depth);
+
+        boolean acceptFile(Path relative);
+    }
+
+    private final Path root;
+    private final Selector selector;
+    private final int maxDepth;
+    private final ModifiedTimeRange modifiedTime;
+    private final int prefetch;
+    private final ExecutorService pool; // null: list on the calling thread
+
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private Path next;
+
+    /**
+     * Lists the root directory right away, so a missing or unreadable root fails here and
+     * not on the first {@link #hasNext()}.
+     *
+     * @param maxDepth deepest directory level to descend into; 0 lists the root only
+     * @param threads  directory listings running at the same time; 1 lists inline
+     */
+    LogTreeWalker(Path root, Selector selector, int maxDepth, ModifiedTimeRange modifiedTime, int threads)
+            throws IOException {
+        this.root = root;
+        this.selector = selector;
+        this.maxDepth = maxDepth;
+        this.modifiedTime = modifiedTime;
+        this.prefetch = 2 * Math.max(1, threads);
+        this.pool = threads > 1 && maxDepth > 0
+                ? Executors.newFixedThreadPool(threads, r -> {
+                    Thread t = new Thread(r, "log-walker");
+                    t.setDaemon(true);
+                    return t;
+                })
+                : null;
+        stack.push(new Frame(list(root, 0), 0));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Path next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Path result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void close() {
+        stack.clear();
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private Path advance() {
+        while (!stack.isEmpty()) {
+            Frame frame = stack.peek();
+            if (frame.index == frame.entries.size()) {
+                stack.pop();
+                continue;
+            }
+            int i = frame.index++;
+            Entry entry = frame.entries.get(i);
+            if (!entry.directory()) {
+                return entry.path();
+            }
+            List<Entry> children = frame.children(i);
+            stack.push(new Frame(children, frame.depth + 1));
+        }
+        close();
+        return null;
+    }
+
+    /** one directory on the current path, with listings of its subdirectories in flight */
+    private final class Frame {
+        final List<Entry> entries;
+        final int depth;
+        final List<Future<List<Entry>>> listings;
+        int index;
+
+        Frame(List<Entry> entries, int depth) {
+            this.entries = entries;
+            this.depth = depth;
+            this.listings = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                listings.add(null);
+            }
+            prefetchFrom(0);
+        }
+
+        List<Entry> children(int i) {
+            prefetchFrom(i + 1);
+            Future<List<Entry>> listing = listings.get(i);
+            listings.set(i, null);
+            if (listing == null) {
+                try {
+                    return list(entries.get(i).path(), depth + 1);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return await(listing);
+        }
+
+        private void prefetchFrom(int from) {
+            if (pool == null) {
+                return;
+            }
+            int submitted = 0;
+            for (int i = from; i < entries.size() && submitted < prefetch; i++) {
+                Entry entry = entries.get(i);
+                if (!entry.directory()) {
+                    continue;
+                }
+                submitted++;
+                if (listings.get(i) == null) {
+                    Path dir = entry.path();
+                    listings.set(i, pool.submit(() -> list(dir, depth + 1)));
+                }
+            }
+        }
+    }
+
+    private record Entry(Path path, boolean directory) {}
+
+    /**
+     * @return the selected files and the directories to descend into, in name order
+     */
+    private List<Entry> list(Path dir, int depth) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path p : stream) {
+                BasicFileAttributes attrs;
+                try {
+                    attrs = Files.readAttributes(p, BasicFileAttributes.class);
+                } catch (NoSuchFileException e) {
+                    continue; // removed while walking, or a dangling link
+                }
+                Path relative = root.relativize(p);
+                if (attrs.isDirectory()) {
+                    if (depth < maxDepth && !Files.isSymbolicLink(p)
+                            && selector.acceptDirectory(relative, depth + 1)) {
+                        entries.add(new Entry(p, true));
+                    }
+                } else if (attrs.isRegularFile()
+                        && modifiedTime.contains(attrs.lastModifiedTime().toMillis())
+                        && selector.acceptFile(relative)) {
+                    entries.add(new Entry(p, false));
+                }
+            }
+        } catch (NoSuchFileException e) {
+            if (depth == 0) {
+                throw e;
+            }
+            return List.of();
+        }
+        entries.sort(Comparator.comparing(e -> e.path().getFileName().toString()));
+        return entries;
+    }
+
+    private static List<Entry> await(Future<List<Entry>> listing) {
+        try {
+            return listing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while listing log directories", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.buildanalyzer.util;
+
+/**
+ * Range [fromMillis, toMillis) of file modification times, used to pick logs by age
+ * (--since / --until) while walking a log directory.
+ */
+public record ModifiedTimeRange(long fromMillis, long toMillis) {
+
+    public static final ModifiedTimeRange ALL = new ModifiedTimeRange(Long.MIN_VALUE, Long.MAX_VALUE);
+
+    /**
+     * @param fromMillis inclusive lower bound, or null for none
+     * @param toMillis   exclusive upper bound, or null for none
+     */
+    public static ModifiedTimeRange of(Long fromMillis, Long toMillis) {
+        return new ModifiedTimeRange(
+                fromMillis == null ? Long.MIN_VALUE : fromMillis,
+                toMillis == null ? Long.MAX_VALUE : toMillis);
+    }
+
+    public boolean contains(long millis) {
+        return millis >= fromMillis && millis < toMillis;
+    }
+}
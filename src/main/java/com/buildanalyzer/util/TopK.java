@@ -0,0 +1,56 @@
+package com.buildanalyzer.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Bounded selection of the first k elements of a list in a given order.
+ *
+ * A reactor can have thousands of modules while a report shows a handful; a heap of
+ * size k finds them in O(n log k) instead of sorting the whole list. The result is the
+ * same as a stable sort followed by taking the first k: ties keep their input order.
+ */
+public final class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * @param k at most this many elements; 0 or less means all
+     * @return the first k elements of {@code items} ordered by {@code order}, ties in input order
+     */
+    public static <T> List<T> first(List<T> items, int k, Comparator<? super T> order) {
+        int n = items.size();
+        if (k <= 0 || k >= n) {
+            List<T> all = new ArrayList<>(items);
+            all.sort(order); // stable
+            return all;
+        }
+
+        // break ties by input position, so the result matches a stable sort
+        Comparator<Integer> byOrderThenIndex = (a, b) -> {
+            int c = order.compare(items.get(a), items.get(b));
+            return c != 0 ? c : Integer.compare(a, b);
+        };
+        // head = the worst of the k best so far
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k, byOrderThenIndex.reversed());
+        for (int i = 0; i < n; i++) {
+            if (heap.size() < k) {
+                heap.add(i);
+            } else if (byOrderThenIndex.compare(i, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        List<Integer> selected = new ArrayList<>(heap);
+        selected.sort(byOrderThenIndex);
+        List<T> result = new ArrayList<>(selected.size());
+        for (int i : selected) {
+            result.add(items.get(i));
+        }
+        return result;
+    }
+}
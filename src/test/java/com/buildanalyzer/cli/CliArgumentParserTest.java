@@ -1,10 +1,15 @@
 package com.buildanalyzer.cli;
 
+import com.buildanalyzer.core.parser.ParserBackend;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -186,8 +191,179 @@ class CliArgumentParserTest {
         assertEquals("sample-logs/build-parent.log", opts.logFile());
     }
 
+    @Test
+    void parse_parserBackend_defaultsToStream_andAcceptsMmap() {
+        assertEquals(ParserBackend.STREAM,
+                CliArgumentParser.parse(new String[]{"sample-logs/build-parent.log"}).parserBackend());
+        assertEquals(ParserBackend.MMAP,
+                CliArgumentParser.parse(new String[]{"--parser=mmap", "sample-logs/build-parent.log"}).parserBackend());
+        assertEquals(ParserBackend.MMAP,
+                CliArgumentParser.parse(new String[]{"--dir", "ci-logs/", "--parser", "mmap"}).parserBackend());
+    }
+
+    @Test
+    void parse_jobs_defaultsToProcessorCount_andAcceptsBothSpellings() {
+        assertEquals(Runtime.getRuntime().availableProcessors(),
+                CliArgumentParser.parse(new String[]{"--dir", "ci-logs/"}).jobs());
+        assertEquals(16, CliArgumentParser.parse(new String[]{"--dir", "ci-logs/", "--jobs", "16"}).jobs());
+        assertEquals(1, CliArgumentParser.parse(new String[]{"--jobs=1", "--aggregate", "ci-logs/*.log"}).jobs());
+    }
+
+    @Test
+    void parse_cache_isOffByDefault_andEnabledByAnyCacheOption() {
+        CliOptions none = CliArgumentParser.parse(new String[]{"sample-logs/build-parent.log"});
+        assertNull(none.cacheDir());
+        assertFalse(none.cacheVerify());
+
+        assertEquals(".build-analyzer/cache",
+                CliArgumentParser.parse(new String[]{"--cache", "--dir", "ci-logs/"}).cacheDir());
+        assertEquals("/tmp/ba-cache",
+                CliArgumentParser.parse(new String[]{"--cache-dir", "/tmp/ba-cache", "--cache", "x.log"}).cacheDir());
+
+        CliOptions verify = CliArgumentParser.parse(new String[]{"--cache-verify", "x.log"});
+        assertEquals(".build-analyzer/cache", verify.cacheDir());
+        assertTrue(verify.cacheVerify());
+    }
+
+    @Test
+    void parse_history_isAMode_andIngestAddsToLogModes() {
+        CliOptions history = CliArgumentParser.parse(new String[]{"--history", ".build-analyzer/history", "-j"});
+        assertEquals(Mode.HISTORY, history.mode());
+        assertEquals(".build-analyzer/history", history.historyStore());
+        assertNull(history.ingestStore());
+
+        CliOptions ingest = CliArgumentParser.parse(new String[]{"--dir", "ci-logs/", "--ingest", "store"});
+        assertEquals(Mode.DIRECTORY, ingest.mode());
+        assertEquals("store", ingest.ingestStore());
+    }
+
+    @Test
+    void parse_merge_collectsStateFiles_andSaveStateAppliesToAggregateModes() {
+        CliOptions merge = CliArgumentParser.parse(
+                new String[]{"--merge", "agent-1.state", "agent-2.state", "--save-state", "all.state"});
+        assertEquals(Mode.MERGE, merge.mode());
+        assertEquals(List.of("agent-1.state", "agent-2.state"), merge.mergeStates());
+        assertEquals("all.state", merge.saveState());
+
+        CliOptions dir = CliArgumentParser.parse(new String[]{"--dir", "ci-logs/", "--save-state", "agent-1.state"});
+        assertEquals(Mode.DIRECTORY, dir.mode());
+        assertEquals("agent-1.state", dir.saveState());
+        assertEquals(List.of(), dir.mergeStates());
+    }
+
+    @Test
+    void parse_windows_defaultsAndSizeOptions() {
+        CliOptions plain = CliArgumentParser.parse(new String[]{"--dir", "ci-logs/"});
+        assertFalse(plain.windows());
+
+        CliOptions defaults = CliArgumentParser.parse(new String[]{"--history", "store", "--windows"});
+        assertTrue(defaults.windows());
+        assertEquals(50, defaults.windowLastBuilds());
+        assertEquals(7, defaults.windowDays());
+
+        // a window size alone turns the windows on
+        CliOptions sized = CliArgumentParser.parse(
+                new String[]{"--aggregate", "ci-logs/*.log", "--last-builds", "20", "--window-days", "14"});
+        assertTrue(sized.windows());
+        assertEquals(20, sized.windowLastBuilds());
+        assertEquals(14, sized.windowDays());
+    }
+
+    @Test
+    void parse_regressions_isAHistoryOption() {
+        assertTrue(CliArgumentParser.parse(new String[]{"--history", "store", "--regressions"}).regressions());
+        assertFalse(CliArgumentParser.parse(new String[]{"--history", "store"}).regressions());
+    }
+
+    @Test
+    void parse_diff_takesBaselineAndCandidate() {
+        CliOptions diff = CliArgumentParser.parse(
+                new String[]{"--diff", "logs/main", "logs/feature-*.log", "--jobs", "2", "-j"});
+        assertEquals(Mode.DIFF, diff.mode());
+        assertEquals("logs/main", diff.diffBaseline());
+        assertEquals("logs/feature-*.log", diff.diffCandidate());
+        assertEquals(2, diff.jobs());
+        assertTrue(diff.jsonOutput());
+
+        assertNull(CliArgumentParser.parse(new String[]{"build.log"}).diffBaseline());
+    }
+
+    @Test
+    void parse_top_limitsListedModules() {
+        assertEquals(20, CliArgumentParser.parse(new String[]{"--dir", "ci-logs/", "--top", "20"}).topModules());
+        assertEquals(0, CliArgumentParser.parse(new String[]{"build.log"}).topModules());
+    }
+
+    @Test
+    void parse_graph_setsReactorGraphSource() {
+        assertEquals("deps.log", CliArgumentParser.parse(new String[]{"build.log", "--graph", "deps.log"}).reactorGraph());
+        assertEquals(".", CliArgumentParser.parse(new String[]{"--graph", ".", "-C"}).reactorGraph());
+        assertNull(CliArgumentParser.parse(new String[]{"build.log"}).reactorGraph());
+    }
+
+    @Test
+    void parse_simulate_takesSourceThreadsAndPercentile() {
+        CliOptions opts = CliArgumentParser.parse(new String[]{
+                "--simulate", "ci-logs/", "--graph", ".", "--max-threads", "8", "--percentile", "p90"});
+
+        assertEquals(Mode.SIMULATE, opts.mode());
+        assertEquals("ci-logs/", opts.simulateSource());
+        assertEquals(8, opts.maxThreads());
+        assertEquals(90, opts.percentile());
+
+        CliOptions defaults = CliArgumentParser.parse(new String[]{"--simulate", "build.log", "--graph", "."});
+        assertEquals(CliArgumentParser.DEFAULT_MAX_THREADS, defaults.maxThreads());
+        assertEquals(50, defaults.percentile());
+    }
+
+    @Test
+    void parse_sensitivity_speedupImpliesSensitivity() {
+        CliOptions plain = CliArgumentParser.parse(new String[]{"build.log", "--sensitivity"});
+        assertTrue(plain.sensitivity());
+        assertEquals(CliArgumentParser.DEFAULT_SPEEDUP_PERCENT, plain.speedupPercent());
+
+        CliOptions speedup = CliArgumentParser.parse(new String[]{"build.log", "--speedup", "20"});
+        assertTrue(speedup.sensitivity());
+        assertEquals(20, speedup.speedupPercent());
+
+        assertFalse(CliArgumentParser.parse(new String[]{"build.log"}).sensitivity());
+    }
+
+    @Test
+    void parse_trace_setsTraceFile() {
+        assertEquals("build.trace.json",
+                CliArgumentParser.parse(new String[]{"build.log", "--trace", "build.trace.json"}).traceFile());
+        assertEquals("t.json", CliArgumentParser.parse(new String[]{"-C", "--trace", "t.json"}).traceFile());
+        assertNull(CliArgumentParser.parse(new String[]{"build.log"}).traceFile());
+    }
+
+    @Test
+    void parse_sinceUntil_selectLogsByModificationTime() {
+        CliOptions opts = CliArgumentParser.parse(new String[]{
+                "-a", "logs/**/*.log", "--since", "2024-05-01T00:00:00Z", "--until", "2024-05-02T12:00Z"});
+
+        assertEquals(Instant.parse("2024-05-01T00:00:00Z").toEpochMilli(), opts.modifiedSince());
+        assertEquals(Instant.parse("2024-05-02T12:00:00Z").toEpochMilli(), opts.modifiedUntil());
+        assertFalse(opts.recursive());
+
+        // a plain date as upper bound includes that day
+        long endOfDay = LocalDate.parse("2024-05-31").plusDays(1)
+                .atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertEquals(endOfDay, CliArgumentParser.parse(new String[]{"-d", "logs", "-r", "--until", "2024-05-31"})
+                .modifiedUntil());
+        assertNull(CliArgumentParser.parse(new String[]{"-d", "logs"}).modifiedSince());
+    }
+
     // ---------------- failure-path tests (System.exit(1)) ----------------
 
+    @Test
+    void parse_shouldExit1_whenSinceIsNotBeforeUntil() {
+        ExitResult r = parseExpectExit(new String[]{"-d", "logs", "--since", "2024-05-02", "--until", "2024-05-01"});
+
+        assertEquals(1, r.exitCode());
+        assertTrue(r.err().contains("--since must be before --until."));
+    }
+
     @Test
     void parse_shouldExit1_andPrintUsage_whenArgsEmpty() {
         ExitResult r = parseExpectExit(new String[]{});
@@ -0,0 +1,67 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.core.parser.MavenLogParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CleanInstallCommandTest {
+
+    @Test
+    void tee_shouldDetectParallelBuild_evenIfTheLogCannotBeParsed(@TempDir Path dir) throws Exception {
+        // single-module -T build (e.g. -T4 in .mvn/maven.config): no Reactor Summary
+        List<String> output = List.of(
+                "[INFO] Scanning for projects...",
+                "[INFO] Using the MultiThreadedBuilder implementation with a thread count of 4",
+                "[INFO] ",
+                "[INFO] ---------------------------< com.example:app >---------------------------",
+                "[INFO] Building app 1.0-SNAPSHOT",
+                "[INFO] --------------------------------[ jar ]---------------------------------",
+                "[INFO] --- compiler:3.13.0:compile (default-compile) @ app ---",
+                "[INFO] BUILD SUCCESS",
+                "[INFO] Total time:  1.234 s");
+        Path log = dir.resolve("clean-install.log");
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+
+        boolean parallelBuild = tee(output, console, log);
+
+        assertTrue(parallelBuild);
+        String expected = String.join(System.lineSeparator(), output) + System.lineSeparator();
+        assertEquals(expected, Files.readString(log, StandardCharsets.UTF_8));
+        assertEquals(expected, console.toString(StandardCharsets.UTF_8));
+        // why the check runs on the captured output and not on the parse result
+        assertThrows(IllegalStateException.class, () -> new MavenLogParser().parse(log));
+    }
+
+    @Test
+    void tee_shouldOnlyLookBeforeTheFirstModule(@TempDir Path dir) throws Exception {
+        Path log = dir.resolve("clean-install.log");
+
+        assertFalse(tee(List.of(
+                "[INFO] Scanning for projects...",
+                "[INFO] Building app 1.0-SNAPSHOT",
+                "[INFO] Running com.example.MultiThreadedBuilderTest",
+                "[INFO] BUILD SUCCESS"), new ByteArrayOutputStream(), log));
+        assertFalse(tee(Files.readAllLines(Path.of("sample-logs", "build-parent.log")),
+                new ByteArrayOutputStream(), log));
+    }
+
+    private static boolean tee(List<String> output, ByteArrayOutputStream console, Path log) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new StringReader(String.join("\n", output) + "\n"));
+             PrintStream out = new PrintStream(console, true, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(log, StandardCharsets.UTF_8)) {
+            return CleanInstallCommand.tee(reader, out, writer);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.buildanalyzer.command;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.parser.ParserBackend;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogBatchParserTest {
+
+    @Test
+    void parseAll_shouldKeepInputOrder_andSkipInvalidLogsWithWarnings(@TempDir Path dir) throws Exception {
+        List<Path> logs = new ArrayList<>();
+        List<Double> expectedTotals = new ArrayList<>();
+        StringBuilder expectedWarnings = new StringBuilder();
+
+        for (int i = 0; i < 40; i++) {
+            Path log = dir.resolve(String.format("build-%02d.log", i));
+            logs.add(log);
+            if (i % 7 == 3) {
+                Files.writeString(log, "[INFO] BUILD FAILURE\n");
+                expectedWarnings.append("WARN: Skipping log '").append(log).append("'");
+            } else {
+                Files.writeString(log, validLog(i + 1));
+                expectedTotals.add(i + 1.0);
+            }
+        }
+
+        List<Double> totals = new ArrayList<>();
+        String err = captureStdErr(() ->
+                new LogBatchParser(ParserBackend.STREAM, 4).parseAll(logs, (log, s) -> totals.add(s.getTotalSeconds())));
+
+        assertEquals(expectedTotals, totals);
+        String warnings = err.lines()
+                .map(l -> l.substring(0, l.indexOf("':") + 1))
+                .reduce("", String::concat);
+        assertEquals(expectedWarnings.toString(), warnings);
+    }
+
+    @Test
+    void parseAll_withOneJob_shouldMatchConcurrentResult(@TempDir Path dir) throws Exception {
+        List<Path> logs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Path log = dir.resolve("build-" + i + ".log");
+            Files.writeString(log, validLog(i));
+            logs.add(log);
+        }
+
+        List<BuildSummary> sequential = new ArrayList<>();
+        List<BuildSummary> concurrent = new ArrayList<>();
+        assertEquals(10, new LogBatchParser(ParserBackend.STREAM, 1).parseAll(logs, (log, s) -> sequential.add(s)));
+        assertEquals(10, new LogBatchParser(ParserBackend.STREAM, 8).parseAll(logs, (log, s) -> concurrent.add(s)));
+
+        assertEquals(sequential.stream().map(BuildSummary::getTotalSeconds).toList(),
+                concurrent.stream().map(BuildSummary::getTotalSeconds).toList());
+    }
+
+    private static String validLog(int totalSeconds) {
+        return String.join("\n",
+                "[INFO] Building core 1.0-SNAPSHOT [1/1]",
+                "[INFO] Reactor Summary:",
+                "[INFO] core ..................................... SUCCESS [  " + totalSeconds + ".000 s]",
+                "[INFO] BUILD SUCCESS",
+                "[INFO] Total time:  " + totalSeconds + ".000 s") + "\n";
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private static String captureStdErr(ThrowingRunnable action) throws Exception {
+        PrintStream original = System.err;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        try {
+            action.run();
+        } finally {
+            System.setErr(original);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
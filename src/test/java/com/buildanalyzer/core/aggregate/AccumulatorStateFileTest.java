@@ -0,0 +1,110 @@
+package com.buildanalyzer.core.aggregate;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccumulatorStateFileTest {
+
+    private final BuildAggregator aggregator = new BuildAggregator();
+
+    @Test
+    void mergedShards_shouldFinishExactlyLikeOneProcess(@TempDir Path dir) throws IOException {
+        List<BuildSummary> builds = randomBuilds(60);
+        AggregatedSummary expected = aggregator.aggregate(builds);
+
+        // four "agents" with uneven shares of the builds
+        int[] bounds = {0, 7, 30, 31, 60};
+        List<Path> states = new ArrayList<>();
+        for (int shard = 0; shard < 4; shard++) {
+            BuildAccumulator acc = aggregator.newAccumulator();
+            builds.subList(bounds[shard], bounds[shard + 1]).forEach(acc::accept);
+            Path file = dir.resolve("agent-" + shard + ".state");
+            AccumulatorStateFile.write(file, acc);
+            states.add(file);
+        }
+
+        // flat merge, in reverse order
+        BuildAccumulator flat = aggregator.newAccumulator();
+        for (int i = states.size() - 1; i >= 0; i--) {
+            flat.combine(AccumulatorStateFile.read(states.get(i)));
+        }
+        assertEquals(expected, flat.finish());
+
+        // tree merge: (0 + 2) and (3 + 1), each written back to disk, then merged
+        Path left = dir.resolve("left.state");
+        AccumulatorStateFile.write(left,
+                AccumulatorStateFile.read(states.get(0)).combine(AccumulatorStateFile.read(states.get(2))));
+        Path right = dir.resolve("right.state");
+        AccumulatorStateFile.write(right,
+                AccumulatorStateFile.read(states.get(3)).combine(AccumulatorStateFile.read(states.get(1))));
+        BuildAccumulator tree = AccumulatorStateFile.read(right).combine(AccumulatorStateFile.read(left));
+        assertEquals(expected, tree.finish());
+    }
+
+    @Test
+    void emptyAccumulator_shouldRoundTrip(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("empty.state");
+        AccumulatorStateFile.write(file, aggregator.newAccumulator());
+
+        BuildAccumulator read = AccumulatorStateFile.read(file);
+        assertEquals(0, read.buildCount());
+
+        BuildSummary build = new BuildSummary(5.0, List.of(new ModuleSummary("core", 5.0)));
+        BuildAccumulator one = aggregator.newAccumulator();
+        one.accept(build);
+        assertEquals(aggregator.aggregate(List.of(build)), read.combine(one).finish());
+    }
+
+    @Test
+    void read_shouldRejectForeignOrTruncatedFiles(@TempDir Path dir) throws IOException {
+        Path junk = dir.resolve("junk.state");
+        Files.writeString(junk, "not a state file");
+        assertThrows(IOException.class, () -> AccumulatorStateFile.read(junk));
+
+        BuildAccumulator acc = aggregator.newAccumulator();
+        randomBuilds(3).forEach(acc::accept);
+        Path file = dir.resolve("full.state");
+        AccumulatorStateFile.write(file, acc);
+        byte[] bytes = Files.readAllBytes(file);
+
+        Path truncated = dir.resolve("truncated.state");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 5));
+        assertThrows(IOException.class, () -> AccumulatorStateFile.read(truncated));
+    }
+
+    /** times with millisecond resolution, as Maven prints them */
+    private static List<BuildSummary> randomBuilds(int count) {
+        Random random = new Random(7);
+        List<String> names = List.of("parent", "core", "service", "webapp", "it");
+        List<BuildSummary> builds = new ArrayList<>();
+        for (int b = 0; b < count; b++) {
+            List<ModuleSummary> modules = new ArrayList<>();
+            long totalMillis = 0;
+            for (String name : names) {
+                if (name.equals("it") && b % 3 != 0) {
+                    continue; // a module that only some builds have
+                }
+                long millis = 100 + random.nextInt(90_000);
+                totalMillis += millis;
+                int tests = name.equals("parent") ? 0 : random.nextInt(200);
+                modules.add(new ModuleSummary(name, millis / 1000.0, tests, random.nextInt(2), 0, random.nextInt(3),
+                        tests == 0 ? 0.0 : random.nextInt(30_000) / 1000.0,
+                        random.nextInt(400), random.nextInt(100), List.of()));
+            }
+            builds.add(new BuildSummary((totalMillis + random.nextInt(5_000)) / 1000.0, modules));
+        }
+        return builds;
+    }
+}
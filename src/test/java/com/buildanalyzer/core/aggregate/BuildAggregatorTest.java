@@ -38,6 +38,8 @@ class BuildAggregatorTest {
         assertEquals(12.0, summary.averageTotalSeconds(), 0.0001); // (10 + 14) / 2
         assertEquals(10.0, summary.minTotalSeconds(), 0.0001);
         assertEquals(14.0, summary.maxTotalSeconds(), 0.0001);
+        assertEquals(10.0, summary.totalSecondsPercentiles().p50(), 10.0 * QuantileSketch.RELATIVE_ACCURACY);
+        assertEquals(14.0, summary.totalSecondsPercentiles().p99(), 14.0 * QuantileSketch.RELATIVE_ACCURACY);
 
         // --- module stats ---
         List<ModuleStats> modules = summary.modules();
@@ -92,4 +94,61 @@ class BuildAggregatorTest {
         assertThrows(IllegalArgumentException.class,
                 () -> aggregator.aggregate(List.of()));
     }
+
+    @Test
+    void accumulator_combinedShards_shouldMatchAggregateOfAllBuilds() {
+        List<BuildSummary> builds = List.of(
+                new BuildSummary(10.0, List.of(
+                        new ModuleSummary("core", 6.0, 10, 1, 0, 2, 1.5, 40, 12, List.of()),
+                        new ModuleSummary("webapp", 4.0))),
+                new BuildSummary(14.0, List.of(
+                        new ModuleSummary("core", 8.0, 12, 0, 1, 0, 2.5, 42, 12, List.of()))),
+                new BuildSummary(9.0, List.of(
+                        new ModuleSummary("webapp", 3.0, 5, 0, 0, 0, 0.5, 8, 2, List.of()),
+                        new ModuleSummary("api", 2.0))));
+
+        BuildAggregator aggregator = new BuildAggregator();
+        AggregatedSummary expected = aggregator.aggregate(builds);
+
+        BuildAccumulator left = aggregator.newAccumulator();
+        left.accept(builds.get(0));
+        BuildAccumulator right = aggregator.newAccumulator();
+        right.accept(builds.get(1));
+        right.accept(builds.get(2));
+        BuildAccumulator empty = aggregator.newAccumulator();
+
+        assertEquals(expected, empty.combine(left).combine(right).finish());
+        assertEquals(expected, builds.stream().collect(aggregator.toAggregatedSummary()));
+    }
+
+    @Test
+    void aggregate_shouldRankModulesByCoefficientOfVariation() {
+        // steady: 10 s every time; flaky: 5 / 10 / 15 s; rare: only in 2 builds
+        List<BuildSummary> builds = List.of(
+                new BuildSummary(20.0, List.of(new ModuleSummary("steady", 10.0),
+                        new ModuleSummary("flaky", 5.0), new ModuleSummary("rare", 1.0))),
+                new BuildSummary(25.0, List.of(new ModuleSummary("steady", 10.0),
+                        new ModuleSummary("flaky", 10.0), new ModuleSummary("rare", 9.0))),
+                new BuildSummary(30.0, List.of(new ModuleSummary("steady", 10.0),
+                        new ModuleSummary("flaky", 15.0))));
+
+        AggregatedSummary summary = new BuildAggregator().aggregate(builds);
+
+        // total: 20 / 25 / 30 -> sample variance 25
+        assertEquals(25.0, summary.totalSecondsDispersion().variance(), 1e-9);
+        assertEquals(5.0, summary.totalSecondsDispersion().stdDev(), 1e-9);
+        assertEquals(0.2, summary.totalSecondsDispersion().coefficientOfVariation(), 1e-9);
+
+        ModuleStats flaky = summary.modules().stream().filter(m -> m.name().equals("flaky")).findFirst().orElseThrow();
+        assertEquals(5.0, flaky.secondsDispersion().stdDev(), 1e-9);
+        assertEquals(0.5, flaky.secondsDispersion().coefficientOfVariation(), 1e-9);
+
+        // steady has no jitter, rare has too few builds
+        assertEquals(List.of("flaky"), summary.mostUnstableModules());
+    }
+
+    @Test
+    void accumulator_finishWithoutBuildsShouldThrow() {
+        assertThrows(IllegalStateException.class, () -> new BuildAggregator().newAccumulator().finish());
+    }
 }
@@ -0,0 +1,64 @@
+package com.buildanalyzer.core.aggregate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    @Test
+    void quantiles_shouldStayWithinRelativeAccuracy() {
+        Random random = new Random(42);
+        double[] samples = new double[10_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < samples.length; i++) {
+            // log-normal, like real module times: mostly seconds, a long tail of minutes
+            samples[i] = Math.exp(1.0 + 1.5 * random.nextGaussian());
+            sketch.add(samples[i]);
+        }
+        Arrays.sort(samples);
+
+        for (double q : new double[]{0.5, 0.9, 0.95, 0.99}) {
+            double exact = samples[(int) Math.ceil(q * samples.length) - 1];
+            assertEquals(exact, sketch.quantile(q), exact * QuantileSketch.RELATIVE_ACCURACY, "q=" + q);
+        }
+        assertEquals(samples.length, sketch.count());
+    }
+
+    @Test
+    void merge_shouldEqualSketchOfAllSamples() {
+        QuantileSketch all = new QuantileSketch();
+        QuantileSketch a = new QuantileSketch();
+        QuantileSketch b = new QuantileSketch();
+        for (int i = 0; i < 1000; i++) {
+            double v = 0.01 * (i % 97) + (i % 13 == 0 ? 300.0 : 0.0);
+            all.add(v);
+            (i % 3 == 0 ? a : b).add(v);
+        }
+
+        QuantileSketch merged = new QuantileSketch();
+        merged.merge(b);
+        merged.merge(a);
+
+        assertEquals(all.count(), merged.count());
+        assertEquals(all.percentiles(), merged.percentiles());
+    }
+
+    @Test
+    void singleValueAndEmpty() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertEquals(Percentiles.NONE, sketch.percentiles());
+
+        sketch.add(4.637);
+        Percentiles p = sketch.percentiles();
+        // clamped to the observed min/max, so a single sample is reported exactly
+        assertEquals(4.637, p.p50());
+        assertEquals(4.637, p.p99());
+
+        sketch.add(0.0);
+        assertEquals(0.0, sketch.quantile(0.0));
+    }
+}
@@ -0,0 +1,89 @@
+package com.buildanalyzer.core.aggregate;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollingWindowsTest {
+
+    private static final long DAY = 24L * 60 * 60 * 1000;
+    private static final long NOV_20 = Instant.parse("2025-11-20T10:00:00Z").toEpochMilli();
+
+    @Test
+    void finish_shouldBucketByDay_andSlideOverTheLastDays() {
+        RollingWindows windows = new RollingWindows(50, 3, ZoneOffset.UTC);
+        // out of order on purpose: logs are listed by name, not by time
+        windows.accept(build(30.0), NOV_20 + 4 * DAY);
+        windows.accept(build(10.0), NOV_20);
+        windows.accept(build(12.0), NOV_20 + 2 * 60 * 60 * 1000);
+        windows.accept(build(20.0), NOV_20 + DAY);
+
+        WindowedSummary summary = windows.finish();
+        assertEquals(4, windows.buildCount());
+
+        List<String> days = summary.days().stream().map(TimeWindow::from).toList();
+        assertEquals(List.of("2025-11-20", "2025-11-21", "2025-11-24"), days);
+        assertEquals(2, summary.days().get(0).summary().buildCount());
+        assertEquals(11.0, summary.days().get(0).summary().averageTotalSeconds(), 1e-9);
+
+        // 3-day windows: [18..20], [19..21], [22..24]
+        TimeWindow nov21 = summary.sliding().get(1);
+        assertEquals("2025-11-19", nov21.from());
+        assertEquals("2025-11-21", nov21.to());
+        assertEquals(3, nov21.summary().buildCount());
+        TimeWindow nov24 = summary.sliding().get(2);
+        assertEquals("2025-11-22", nov24.from());
+        assertEquals(1, nov24.summary().buildCount());
+        assertEquals(30.0, nov24.summary().averageTotalSeconds(), 1e-9);
+    }
+
+    @Test
+    void lastBuilds_shouldKeepTheNewestByFinishTime() {
+        RollingWindows windows = new RollingWindows(2, 7, ZoneOffset.UTC);
+        windows.accept(build(40.0), NOV_20 + 3 * DAY);
+        windows.accept(build(10.0), NOV_20);
+        windows.accept(build(30.0), NOV_20 + 2 * DAY);
+        windows.accept(build(20.0), NOV_20 + DAY);
+
+        TimeWindow last = windows.finish().lastBuilds();
+        assertEquals(2, last.summary().buildCount());
+        assertEquals(35.0, last.summary().averageTotalSeconds(), 1e-9);
+        assertEquals("2025-11-22T10:00Z", last.from());
+        assertEquals("2025-11-23T10:00Z", last.to());
+    }
+
+    @Test
+    void dayWindows_shouldMatchAggregatingTheSameBuildsDirectly() {
+        RollingWindows windows = new RollingWindows(50, 7, ZoneOffset.UTC);
+        List<BuildSummary> sameDay = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            BuildSummary b = build(5.0 + i * 0.125);
+            sameDay.add(b);
+            windows.accept(b, NOV_20 + i * 60_000L);
+        }
+
+        WindowedSummary summary = windows.finish();
+        AggregatedSummary expected = new BuildAggregator().aggregate(sameDay);
+        assertEquals(expected, summary.days().get(0).summary());
+        assertEquals(expected, summary.sliding().get(0).summary());
+        assertEquals(expected, summary.lastBuilds().summary());
+    }
+
+    @Test
+    void finish_withoutBuildsShouldThrow() {
+        assertThrows(IllegalStateException.class, () -> new RollingWindows(50, 7, ZoneOffset.UTC).finish());
+    }
+
+    private static BuildSummary build(double totalSeconds) {
+        return new BuildSummary(totalSeconds, List.of(
+                new ModuleSummary("core", totalSeconds * 0.75),
+                new ModuleSummary("webapp", totalSeconds * 0.25)));
+    }
+}
@@ -0,0 +1,142 @@
+package com.buildanalyzer.core.aggregate;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunningVarianceTest {
+
+    @Test
+    void dispersion_shouldMatchTwoPassSampleVariance() {
+        Random random = new Random(7);
+        double[] samples = new double[2000];
+        RunningVariance variance = new RunningVariance();
+        for (int i = 0; i < samples.length; i++) {
+            // ms resolution like Maven, plus a few values that are not
+            samples[i] = i % 50 == 0
+                    ? 30.0 + random.nextGaussian() / 3.0
+                    : Math.round((30.0 + 5.0 * random.nextGaussian()) * 1000.0) / 1000.0;
+            variance.add(samples[i]);
+        }
+
+        double mean = 0.0;
+        for (double s : samples) {
+            mean += s;
+        }
+        mean /= samples.length;
+        double m2 = 0.0;
+        for (double s : samples) {
+            m2 += (s - mean) * (s - mean);
+        }
+        double expected = m2 / (samples.length - 1);
+
+        Dispersion d = variance.dispersion();
+        assertEquals(expected, d.variance(), expected * 1e-9);
+        assertEquals(Math.sqrt(expected), d.stdDev(), 1e-9);
+        assertEquals(Math.sqrt(expected) / mean, d.coefficientOfVariation(), 1e-9);
+        assertEquals(samples.length, variance.count());
+    }
+
+    @Test
+    void merge_shouldNotDependOnGrouping() {
+        RunningVariance all = new RunningVariance();
+        RunningVariance a = new RunningVariance();
+        RunningVariance b = new RunningVariance();
+        RunningVariance c = new RunningVariance();
+        for (int i = 0; i < 999; i++) {
+            double v = (i % 17) * 1.234 + (i % 101 == 0 ? 600.0 : 0.0);
+            all.add(v);
+            (i % 3 == 0 ? a : i % 3 == 1 ? b : c).add(v);
+        }
+
+        RunningVariance left = new RunningVariance();
+        left.merge(c);
+        left.merge(a);
+        left.merge(b);
+
+        RunningVariance bc = new RunningVariance();
+        bc.merge(b);
+        bc.merge(c);
+        RunningVariance right = new RunningVariance();
+        right.merge(bc);
+        right.merge(a);
+
+        assertEquals(all.dispersion(), left.dispersion());
+        assertEquals(all.dispersion(), right.dispersion());
+    }
+
+    @Test
+    void constantAndTooFewValues() {
+        RunningVariance variance = new RunningVariance();
+        assertEquals(Dispersion.NONE, variance.dispersion());
+        variance.add(12.5);
+        assertEquals(Dispersion.NONE, variance.dispersion());
+
+        variance.add(12.5);
+        variance.add(12.5);
+        Dispersion d = variance.dispersion();
+        assertEquals(0.0, d.variance());
+        assertEquals(0.0, d.coefficientOfVariation());
+    }
+
+    @Test
+    void slotHelpers_shouldMatchTheObjectForm() {
+        // slot 1 of the columns, next to an unrelated slot 0
+        long[] millis = new long[2];
+        double[] other = new double[2];
+        long[] squaresHigh = new long[2];
+        long[] squaresLow = new long[2];
+        long[] otherCount = new long[2];
+        double[] otherMean = new double[2];
+        double[] otherM2 = new double[2];
+        long[] fromMillis = new long[1];
+        double[] fromOther = new double[1];
+        long[] fromHigh = new long[1];
+        long[] fromLow = new long[1];
+        long[] fromCount = new long[1];
+        double[] fromMean = new double[1];
+        double[] fromM2 = new double[1];
+
+        RunningVariance variance = new RunningVariance();
+        RunningVariance second = new RunningVariance();
+        SecondsSum sum = new SecondsSum();
+        SecondsSum secondSum = new SecondsSum();
+        // includes millis large enough that millis² carries into the high word
+        double[] values = {1.5, 2.25, 0.1 / 3.0, 4_000_000_000.125, 3_500_000_000.0, 7.0, Math.PI};
+        for (int i = 0; i < values.length; i++) {
+            double v = values[i];
+            if (i % 2 == 0) {
+                variance.add(v);
+                sum.add(v);
+                long ms = SecondsSum.addAt(millis, other, 1, v);
+                if (ms >= 0) {
+                    RunningVariance.addSquareAt(squaresHigh, squaresLow, 1, ms);
+                } else {
+                    RunningVariance.addOtherAt(otherCount, otherMean, otherM2, 1, v);
+                }
+            } else {
+                second.add(v);
+                secondSum.add(v);
+                long ms = SecondsSum.addAt(fromMillis, fromOther, 0, v);
+                if (ms >= 0) {
+                    RunningVariance.addSquareAt(fromHigh, fromLow, 0, ms);
+                } else {
+                    RunningVariance.addOtherAt(fromCount, fromMean, fromM2, 0, v);
+                }
+            }
+        }
+        variance.merge(second);
+        sum.merge(secondSum);
+        SecondsSum.mergeAt(millis, other, 1, fromMillis[0], fromOther[0]);
+        RunningVariance.addSquaresAt(squaresHigh, squaresLow, 1, fromHigh[0], fromLow[0]);
+        RunningVariance.mergeOtherAt(otherCount, otherMean, otherM2, 1, fromCount[0], fromMean[0], fromM2[0]);
+
+        assertEquals(sum.value(), SecondsSum.value(millis[1], other[1]));
+        assertEquals(variance.dispersion(), RunningVariance.dispersion(values.length - otherCount[1], millis[1],
+                squaresHigh[1], squaresLow[1], otherCount[1], otherMean[1], otherM2[1]));
+        assertEquals(0L, millis[0] | squaresHigh[0] | squaresLow[0] | otherCount[0]);
+        assertNotEquals(0L, squaresHigh[1]);
+    }
+}
@@ -0,0 +1,135 @@
+package com.buildanalyzer.core.cache;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import com.buildanalyzer.core.parser.MavenLogParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseCacheTest {
+
+    @Test
+    void parse_shouldReuseEntry_untilLogChanges(@TempDir Path dir) throws Exception {
+        Path log = dir.resolve("build.log");
+        Files.copy(Paths.get("sample-logs", "build-parent.log"), log);
+        CountingParser parser = new CountingParser();
+        ParseCache cache = new ParseCache(dir.resolve("cache"), false);
+
+        BuildSummary first = cache.parse(log, parser);
+        BuildSummary second = new ParseCache(dir.resolve("cache"), false).parse(log, parser);
+
+        assertEquals(1, parser.calls.get());
+        assertEquals(first.getTotalSeconds(), second.getTotalSeconds(), 0.0);
+        assertEquals(first.getModules().size(), second.getModules().size());
+        ModuleSummary core = second.getModules().get(1);
+        assertEquals(first.getModules().get(1).getPipelineSteps(), core.getPipelineSteps());
+        assertEquals(first.getModules().get(1).getTestsRun(), core.getTestsRun());
+
+        // a new modification time invalidates the entry
+        Files.setLastModifiedTime(log, FileTime.fromMillis(Files.getLastModifiedTime(log).toMillis() + 60_000));
+        cache.parse(log, parser);
+        assertEquals(2, parser.calls.get());
+        assertEquals(0, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void parse_withContentVerification_shouldDetectEditWithSameSizeAndMtime(@TempDir Path dir) throws Exception {
+        Path log = dir.resolve("build.log");
+        Files.copy(Paths.get("sample-logs", "build-parent.log"), log);
+        FileTime mtime = Files.getLastModifiedTime(log);
+        CountingParser parser = new CountingParser();
+        ParseCache cache = new ParseCache(dir.resolve("cache"), true);
+
+        cache.parse(log, parser);
+        cache.parse(log, parser);
+        assertEquals(1, cache.hits());
+
+        String content = Files.readString(log);
+        Files.writeString(log, content.replace("Total time:  8.294 s", "Total time:  9.294 s"));
+        Files.setLastModifiedTime(log, mtime);
+
+        assertEquals(9.294, cache.parse(log, parser).getTotalSeconds(), 0.0001);
+        assertEquals(2, parser.calls.get());
+    }
+
+    @Test
+    void evictToSizeCap_shouldDropLeastRecentlyUsedEntries(@TempDir Path dir) throws Exception {
+        Path cacheDir = dir.resolve("cache");
+        CountingParser parser = new CountingParser();
+        ParseCache unbounded = new ParseCache(cacheDir, false);
+
+        Path[] logs = new Path[3];
+        for (int i = 0; i < logs.length; i++) {
+            logs[i] = dir.resolve("build-" + i + ".log");
+            Files.copy(Paths.get("sample-logs", "build-parent.log"), logs[i]);
+            unbounded.parse(logs[i], parser);
+        }
+        long entrySize;
+        Path[] entries;
+        try (var files = Files.list(cacheDir)) {
+            entries = files.sorted().toArray(Path[]::new);
+        }
+        assertEquals(3, entries.length);
+        entrySize = Files.size(entries[0]);
+        for (int i = 0; i < entries.length; i++) {
+            Files.setLastModifiedTime(entries[i], FileTime.fromMillis(1_000_000L * (i + 1)));
+        }
+
+        new ParseCache(cacheDir, false, 2 * entrySize + entrySize / 2).evictToSizeCap();
+
+        assertFalse(Files.exists(entries[0]));
+        assertTrue(Files.exists(entries[1]));
+        assertTrue(Files.exists(entries[2]));
+    }
+
+    @Test
+    void evictToSizeCap_shouldOnlyDeleteItsOwnEntryFiles(@TempDir Path dir) throws Exception {
+        Path cacheDir = dir.resolve("cache");
+        Path log = dir.resolve("build.log");
+        Files.copy(Paths.get("sample-logs", "build-parent.log"), log);
+        new ParseCache(cacheDir, false).parse(log, new CountingParser());
+
+        // older than the entry and well over the cap on its own
+        Path foreign = cacheDir.resolve("notes.bin");
+        Files.write(foreign, new byte[64 * 1024]);
+        Files.setLastModifiedTime(foreign, FileTime.fromMillis(1_000L));
+
+        new ParseCache(cacheDir, false, 1).evictToSizeCap();
+
+        assertTrue(Files.exists(foreign));
+        try (var files = Files.list(cacheDir)) {
+            assertEquals(List.of(foreign), files.toList());
+        }
+    }
+
+    @Test
+    void parse_shouldNotCacheLogsThatFailToParse(@TempDir Path dir) throws Exception {
+        Path log = dir.resolve("broken.log");
+        Files.writeString(log, "[INFO] BUILD FAILURE\n");
+        ParseCache cache = new ParseCache(dir.resolve("cache"), false);
+
+        assertThrows(IllegalStateException.class, () -> cache.parse(log, new MavenLogParser()));
+        assertFalse(Files.exists(dir.resolve("cache")));
+    }
+
+    private static final class CountingParser extends MavenLogParser {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public BuildSummary parse(Path logPath) throws IOException {
+            calls.incrementAndGet();
+            return super.parse(logPath);
+        }
+    }
+}
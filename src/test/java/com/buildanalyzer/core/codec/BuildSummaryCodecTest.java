@@ -0,0 +1,121 @@
+package com.buildanalyzer.core.codec;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import com.buildanalyzer.core.parser.MavenLogParser;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildSummaryCodecTest {
+
+    private final BuildSummaryWriter writer = new BuildSummaryWriter();
+    private final BuildSummaryReader reader = new BuildSummaryReader();
+
+    @Test
+    void roundTrip_shouldPreserveParsedSampleLogs_andBeSmallerThanJson() throws Exception {
+        for (String name : List.of("build-parent.log", "build-parent2.log")) {
+            BuildSummary parsed = new MavenLogParser().parse(Paths.get("sample-logs", name));
+
+            byte[] bytes = writer.write(parsed);
+
+            assertSameSummary(parsed, reader.read(bytes));
+            int jsonSize = new Gson().toJson(parsed).getBytes(StandardCharsets.UTF_8).length;
+            assertTrue(bytes.length * 3 < jsonSize, bytes.length + " bytes vs " + jsonSize + " bytes of JSON");
+        }
+    }
+
+    @Test
+    void roundTrip_shouldKeepValuesThatAreNotWholeMillis() throws Exception {
+        BuildSummary summary = new BuildSummary(1e-7, List.of(
+                new ModuleSummary("kern-modül", 1.0 / 3, 0, 0, 0, 0, Double.NaN, 0, 0, List.of()),
+                new ModuleSummary("huge", 1e300, Integer.MAX_VALUE, 1, 2, 3, -1.5, 7, 8,
+                        List.of("a", "b", "a")),
+                new ModuleSummary("ms", 12345.678, 1, 0, 0, 0, 0.001, 0, 0, List.of("a"))));
+
+        assertSameSummary(summary, reader.read(writer.write(summary)));
+    }
+
+    @Test
+    void roundTrip_shouldKeepFinishedAt_includingMissingAndPreEpochValues() throws Exception {
+        for (Long finishedAt : new Long[]{null, 0L, 1764264115000L, -86_400_000L}) {
+            BuildSummary summary = new BuildSummary(1.5, List.of(new ModuleSummary("core", 1.5)), finishedAt);
+            assertSameSummary(summary, reader.read(writer.write(summary)));
+        }
+    }
+
+    @Test
+    void roundTrip_shouldKeepThreadAttributedFlag() throws Exception {
+        for (boolean threadAttributed : new boolean[]{false, true}) {
+            BuildSummary summary = new BuildSummary(1.5, List.of(new ModuleSummary("core", 1.5)), null, threadAttributed);
+            assertEquals(threadAttributed, reader.read(writer.write(summary)).isThreadAttributed());
+        }
+    }
+
+    @Test
+    void roundTrip_shouldKeepParallelBuildFlag() throws Exception {
+        for (boolean parallelBuild : new boolean[]{false, true}) {
+            BuildSummary summary = new BuildSummary(1.5, List.of(new ModuleSummary("core", 1.5)), null, false, parallelBuild);
+            BuildSummary decoded = reader.read(writer.write(summary));
+            assertEquals(parallelBuild, decoded.isParallelBuild());
+            assertFalse(decoded.isThreadAttributed());
+        }
+    }
+
+    @Test
+    void roundTrip_shouldKeepBuilderThreadAndStartOrder() throws Exception {
+        BuildSummary summary = new BuildSummary(3.0, List.of(
+                new ModuleSummary("core", 1.0, 0, 0, 0, 0, 0.0, 0, 0,
+                        List.of("compiler:3.13.0:compile"), "BuilderThread 2", 1),
+                new ModuleSummary("web", 2.0, 0, 0, 0, 0, 0.0, 0, 0, List.of(), null, -1)),
+                null, true);
+        assertSameSummary(summary, reader.read(writer.write(summary)));
+    }
+
+    @Test
+    void read_shouldRejectTruncatedOrCorruptInput() throws Exception {
+        byte[] bytes = writer.write(new MavenLogParser().parse(Paths.get("sample-logs", "build-parent.log")));
+
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(IOException.class, () -> reader.read(truncated), "length " + length);
+        }
+
+        byte[] newerVersion = bytes.clone();
+        newerVersion[3] = (byte) (BuildSummaryCodec.VERSION + 1);
+        IOException e = assertThrows(IOException.class, () -> reader.read(newerVersion));
+        assertTrue(e.getMessage().contains("version"));
+
+        byte[] trailing = Arrays.copyOf(bytes, bytes.length + 1);
+        assertThrows(IOException.class, () -> reader.read(trailing));
+    }
+
+    private static void assertSameSummary(BuildSummary expected, BuildSummary actual) {
+        assertEquals(Double.doubleToLongBits(expected.getTotalSeconds()), Double.doubleToLongBits(actual.getTotalSeconds()));
+        assertEquals(expected.getFinishedAtMillis(), actual.getFinishedAtMillis());
+        assertEquals(expected.getModules().size(), actual.getModules().size());
+        for (int i = 0; i < expected.getModules().size(); i++) {
+            ModuleSummary e = expected.getModules().get(i);
+            ModuleSummary a = actual.getModules().get(i);
+            assertEquals(e.getName(), a.getName());
+            assertEquals(Double.doubleToLongBits(e.getSeconds()), Double.doubleToLongBits(a.getSeconds()), e.getName());
+            assertEquals(e.getTestsRun(), a.getTestsRun());
+            assertEquals(e.getFailures(), a.getFailures());
+            assertEquals(e.getErrors(), a.getErrors());
+            assertEquals(e.getSkipped(), a.getSkipped());
+            assertEquals(Double.doubleToLongBits(e.getTestTimeSeconds()), Double.doubleToLongBits(a.getTestTimeSeconds()));
+            assertEquals(e.getMainSourceFiles(), a.getMainSourceFiles());
+            assertEquals(e.getTestSourceFiles(), a.getTestSourceFiles());
+            assertEquals(e.getPipelineSteps(), a.getPipelineSteps());
+            assertEquals(e.getBuilderThread(), a.getBuilderThread());
+            assertEquals(e.getStartOrder(), a.getStartOrder());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.buildanalyzer.core.diff;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildComparatorTest {
+
+    private final BuildComparator comparator = new BuildComparator();
+
+    @Test
+    void compare_twoSingleBuilds_reportsDeltasWithoutTest() {
+        BuildCohort before = cohort(new BuildSummary(10.0, List.of(
+                new ModuleSummary("core", 6.0, 10, 0, 0, 0, 2.0, 40, 12, List.of()),
+                new ModuleSummary("legacy", 3.0))));
+        BuildCohort after = cohort(new BuildSummary(12.0, List.of(
+                new ModuleSummary("core", 7.5, 12, 0, 0, 0, 2.5, 44, 12, List.of()),
+                new ModuleSummary("api", 1.0))));
+
+        BuildDiff diff = comparator.compare(before, after);
+
+        assertEquals(1, diff.baselineBuilds());
+        assertEquals(2.0, diff.totalSeconds().delta(), 1e-9);
+        assertEquals(0.2, diff.totalSeconds().relativeDelta(), 1e-9);
+        assertNull(diff.totalSeconds().pValue());
+        assertNull(diff.totalSeconds().significant());
+        // overhead: 10 - 9 = 1 -> 12 - 8.5 = 3.5
+        assertEquals(2.5, diff.overheadSeconds().delta(), 1e-9);
+
+        // sorted by absolute change in module time: legacy -3, core +1.5, api +1
+        assertEquals(List.of("legacy", "core", "api"), diff.modules().stream().map(ModuleDiff::name).toList());
+
+        ModuleDiff core = diff.modules().get(1);
+        assertEquals(1.5, core.seconds().delta(), 1e-9);
+        assertEquals(0.5, core.testSeconds().delta(), 1e-9);
+        assertEquals(4.0, core.sourceFiles().delta(), 1e-9);
+
+        ModuleDiff api = diff.modules().get(2);
+        assertEquals(0, api.baselineBuilds());
+        assertNull(api.seconds().relativeDelta());
+        assertNull(api.seconds().significant());
+    }
+
+    @Test
+    void compare_cohorts_separatesRealChangeFromNoise() {
+        BuildCohort before = new BuildCohort();
+        BuildCohort after = new BuildCohort();
+        for (int i = 0; i < 6; i++) {
+            double jitter = 0.1 * ((i * 7) % 5);
+            // core gets 2 s slower, web only jitters around the same value
+            before.accept(new BuildSummary(20.0 + jitter, List.of(
+                    new ModuleSummary("core", 10.0 + jitter), new ModuleSummary("web", 5.0 + jitter))));
+            after.accept(new BuildSummary(22.0 + jitter, List.of(
+                    new ModuleSummary("core", 12.0 + jitter), new ModuleSummary("web", 5.05 + 0.1 * ((i * 3) % 5)))));
+        }
+
+        BuildDiff diff = comparator.compare(before, after);
+
+        ModuleDiff core = diff.modules().get(0);
+        assertEquals("core", core.name());
+        assertTrue(core.seconds().significant());
+        assertTrue(core.seconds().pValue() < BuildComparator.SIGNIFICANCE_LEVEL);
+
+        ModuleDiff web = diff.modules().get(1);
+        assertFalse(web.seconds().significant());
+        assertTrue(diff.totalSeconds().significant());
+    }
+
+    @Test
+    void compare_smallCohorts_testOnlyFromFourBuildsPerSide() {
+        // core gets 50% slower in every build; no overlap between the sides
+        BuildCohort before = new BuildCohort();
+        BuildCohort after = new BuildCohort();
+        for (int i = 0; i < 3; i++) {
+            before.accept(new BuildSummary(10.0 + i * 0.1, List.of(new ModuleSummary("core", 10.0 + i * 0.1))));
+            after.accept(new BuildSummary(15.0 + i * 0.1, List.of(new ModuleSummary("core", 15.0 + i * 0.1))));
+        }
+
+        // 3 vs 3: the exact p could not go below 0.1, so there is no test at all
+        MetricDiff small = comparator.compare(before, after).modules().get(0).seconds();
+        assertEquals(5.0, small.delta(), 1e-9);
+        assertNull(small.pValue());
+        assertNull(small.significant());
+
+        before.accept(new BuildSummary(10.3, List.of(new ModuleSummary("core", 10.3))));
+        after.accept(new BuildSummary(15.3, List.of(new ModuleSummary("core", 15.3))));
+
+        // 4 vs 4: complete separation has p = 2 / C(8, 4)
+        MetricDiff four = comparator.compare(before, after).modules().get(0).seconds();
+        assertEquals(2.0 / 70.0, four.pValue(), 1e-12);
+        assertTrue(four.significant());
+    }
+
+    @Test
+    void compare_emptyCohortShouldThrow() {
+        BuildCohort before = cohort(new BuildSummary(10.0, List.of(new ModuleSummary("core", 6.0))));
+        assertThrows(IllegalStateException.class, () -> comparator.compare(before, new BuildCohort()));
+    }
+
+    private static BuildCohort cohort(BuildSummary... builds) {
+        BuildCohort cohort = new BuildCohort();
+        for (BuildSummary b : builds) {
+            cohort.accept(b);
+        }
+        return cohort;
+    }
+}
@@ -0,0 +1,63 @@
+package com.buildanalyzer.core.diff;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MannWhitneyUTest {
+
+    @Test
+    void exact_completelySeparatedSamples() {
+        // 1 of C(6,3) = 20 orderings is at least this extreme on each side
+        MannWhitneyU.Result r = MannWhitneyU.test(new double[]{1, 2, 3}, new double[]{4, 5, 6});
+        assertEquals(0.0, r.u());
+        assertEquals(0.1, r.pValue(), 1e-12);
+
+        // C(10,5) = 252
+        r = MannWhitneyU.test(new double[]{10, 9, 8, 7, 6}, new double[]{1, 2, 3, 4, 5});
+        assertEquals(25.0, r.u());
+        assertEquals(2.0 / 252.0, r.pValue(), 1e-12);
+    }
+
+    @Test
+    void exact_overlappingSamplesAreNotSignificant() {
+        MannWhitneyU.Result r = MannWhitneyU.test(new double[]{1, 4, 5, 8}, new double[]{2, 3, 6, 7});
+        assertEquals(8.0, r.u());
+        assertEquals(1.0, r.pValue(), 1e-12);
+    }
+
+    @Test
+    void normalApproximation_agreesWithExactNearTheLimit() {
+        int n = MannWhitneyU.EXACT_MAX_SAMPLE;
+        for (double u : new double[]{100, 130, 160, 200}) {
+            double exact = MannWhitneyU.exactPValue(n, n, u);
+            double approx = MannWhitneyU.normalPValue(n, n, u, 0.0);
+            assertEquals(exact, approx, 0.005, "U=" + u);
+        }
+        assertEquals(1.0, MannWhitneyU.exactPValue(n, n, n * n / 2.0), 1e-12);
+    }
+
+    @Test
+    void largeSeparatedSamples_haveTinyPValue() {
+        double[] a = new double[25];
+        double[] b = new double[25];
+        for (int i = 0; i < 25; i++) {
+            a[i] = i;
+            b[i] = 25 + i;
+        }
+        // z = (312.5 - 0.5) / sqrt(2656.25) = 6.05
+        assertTrue(MannWhitneyU.test(a, b).pValue() < 1e-8);
+    }
+
+    @Test
+    void ties_areRankedByAverage() {
+        MannWhitneyU.Result r = MannWhitneyU.test(new double[]{3, 3, 3}, new double[]{3, 3, 3});
+        assertEquals(4.5, r.u());
+        assertEquals(1.0, r.pValue());
+
+        r = MannWhitneyU.test(new double[]{1, 2, 2}, new double[]{2, 3, 4});
+        // pairs a > b: none; ties a == b: (2,2) twice -> U = 1
+        assertEquals(1.0, r.u());
+        assertTrue(r.pValue() > 0.05);
+    }
+}
@@ -0,0 +1,71 @@
+package com.buildanalyzer.core.graph;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuilderSimulatorTest {
+
+    @Test
+    void wallSeconds_takesQueuedModulesInFifoOrder() {
+        // app needs lib; with 2 threads: api + lib at 0, tools at 1, app waits for a thread until 2
+        ModuleDag dag = ModuleDag.of(graph(), build(4.0, 1.0, 1.0, 2.0));
+
+        assertEquals(8.0, BuilderSimulator.wallSeconds(dag, 1), 1e-9);
+        assertEquals(4.0, BuilderSimulator.wallSeconds(dag, 2), 1e-9);
+        assertEquals(4.0, BuilderSimulator.wallSeconds(dag, 3), 1e-9);
+    }
+
+    @Test
+    void simulate_findsKnee_andCapsThreadsAtModuleCount() {
+        ModuleDag dag = ModuleDag.of(graph(), build(4.0, 1.0, 1.0, 2.0));
+
+        ThreadCountSimulation sim = BuilderSimulator.simulate(dag, 16);
+
+        assertEquals(4, sim.predictions().size());
+        assertEquals(8.0, sim.workSeconds(), 1e-9);
+        assertEquals(4.0, sim.criticalPathSeconds(), 1e-9);
+        assertEquals(2, sim.kneeThreads());
+
+        ThreadCountPrediction two = sim.predictions().get(1);
+        assertEquals(2.0, two.speedup(), 1e-9);
+        assertEquals(1.0, two.utilization(), 1e-9);
+        assertEquals(0.5, sim.predictions().get(3).utilization(), 1e-9);
+    }
+
+    @Test
+    void simulate_kneeLooksPastNonImprovingThreadCounts() {
+        // 3 independent modules of 1 s: 3 s, 2 s, 1 s; only 3 threads reach the floor
+        ModuleDag dag = ModuleDag.of(new ReactorGraph(), new BuildSummary(3.0, List.of(
+                new ModuleSummary("a", 1.0), new ModuleSummary("b", 1.0), new ModuleSummary("c", 1.0))));
+
+        ThreadCountSimulation sim = BuilderSimulator.simulate(dag, 3);
+
+        assertEquals(List.of(3.0, 2.0, 1.0),
+                sim.predictions().stream().map(ThreadCountPrediction::wallSeconds).toList());
+        assertEquals(3, sim.kneeThreads());
+        assertEquals(List.of("a", "b", "c"), sim.unmatchedModules());
+    }
+
+    private static ReactorGraph graph() {
+        ReactorGraph graph = new ReactorGraph();
+        graph.addModule("g:api", "api");
+        graph.addModule("g:lib", "lib");
+        graph.addModule("g:tools", "tools");
+        graph.addModule("g:app", "app");
+        graph.addDependency("g:app", "g:lib");
+        return graph;
+    }
+
+    private static BuildSummary build(double api, double lib, double tools, double app) {
+        return new BuildSummary(api + lib + tools + app, List.of(
+                new ModuleSummary("api", api),
+                new ModuleSummary("lib", lib),
+                new ModuleSummary("tools", tools),
+                new ModuleSummary("app", app)));
+    }
+}
@@ -0,0 +1,89 @@
+package com.buildanalyzer.core.graph;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CriticalPathAnalyzerTest {
+
+    @Test
+    void analyze_deepChainBeatsSlowestModule() {
+        // api -> core -> service -> web is longer than the slowest module (reports)
+        ReactorGraph graph = new ReactorGraph();
+        graph.addModule("g:api", "api");
+        graph.addModule("g:core", "core");
+        graph.addModule("g:reports", "reports");
+        graph.addModule("g:service", "service");
+        graph.addModule("g:web", "web");
+        graph.addDependency("g:core", "g:api");
+        graph.addDependency("g:reports", "g:api");
+        graph.addDependency("g:service", "g:core");
+        graph.addDependency("g:web", "g:service");
+        graph.addDependency("g:web", "org.slf4j:slf4j-api");
+
+        BuildSummary summary = new BuildSummary(12.0, List.of(
+                new ModuleSummary("api", 1.0),
+                new ModuleSummary("core", 3.0),
+                new ModuleSummary("reports", 6.0),
+                new ModuleSummary("service", 2.5),
+                new ModuleSummary("web", 2.0)));
+
+        CriticalPath cp = CriticalPathAnalyzer.analyze(ModuleDag.of(graph, summary));
+
+        assertEquals(8.5, cp.seconds(), 1e-9);
+        assertEquals(List.of("api", "core", "service", "web"), cp.path());
+        assertTrue(cp.unmatchedModules().isEmpty());
+
+        ModuleSlack reports = cp.modules().get(2);
+        assertEquals("reports", reports.name());
+        assertEquals(1.0, reports.earliestStart(), 1e-9);
+        assertEquals(1.5, reports.slack(), 1e-9);
+        assertFalse(reports.critical());
+        assertEquals(List.of(true, true, false, true, true),
+                cp.modules().stream().map(ModuleSlack::critical).toList());
+    }
+
+    @Test
+    void analyze_matchesByArtifactId_andKeepsUnbuiltModulesAsOrdering() {
+        // "Core Library" in the pom, parent was not built (-pl), tools is not in the graph
+        ReactorGraph graph = new ReactorGraph();
+        graph.addModule("g:parent", "parent");
+        graph.addModule("g:core", "Core Library");
+        graph.addModule("g:app", "app");
+        graph.addDependency("g:core", "g:parent");
+        graph.addDependency("g:app", "g:core");
+
+        BuildSummary summary = new BuildSummary(5.0, List.of(
+                new ModuleSummary("Core", 2.0),
+                new ModuleSummary("app", 1.0),
+                new ModuleSummary("tools", 4.0)));
+
+        ModuleDag dag = ModuleDag.of(graph, summary);
+        CriticalPath cp = CriticalPathAnalyzer.analyze(dag);
+
+        assertFalse(dag.isBuilt(0));
+        assertEquals(List.of("tools"), cp.unmatchedModules());
+        assertEquals(4.0, cp.seconds(), 1e-9);
+        assertEquals(List.of("tools"), cp.path());
+        assertEquals(List.of("Core", "app", "tools"), cp.modules().stream().map(ModuleSlack::name).toList());
+        assertEquals(1.0, cp.modules().get(0).slack(), 1e-9);
+    }
+
+    @Test
+    void of_cycle_isRejected() {
+        ReactorGraph graph = new ReactorGraph();
+        graph.addModule("g:a", "a");
+        graph.addModule("g:b", "b");
+        graph.addDependency("g:a", "g:b");
+        graph.addDependency("g:b", "g:a");
+
+        BuildSummary summary = new BuildSummary(1.0, List.of(new ModuleSummary("a", 1.0)));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> ModuleDag.of(graph, summary));
+        assertTrue(e.getMessage().contains("a, b"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.buildanalyzer.core.graph;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReactorGraphReaderTest {
+
+    @Test
+    void pomReactorReader_followsModules_dependenciesAndParent(@TempDir Path dir) throws Exception {
+        Files.writeString(dir.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <groupId>com.example</groupId>
+                  <artifactId>parent</artifactId>
+                  <modules>
+                    <module>core</module>
+                    <module>web</module>
+                  </modules>
+                </project>
+                """);
+        Files.createDirectories(dir.resolve("core"));
+        Files.writeString(dir.resolve("core/pom.xml"), """
+                <project>
+                  <parent><groupId>com.example</groupId><artifactId>parent</artifactId></parent>
+                  <artifactId>core</artifactId>
+                  <name>Core Library</name>
+                  <dependencies>
+                    <dependency><groupId>org.slf4j</groupId><artifactId>slf4j-api</artifactId></dependency>
+                  </dependencies>
+                </project>
+                """);
+        Files.createDirectories(dir.resolve("web"));
+        Files.writeString(dir.resolve("web/pom.xml"), """
+                <project>
+                  <parent><groupId>com.example</groupId><artifactId>parent</artifactId></parent>
+                  <artifactId>web</artifactId>
+                  <name>${project.artifactId}</name>
+                  <dependencies>
+                    <dependency><groupId>${project.groupId}</groupId><artifactId>core</artifactId></dependency>
+                  </dependencies>
+                </project>
+                """);
+
+        ReactorGraph graph = PomReactorReader.read(dir);
+
+        assertEquals(List.of("com.example:parent", "com.example:core", "com.example:web"), graph.modules());
+        assertEquals("Core Library", graph.nameOf("com.example:core"));
+        assertEquals("web", graph.nameOf("com.example:web"));
+        assertEquals(List.of("com.example:parent"), graph.dependenciesOf("com.example:core"));
+        assertEquals(List.of("com.example:parent", "com.example:core"), graph.dependenciesOf("com.example:web"));
+    }
+
+    @Test
+    void dependencyTreeReader_readsDirectReactorDependencies() throws Exception {
+        String log = """
+                [INFO] -----------------------< com.example:core >-----------------------
+                [INFO] Building core 1.0-SNAPSHOT                                   [1/2]
+                [INFO] --------------------------------[ jar ]---------------------------------
+                [INFO]
+                [INFO] --- dependency:3.6.0:tree (default-cli) @ core ---
+                [INFO] com.example:core:jar:1.0-SNAPSHOT
+                [INFO] \\- org.slf4j:slf4j-api:jar:2.0.9:compile
+                [INFO]
+                [INFO] -----------------------< com.example:web >------------------------
+                [INFO] Building web 1.0-SNAPSHOT                                    [2/2]
+                [INFO] --- maven-dependency-plugin:3.6.0:tree (default-cli) @ web ---
+                [INFO] com.example:web:war:1.0-SNAPSHOT
+                [INFO] +- com.example:core:jar:1.0-SNAPSHOT:compile
+                [INFO] |  \\- org.slf4j:slf4j-api:jar:2.0.9:compile
+                [INFO] \\- junit:junit:jar:4.13.2:test
+                [INFO] BUILD SUCCESS
+                """;
+
+        ReactorGraph graph = DependencyTreeReader.read(new BufferedReader(new StringReader(log)));
+
+        assertEquals(List.of("com.example:core", "com.example:web"), graph.modules());
+        assertEquals(List.of(), graph.dependenciesOf("com.example:core"));
+        assertEquals(List.of("com.example:core"), graph.dependenciesOf("com.example:web"));
+    }
+
+    @Test
+    void dependencyTreeReader_readsDebugTrees_andSkipsPluginTrees() throws Exception {
+        String log = """
+                [main] [INFO] ---------------------< com.example:service >----------------------
+                [main] [INFO] Building service 1.0-SNAPSHOT                          [3/3]
+                [main] [DEBUG] org.apache.maven.plugins:maven-surefire-plugin:jar:3.2.5
+                [main] [DEBUG]    com.example:api:jar:1.0-SNAPSHOT:compile
+                [main] [DEBUG] com.example:service:jar:1.0-SNAPSHOT
+                [main] [DEBUG]    com.example:api:jar:1.0-SNAPSHOT:compile
+                [main] [DEBUG]       com.example:model:jar:1.0-SNAPSHOT:compile
+                [main] [DEBUG]    com.example:model:jar:1.0-SNAPSHOT:compile (version managed from 0.9)
+                [main] [DEBUG]   (f) basedir = /work/service
+                [main] [DEBUG]    com.example:unrelated:jar:1:compile
+                """;
+
+        ReactorGraph graph = DependencyTreeReader.read(new BufferedReader(new StringReader(log)));
+
+        assertEquals(List.of("com.example:service"), graph.modules());
+        assertEquals("service", graph.nameOf("com.example:service"));
+        graph.addModule("com.example:api", "api");
+        graph.addModule("com.example:model", "model");
+        graph.addModule("com.example:unrelated", "unrelated");
+        assertEquals(List.of("com.example:api", "com.example:model"), graph.dependenciesOf("com.example:service"));
+    }
+}
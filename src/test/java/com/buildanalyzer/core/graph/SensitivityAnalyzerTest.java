@@ -0,0 +1,59 @@
+package com.buildanalyzer.core.graph;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SensitivityAnalyzerTest {
+
+    @Test
+    void serial_savesShareOfEachModuleOneForOne() {
+        BuildSummary summary = new BuildSummary(10.0, List.of(
+                new ModuleSummary("core", 2.0),
+                new ModuleSummary("service", 6.0),
+                new ModuleSummary("web", 1.0)));
+
+        SpeedupSensitivity s = SensitivityAnalyzer.serial(summary, 0.25);
+
+        assertFalse(s.criticalPathBased());
+        assertEquals(10.0, s.baselineSeconds(), 1e-9);
+        assertEquals(List.of("service", "core", "web"), s.modules().stream().map(ModuleSensitivity::name).toList());
+        assertEquals(1.5, s.modules().get(0).savedSeconds(), 1e-9);
+        assertEquals(6.0, s.modules().get(0).maxSavedSeconds(), 1e-9);
+    }
+
+    @Test
+    void parallel_rankByCriticalPathSavingsNotByDuration() {
+        // core -> web (2 + 3 s) is critical; util (4 s) has 1 s slack
+        ReactorGraph graph = new ReactorGraph();
+        graph.addModule("g:core", "core");
+        graph.addModule("g:util", "util");
+        graph.addModule("g:web", "web");
+        graph.addDependency("g:web", "g:core");
+
+        BuildSummary summary = new BuildSummary(5.5, List.of(
+                new ModuleSummary("core", 2.0),
+                new ModuleSummary("util", 4.0),
+                new ModuleSummary("web", 3.0)));
+
+        SpeedupSensitivity s = SensitivityAnalyzer.parallel(ModuleDag.of(graph, summary), 0.5);
+
+        assertTrue(s.criticalPathBased());
+        assertEquals(5.0, s.baselineSeconds(), 1e-9);
+        // the slowest module comes last; equal savings keep reactor order
+        assertEquals(List.of("core", "web", "util"), s.modules().stream().map(ModuleSensitivity::name).toList());
+
+        // web: 5 -> max(2 + 1.5, 4) = 4, and never below util's 4 s
+        ModuleSensitivity web = s.modules().get(1);
+        assertEquals(1.0, web.savedSeconds(), 1e-9);
+        assertEquals(1.0, web.maxSavedSeconds(), 1e-9);
+
+        ModuleSensitivity util = s.modules().get(2);
+        assertEquals(0.0, util.savedSeconds(), 1e-9);
+        assertEquals(0.0, util.maxSavedSeconds(), 1e-9);
+    }
+}
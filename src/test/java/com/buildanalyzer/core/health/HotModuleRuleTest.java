@@ -0,0 +1,63 @@
+package com.buildanalyzer.core.health;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleRanking;
+import com.buildanalyzer.core.model.ModuleSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotModuleRuleTest {
+
+    private final HotModuleRule rule = new HotModuleRule();
+
+    @Test
+    void apply_withOrWithoutRanking_givesSameHints() {
+        List<ModuleSummary> modules = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            modules.add(new ModuleSummary("small-" + i, 0.1));
+        }
+        modules.add(50, new ModuleSummary("api", 30.0));
+        modules.add(new ModuleSummary("core", 45.0));
+        BuildSummary build = new BuildSummary(100.0, modules);
+
+        List<BuildHealthHint> plain = new ArrayList<>();
+        rule.apply(build, plain);
+        assertEquals(2, plain.size());
+        assertEquals("core", plain.get(0).scope());
+        assertEquals(HealthSeverity.WARN, plain.get(0).severity());
+        assertEquals("api", plain.get(1).scope());
+        assertEquals(HealthSeverity.INFO, plain.get(1).severity());
+
+        // a ranking that covers the hot modules, one that is too short, and a full one
+        for (int limit : new int[]{3, 1, 0}) {
+            List<BuildHealthHint> ranked = new ArrayList<>();
+            rule.apply(build, ModuleRanking.bySeconds(build, limit), ranked);
+            assertEquals(plain, ranked, "limit=" + limit);
+        }
+    }
+
+    @Test
+    void ranking_rollsUpTheRest() {
+        BuildSummary build = new BuildSummary(10.0, List.of(
+                new ModuleSummary("a", 1.0),
+                new ModuleSummary("b", 4.0),
+                new ModuleSummary("c", 2.0),
+                new ModuleSummary("d", 2.0)));
+
+        ModuleRanking ranking = ModuleRanking.bySeconds(build, 2);
+
+        // equal times keep Reactor Summary order: c before d
+        assertEquals(List.of("b", "c"), ranking.top().stream().map(ModuleSummary::getName).toList());
+        assertEquals(2, ranking.othersCount());
+        assertEquals(3.0, ranking.othersSeconds(), 1e-9);
+        assertFalse(ranking.isComplete());
+        assertTrue(ranking.coversModulesOfAtLeast(2.5));
+        assertFalse(ranking.coversModulesOfAtLeast(2.0));
+
+        assertTrue(ModuleRanking.bySeconds(build, 0).isComplete());
+    }
+}
@@ -0,0 +1,79 @@
+package com.buildanalyzer.core.health;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegressionDetectorTest {
+
+    @Test
+    void stableNoisyHistory_shouldNotBeFlagged() {
+        Random random = new Random(1);
+        RegressionDetector detector = new RegressionDetector();
+        for (int b = 0; b < 500; b++) {
+            detector.accept(build(noisy(random, 40.0), noisy(random, 12.0)));
+        }
+        assertEquals(List.of(), detector.findings());
+    }
+
+    @Test
+    void persistentSlowdown_shouldBeFlaggedAtTheBuildWhereItStarted() {
+        Random random = new Random(2);
+        RegressionDetector detector = new RegressionDetector();
+        for (int b = 1; b <= 80; b++) {
+            double core = b < 50 ? 40.0 : 52.0; // +30% from build #50 on
+            detector.accept(build(noisy(random, core), noisy(random, 12.0)));
+        }
+
+        List<BuildHealthHint> findings = detector.findings();
+        assertEquals(1, findings.size(), findings.toString());
+        BuildHealthHint hint = findings.get(0);
+        assertEquals(HealthSeverity.WARN, hint.severity());
+        assertEquals("core", hint.scope());
+        assertTrue(hint.message().contains("module time regressed since build #50"), hint.message());
+        assertTrue(hint.message().contains("40.0"), hint.message());
+    }
+
+    @Test
+    void singleSlowBuild_shouldNotBeFlagged() {
+        Random random = new Random(3);
+        RegressionDetector detector = new RegressionDetector();
+        for (int b = 1; b <= 60; b++) {
+            double core = b == 30 ? 400.0 : 40.0; // one build with a cold cache
+            detector.accept(build(noisy(random, core), noisy(random, 12.0)));
+        }
+        assertEquals(List.of(), detector.findings());
+    }
+
+    @Test
+    void testTimeSlowdown_shouldBeFlaggedSeparately() {
+        Random random = new Random(4);
+        RegressionDetector detector = new RegressionDetector();
+        for (int b = 1; b <= 60; b++) {
+            double tests = b < 30 ? 10.0 : 11.5; // +15%: INFO
+            detector.accept(build(noisy(random, 40.0), noisy(random, tests)));
+        }
+
+        List<BuildHealthHint> findings = detector.findings();
+        assertEquals(1, findings.size(), findings.toString());
+        assertEquals(HealthSeverity.INFO, findings.get(0).severity());
+        assertTrue(findings.get(0).message().contains("test time regressed"), findings.get(0).message());
+    }
+
+    /** +-1% jitter, rounded to ms like Maven output */
+    private static double noisy(Random random, double seconds) {
+        return Math.round(seconds * (1.0 + 0.01 * random.nextGaussian()) * 1000.0) / 1000.0;
+    }
+
+    private static BuildSummary build(double coreSeconds, double coreTestSeconds) {
+        return new BuildSummary(coreSeconds + 5.0, List.of(
+                new ModuleSummary("parent", 0.25),
+                new ModuleSummary("core", coreSeconds, 120, 0, 0, 0, coreTestSeconds, 80, 40, List.of()),
+                new ModuleSummary("webapp", 5.0)));
+    }
+}
@@ -0,0 +1,170 @@
+package com.buildanalyzer.core.history;
+
+import com.buildanalyzer.core.aggregate.BuildAccumulator;
+import com.buildanalyzer.core.aggregate.BuildAggregator;
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import com.buildanalyzer.core.parser.MavenLogParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildHistoryStoreTest {
+
+    @Test
+    void ingestedBuilds_shouldAggregateLikeTheParsedSummaries(@TempDir Path dir) throws Exception {
+        Path store = dir.resolve("history");
+        List<BuildSummary> parsed = new ArrayList<>();
+        for (String name : List.of("build-parent.log", "build-parent2.log")) {
+            Path log = Paths.get("sample-logs", name);
+            BuildSummary summary = new MavenLogParser().parse(log);
+            parsed.add(summary);
+            try (BuildHistoryWriter writer = BuildHistoryWriter.open(store)) {
+                assertTrue(writer.append(log, summary));
+            }
+        }
+
+        BuildHistoryReader reader = BuildHistoryReader.open(store);
+        assertEquals(2, reader.buildCount());
+        // 'Finished at' of the log, not its modification time
+        assertEquals(parsed.get(0).getFinishedAtMillis(), reader.timestampMillis(0));
+        assertEquals(parsed.get(0).getFinishedAtMillis(), reader.build(0).getFinishedAtMillis());
+
+        BuildAggregator aggregator = new BuildAggregator();
+        BuildAccumulator fromStore = aggregator.newAccumulator();
+        assertEquals(2, reader.forEachBuild(Long.MIN_VALUE, Long.MAX_VALUE, fromStore::accept));
+        assertEquals(aggregator.aggregate(parsed), fromStore.finish());
+
+        ModuleSummary core = reader.build(0).getModules().get(1);
+        ModuleSummary expected = parsed.get(0).getModules().get(1);
+        assertEquals(expected.getName(), core.getName());
+        assertEquals(expected.getTestsRun(), core.getTestsRun());
+        assertEquals(expected.getMainSourceFiles(), core.getMainSourceFiles());
+    }
+
+    @Test
+    void open_withSmallWindows_shouldReadRowsAcrossWindowBoundaries(@TempDir Path dir) throws Exception {
+        Path store = dir.resolve("history");
+        try (BuildHistoryWriter writer = BuildHistoryWriter.open(store)) {
+            for (int b = 0; b < 5; b++) {
+                writer.append(new BuildSummary(10.0 + b, List.of(
+                        new ModuleSummary("core", b + 0.25),
+                        new ModuleSummary("util", b + 0.5),
+                        new ModuleSummary("web", b + 0.75))), 1_000L * b, b);
+            }
+        }
+
+        // 16-byte windows: two 8-byte or four 4-byte values each, every column spans several
+        BuildHistoryReader reader = BuildHistoryReader.open(store, 16);
+        assertEquals(5, reader.buildCount());
+        for (int b = 0; b < 5; b++) {
+            BuildSummary build = reader.build(b);
+            assertEquals(1_000L * b, reader.timestampMillis(b));
+            assertEquals(10.0 + b, build.getTotalSeconds(), 0.0);
+            assertEquals(List.of("core", "util", "web"),
+                    build.getModules().stream().map(ModuleSummary::getName).toList());
+            assertEquals(List.of(b + 0.25, b + 0.5, b + 0.75),
+                    build.getModules().stream().map(ModuleSummary::getSeconds).toList());
+        }
+        assertThrows(IllegalArgumentException.class, () -> BuildHistoryReader.open(store, 12));
+    }
+
+    @Test
+    void forEachBuildInTimeOrder_shouldSortOutOfOrderIngests(@TempDir Path dir) throws Exception {
+        Path store = dir.resolve("history");
+        try (BuildHistoryWriter writer = BuildHistoryWriter.open(store)) {
+            writer.append(new BuildSummary(3.0, List.of(new ModuleSummary("core", 3.0))), 3_000L, 0);
+            writer.append(new BuildSummary(1.0, List.of(new ModuleSummary("core", 1.0))), 1_000L, 0);
+            writer.append(new BuildSummary(2.0, List.of(new ModuleSummary("core", 2.0))), 2_000L, 0);
+            writer.append(new BuildSummary(1.5, List.of(new ModuleSummary("core", 1.5))), 1_000L, 0);
+        }
+
+        List<Double> totals = new ArrayList<>();
+        BuildHistoryReader.open(store).forEachBuildInTimeOrder(b -> totals.add(b.getTotalSeconds()));
+        // equal timestamps keep their ingest order
+        assertEquals(List.of(1.0, 1.5, 2.0, 3.0), totals);
+    }
+
+    @Test
+    void append_shouldSkipLogsThatWereAlreadyIngested(@TempDir Path dir) throws Exception {
+        Path store = dir.resolve("history");
+        Path log = Paths.get("sample-logs", "build-parent.log");
+        BuildSummary summary = new MavenLogParser().parse(log);
+
+        try (BuildHistoryWriter writer = BuildHistoryWriter.open(store)) {
+            assertTrue(writer.append(log, summary));
+            assertFalse(writer.append(log, summary));
+        }
+        try (BuildHistoryWriter writer = BuildHistoryWriter.open(store)) {
+            assertFalse(writer.append(log, summary));
+            assertEquals(1, writer.duplicates());
+        }
+        assertEquals(1, BuildHistoryReader.open(store).buildCount());
+    }
+
+    @Test
+    void forEachBuild_shouldFilterByTimestamp(@TempDir Path dir) throws Exception {
+        Path store = dir.resolve("history");
+        try (BuildHistoryWriter writer = BuildHistoryWriter.open(store)) {
+            for (int i = 0; i < 5; i++) {
+                writer.append(build(i + 1.0, "core"), 1_000L * i, 0);
+            }
+        }
+
+        List<Double> totals = new ArrayList<>();
+        BuildHistoryReader.open(store).forEachBuild(1_000L, 3_000L, b -> totals.add(b.getTotalSeconds()));
+        assertEquals(List.of(2.0, 3.0), totals);
+    }
+
+    @Test
+    void open_shouldDropTornTail_andContinueAppending(@TempDir Path dir) throws Exception {
+        Path store = dir.resolve("history");
+        try (BuildHistoryWriter writer = BuildHistoryWriter.open(store)) {
+            writer.append(build(1.0, "core", "api"), 1, 0);
+            writer.append(build(2.0, "core", "webapp"), 2, 0);
+        }
+
+        // simulate a crash in the middle of the second build: module rows half written
+        truncate(store.resolve(HistoryColumn.MODULE_SECONDS.fileName), 3 * Double.BYTES);
+        Files.writeString(store.resolve(HistoryColumn.MODULE_NAMES_FILE), "core\napi\nwebapp\nhalf-writ");
+
+        assertEquals(1, BuildHistoryReader.open(store).buildCount());
+
+        try (BuildHistoryWriter writer = BuildHistoryWriter.open(store)) {
+            writer.append(build(3.0, "webapp", "new"), 3, 0);
+        }
+
+        BuildHistoryReader reader = BuildHistoryReader.open(store);
+        assertEquals(2, reader.buildCount());
+        assertEquals(List.of("core", "api"), names(reader.build(0)));
+        assertEquals(3.0, reader.build(1).getTotalSeconds(), 0.0);
+        assertEquals(List.of("webapp", "new"), names(reader.build(1)));
+    }
+
+    private static BuildSummary build(double total, String... modules) {
+        List<ModuleSummary> list = new ArrayList<>();
+        for (String m : modules) {
+            list.add(new ModuleSummary(m, total / modules.length));
+        }
+        return new BuildSummary(total, list);
+    }
+
+    private static List<String> names(BuildSummary build) {
+        return build.getModules().stream().map(ModuleSummary::getName).toList();
+    }
+
+    private static void truncate(Path file, long size) throws Exception {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.buildanalyzer.core.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecimalScannerTest {
+
+    @Test
+    void parseDecimal_shouldBeBitIdenticalToParseDouble() {
+        Random random = new Random(42);
+        for (int n = 0; n < 200_000; n++) {
+            String text = randomDecimal(random);
+            double expected = Double.parseDouble(text);
+            double actual = DecimalScanner.parseDecimal(text, 0, text.length());
+            assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(actual), text);
+        }
+    }
+
+    @Test
+    void parseDecimal_shouldFallBack_forLongInputs() {
+        String text = "123456789012345678901234.123456789012345678901234567";
+        assertEquals(Double.parseDouble(text), DecimalScanner.parseDecimal(text, 0, text.length()));
+    }
+
+    @Test
+    void parseDecimal_shouldReadFieldInsideLine() {
+        String line = "[INFO] core ..... SUCCESS [  4.637 s]";
+        int from = line.indexOf("4.637");
+        assertEquals(4.637, DecimalScanner.parseDecimal(line, from, from + 5));
+    }
+
+    @Test
+    void parseInt_shouldMatchIntegerParseInt_includingOverflow() {
+        assertEquals(0, DecimalScanner.parseInt("0", 0, 1));
+        assertEquals(Integer.MAX_VALUE, DecimalScanner.parseInt("2147483647", 0, 10));
+        assertEquals(7, DecimalScanner.parseInt("Tests run: 7,", 11, 12));
+
+        assertThrows(NumberFormatException.class, () -> DecimalScanner.parseInt("2147483648", 0, 10));
+        assertThrows(NumberFormatException.class, () -> DecimalScanner.parseInt("12a", 0, 3));
+        assertThrows(NumberFormatException.class, () -> DecimalScanner.parseInt("", 0, 0));
+    }
+
+    private static String randomDecimal(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int intDigits = 1 + random.nextInt(random.nextBoolean() ? 4 : 17);
+        for (int i = 0; i < intDigits; i++) {
+            sb.append((char) ('0' + random.nextInt(10)));
+        }
+        int fractionDigits = random.nextInt(random.nextBoolean() ? 4 : 25);
+        if (fractionDigits > 0) {
+            sb.append('.');
+            for (int i = 0; i < fractionDigits; i++) {
+                sb.append((char) ('0' + random.nextInt(10)));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package com.buildanalyzer.core.parser;
+
+import com.buildanalyzer.core.parser.MavenLineClassifier.LineKind;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MavenLineClassifierTest {
+
+    private final MavenLineClassifier classifier = new MavenLineClassifier();
+
+    @Test
+    void classify_shouldExtractModuleName_fromBuildingLine() {
+        assertEquals(LineKind.BUILDING,
+                classifier.classify("[INFO] Building core 1.0-SNAPSHOT                                         [2/4]"));
+        assertEquals("core", classifier.moduleName);
+    }
+
+    @Test
+    void classify_shouldTreatBuildingJarLine_asUnrecognized() {
+        // no [n/m] counter -> not a module switch; regex fallback will reject it as well
+        assertEquals(LineKind.UNRECOGNIZED,
+                classifier.classify("[INFO] Building jar: D:\\parent-project\\core\\target\\core-1.0-SNAPSHOT.jar"));
+    }
+
+    @Test
+    void classify_shouldExtractPluginStep() {
+        assertEquals(LineKind.PLUGIN,
+                classifier.classify("[INFO] --- compiler:3.13.0:testCompile (default-testCompile) @ core ---"));
+        assertEquals("compiler:3.13.0:testCompile", classifier.pluginStep);
+    }
+
+    @Test
+    void classify_shouldIgnoreSeparatorLines() {
+        assertEquals(LineKind.NOISE,
+                classifier.classify("[INFO] -------------------------------------------------------"));
+        assertEquals(LineKind.NOISE, classifier.classify("[INFO] "));
+        assertEquals(LineKind.NOISE, classifier.classify("Downloading from central: https://repo..."));
+    }
+
+    @Test
+    void classify_shouldDistinguishMainAndTestCompilation() {
+        assertEquals(LineKind.COMPILE,
+                classifier.classify("[INFO] Compiling 12 source files with javac [debug release 17] to target\\classes"));
+        assertEquals(12, classifier.compiledFiles);
+        assertFalse(classifier.compiledTestSources);
+
+        assertEquals(LineKind.COMPILE,
+                classifier.classify("[INFO] Compiling 1 source file with javac [debug release 17] to target\\test-classes"));
+        assertEquals(1, classifier.compiledFiles);
+        assertTrue(classifier.compiledTestSources);
+    }
+
+    @Test
+    void classify_shouldExtractTestResults_withTimeElapsed() {
+        assertEquals(LineKind.TEST_RESULT, classifier.classify(
+                "[INFO] Tests run: 7, Failures: 1, Errors: 2, Skipped: 3, Time elapsed: 0.064 s -- in com.example.AppTest"));
+        assertEquals(7, classifier.testsRun);
+        assertEquals(1, classifier.failures);
+        assertEquals(2, classifier.errors);
+        assertEquals(3, classifier.skipped);
+        assertEquals(0.064, classifier.testSeconds, 0.0);
+
+        // module-level summary without "Time elapsed" is not a per-class result
+        assertEquals(LineKind.UNRECOGNIZED,
+                classifier.classify("[INFO] Tests run: 1, Failures: 0, Errors: 0, Skipped: 0"));
+    }
+
+    @Test
+    void classify_shouldRecognizeSectionMarkers_fromTheWordAfterInfo() {
+        assertEquals(LineKind.TOTAL_TIME, classifier.classify("[INFO] Total time:  8.294 s"));
+        assertEquals(LineKind.TOTAL_TIME, classifier.classify("[main] [INFO] Total time:  01:02 min"));
+        assertEquals(LineKind.REACTOR_SUMMARY,
+                classifier.classify("[INFO] Reactor Summary for parent-project 1.0-SNAPSHOT:"));
+        assertEquals(LineKind.REACTOR_SUMMARY, classifier.classify("[INFO] Reactor Summary:"));
+        assertEquals(LineKind.NOISE, classifier.classify("[INFO] Reactor Build Order:"));
+        assertEquals(LineKind.NOISE, classifier.classify("[INFO] Tests took Total time: 3 s"));
+
+        // no "[INFO] " marker: left to the caller's full-line search
+        assertEquals(LineKind.NOISE, classifier.classify("Total time:  8.294 s"));
+        assertEquals(-1, classifier.marker);
+    }
+
+    @Test
+    void classify_shouldFindMarker_afterTimestampPrefix() {
+        assertEquals(LineKind.BUILDING,
+                classifier.classify("12:00:01,123 [INFO] Building service 1.0-SNAPSHOT [3/4]"));
+        assertEquals("service", classifier.moduleName);
+    }
+
+    @Test
+    void threadName_shouldReadThreadPrefix_butNotBracketedTimestamps() {
+        classifier.classify("[BuilderThread 2] [INFO] Building core 1.0-SNAPSHOT [2/4]");
+        String thread = classifier.threadName("[BuilderThread 2] [INFO] Building core 1.0-SNAPSHOT [2/4]", null);
+        assertEquals("BuilderThread 2", thread);
+
+        String line = "12:00:01,123 [BuilderThread 2] [INFO] --- surefire:3.3.0:test (default-test) @ core ---";
+        assertEquals(LineKind.PLUGIN, classifier.classify(line));
+        assertSame(thread, classifier.threadName(line, thread));
+
+        classifier.classify("[2024-05-01T10:00:00.000Z] [INFO] Building core 1.0-SNAPSHOT [2/4]");
+        assertNull(classifier.threadName("[2024-05-01T10:00:00.000Z] [INFO] Building core 1.0-SNAPSHOT [2/4]", null));
+        classifier.classify("[INFO] Building core 1.0-SNAPSHOT [2/4]");
+        assertNull(classifier.threadName("[INFO] Building core 1.0-SNAPSHOT [2/4]", null));
+    }
+}
@@ -44,6 +44,25 @@ class MavenLogParserTest {
         assertEquals("core", slowestModule);
     }
 
+    @Test
+    void shouldAttributeTestAndCompileMetricsToModulesFromSampleParentLog() throws Exception {
+        BuildSummary summary = new MavenLogParser().parse(Paths.get("sample-logs", "build-parent.log"));
+
+        Map<String, ModuleSummary> byName = summary.getModules().stream()
+                .collect(Collectors.toMap(ModuleSummary::getName, m -> m));
+
+        ModuleSummary core = byName.get("core");
+        assertEquals(1, core.getTestsRun());
+        assertEquals(0.064, core.getTestTimeSeconds(), 0.0001);
+        assertEquals(1, core.getMainSourceFiles());
+        assertEquals(1, core.getTestSourceFiles());
+        assertEquals("clean:3.4.0:clean", core.getPipelineSteps().get(0));
+
+        ModuleSummary parent = byName.get("parent-project");
+        assertEquals(0, parent.getTestsRun());
+        assertEquals(List.of("clean:3.4.0:clean"), parent.getPipelineSteps());
+    }
+
     // -------- parseTotalTime unit tests --------
 
     @Test
@@ -97,6 +116,29 @@ class MavenLogParserTest {
         assertTrue(ex.getMessage().contains("Could not find 'Total time'"));
     }
 
+    // -------- Finished at --------
+
+    @Test
+    void parse_shouldReadFinishedAt_fromSampleLog() throws Exception {
+        BuildSummary summary = new MavenLogParser().parse(Paths.get("sample-logs", "build-parent.log"));
+
+        // [INFO] Finished at: 2025-11-27T17:21:55Z
+        assertEquals(1764264115000L, summary.getFinishedAtMillis());
+    }
+
+    @Test
+    void parseFinishedAtLine_shouldSupportIsoAndLegacyFormats() {
+        assertEquals(1764264115000L, MavenLogParser.parseFinishedAtLine("[INFO] Finished at: 2025-11-27T17:21:55Z"));
+        assertEquals(1764256915500L,
+                MavenLogParser.parseFinishedAtLine("[INFO] Finished at: 2025-11-27T17:21:55.500+02:00\r"));
+        // Maven before 3.3 printed Date.toString()
+        assertEquals(1435746896000L,
+                MavenLogParser.parseFinishedAtLine("[INFO] Finished at: Wed Jul 01 12:34:56 CEST 2015"));
+
+        assertNull(MavenLogParser.parseFinishedAtLine("[INFO] Total time:  8.294 s"));
+        assertNull(MavenLogParser.parseFinishedAtLine("[INFO] Finished at: sometime yesterday"));
+    }
+
     // -------- parseReactorSummary unit tests --------
 
     @Test
@@ -197,6 +239,25 @@ class MavenLogParserTest {
         assertEquals(2, summary.getModules().size());
     }
 
+    @Test
+    void parse_shouldFindSectionMarkers_withoutInfoPrefix(@TempDir Path tempDir) throws Exception {
+        // e.g. a CI wrapper that re-prints Maven's summary lines without the level
+        Path log = tempDir.resolve("build.log");
+        Files.write(log, List.of(
+                "[INFO] Building core 1.0-SNAPSHOT [1/1]",
+                "[INFO] Tests run: 3, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: 0.500 s -- in A",
+                "Reactor Summary:",
+                "[INFO] core ........................................ SUCCESS [  0.200 s]",
+                "[INFO] BUILD SUCCESS",
+                "Total time:  1.500 s"
+        ), StandardCharsets.UTF_8);
+
+        BuildSummary summary = new MavenLogParser().parse(log);
+
+        assertEquals(1.5, summary.getTotalSeconds(), 0.0001);
+        assertEquals(3, summary.getModules().get(0).getTestsRun());
+    }
+
     @Test
     void parse_shouldThrow_whenTotalTimeMissing_evenIfModulesExist(@TempDir Path tempDir) throws Exception {
         Path log = tempDir.resolve("build.log");
@@ -216,4 +277,99 @@ class MavenLogParserTest {
 
         assertTrue(ex.getMessage().contains("Could not find 'Total time'"));
     }
+
+    // -------- mmap backend --------
+
+    @Test
+    void parse_mmapBackend_shouldMatchStreamingBackend_onSampleLog() throws Exception {
+        Path logPath = Paths.get("sample-logs", "build-parent.log");
+
+        BuildSummary stream = new MavenLogParser(ParserBackend.STREAM).parse(logPath);
+        BuildSummary mapped = new MavenLogParser(ParserBackend.MMAP).parse(logPath);
+
+        assertSameSummary(stream, mapped);
+    }
+
+    @Test
+    void parse_mmapBackend_shouldHandleCrlfAndNonAsciiModuleNames(@TempDir Path tempDir) throws Exception {
+        Path log = tempDir.resolve("build.log");
+        String content = String.join("\r\n",
+                "[INFO] Building kern-modül 1.0-SNAPSHOT [1/1]",
+                "[INFO] --- compiler:3.13.0:compile (default-compile) @ kern-modül ---",
+                "[INFO] Compiling 3 source files with javac [debug release 17] to target/classes",
+                "[INFO] Reactor Summary:",
+                "[INFO] kern-modül ................................. SUCCESS [  1.250 s]",
+                "[INFO] BUILD SUCCESS",
+                "[INFO] Total time:  1.500 s") + "\r\n";
+        Files.writeString(log, content, StandardCharsets.UTF_8);
+
+        BuildSummary mapped = new MavenLogParser(ParserBackend.MMAP).parse(log);
+        assertSameSummary(new MavenLogParser().parse(log), mapped);
+
+        ModuleSummary m = mapped.getModules().get(0);
+        assertEquals("kern-modül", m.getName());
+        assertEquals(3, m.getMainSourceFiles());
+        assertEquals(List.of("compiler:3.13.0:compile"), m.getPipelineSteps());
+    }
+
+    @Test
+    void mappedLogReader_shouldReassembleLinesAcrossWindowBoundaries(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("lines.log");
+        Files.writeString(file, "alpha\r\nbeta\n\ngamma\rdelta", StandardCharsets.UTF_8);
+
+        for (long window : new long[]{1, 4, 5, 6, 7, 64}) {
+            List<String> lines = new ArrayList<>();
+            try (var channel = java.nio.channels.FileChannel.open(file)) {
+                new MappedLogReader(window).forEachLine(channel, 0, channel.size(),
+                        (line, offset) -> lines.add(line.toString()));
+            }
+            assertEquals(List.of("alpha", "beta", "", "gamma", "delta"), lines, "window " + window);
+        }
+    }
+
+    @Test
+    void parse_shouldStreamGzipAndZipEntries_likePlainLog(@TempDir Path tempDir) throws Exception {
+        Path plain = Paths.get("sample-logs", "build-parent.log");
+        byte[] bytes = Files.readAllBytes(plain);
+
+        Path gz = tempDir.resolve("build-parent.log.gz");
+        try (var out = new java.util.zip.GZIPOutputStream(Files.newOutputStream(gz))) {
+            out.write(bytes);
+        }
+        Path zip = tempDir.resolve("artifacts.zip");
+        try (var out = new java.util.zip.ZipOutputStream(Files.newOutputStream(zip))) {
+            out.putNextEntry(new java.util.zip.ZipEntry("logs/build-parent.log"));
+            out.write(bytes);
+            out.closeEntry();
+        }
+
+        BuildSummary expected = new MavenLogParser().parse(plain);
+        // mmap cannot map compressed data; every backend must fall back to streaming
+        for (ParserBackend backend : ParserBackend.values()) {
+            MavenLogParser parser = new MavenLogParser(backend);
+            assertSameSummary(expected, parser.parse(gz));
+            assertSameSummary(expected, parser.parse(Paths.get(zip + "!/logs/build-parent.log")));
+            assertSameSummary(expected, parser.parse(zip)); // single-entry archive
+        }
+    }
+
+    private static void assertSameSummary(BuildSummary expected, BuildSummary actual) {
+        assertEquals(expected.getTotalSeconds(), actual.getTotalSeconds(), 0.0);
+        assertEquals(expected.getFinishedAtMillis(), actual.getFinishedAtMillis());
+        assertEquals(expected.getModules().size(), actual.getModules().size());
+        for (int i = 0; i < expected.getModules().size(); i++) {
+            ModuleSummary e = expected.getModules().get(i);
+            ModuleSummary a = actual.getModules().get(i);
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getSeconds(), a.getSeconds(), 0.0);
+            assertEquals(e.getTestsRun(), a.getTestsRun());
+            assertEquals(e.getFailures(), a.getFailures());
+            assertEquals(e.getErrors(), a.getErrors());
+            assertEquals(e.getSkipped(), a.getSkipped());
+            assertEquals(e.getTestTimeSeconds(), a.getTestTimeSeconds(), 0.0);
+            assertEquals(e.getMainSourceFiles(), a.getMainSourceFiles());
+            assertEquals(e.getTestSourceFiles(), a.getTestSourceFiles());
+            assertEquals(e.getPipelineSteps(), a.getPipelineSteps());
+        }
+    }
 }
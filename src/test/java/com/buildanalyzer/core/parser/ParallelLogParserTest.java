@@ -0,0 +1,145 @@
+package com.buildanalyzer.core.parser;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelLogParserTest {
+
+    @Test
+    void parse_shouldMatchSequentialParse_forAnyNumberOfChunks() throws Exception {
+        Path log = Paths.get("sample-logs", "build-parent.log");
+        BuildSummary expected = new MavenLogParser().parse(log);
+
+        // tiny chunks put boundaries inside modules and inside the Reactor Summary
+        for (int parallelism = 1; parallelism <= 64; parallelism *= 2) {
+            BuildSummary actual = new ParallelLogParser(parallelism, 1).parse(log);
+            assertSameSummary(expected, actual, "parallelism " + parallelism);
+        }
+    }
+
+    @Test
+    void parse_shouldAttributeLeadingLinesOfChunk_toPreviousModule(@TempDir Path tempDir) throws Exception {
+        Path log = tempDir.resolve("build.log");
+        Files.write(log, List.of(
+                "[INFO] Building core 1.0-SNAPSHOT [1/2]",
+                "[INFO] --- surefire:3.3.0:test (default-test) @ core ---",
+                "[INFO] Tests run: 2, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: 0.500 s -- in A",
+                "[INFO] Tests run: 3, Failures: 1, Errors: 0, Skipped: 0, Time elapsed: 0.250 s -- in B",
+                "[INFO] Tests run: 4, Failures: 0, Errors: 0, Skipped: 1, Time elapsed: 0.125 s -- in C",
+                "[INFO] Building web 1.0-SNAPSHOT [2/2]",
+                "[INFO] Tests run: 1, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: 1.000 s -- in D",
+                "[INFO] Reactor Summary:",
+                "[INFO] core ........................................ SUCCESS [  2.000 s]",
+                "[INFO] web ......................................... SUCCESS [  3.000 s]",
+                "[INFO] BUILD SUCCESS",
+                "[INFO] Total time:  5.500 s"
+        ), StandardCharsets.UTF_8);
+
+        BuildSummary actual = new ParallelLogParser(6, 1).parse(log);
+        assertSameSummary(new MavenLogParser().parse(log), actual, "chunked");
+
+        ModuleSummary core = actual.getModules().get(0);
+        assertEquals(9, core.getTestsRun());
+        assertEquals(1, core.getFailures());
+        assertEquals(0.875, core.getTestTimeSeconds(), 1e-9);
+        assertEquals(5.5, actual.getTotalSeconds(), 0.0);
+    }
+
+    @Test
+    void parse_shouldDeinterleaveThreadNamedLines_acrossChunks(@TempDir Path tempDir) throws Exception {
+        Path log = tempDir.resolve("build.log");
+        Files.write(log, List.of(
+                "[main] [INFO] Scanning for projects...",
+                "[main] [INFO] Using the MultiThreadedBuilder implementation with a thread count of 2",
+                "[BuilderThread 1] [INFO] Building core 1.0-SNAPSHOT [1/3]",
+                "[BuilderThread 2] [INFO] Building util 1.0-SNAPSHOT [2/3]",
+                "[BuilderThread 1] [INFO] --- compiler:3.13.0:compile (default-compile) @ core ---",
+                "[BuilderThread 2] [INFO] --- compiler:3.13.0:compile (default-compile) @ util ---",
+                "[BuilderThread 2] [INFO] Compiling 7 source files with javac [debug release 17] to target/classes",
+                "[BuilderThread 1] [INFO] Compiling 3 source files with javac [debug release 17] to target/classes",
+                "[BuilderThread 1] [INFO] Tests run: 2, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: 0.500 s -- in A",
+                "[BuilderThread 2] [INFO] Tests run: 5, Failures: 1, Errors: 0, Skipped: 0, Time elapsed: 2.000 s -- in U",
+                "[BuilderThread 1] [INFO] Building web 1.0-SNAPSHOT [3/3]",
+                "[BuilderThread 2] [INFO] Tests run: 1, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: 0.250 s -- in V",
+                "[BuilderThread 1] [INFO] Tests run: 4, Failures: 0, Errors: 0, Skipped: 0, Time elapsed: 1.000 s -- in W",
+                "[main] [INFO] Reactor Summary:",
+                "[main] [INFO] core ........................................ SUCCESS [  2.000 s]",
+                "[main] [INFO] util ........................................ SUCCESS [  4.000 s]",
+                "[main] [INFO] web ......................................... SUCCESS [  3.000 s]",
+                "[main] [INFO] BUILD SUCCESS",
+                "[main] [INFO] Total time:  5.500 s"
+        ), StandardCharsets.UTF_8);
+
+        BuildSummary sequential = new MavenLogParser().parse(log);
+        assertTrue(sequential.isThreadAttributed());
+        assertTrue(sequential.isParallelBuild());
+        ModuleSummary core = sequential.getModules().get(0);
+        ModuleSummary util = sequential.getModules().get(1);
+        ModuleSummary web = sequential.getModules().get(2);
+        assertEquals(List.of(2, 6, 4), List.of(core.getTestsRun(), util.getTestsRun(), web.getTestsRun()));
+        assertEquals(2.25, util.getTestTimeSeconds(), 1e-9);
+        assertEquals(1, util.getFailures());
+        assertEquals(3, core.getMainSourceFiles());
+        assertEquals(7, util.getMainSourceFiles());
+        assertEquals(List.of("compiler:3.13.0:compile"), util.getPipelineSteps());
+        assertEquals(List.of("BuilderThread 1", "BuilderThread 2", "BuilderThread 1"),
+                List.of(core.getBuilderThread(), util.getBuilderThread(), web.getBuilderThread()));
+        assertEquals(List.of(0, 1, 2), List.of(core.getStartOrder(), util.getStartOrder(), web.getStartOrder()));
+
+        for (int parallelism = 2; parallelism <= 16; parallelism *= 2) {
+            BuildSummary chunked = new ParallelLogParser(parallelism, 1).parse(log);
+            assertSameSummary(sequential, chunked, "parallelism " + parallelism);
+            assertTrue(chunked.isThreadAttributed());
+            assertTrue(chunked.isParallelBuild(), "parallelism " + parallelism);
+        }
+        BuildSummary serial = new MavenLogParser().parse(Paths.get("sample-logs", "build-parent.log"));
+        assertFalse(serial.isThreadAttributed());
+        assertFalse(serial.isParallelBuild());
+    }
+
+    @Test
+    void chunkBounds_shouldStartEveryChunkAtALineStart(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("lines.log");
+        Files.writeString(file, "aaaa\r\nbbbb\ncccc\rdddd\n", StandardCharsets.UTF_8);
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            List<Long> bounds = new ParallelLogParser(8, 1).chunkBounds(channel, channel.size());
+
+            assertEquals(0L, bounds.get(0));
+            assertEquals(channel.size(), bounds.get(bounds.size() - 1));
+            assertEquals(List.of(0L, 6L, 11L, 16L, 21L), bounds);
+        }
+    }
+
+    private static void assertSameSummary(BuildSummary expected, BuildSummary actual, String label) {
+        assertEquals(expected.getTotalSeconds(), actual.getTotalSeconds(), 0.0, label);
+        assertEquals(expected.getFinishedAtMillis(), actual.getFinishedAtMillis(), label);
+        assertEquals(expected.getModules().size(), actual.getModules().size(), label);
+        for (int i = 0; i < expected.getModules().size(); i++) {
+            ModuleSummary e = expected.getModules().get(i);
+            ModuleSummary a = actual.getModules().get(i);
+            assertEquals(e.getName(), a.getName(), label);
+            assertEquals(e.getSeconds(), a.getSeconds(), 0.0, label);
+            assertEquals(e.getTestsRun(), a.getTestsRun(), label);
+            assertEquals(e.getFailures(), a.getFailures(), label);
+            assertEquals(e.getSkipped(), a.getSkipped(), label);
+            assertEquals(e.getTestTimeSeconds(), a.getTestTimeSeconds(), 1e-9, label);
+            assertEquals(e.getMainSourceFiles(), a.getMainSourceFiles(), label);
+            assertEquals(e.getBuilderThread(), a.getBuilderThread(), label);
+            assertEquals(e.getStartOrder(), a.getStartOrder(), label);
+            assertEquals(e.getTestSourceFiles(), a.getTestSourceFiles(), label);
+            assertEquals(e.getPipelineSteps(), a.getPipelineSteps(), label);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.buildanalyzer.core.timeline;
+
+import com.buildanalyzer.core.graph.ModuleDag;
+import com.buildanalyzer.core.graph.ReactorGraph;
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BuildTimelineTest {
+
+    @Test
+    void of_serialBuild_runsModulesBackToBackOnOneTrack() {
+        BuildSummary summary = new BuildSummary(3.5, List.of(
+                new ModuleSummary("core", 1.0),
+                new ModuleSummary("web", 2.0)));
+
+        BuildTimeline timeline = BuildTimeline.of(summary, null);
+
+        assertEquals(List.of(BuildTimeline.DEFAULT_TRACK), timeline.tracks());
+        assertEquals(0.0, timeline.spans().get(0).startSeconds(), 1e-9);
+        assertEquals(1.0, timeline.spans().get(1).startSeconds(), 1e-9);
+        assertEquals(3.0, timeline.endSeconds(), 1e-9);
+        assertFalse(timeline.isDependencyAware());
+    }
+
+    @Test
+    void of_threadNamedBuild_oneTrackPerThread_inStartOrder_waitingForDependencies() {
+        // Reactor Summary order core, web, util; util started second on its own thread
+        BuildSummary summary = new BuildSummary(5.5, List.of(
+                module("core", 2.0, "BuilderThread 1", 0),
+                module("web", 3.0, "BuilderThread 2", 2),
+                module("util", 4.0, "BuilderThread 3", 1)), null, true);
+
+        BuildTimeline packed = BuildTimeline.of(summary, null);
+        assertEquals(List.of("BuilderThread 1", "BuilderThread 3", "BuilderThread 2"), packed.tracks());
+        assertEquals(List.of("core", "util", "web"),
+                packed.spans().stream().map(s -> s.module().getName()).toList());
+        assertEquals(0.0, packed.spans().get(2).startSeconds(), 1e-9);
+
+        ReactorGraph graph = new ReactorGraph();
+        graph.addModule("g:core", "core");
+        graph.addModule("g:util", "util");
+        graph.addModule("g:web", "web");
+        graph.addDependency("g:web", "g:core");
+
+        BuildTimeline timeline = BuildTimeline.of(summary, ModuleDag.of(graph, summary));
+        ModuleSpan web = timeline.spans().get(2);
+        assertEquals(2, web.track());
+        assertEquals(2.0, web.startSeconds(), 1e-9);
+        assertEquals(5.0, timeline.endSeconds(), 1e-9);
+        assertTrue(timeline.isDependencyAware());
+    }
+
+    private static ModuleSummary module(String name, double seconds, String thread, int startOrder) {
+        return new ModuleSummary(name, seconds, 0, 0, 0, 0, 0.0, 0, 0, List.of(), thread, startOrder);
+    }
+}
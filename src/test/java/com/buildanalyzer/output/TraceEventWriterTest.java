@@ -0,0 +1,205 @@
+package com.buildanalyzer.output;
+
+import com.buildanalyzer.core.model.BuildSummary;
+import com.buildanalyzer.core.model.ModuleSummary;
+import com.buildanalyzer.core.timeline.BuildTimeline;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceEventWriterTest {
+
+    @Test
+    void write_threadNamedBuild_shouldWriteTracksModulesGoalsAndCounters() throws Exception {
+        // BuilderThread 1 runs core then web, BuilderThread 2 runs util
+        BuildSummary summary = new BuildSummary(5.0, List.of(
+                new ModuleSummary("core", 2.0, 4, 1, 0, 1, 0.7, 3, 2,
+                        List.of("resources:3.3.1:resources", "compiler:3.13.0:compile",
+                                "surefire:3.2.5:test", "jar:3.4.1:jar"),
+                        "BuilderThread 1", 0),
+                new ModuleSummary("web", 3.0, 0, 0, 0, 0, 0.0, 5, 0,
+                        List.of("compiler:3.13.0:compile", "war:3.4.0:war"),
+                        "BuilderThread 1", 2),
+                new ModuleSummary("util", 4.0, 3, 0, 1, 0, 10.0, 7, 1,
+                        List.of("compiler:3.13.0:compile", "surefire:3.2.5:test"),
+                        "BuilderThread 2", 1)), null, true, true);
+
+        JsonObject trace = write(summary);
+
+        JsonObject otherData = trace.getAsJsonObject("otherData");
+        assertTrue(otherData.get("parallelBuild").getAsBoolean());
+        assertTrue(otherData.get("threadAttributed").getAsBoolean());
+        assertFalse(otherData.get("dependencyAware").getAsBoolean());
+
+        JsonArray events = trace.getAsJsonArray("traceEvents");
+        List<String> threadNames = new ArrayList<>();
+        for (JsonObject e : byPhase(events, "M")) {
+            if (e.get("name").getAsString().equals("thread_name")) {
+                threadNames.add(e.get("tid").getAsInt() + "=" + e.getAsJsonObject("args").get("name").getAsString());
+            }
+        }
+        assertEquals(List.of("1=BuilderThread 1", "2=BuilderThread 2"), threadNames);
+
+        JsonObject core = event(events, "module", "core");
+        assertEquals(0, core.get("ts").getAsLong());
+        assertEquals(2_000_000, core.get("dur").getAsLong());
+        assertEquals(1, core.get("tid").getAsInt());
+        assertEquals(4, core.getAsJsonObject("args").get("testsRun").getAsInt());
+        assertEquals(3, core.getAsJsonObject("args").get("mainSourceFiles").getAsInt());
+        JsonObject web = event(events, "module", "web");
+        assertEquals(2_000_000, web.get("ts").getAsLong());
+        assertEquals(1, web.get("tid").getAsInt());
+        JsonObject util = event(events, "module", "util");
+        assertEquals(0, util.get("ts").getAsLong());
+        assertEquals(2, util.get("tid").getAsInt());
+
+        for (JsonObject module : byCategory(events, "module")) {
+            assertGoalsFillModule(events, module);
+        }
+
+        // core: surefire gets the 0.7 s test time, the three other goals share the remaining 1.3 s
+        List<JsonObject> coreGoals = goalsOn(events, core);
+        assertEquals(List.of("resources:3.3.1:resources", "compiler:3.13.0:compile",
+                "surefire:3.2.5:test", "jar:3.4.1:jar"), names(coreGoals));
+        assertEquals(700_000, coreGoals.get(2).get("dur").getAsLong());
+        for (int i : new int[]{0, 1, 3}) {
+            assertEquals(433_333, coreGoals.get(i).get("dur").getAsDouble(), 1.0);
+        }
+        assertTrue(coreGoals.get(0).getAsJsonObject("args").get("estimated").getAsBoolean());
+
+        // util: test time above the module time is capped, leaving nothing for compile
+        List<JsonObject> utilGoals = goalsOn(events, util);
+        assertEquals(0, utilGoals.get(0).get("dur").getAsLong());
+        assertEquals(4_000_000, utilGoals.get(1).get("dur").getAsLong());
+
+        // web: no test goal, so its two goals split the module evenly
+        List<JsonObject> webGoals = goalsOn(events, web);
+        assertEquals(1_500_000, webGoals.get(0).get("dur").getAsLong());
+        assertEquals(1_500_000, webGoals.get(1).get("dur").getAsLong());
+    }
+
+    @Test
+    void write_shouldEmitTestCountersInTimeOrder() throws Exception {
+        // util ends at 4 s but comes before core (2 s) in the Reactor Summary; web has no tests
+        BuildSummary summary = new BuildSummary(5.0, List.of(
+                new ModuleSummary("util", 4.0, 3, 0, 1, 0, 1.0, 0, 0, List.of(), "BuilderThread 2", 1),
+                new ModuleSummary("core", 2.0, 4, 1, 0, 1, 0.5, 0, 0, List.of(), "BuilderThread 1", 0),
+                new ModuleSummary("web", 3.0, 0, 0, 0, 0, 0.0, 0, 0, List.of(), "BuilderThread 1", 2)),
+                null, true, true);
+
+        List<JsonObject> counters = byPhase(write(summary).getAsJsonArray("traceEvents"), "C");
+
+        List<Long> timestamps = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (JsonObject c : counters) {
+            assertEquals("tests", c.get("name").getAsString());
+            JsonObject args = c.getAsJsonObject("args");
+            timestamps.add(c.get("ts").getAsLong());
+            values.add(args.get("passed").getAsLong() + "/" + args.get("failed").getAsLong()
+                    + "/" + args.get("skipped").getAsLong());
+        }
+        assertEquals(List.of(0L, 2_000_000L, 4_000_000L), timestamps);
+        assertEquals(List.of("0/0/0", "2/1/1", "4/2/1"), values);
+    }
+
+    @Test
+    void write_withoutTests_shouldEmitNoCounters() throws Exception {
+        BuildSummary summary = new BuildSummary(1.0, List.of(new ModuleSummary("core", 1.0)));
+
+        JsonObject trace = write(summary);
+
+        assertTrue(byPhase(trace.getAsJsonArray("traceEvents"), "C").isEmpty());
+        assertEquals(List.of("core"), names(byCategory(trace.getAsJsonArray("traceEvents"), "module")));
+    }
+
+    @Test
+    void isTestGoal_shouldMatchSurefireAndFailsafeGoalsOnly() {
+        assertTrue(TraceEventWriter.isTestGoal("surefire:3.2.5:test"));
+        assertTrue(TraceEventWriter.isTestGoal("failsafe:3.2.5:integration-test"));
+        assertTrue(TraceEventWriter.isTestGoal("test"));
+        assertFalse(TraceEventWriter.isTestGoal("compiler:3.13.0:testCompile"));
+        assertFalse(TraceEventWriter.isTestGoal("resources:3.3.1:testResources"));
+        assertFalse(TraceEventWriter.isTestGoal("failsafe:3.2.5:verify"));
+    }
+
+    private static JsonObject write(BuildSummary summary) throws Exception {
+        StringWriter out = new StringWriter();
+        new TraceEventWriter().write("build.log", summary, BuildTimeline.of(summary, null), out);
+        return JsonParser.parseString(out.toString()).getAsJsonObject();
+    }
+
+    private static void assertGoalsFillModule(JsonArray events, JsonObject module) {
+        List<JsonObject> goals = goalsOn(events, module);
+        long start = module.get("ts").getAsLong();
+        for (JsonObject goal : goals) {
+            assertEquals(start, goal.get("ts").getAsLong(), module.get("name").getAsString());
+            start += goal.get("dur").getAsLong();
+        }
+        assertEquals(module.get("ts").getAsLong() + module.get("dur").getAsLong(), start,
+                module.get("name").getAsString());
+    }
+
+    /** goal events on the module's track inside its span, in the order they were written */
+    private static List<JsonObject> goalsOn(JsonArray events, JsonObject module) {
+        long start = module.get("ts").getAsLong();
+        long end = start + module.get("dur").getAsLong();
+        List<JsonObject> goals = new ArrayList<>();
+        for (JsonObject goal : byCategory(events, "goal")) {
+            long ts = goal.get("ts").getAsLong();
+            if (goal.get("tid").getAsInt() == module.get("tid").getAsInt()
+                    && ts >= start && ts + goal.get("dur").getAsLong() <= end
+                    && (ts < end || start == end)) {
+                goals.add(goal);
+            }
+        }
+        assertFalse(goals.isEmpty(), module.get("name").getAsString());
+        return goals;
+    }
+
+    private static JsonObject event(JsonArray events, String category, String name) {
+        for (JsonObject e : byCategory(events, category)) {
+            if (e.get("name").getAsString().equals(name)) {
+                return e;
+            }
+        }
+        throw new AssertionError("no " + category + " event " + name);
+    }
+
+    private static List<JsonObject> byCategory(JsonArray events, String category) {
+        List<JsonObject> matching = new ArrayList<>();
+        for (JsonObject e : byPhase(events, "X")) {
+            if (e.get("cat").getAsString().equals(category)) {
+                matching.add(e);
+            }
+        }
+        return matching;
+    }
+
+    private static List<JsonObject> byPhase(JsonArray events, String phase) {
+        List<JsonObject> matching = new ArrayList<>();
+        for (JsonElement e : events) {
+            JsonObject event = e.getAsJsonObject();
+            assertEquals(1, event.get("pid").getAsInt());
+            if (event.get("ph").getAsString().equals(phase)) {
+                matching.add(event);
+            }
+        }
+        return matching;
+    }
+
+    private static List<String> names(List<JsonObject> events) {
+        List<String> names = new ArrayList<>();
+        for (JsonObject e : events) {
+            names.add(e.get("name").getAsString());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,149 @@
+package com.buildanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogFileResolverTest {
+
+    private final LogFileResolver resolver = new LogFileResolver();
+
+    @Test
+    void listLogFilesInDirectory_shouldIncludeGzipFiles_andExpandZipArchives(@TempDir Path dir) throws Exception {
+        Files.writeString(dir.resolve("build-1.log"), "one");
+        writeGzip(dir.resolve("build-2.log.gz"), "two");
+        writeZip(dir.resolve("build-3.zip"), "a/build-3a.log", "three-a", "a/readme.txt", "x", "build-3b.log", "three-b");
+        Files.writeString(dir.resolve("notes.txt"), "ignored");
+
+        List<Path> files = resolver.listLogFilesInDirectory(dir);
+
+        assertEquals(List.of(
+                dir.resolve("build-1.log"),
+                dir.resolve("build-2.log.gz"),
+                LogSources.zipEntry(dir.resolve("build-3.zip"), "a/build-3a.log"),
+                LogSources.zipEntry(dir.resolve("build-3.zip"), "build-3b.log")), files);
+
+        assertEquals(List.of("one", "two", "three-a", "three-b"), files.stream().map(LogFileResolverTest::read).toList());
+    }
+
+    @Test
+    void listLogFilesByPattern_shouldExpandMatchingZipArchives(@TempDir Path dir) throws Exception {
+        writeGzip(dir.resolve("build-1.log.gz"), "one");
+        writeZip(dir.resolve("build-2.zip"), "build-2.log", "two");
+        Files.writeString(dir.resolve("other.log"), "ignored");
+
+        List<Path> files = resolver.listLogFilesByPattern(dir, "build-*");
+
+        assertEquals(List.of(
+                dir.resolve("build-1.log.gz"),
+                LogSources.zipEntry(dir.resolve("build-2.zip"), "build-2.log")), files);
+        assertTrue(LogSources.exists(files.get(1)));
+        assertFalse(LogSources.exists(LogSources.zipEntry(dir.resolve("missing.zip"), "build.log")));
+    }
+
+    @Test
+    void open_shouldRejectZipWithSeveralLogs_unlessEntryIsSelected(@TempDir Path dir) throws Exception {
+        Path zip = dir.resolve("logs.zip");
+        writeZip(zip, "a.log", "a", "b.log", "b");
+
+        assertThrows(IllegalStateException.class, () -> LogSources.open(zip).close());
+        assertEquals("b", read(LogSources.zipEntry(zip, "b.log")));
+    }
+
+    @Test
+    void streamLogFilesByPattern_shouldWalkDoubleStarInPathOrder(@TempDir Path dir) throws Exception {
+        for (String log : List.of("job-a/2024/06/01/b.log", "job-a/2024/05/31/a.log", "job-a/2024/05/31/c.txt",
+                "job-b/2023/12/31/z.log", "job-b/2024/01/01/y.log", "top.log")) {
+            Path file = dir.resolve(log);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, log);
+        }
+
+        List<Path> all = stream(dir, "**/*.log", ModifiedTimeRange.ALL, 4);
+        assertEquals(List.of(
+                dir.resolve("job-a/2024/05/31/a.log"),
+                dir.resolve("job-a/2024/06/01/b.log"),
+                dir.resolve("job-b/2023/12/31/z.log"),
+                dir.resolve("job-b/2024/01/01/y.log"),
+                dir.resolve("top.log")), all);
+        assertEquals(all, stream(dir, "**/*.log", ModifiedTimeRange.ALL, 1));
+
+        assertEquals(List.of(dir.resolve("job-a/2024/05/31/a.log"), dir.resolve("job-b/2024/01/01/y.log")),
+                stream(dir, "*/2024/0?/**/[ay].log", ModifiedTimeRange.ALL, 2));
+        assertEquals(List.of(dir.resolve("top.log")), stream(dir, "*.log", ModifiedTimeRange.ALL, 2));
+    }
+
+    @Test
+    void streamLogFilesInDirectory_shouldSkipFilesOutsideTimeRange_withoutOpeningThem(@TempDir Path dir) throws Exception {
+        long day = 24 * 3600 * 1000L;
+        long may1 = 1714521600000L; // 2024-05-01T00:00:00Z
+        Path old = dir.resolve("2024/04/old.log");
+        Path inRange = dir.resolve("2024/05/new.log");
+        Path brokenArchive = dir.resolve("2024/04/old.zip");
+        Files.createDirectories(old.getParent());
+        Files.createDirectories(inRange.getParent());
+        Files.writeString(old, "old");
+        Files.writeString(inRange, "new");
+        Files.writeString(brokenArchive, "not a zip");
+        Files.setLastModifiedTime(old, FileTime.fromMillis(may1 - day));
+        Files.setLastModifiedTime(brokenArchive, FileTime.fromMillis(may1 - day));
+        Files.setLastModifiedTime(inRange, FileTime.fromMillis(may1 + day));
+
+        try (Stream<Path> logs = resolver.streamLogFilesInDirectory(dir, true, ModifiedTimeRange.of(may1, null), 4)) {
+            assertEquals(List.of(inRange), logs.toList());
+        }
+        try (Stream<Path> logs = resolver.streamLogFilesInDirectory(dir, false, ModifiedTimeRange.ALL, 4)) {
+            assertEquals(List.of(), logs.toList());
+        }
+    }
+
+    @Test
+    void globPattern_shouldSplitAtFirstSegmentWithGlobCharacters() {
+        assertEquals(new GlobPattern(Path.of("ci-logs"), "build-*.log"), GlobPattern.parse("ci-logs/build-*.log"));
+        assertEquals(new GlobPattern(Path.of("logs/job"), "*/2024/**"), GlobPattern.parse("logs/job/*/2024/**"));
+        assertEquals(new GlobPattern(Path.of("."), "**/*.log"), GlobPattern.parse("**/*.log"));
+        assertEquals(new GlobPattern(Path.of("logs"), "build.log"), GlobPattern.parse("logs/build.log"));
+    }
+
+    private List<Path> stream(Path dir, String glob, ModifiedTimeRange range, int threads) throws Exception {
+        try (Stream<Path> logs = resolver.streamLogFilesByPattern(dir, glob, range, threads)) {
+            return logs.toList();
+        }
+    }
+
+    private static void writeGzip(Path file, String content) throws Exception {
+        try (var out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void writeZip(Path file, String... namesAndContents) throws Exception {
+        try (var out = new ZipOutputStream(Files.newOutputStream(file))) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                out.putNextEntry(new ZipEntry(namesAndContents[i]));
+                out.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+    }
+
+    private static String read(Path log) {
+        try (InputStream in = LogSources.open(log)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
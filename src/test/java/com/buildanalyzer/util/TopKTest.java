@@ -0,0 +1,43 @@
+package com.buildanalyzer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKTest {
+
+    private record Item(String name, int value) {}
+
+    private static final Comparator<Item> LARGEST_FIRST = Comparator.comparingInt(Item::value).reversed();
+
+    @Test
+    void first_shouldMatchStableSortPrefix() {
+        Random random = new Random(3);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            // many ties, so input order matters
+            items.add(new Item("m" + i, random.nextInt(50)));
+        }
+
+        List<Item> sorted = new ArrayList<>(items);
+        sorted.sort(LARGEST_FIRST);
+        for (int k : new int[]{1, 5, 20, 499}) {
+            assertEquals(sorted.subList(0, k), TopK.first(items, k, LARGEST_FIRST), "k=" + k);
+        }
+    }
+
+    @Test
+    void first_withoutLimitOrLargeLimit_returnsEverythingSorted() {
+        List<Item> items = List.of(new Item("a", 1), new Item("b", 3), new Item("c", 2));
+        List<Item> expected = List.of(new Item("b", 3), new Item("c", 2), new Item("a", 1));
+
+        assertEquals(expected, TopK.first(items, 0, LARGEST_FIRST));
+        assertEquals(expected, TopK.first(items, 10, LARGEST_FIRST));
+        assertEquals(List.of(), TopK.first(List.<Item>of(), 3, LARGEST_FIRST));
+    }
+}